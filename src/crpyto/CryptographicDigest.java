@@ -1,6 +1,8 @@
 package crpyto;
 
+import java.security.DigestException;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
 
 /**
@@ -19,6 +21,17 @@ public class CryptographicDigest {
 	private static final int SIZE_BITS = 256;
 	private static final int SIZE_BYTES = SIZE_BITS / 8;
 	
+	// the digest and a buffer for the input and output, so 
+	// hashing two digests does not allocate any arrays
+	private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(HASH_FUNCTION);
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	});
+	private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[2 * SIZE_BYTES]);
+	
 	/**
 	 * Calculates the cryptographic hash of the input
 	 * @param input
@@ -47,6 +60,27 @@ public class CryptographicDigest {
 		}
 	}
 	
+	/**
+	 * Calculates the cryptographic hash of left||right 
+	 * (the same as hash(left.toBytes()||right.toBytes()))
+	 * @param left
+	 * @param right
+	 * @return
+	 */
+	public static Digest256 hash(Digest256 left, Digest256 right) {
+		MessageDigest md = DIGEST.get();
+		byte[] buffer = BUFFER.get();
+		left.writeTo(buffer, 0);
+		right.writeTo(buffer, SIZE_BYTES);
+		md.update(buffer, 0, 2 * SIZE_BYTES);
+		try {
+			md.digest(buffer, 0, SIZE_BYTES);
+		} catch (DigestException e) {
+			throw new RuntimeException(e);
+		}
+		return Digest256.fromBytes(buffer, 0);
+	}
+	
 	public static int getSizeBits() {
 		return SIZE_BITS;
 	}
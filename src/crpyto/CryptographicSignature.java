@@ -13,11 +13,14 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
 import java.security.SignatureException;
+import java.security.interfaces.ECPublicKey;
 import java.security.spec.ECGenParameterSpec;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 
+import io.grpc.bverify.SignatureScheme;
+
 public class CryptographicSignature {
 	
 	// we use ECDSA on the curve secp256k1
@@ -142,6 +145,11 @@ public class CryptographicSignature {
 	}
 	
 	public static boolean verify(byte[] message, byte[] signature, PublicKey pubKey) {
+		// secp256k1 signatures are verified in Java with cached tables
+		// for the key, which is much faster than the JCA provider
+		if(pubKey instanceof ECPublicKey && Secp256k1.isCurve(((ECPublicKey) pubKey).getParams())) {
+			return Secp256k1.verify(message, signature, ((ECPublicKey) pubKey).getW());
+		}
 		try {
 			Signature dsa = Signature.getInstance(SIGNATURE_ALGO);
 			dsa.initVerify(pubKey);
@@ -153,6 +161,65 @@ public class CryptographicSignature {
 		
 	}
 	
+	/**
+	 * Sign a digest (e.g. the commitment of an ADS)
+	 * @param message
+	 * @param privKey
+	 * @return the signature
+	 */
+	public static byte[] sign(Digest256 message, PrivateKey privKey) {
+		return CryptographicSignature.sign(message.toBytes(), privKey);
+	}
+	
+	/**
+	 * Verify a signature on a digest (e.g. the commitment of an ADS)
+	 * @param message
+	 * @param signature
+	 * @param pubKey
+	 * @return true if the signature is valid
+	 */
+	public static boolean verify(Digest256 message, byte[] signature, PublicKey pubKey) {
+		return CryptographicSignature.verify(message.toBytes(), signature, pubKey);
+	}
+	
+	/**
+	 * Sign a message with either signature scheme
+	 * @param message
+	 * @param privKey
+	 * @param scheme
+	 * @return the signature
+	 */
+	public static byte[] sign(byte[] message, PrivateKey privKey, SignatureScheme scheme) {
+		switch(scheme) {
+		case ECDSA:
+			return CryptographicSignature.sign(message, privKey);
+		case SCHNORR:
+			return Schnorr.sign(message, privKey);
+		default:
+			throw new RuntimeException("unsupported signature scheme: "+scheme);
+		}
+	}
+	
+	/**
+	 * Verify a signature on a digest with either signature scheme
+	 * @param message
+	 * @param signature
+	 * @param pubKey
+	 * @param scheme
+	 * @return true if the signature is valid
+	 */
+	public static boolean verify(Digest256 message, byte[] signature, PublicKey pubKey, 
+			SignatureScheme scheme) {
+		switch(scheme) {
+		case ECDSA:
+			return CryptographicSignature.verify(message, signature, pubKey);
+		case SCHNORR:
+			return Schnorr.verify(message.toBytes(), signature, pubKey);
+		default:
+			return false;
+		}
+	}
+	
 	private static String getHexString(byte[] b) {
 		String result = "";
 		for (int i = 0; i < b.length; i++) {
@@ -1,8 +1,12 @@
 package crpyto;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.grpc.bverify.Receipt;
 import pki.Account;
@@ -16,6 +20,11 @@ import pki.Account;
  *
  */
 public class CryptographicUtils {
+	
+	// ADS keys are derived from the accounts on every request 
+	// so they are cached (keyed by the sorted account ids)
+	private static final int MAX_CACHED_ADS_KEYS = 1 << 16;
+	private static final Map<List<UUID>, Digest256> adsKeys = new ConcurrentHashMap<>();
 
 	/**
 	 * Commits to a key and a value using the following commitment
@@ -84,5 +93,37 @@ public class CryptographicUtils {
 		byte[] adsKey = CryptographicDigest.hash(preimage);
 		return adsKey;
 	}
+	
+	/**
+	 * Same as listOfAccountsToADSKey, but the keys are cached 
+	 * and the list is not modified
+	 * @param accounts
+	 * @return the ADS Key
+	 */
+	public static Digest256 getADSKey(List<Account> accounts) {
+		List<UUID> ids = new ArrayList<>(accounts.size());
+		for(Account account : accounts) {
+			ids.add(account.getId());
+		}
+		Collections.sort(ids);
+		Digest256 adsKey = adsKeys.get(ids);
+		if(adsKey == null) {
+			adsKey = Digest256.fromBytes(listOfAccountsToADSKey(new ArrayList<>(accounts)));
+			if(adsKeys.size() >= MAX_CACHED_ADS_KEYS) {
+				adsKeys.clear();
+			}
+			adsKeys.put(ids, adsKey);
+		}
+		return adsKey;
+	}
+	
+	/**
+	 * @param first
+	 * @param second
+	 * @return the ADS Key of the ADS of the two accounts
+	 */
+	public static Digest256 getADSKey(Account first, Account second) {
+		return getADSKey(Arrays.asList(first, second));
+	}
 
 }
@@ -0,0 +1,216 @@
+package crpyto;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+import mpt.core.Utils;
+
+/**
+ * IMMUTABLE
+ *
+ * A 256 bit digest (the output of CryptographicDigest), stored
+ * as four longs. Since it cannot be changed it does not need to be
+ * copied when it is passed around, and it can be used as a map key:
+ * equals and hashCode compare the longs instead of the bytes.
+ *
+ * The longs are the bytes of the digest in big-endian order,
+ * so bit i is the same as Utils.getBit(bytes, i)
+ * and the digests sort in the same order as their bytes.
+ */
+public final class Digest256 implements Comparable<Digest256> {
+
+	public static final int SIZE_BYTES = 32;
+	public static final int SIZE_BITS = SIZE_BYTES * 8;
+
+	public static final Digest256 ZERO = new Digest256(0, 0, 0, 0);
+
+	// reads and writes the longs directly from a byte array
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.BIG_ENDIAN);
+
+	private final long w0;
+	private final long w1;
+	private final long w2;
+	private final long w3;
+
+	public Digest256(long w0, long w1, long w2, long w3) {
+		this.w0 = w0;
+		this.w1 = w1;
+		this.w2 = w2;
+		this.w3 = w3;
+	}
+
+	/**
+	 * @param digest - must be SIZE_BYTES long
+	 * @return the digest
+	 */
+	public static Digest256 fromBytes(byte[] digest) {
+		if(digest.length != SIZE_BYTES) {
+			throw new IllegalArgumentException("digests must be "+SIZE_BYTES+" bytes, not "+digest.length);
+		}
+		return Digest256.fromBytes(digest, 0);
+	}
+
+	/**
+	 * @param bytes
+	 * @param offset - the digest is bytes[offset, offset+SIZE_BYTES)
+	 * @return the digest
+	 */
+	public static Digest256 fromBytes(byte[] bytes, int offset) {
+		return new Digest256((long) LONGS.get(bytes, offset), (long) LONGS.get(bytes, offset + 8),
+				(long) LONGS.get(bytes, offset + 16), (long) LONGS.get(bytes, offset + 24));
+	}
+
+	/**
+	 * Read a digest from the buffer, advancing its position
+	 * @param buffer - read in big-endian order, whatever the order of the buffer
+	 * @return the digest
+	 */
+	public static Digest256 fromByteBuffer(ByteBuffer buffer) {
+		long w0 = buffer.getLong();
+		long w1 = buffer.getLong();
+		long w2 = buffer.getLong();
+		long w3 = buffer.getLong();
+		if(buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+			return new Digest256(Long.reverseBytes(w0), Long.reverseBytes(w1),
+					Long.reverseBytes(w2), Long.reverseBytes(w3));
+		}
+		return new Digest256(w0, w1, w2, w3);
+	}
+
+	/**
+	 * Read a digest without copying the bytes out of the ByteString
+	 * @param digest - must be SIZE_BYTES long
+	 * @return the digest
+	 */
+	public static Digest256 fromByteString(ByteString digest) {
+		if(digest.size() != SIZE_BYTES) {
+			throw new IllegalArgumentException("digests must be "+SIZE_BYTES+" bytes, not "+digest.size());
+		}
+		return Digest256.fromByteBuffer(digest.asReadOnlyByteBuffer());
+	}
+
+	/**
+	 * Write the digest to the buffer, advancing its position
+	 * @param buffer - written in big-endian order, whatever the order of the buffer
+	 */
+	public void writeTo(ByteBuffer buffer) {
+		if(buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+			buffer.putLong(Long.reverseBytes(this.w0)).putLong(Long.reverseBytes(this.w1))
+				.putLong(Long.reverseBytes(this.w2)).putLong(Long.reverseBytes(this.w3));
+			return;
+		}
+		buffer.putLong(this.w0).putLong(this.w1).putLong(this.w2).putLong(this.w3);
+	}
+
+	/**
+	 * Write the digest to bytes[offset, offset+SIZE_BYTES)
+	 * @param bytes
+	 * @param offset
+	 */
+	public void writeTo(byte[] bytes, int offset) {
+		LONGS.set(bytes, offset, this.w0);
+		LONGS.set(bytes, offset + 8, this.w1);
+		LONGS.set(bytes, offset + 16, this.w2);
+		LONGS.set(bytes, offset + 24, this.w3);
+	}
+
+	/**
+	 * @return the bytes of the digest (a new array)
+	 */
+	public byte[] toBytes() {
+		byte[] bytes = new byte[SIZE_BYTES];
+		this.writeTo(bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * The digest is stored as longs, so there is no array to
+	 * share: the bytes are written once into a new array, which
+	 * the ByteString wraps instead of copying it again. The
+	 * ByteString is not cached, since that would add a field to
+	 * every digest (the leaves and stubs of every MPT) and keep
+	 * the bytes alive, while each node is only serialized rarely
+	 * (proofs are written by MPTDictionaryProofWriter instead).
+	 * @return the digest as a ByteString
+	 */
+	public ByteString toByteString() {
+		return UnsafeByteOperations.unsafeWrap(this.toBytes());
+	}
+
+	/**
+	 * @param index - in [0, SIZE_BITS)
+	 * @return the bit at the index, where bit 0 is
+	 * the most significant bit of the first byte
+	 */
+	public boolean getBit(int index) {
+		if(index < 0 || index >= SIZE_BITS) {
+			throw new IndexOutOfBoundsException("no bit "+index);
+		}
+		long word;
+		switch(index >>> 6) {
+		case 0:
+			word = this.w0;
+			break;
+		case 1:
+			word = this.w1;
+			break;
+		case 2:
+			word = this.w2;
+			break;
+		default:
+			word = this.w3;
+			break;
+		}
+		return ((word >>> (63 - (index & 63))) & 1) != 0;
+	}
+
+	@Override
+	public int hashCode() {
+		// the digest is already uniformly distributed
+		return Long.hashCode(this.w0);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(this == obj) {
+			return true;
+		}
+		if(!(obj instanceof Digest256)) {
+			return false;
+		}
+		Digest256 other = (Digest256) obj;
+		return this.w0 == other.w0 && this.w1 == other.w1 &&
+				this.w2 == other.w2 && this.w3 == other.w3;
+	}
+
+	@Override
+	public int compareTo(Digest256 o) {
+		int c = Long.compareUnsigned(this.w0, o.w0);
+		if(c == 0) {
+			c = Long.compareUnsigned(this.w1, o.w1);
+		}
+		if(c == 0) {
+			c = Long.compareUnsigned(this.w2, o.w2);
+		}
+		if(c == 0) {
+			c = Long.compareUnsigned(this.w3, o.w3);
+		}
+		return c;
+	}
+
+	/**
+	 * The same string as Utils.byteArrayAsHexString, which
+	 * is used to name the files of an ADS
+	 */
+	@Override
+	public String toString() {
+		return Utils.byteArrayAsHexString(this.toBytes());
+	}
+
+}
@@ -0,0 +1,308 @@
+package crpyto;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECPoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * THREADSAFE
+ *
+ * Schnorr signatures on secp256k1, as in BIP-340, with the same
+ * keys as the ECDSA signatures (see CryptographicSignature). As in
+ * BIP-340 a public key P is identified by its x coordinate: the key
+ * with an even y coordinate is used, so if P has an odd y the signer
+ * uses -d instead of its private key d.
+ *
+ * A signature on a message m is x(R) || s (64 bytes), where
+ * R = kG has an even y coordinate and s = k + ed (mod n) for the
+ * challenge e = H(x(R) || x(P) || m). It is valid if sG - eP = R.
+ *
+ * Unlike ECDSA signatures, a batch of Schnorr signatures can be
+ * checked at once (see Batch), which is much faster than
+ * checking each signature.
+ */
+public final class Schnorr {
+
+	public static final int SIGNATURE_SIZE = 64;
+	private static final int SIZE = 32;
+
+	// the tagged hashes of BIP-340 are
+	// SHA256(SHA256(tag) || SHA256(tag) || data)
+	private static final byte[] CHALLENGE_TAG = Schnorr.tagHash("BIP0340/challenge");
+	private static final byte[] AUX_TAG = Schnorr.tagHash("BIP0340/aux");
+	private static final byte[] NONCE_TAG = Schnorr.tagHash("BIP0340/nonce");
+
+	// the randomizers in a batch are 128 bits, so an invalid
+	// batch is accepted with probability at most 2^-128
+	private static final int RANDOMIZER_BITS = 128;
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private Schnorr() {
+	}
+
+	/**
+	 * Sign a message
+	 * @param message
+	 * @param privateKey - a secp256k1 private key
+	 * @return the signature (SIGNATURE_SIZE bytes)
+	 */
+	public static byte[] sign(byte[] message, PrivateKey privateKey) {
+		if(!(privateKey instanceof ECPrivateKey) ||
+				!Secp256k1.isCurve(((ECPrivateKey) privateKey).getParams())) {
+			throw new RuntimeException("not a secp256k1 private key");
+		}
+		BigInteger d = ((ECPrivateKey) privateKey).getS();
+		if(d.signum() <= 0 || d.compareTo(Secp256k1.N) >= 0) {
+			throw new RuntimeException("invalid private key");
+		}
+		BigInteger[] p = Schnorr.multiplyG(d);
+		if(p[1].testBit(0)) {
+			d = Secp256k1.N.subtract(d);
+		}
+		byte[] px = Schnorr.toBytes(p[0]);
+		// the nonce is derived from the key, the message and
+		// fresh randomness (as recommended by BIP-340)
+		byte[] aux = new byte[SIZE];
+		RANDOM.nextBytes(aux);
+		byte[] t = Schnorr.toBytes(d);
+		byte[] auxHash = Schnorr.taggedHash(AUX_TAG, aux);
+		for(int i = 0; i < SIZE; i++) {
+			t[i] ^= auxHash[i];
+		}
+		BigInteger k = new BigInteger(1, Schnorr.taggedHash(NONCE_TAG, t, px, message)).mod(Secp256k1.N);
+		if(k.signum() == 0) {
+			throw new RuntimeException("invalid nonce");
+		}
+		BigInteger[] r = Schnorr.multiplyG(k);
+		if(r[1].testBit(0)) {
+			k = Secp256k1.N.subtract(k);
+		}
+		byte[] rx = Schnorr.toBytes(r[0]);
+		BigInteger e = Schnorr.challenge(rx, px, message);
+		BigInteger s = k.add(e.multiply(d)).mod(Secp256k1.N);
+		byte[] signature = Arrays.copyOf(rx, SIGNATURE_SIZE);
+		System.arraycopy(Schnorr.toBytes(s), 0, signature, SIZE, SIZE);
+		return signature;
+	}
+
+	/**
+	 * Verify a signature
+	 * @param message
+	 * @param signature
+	 * @param publicKey - a secp256k1 public key
+	 * @return true if the signature is valid
+	 */
+	public static boolean verify(byte[] message, byte[] signature, PublicKey publicKey) {
+		Signed signed = Signed.decode(message, signature, publicKey);
+		if(signed == null) {
+			return false;
+		}
+		// R = sG - eP
+		Secp256k1.Sum sum = new Secp256k1.Sum();
+		sum.addG(signed.s);
+		if(!sum.addKey(signed.key, signed.keyCoefficient(BigInteger.ONE))) {
+			return false;
+		}
+		BigInteger[] r = sum.toAffine();
+		return r != null && !r[1].testBit(0) && r[0].equals(signed.r);
+	}
+
+	/**
+	 * NOT THREADSAFE
+	 *
+	 * A batch of signatures that are verified together. For random
+	 * a_i (a_1 = 1) the batch is valid if
+	 *
+	 * 	(a_1 s_1 + a_2 s_2 + ...) G - a_1 R_1 - a_2 R_2 - ...
+	 * 		- a_1 e_1 P_1 - a_2 e_2 P_2 - ... = 0
+	 *
+	 * which is a single multi-scalar multiplication (the terms for the
+	 * same key are combined). If any signature is invalid the batch is
+	 * invalid (except with negligible probability), but it does not
+	 * tell which signature is invalid.
+	 */
+	public static final class Batch {
+		private final List<Signed> signatures;
+		// true if a signature could not be decoded
+		private boolean invalid;
+
+		public Batch() {
+			this.signatures = new ArrayList<>();
+			this.invalid = false;
+		}
+
+		/**
+		 * Add a signature to the batch
+		 * @param message
+		 * @param signature
+		 * @param publicKey - a secp256k1 public key
+		 */
+		public void add(byte[] message, byte[] signature, PublicKey publicKey) {
+			Signed signed = Signed.decode(message, signature, publicKey);
+			if(signed == null) {
+				this.invalid = true;
+				return;
+			}
+			this.signatures.add(signed);
+		}
+
+		public int size() {
+			return this.signatures.size() + (this.invalid ? 1 : 0);
+		}
+
+		/**
+		 * @return true if every signature in the batch is valid
+		 */
+		public boolean verify() {
+			if(this.invalid) {
+				return false;
+			}
+			Secp256k1.Sum sum = new Secp256k1.Sum();
+			Map<ECPoint, BigInteger> keyCoefficients = new HashMap<>();
+			BigInteger g = BigInteger.ZERO;
+			for(int i = 0; i < this.signatures.size(); i++) {
+				Signed signed = this.signatures.get(i);
+				BigInteger a = i == 0 ? BigInteger.ONE : Schnorr.randomizer();
+				BigInteger[] r = Secp256k1.liftX(signed.r);
+				if(r == null) {
+					return false;
+				}
+				g = g.add(a.multiply(signed.s));
+				sum.addPoint(r, a.negate());
+				keyCoefficients.merge(signed.key, signed.keyCoefficient(a), BigInteger::add);
+			}
+			sum.addG(g);
+			for(Map.Entry<ECPoint, BigInteger> key : keyCoefficients.entrySet()) {
+				if(!sum.addKey(key.getKey(), key.getValue())) {
+					return false;
+				}
+			}
+			return sum.isInfinity();
+		}
+	}
+
+	/**
+	 * IMMUTABLE
+	 *
+	 * A decoded signature, with its challenge
+	 */
+	private static final class Signed {
+		private final ECPoint key;
+		private final BigInteger r;
+		private final BigInteger s;
+		private final BigInteger e;
+
+		private Signed(ECPoint key, BigInteger r, BigInteger s, BigInteger e) {
+			this.key = key;
+			this.r = r;
+			this.s = s;
+			this.e = e;
+		}
+
+		/**
+		 * @return the signature or null if the signature or the key is invalid
+		 */
+		private static Signed decode(byte[] message, byte[] signature, PublicKey publicKey) {
+			if(!(publicKey instanceof ECPublicKey) ||
+					!Secp256k1.isCurve(((ECPublicKey) publicKey).getParams()) ||
+					signature.length != SIGNATURE_SIZE) {
+				return null;
+			}
+			byte[] rx = Arrays.copyOf(signature, SIZE);
+			BigInteger r = new BigInteger(1, rx);
+			BigInteger s = new BigInteger(1, Arrays.copyOfRange(signature, SIZE, SIGNATURE_SIZE));
+			if(r.compareTo(Secp256k1.P) >= 0 || s.compareTo(Secp256k1.N) >= 0) {
+				return null;
+			}
+			ECPoint key = ((ECPublicKey) publicKey).getW();
+			BigInteger e = Schnorr.challenge(rx, Schnorr.toBytes(key.getAffineX()), message);
+			return new Signed(key, r, s, e);
+		}
+
+		/**
+		 * @param a
+		 * @return the multiple of the key (as given, with either y)
+		 * in -a e P, where P is the key with an even y
+		 */
+		private BigInteger keyCoefficient(BigInteger a) {
+			BigInteger ae = a.multiply(this.e);
+			return this.key.getAffineY().testBit(0) ? ae : ae.negate();
+		}
+	}
+
+	/**
+	 * @return a random, non-zero RANDOMIZER_BITS bit integer
+	 */
+	private static BigInteger randomizer() {
+		BigInteger a;
+		do {
+			a = new BigInteger(RANDOMIZER_BITS, RANDOM);
+		} while(a.signum() == 0);
+		return a;
+	}
+
+	private static BigInteger[] multiplyG(BigInteger k) {
+		Secp256k1.Sum sum = new Secp256k1.Sum();
+		sum.addG(k);
+		return sum.toAffine();
+	}
+
+	private static BigInteger challenge(byte[] rx, byte[] px, byte[] message) {
+		return new BigInteger(1, Schnorr.taggedHash(CHALLENGE_TAG, rx, px, message)).mod(Secp256k1.N);
+	}
+
+	private static byte[] taggedHash(byte[] tagHash, byte[]... data) {
+		MessageDigest md = Schnorr.sha256();
+		md.update(tagHash);
+		md.update(tagHash);
+		for(byte[] d : data) {
+			md.update(d);
+		}
+		return md.digest();
+	}
+
+	private static byte[] tagHash(String tag) {
+		return Schnorr.sha256().digest(tag.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance(CryptographicDigest.HASH_FUNCTION);
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * @param x - in [0, 2^256)
+	 * @return x as 32 bytes, big-endian
+	 */
+	private static byte[] toBytes(BigInteger x) {
+		byte[] bytes = x.toByteArray();
+		if(bytes.length == SIZE) {
+			return bytes;
+		}
+		byte[] padded = new byte[SIZE];
+		if(bytes.length > SIZE) {
+			// a leading zero byte
+			System.arraycopy(bytes, bytes.length - SIZE, padded, 0, SIZE);
+		}else {
+			System.arraycopy(bytes, 0, padded, SIZE - bytes.length, bytes.length);
+		}
+		return padded;
+	}
+
+}
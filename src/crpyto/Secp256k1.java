@@ -0,0 +1,614 @@
+package crpyto;
+
+import java.math.BigInteger;
+import java.security.spec.ECFieldFp;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.EllipticCurve;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * THREADSAFE
+ *
+ * Verifies ECDSA signatures on secp256k1 without the JCA provider (which
+ * is slow, and newer JDKs no longer support the curve). The signatures are
+ * the DER encoded signatures of the NONEwithECDSA algorithm, so this
+ * accepts exactly the signatures the JCA does.
+ *
+ * Verifying a signature (r, s) on a message e is checking that
+ * u1 G + u2 Q has x coordinate r, where u1 = e/s and u2 = r/s. Both
+ * multiplications are done at once, with a single chain of doublings:
+ *
+ * 	- u1 G uses a fixed comb table for G (computed once), so it
+ * 		only needs 8 doublings and about 32 additions
+ * 	- u2 Q uses the endomorphism of the curve (GLV) to split u2 into
+ * 		two 128 bit scalars, u2 Q = k1 Q + k2 (LAMBDA Q), which halves the
+ * 		number of doublings. The odd multiples of Q and LAMBDA Q
+ * 		are precomputed for a windowed NAF and cached for the most
+ * 		recently used public keys, since most signatures are checked
+ * 		against a few keys.
+ *
+ * The same multi-scalar multiplication (Sum) is used to verify
+ * Schnorr signatures. Field arithmetic is done in Secp256k1Field.
+ */
+public final class Secp256k1 {
+
+	static final BigInteger P = new BigInteger(
+			"FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEFFFFFC2F", 16);
+	static final BigInteger N = new BigInteger(
+			"FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEBAAEDCE6AF48A03BBFD25E8CD0364141", 16);
+	private static final BigInteger B = BigInteger.valueOf(7);
+	private static final BigInteger GX = new BigInteger(
+			"79BE667EF9DCBBAC55A06295CE870B07029BFCDB2DCE28D959F2815B16F81798", 16);
+	private static final BigInteger GY = new BigInteger(
+			"483ADA7726A3C4655DA4FBFC0E1108A8FD17B448A68554199C47D08FFB10D4B8", 16);
+
+	// (x, y) -> (BETA x, y) is the same as multiplying by LAMBDA
+	static final BigInteger LAMBDA = new BigInteger(
+			"5363AD4CC05C30E0A5261C028812645A122E22EA20816678DF02967C1B23BD72", 16);
+	static final BigInteger BETA = new BigInteger(
+			"7AE96A2B657C07106E64479EAC3434E99CF0497512F58995C1396C28719501EE", 16);
+
+	// a short basis of {(a, b) : a + b LAMBDA = 0 (mod n)},
+	// used to split a scalar into two halves
+	private static final BigInteger A1 = new BigInteger("3086D221A7D46BCDE86C90E49284EB15", 16);
+	private static final BigInteger B1 = new BigInteger("-E4437ED6010E88286F547FA90ABFE4C3", 16);
+	private static final BigInteger A2 = new BigInteger("114CA50F7A8E2F3F657C1108D9D44CFD8", 16);
+	private static final BigInteger B2 = A1;
+
+	// the comb for G: 4 blocks of 64 bits, each with 8 teeth
+	// spaced 8 bits apart (4 * 8 * 8 = 256 bits)
+	private static final int COMB_BLOCKS = 4;
+	private static final int COMB_TEETH = 8;
+	private static final int COMB_SPACING = 8;
+
+	// the width of the NAF for the public key, each table
+	// has 2^(WINDOW-2) odd multiples
+	private static final int WINDOW = 6;
+	// the width of the NAF for points that are only used
+	// once, the only multiple needed is the point itself
+	private static final int POINT_WINDOW = 2;
+
+	// the JCA does not verify signatures on longer messages
+	private static final int MAX_MESSAGE_LENGTH = 64;
+
+	public static final int MAX_CACHED_KEYS = 1024;
+
+	// tables for the most recently used public keys, access ordered
+	private static final LinkedHashMap<ECPoint, KeyTable> KEY_TABLES = new LinkedHashMap<ECPoint, KeyTable>(
+			16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ECPoint, KeyTable> eldest) {
+			return this.size() > MAX_CACHED_KEYS;
+		}
+	};
+
+	private Secp256k1() {
+	}
+
+	/**
+	 * IMMUTABLE
+	 *
+	 * A point in affine coordinates, with -y precomputed
+	 */
+	private static final class Affine {
+		private final long[] x;
+		private final long[] y;
+		private final long[] negY;
+
+		private Affine(BigInteger[] point) {
+			this.x = Secp256k1Field.fromBigInteger(point[0]);
+			this.y = Secp256k1Field.fromBigInteger(point[1]);
+			this.negY = Secp256k1Field.fromBigInteger(P.subtract(point[1]).mod(P));
+		}
+	}
+
+	/**
+	 * IMMUTABLE
+	 *
+	 * The odd multiples Q, 3Q, 5Q, ... of a public key Q
+	 * and of LAMBDA Q
+	 */
+	private static final class KeyTable {
+		private final Affine[] q;
+		private final Affine[] lambdaQ;
+
+		private KeyTable(BigInteger[] q) {
+			int size = 1 << (WINDOW - 2);
+			this.q = new Affine[size];
+			this.lambdaQ = new Affine[size];
+			BigInteger[] twice = Secp256k1.affineAdd(q, q);
+			BigInteger[] multiple = q;
+			for(int i = 0; i < size; i++) {
+				this.q[i] = new Affine(multiple);
+				this.lambdaQ[i] = new Affine(new BigInteger[] {
+						multiple[0].multiply(BETA).mod(P), multiple[1] });
+				multiple = Secp256k1.affineAdd(multiple, twice);
+			}
+		}
+	}
+
+	/**
+	 * The comb table for G, built on first use. COMB[j][m-1] is the
+	 * sum of 2^(64j + 8t) G for every bit t set in m.
+	 */
+	private static final class Comb {
+		private static final Affine[][] TABLE = Comb.build();
+
+		private static Affine[][] build() {
+			int bits = COMB_BLOCKS * COMB_TEETH * COMB_SPACING;
+			BigInteger[][] powers = new BigInteger[bits][];
+			powers[0] = new BigInteger[] { GX, GY };
+			for(int i = 1; i < bits; i++) {
+				powers[i] = Secp256k1.affineAdd(powers[i - 1], powers[i - 1]);
+			}
+			Affine[][] table = new Affine[COMB_BLOCKS][(1 << COMB_TEETH) - 1];
+			for(int j = 0; j < COMB_BLOCKS; j++) {
+				BigInteger[][] sums = new BigInteger[1 << COMB_TEETH][];
+				for(int m = 1; m < 1 << COMB_TEETH; m++) {
+					int t = Integer.numberOfTrailingZeros(m);
+					BigInteger[] tooth = powers[(j * COMB_TEETH + t) * COMB_SPACING];
+					int rest = m & (m - 1);
+					sums[m] = rest == 0 ? tooth : Secp256k1.affineAdd(sums[rest], tooth);
+					table[j][m - 1] = new Affine(sums[m]);
+				}
+			}
+			return table;
+		}
+	}
+
+	/**
+	 * NOT THREADSAFE
+	 *
+	 * A point in Jacobian coordinates (x/z^2, y/z^3),
+	 * which is updated in place
+	 */
+	private static final class Jacobian {
+		private final long[] x = Secp256k1Field.create();
+		private final long[] y = Secp256k1Field.create();
+		private final long[] z = Secp256k1Field.create();
+		private boolean infinity = true;
+
+		// scratch space
+		private final long[] t = new long[2 * Secp256k1Field.LIMBS];
+		private final long[] t1 = Secp256k1Field.create();
+		private final long[] t2 = Secp256k1Field.create();
+		private final long[] t3 = Secp256k1Field.create();
+		private final long[] t4 = Secp256k1Field.create();
+		private final long[] t5 = Secp256k1Field.create();
+
+		/**
+		 * this = 2 this (dbl-2009-l, for a = 0)
+		 */
+		private void twice() {
+			if(this.infinity) {
+				return;
+			}
+			// secp256k1 has no points of order 2, so y is never 0
+			Secp256k1Field.sqr(this.t1, this.x, this.t);
+			Secp256k1Field.sqr(this.t2, this.y, this.t);
+			Secp256k1Field.sqr(this.t3, this.t2, this.t);
+			Secp256k1Field.add(this.t4, this.x, this.t2);
+			Secp256k1Field.sqr(this.t4, this.t4, this.t);
+			Secp256k1Field.sub(this.t4, this.t4, this.t1);
+			Secp256k1Field.sub(this.t4, this.t4, this.t3);
+			// D = 2((x + y^2)^2 - x^2 - y^4)
+			Secp256k1Field.add(this.t4, this.t4, this.t4);
+			// E = 3x^2
+			Secp256k1Field.mulSmall(this.t5, this.t1, 3);
+			// z = 2yz
+			Secp256k1Field.mul(this.z, this.y, this.z, this.t);
+			Secp256k1Field.add(this.z, this.z, this.z);
+			// x = E^2 - 2D
+			Secp256k1Field.sqr(this.x, this.t5, this.t);
+			Secp256k1Field.sub(this.x, this.x, this.t4);
+			Secp256k1Field.sub(this.x, this.x, this.t4);
+			// y = E(D - x) - 8y^4
+			Secp256k1Field.sub(this.t4, this.t4, this.x);
+			Secp256k1Field.mul(this.y, this.t5, this.t4, this.t);
+			Secp256k1Field.mulSmall(this.t3, this.t3, 8);
+			Secp256k1Field.sub(this.y, this.y, this.t3);
+		}
+
+		/**
+		 * this = this + (px, py) (madd-2004-hmv)
+		 */
+		private void add(long[] px, long[] py) {
+			if(this.infinity) {
+				Secp256k1Field.set(this.x, px);
+				Secp256k1Field.set(this.y, py);
+				Secp256k1Field.setOne(this.z);
+				this.infinity = false;
+				return;
+			}
+			Secp256k1Field.sqr(this.t1, this.z, this.t);
+			Secp256k1Field.mul(this.t2, this.t1, this.z, this.t);
+			Secp256k1Field.mul(this.t1, this.t1, px, this.t);
+			Secp256k1Field.mul(this.t2, this.t2, py, this.t);
+			// H = px z^2 - x
+			Secp256k1Field.sub(this.t1, this.t1, this.x);
+			// R = py z^3 - y
+			Secp256k1Field.sub(this.t2, this.t2, this.y);
+			if(Secp256k1Field.isZero(this.t1, this.t3)) {
+				// the same x, so either the same point or its negation
+				if(Secp256k1Field.isZero(this.t2, this.t3)) {
+					this.twice();
+				}else {
+					this.infinity = true;
+				}
+				return;
+			}
+			// z = zH
+			Secp256k1Field.mul(this.z, this.z, this.t1, this.t);
+			Secp256k1Field.sqr(this.t3, this.t1, this.t);
+			Secp256k1Field.mul(this.t4, this.t3, this.t1, this.t);
+			Secp256k1Field.mul(this.t3, this.t3, this.x, this.t);
+			// x = R^2 - H^3 - 2xH^2
+			Secp256k1Field.sqr(this.x, this.t2, this.t);
+			Secp256k1Field.sub(this.x, this.x, this.t4);
+			Secp256k1Field.sub(this.x, this.x, this.t3);
+			Secp256k1Field.sub(this.x, this.x, this.t3);
+			// y = R(xH^2 - x) - yH^3
+			Secp256k1Field.sub(this.t3, this.t3, this.x);
+			Secp256k1Field.mul(this.t3, this.t3, this.t2, this.t);
+			Secp256k1Field.mul(this.t4, this.t4, this.y, this.t);
+			Secp256k1Field.sub(this.y, this.t3, this.t4);
+		}
+
+		private void add(Affine point, boolean negate) {
+			this.add(point.x, negate ? point.negY : point.y);
+		}
+
+		/**
+		 * @return (x, y) or null for the point at infinity
+		 */
+		private BigInteger[] toAffine() {
+			if(this.infinity) {
+				return null;
+			}
+			BigInteger zInverse = Secp256k1Field.toBigInteger(this.z).modInverse(P);
+			BigInteger zInverse2 = zInverse.multiply(zInverse).mod(P);
+			BigInteger x = Secp256k1Field.toBigInteger(this.x).multiply(zInverse2).mod(P);
+			BigInteger y = Secp256k1Field.toBigInteger(this.y).multiply(zInverse2).multiply(zInverse).mod(P);
+			return new BigInteger[] { x, y };
+		}
+
+		/**
+		 * @param r
+		 * @return true if the x coordinate of this point is r (mod n)
+		 */
+		private boolean hasX(BigInteger r) {
+			if(this.infinity) {
+				return false;
+			}
+			// compare r z^2 to x to avoid an inversion
+			Secp256k1Field.sqr(this.t1, this.z, this.t);
+			Secp256k1Field.mul(this.t2, Secp256k1Field.fromBigInteger(r), this.t1, this.t);
+			if(Secp256k1Field.equal(this.t2, this.x, this.t)) {
+				return true;
+			}
+			// x is in [0, p) and p > n, so x may be r + n
+			BigInteger rn = r.add(N);
+			if(rn.compareTo(P) >= 0) {
+				return false;
+			}
+			Secp256k1Field.mul(this.t2, Secp256k1Field.fromBigInteger(rn), this.t1, this.t);
+			return Secp256k1Field.equal(this.t2, this.x, this.t);
+		}
+	}
+
+	/**
+	 * @param params
+	 * @return true if the parameters are the secp256k1 curve
+	 */
+	public static boolean isCurve(ECParameterSpec params) {
+		if(params == null) {
+			return false;
+		}
+		EllipticCurve curve = params.getCurve();
+		return curve.getField() instanceof ECFieldFp &&
+				((ECFieldFp) curve.getField()).getP().equals(P) &&
+				curve.getA().signum() == 0 && curve.getB().equals(B) &&
+				params.getOrder().equals(N) &&
+				params.getGenerator().getAffineX().equals(GX) &&
+				params.getGenerator().getAffineY().equals(GY);
+	}
+
+	/**
+	 * Verify a NONEwithECDSA signature
+	 * @param message - at most 64 bytes, only the first 32 are signed
+	 * @param signature - DER encoded (r, s)
+	 * @param publicKey - a point on secp256k1
+	 * @return true if the signature is valid
+	 */
+	public static boolean verify(byte[] message, byte[] signature, ECPoint publicKey) {
+		if(message.length > MAX_MESSAGE_LENGTH) {
+			return false;
+		}
+		BigInteger[] rs = Secp256k1.decodeSignature(signature);
+		if(rs == null) {
+			return false;
+		}
+		BigInteger r = rs[0];
+		BigInteger s = rs[1];
+		if(r.compareTo(N) >= 0 || s.compareTo(N) >= 0) {
+			return false;
+		}
+		// the message is truncated to the length of n
+		BigInteger e = new BigInteger(1, message.length > 32 ? Arrays.copyOf(message, 32) : message);
+		BigInteger w = s.modInverse(N);
+		Sum sum = new Sum();
+		sum.addG(e.multiply(w));
+		if(!sum.addKey(publicKey, r.multiply(w))) {
+			return false;
+		}
+		return sum.compute().hasX(r);
+	}
+
+	/**
+	 * IMMUTABLE
+	 *
+	 * A scalar multiple k P in a Sum, as the NAF
+	 * digits of k and the odd multiples of P
+	 */
+	private static final class Term {
+		private final Affine[] table;
+		private final int[] naf;
+		private final boolean negate;
+
+		private Term(Affine[] table, BigInteger k, int window) {
+			this.table = table;
+			this.naf = Secp256k1.wnaf(k.abs(), window);
+			this.negate = k.signum() < 0;
+		}
+	}
+
+	/**
+	 * NOT THREADSAFE
+	 *
+	 * A sum of scalar multiples of points, k0 G + k1 P1 + k2 P2 + ...,
+	 * computed with a single chain of doublings (so adding a term only
+	 * costs its additions). Used to verify signatures and batches of
+	 * signatures.
+	 */
+	static final class Sum {
+		private BigInteger g = BigInteger.ZERO;
+		private final List<Term> terms = new ArrayList<>();
+
+		/**
+		 * Add k G
+		 * @param k
+		 */
+		void addG(BigInteger k) {
+			this.g = this.g.add(k).mod(N);
+		}
+
+		/**
+		 * Add k Q for a public key Q, using the cached
+		 * tables for the key
+		 * @param publicKey
+		 * @param k
+		 * @return false if the key is not a point on the curve
+		 */
+		boolean addKey(ECPoint publicKey, BigInteger k) {
+			KeyTable table = Secp256k1.getKeyTable(publicKey);
+			if(table == null) {
+				return false;
+			}
+			// k Q = k1 Q + k2 (LAMBDA Q)
+			BigInteger[] split = Secp256k1.split(k.mod(N));
+			this.terms.add(new Term(table.q, split[0], WINDOW));
+			this.terms.add(new Term(table.lambdaQ, split[1], WINDOW));
+			return true;
+		}
+
+		/**
+		 * Add k P for a point that is only used once (e.g. the R of a
+		 * Schnorr signature). A table of multiples of P would need
+		 * inversions, which cost more than the additions they save, so
+		 * this uses the plain NAF of k. This is fastest if k is short.
+		 * @param point - (x, y), must be on the curve
+		 * @param k - can be negative
+		 */
+		void addPoint(BigInteger[] point, BigInteger k) {
+			this.terms.add(new Term(new Affine[] { new Affine(point) }, k, POINT_WINDOW));
+		}
+
+		private Jacobian compute() {
+			Affine[][] comb = Comb.TABLE;
+			int top = COMB_SPACING;
+			for(Term term : this.terms) {
+				top = Math.max(top, term.naf.length);
+			}
+			Jacobian result = new Jacobian();
+			for(int i = top - 1; i >= 0; i--) {
+				result.twice();
+				for(Term term : this.terms) {
+					if(i < term.naf.length && term.naf[i] != 0) {
+						int digit = term.naf[i];
+						result.add(term.table[Math.abs(digit) >> 1], (digit < 0) != term.negate);
+					}
+				}
+				if(i < COMB_SPACING) {
+					for(int j = 0; j < COMB_BLOCKS; j++) {
+						int m = 0;
+						for(int t = 0; t < COMB_TEETH; t++) {
+							if(this.g.testBit((j * COMB_TEETH + t) * COMB_SPACING + i)) {
+								m |= 1 << t;
+							}
+						}
+						if(m != 0) {
+							result.add(comb[j][m - 1], false);
+						}
+					}
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * @return true if the sum is the point at infinity
+		 */
+		boolean isInfinity() {
+			return this.compute().infinity;
+		}
+
+		/**
+		 * @return the sum (x, y) or null for the point at infinity
+		 */
+		BigInteger[] toAffine() {
+			return this.compute().toAffine();
+		}
+	}
+
+	/**
+	 * @param x
+	 * @return the point with this x coordinate and an even y
+	 * coordinate, or null if there is none
+	 */
+	static BigInteger[] liftX(BigInteger x) {
+		if(x.signum() < 0 || x.compareTo(P) >= 0) {
+			return null;
+		}
+		long[] t = new long[2 * Secp256k1Field.LIMBS];
+		long[] c = Secp256k1Field.fromBigInteger(x);
+		long[] y = Secp256k1Field.create();
+		// c = x^3 + 7
+		Secp256k1Field.sqr(y, c, t);
+		Secp256k1Field.mul(c, y, c, t);
+		Secp256k1Field.add(c, c, Secp256k1Field.fromBigInteger(B));
+		if(!Secp256k1Field.sqrt(y, c, t)) {
+			return null;
+		}
+		BigInteger yValue = Secp256k1Field.toBigInteger(y);
+		return new BigInteger[] { x, yValue.testBit(0) ? P.subtract(yValue) : yValue };
+	}
+
+	/**
+	 * @param k - in [0, n)
+	 * @return k1, k2 (about 128 bits each, possibly negative)
+	 * where k = k1 + k2 LAMBDA (mod n)
+	 */
+	static BigInteger[] split(BigInteger k) {
+		BigInteger c1 = Secp256k1.roundDivideByN(B2.multiply(k));
+		BigInteger c2 = Secp256k1.roundDivideByN(B1.negate().multiply(k));
+		BigInteger k1 = k.subtract(c1.multiply(A1)).subtract(c2.multiply(A2));
+		BigInteger k2 = c1.multiply(B1).add(c2.multiply(B2)).negate();
+		return new BigInteger[] { k1, k2 };
+	}
+
+	private static BigInteger roundDivideByN(BigInteger x) {
+		return x.shiftLeft(1).add(N).divide(N.shiftLeft(1));
+	}
+
+	/**
+	 * @param k - not negative
+	 * @param window
+	 * @return the width window non-adjacent form of k, least
+	 * significant digit first. Every non-zero digit is odd and
+	 * less than 2^(window-1) in absolute value.
+	 */
+	private static int[] wnaf(BigInteger k, int window) {
+		int[] naf = new int[k.bitLength() + 1];
+		int i = 0;
+		while(k.signum() > 0) {
+			int zeros = k.getLowestSetBit();
+			k = k.shiftRight(zeros);
+			i += zeros;
+			int digit = k.intValue() & ((1 << window) - 1);
+			if(digit >= 1 << (window - 1)) {
+				digit -= 1 << window;
+			}
+			naf[i] = digit;
+			k = k.subtract(BigInteger.valueOf(digit));
+		}
+		return naf;
+	}
+
+	private static KeyTable getKeyTable(ECPoint publicKey) {
+		synchronized(KEY_TABLES) {
+			KeyTable table = KEY_TABLES.get(publicKey);
+			if(table != null) {
+				return table;
+			}
+		}
+		if(publicKey == null || publicKey.equals(ECPoint.POINT_INFINITY)) {
+			return null;
+		}
+		BigInteger[] q = { publicKey.getAffineX(), publicKey.getAffineY() };
+		if(!Secp256k1.isOnCurve(q)) {
+			return null;
+		}
+		// built outside the lock, two threads may build the
+		// same table but that is harmless
+		KeyTable table = new KeyTable(q);
+		synchronized(KEY_TABLES) {
+			KEY_TABLES.put(publicKey, table);
+		}
+		return table;
+	}
+
+	private static boolean isOnCurve(BigInteger[] point) {
+		BigInteger x = point[0];
+		BigInteger y = point[1];
+		if(x.signum() < 0 || x.compareTo(P) >= 0 || y.signum() < 0 || y.compareTo(P) >= 0) {
+			return false;
+		}
+		return y.multiply(y).subtract(x.pow(3)).subtract(B).mod(P).signum() == 0;
+	}
+
+	/**
+	 * Affine addition with BigIntegers, only used to build the tables
+	 * @return a + b, or null for the point at infinity
+	 */
+	private static BigInteger[] affineAdd(BigInteger[] a, BigInteger[] b) {
+		BigInteger slope;
+		if(a[0].equals(b[0])) {
+			if(!a[1].equals(b[1]) || a[1].signum() == 0) {
+				return null;
+			}
+			slope = a[0].multiply(a[0]).multiply(BigInteger.valueOf(3))
+					.multiply(a[1].shiftLeft(1).modInverse(P)).mod(P);
+		}else {
+			slope = b[1].subtract(a[1]).multiply(b[0].subtract(a[0]).modInverse(P)).mod(P);
+		}
+		BigInteger x = slope.multiply(slope).subtract(a[0]).subtract(b[0]).mod(P);
+		BigInteger y = slope.multiply(a[0].subtract(x)).subtract(a[1]).mod(P);
+		return new BigInteger[] { x, y };
+	}
+
+	/**
+	 * Decode a DER encoded signature: SEQUENCE { INTEGER r, INTEGER s }
+	 * @param signature
+	 * @return r, s or null if the encoding is invalid or r or s is not positive
+	 */
+	private static BigInteger[] decodeSignature(byte[] signature) {
+		// at most 2 + 2 * (2 + 33) bytes, so all lengths are short form
+		if(signature.length < 8 || signature.length > 72 || signature[0] != 0x30 ||
+				signature[1] != signature.length - 2 || signature[2] != 0x02) {
+			return null;
+		}
+		int rLength = signature[3];
+		int sOffset = 4 + rLength;
+		if(rLength < 1 || sOffset + 3 > signature.length || signature[sOffset] != 0x02) {
+			return null;
+		}
+		int sLength = signature[sOffset + 1];
+		if(sLength < 1 || sOffset + 2 + sLength != signature.length) {
+			return null;
+		}
+		BigInteger r = new BigInteger(signature, 4, rLength);
+		BigInteger s = new BigInteger(signature, sOffset + 2, sLength);
+		if(r.signum() <= 0 || s.signum() <= 0) {
+			return null;
+		}
+		return new BigInteger[] { r, s };
+	}
+
+}
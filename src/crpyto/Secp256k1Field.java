@@ -0,0 +1,336 @@
+package crpyto;
+
+import java.math.BigInteger;
+
+/**
+ * Arithmetic in the field of the secp256k1 curve, modulo
+ * p = 2^256 - 2^32 - 977, used by Secp256k1.
+ *
+ * An element is a long[10] of 26 bit limbs (least significant first),
+ * so the products of two limbs and their sums fit in a long and
+ * no BigIntegers are created. Results are only partially reduced: every
+ * limb is less than 2^26 but the value can be larger than p (it is less
+ * than 2^260). normalize() reduces an element to [0, p) - this is only
+ * needed to compare elements.
+ *
+ * Operations write their result into an existing element (which
+ * can be one of the inputs) so elements can be reused.
+ */
+final class Secp256k1Field {
+
+	static final int LIMBS = 10;
+
+	private static final long MASK = 0x3FFFFFFL;
+
+	// p in limbs
+	private static final long[] P = {
+			0x3FFFC2FL, 0x3FFFFBFL, 0x3FFFFFFL, 0x3FFFFFFL, 0x3FFFFFFL,
+			0x3FFFFFFL, 0x3FFFFFFL, 0x3FFFFFFL, 0x3FFFFFFL, 0x03FFFFFL
+	};
+
+	// 2^260 = 2^36 + 0x3D10 (mod p), 2^36 is 2^10 in the second limb
+	private static final long FOLD_LOW = 0x3D10L;
+	private static final int FOLD_SHIFT = 10;
+
+	private static final BigInteger LIMB_MASK = BigInteger.valueOf(MASK);
+
+	private Secp256k1Field() {
+	}
+
+	static long[] create() {
+		return new long[LIMBS];
+	}
+
+	/**
+	 * @param x - in [0, p)
+	 * @return x as a field element
+	 */
+	static long[] fromBigInteger(BigInteger x) {
+		long[] r = new long[LIMBS];
+		for(int i = 0; i < LIMBS; i++) {
+			r[i] = x.shiftRight(26 * i).and(LIMB_MASK).longValue();
+		}
+		return r;
+	}
+
+	/**
+	 * @param a
+	 * @return a, reduced to [0, p)
+	 */
+	static BigInteger toBigInteger(long[] a) {
+		BigInteger x = BigInteger.ZERO;
+		for(int i = LIMBS - 1; i >= 0; i--) {
+			x = x.shiftLeft(26).add(BigInteger.valueOf(a[i]));
+		}
+		return x.mod(Secp256k1.P);
+	}
+
+	static void set(long[] r, long[] a) {
+		System.arraycopy(a, 0, r, 0, LIMBS);
+	}
+
+	static void setOne(long[] r) {
+		r[0] = 1;
+		for(int i = 1; i < LIMBS; i++) {
+			r[i] = 0;
+		}
+	}
+
+	/**
+	 * r = a + b
+	 */
+	static void add(long[] r, long[] a, long[] b) {
+		for(int i = 0; i < LIMBS; i++) {
+			r[i] = a[i] + b[i];
+		}
+		Secp256k1Field.carry(r);
+	}
+
+	/**
+	 * r = a - b
+	 */
+	static void sub(long[] r, long[] a, long[] b) {
+		// adding 32p keeps every limb positive, since
+		// every limb of 32p is at least 2^26
+		for(int i = 0; i < LIMBS; i++) {
+			r[i] = a[i] + (P[i] << 5) - b[i];
+		}
+		Secp256k1Field.carry(r);
+	}
+
+	/**
+	 * r = -a
+	 */
+	static void negate(long[] r, long[] a) {
+		for(int i = 0; i < LIMBS; i++) {
+			r[i] = (P[i] << 5) - a[i];
+		}
+		Secp256k1Field.carry(r);
+	}
+
+	/**
+	 * r = a * k
+	 * @param k - a small constant (at most 2^20)
+	 */
+	static void mulSmall(long[] r, long[] a, int k) {
+		for(int i = 0; i < LIMBS; i++) {
+			r[i] = a[i] * k;
+		}
+		Secp256k1Field.carry(r);
+	}
+
+	/**
+	 * r = a * b
+	 * @param t - scratch space, at least 2 * LIMBS long
+	 */
+	static void mul(long[] r, long[] a, long[] b, long[] t) {
+		for(int k = 0; k < 2 * LIMBS; k++) {
+			t[k] = 0;
+		}
+		for(int i = 0; i < LIMBS; i++) {
+			long ai = a[i];
+			for(int j = 0; j < LIMBS; j++) {
+				t[i + j] += ai * b[j];
+			}
+		}
+		Secp256k1Field.reduce(r, t);
+	}
+
+	/**
+	 * r = a * a
+	 * @param t - scratch space, at least 2 * LIMBS long
+	 */
+	static void sqr(long[] r, long[] a, long[] t) {
+		for(int k = 0; k < 2 * LIMBS; k++) {
+			t[k] = 0;
+		}
+		for(int i = 0; i < LIMBS; i++) {
+			long ai = a[i];
+			t[2 * i] += ai * ai;
+			long ai2 = ai << 1;
+			for(int j = i + 1; j < LIMBS; j++) {
+				t[i + j] += ai2 * a[j];
+			}
+		}
+		Secp256k1Field.reduce(r, t);
+	}
+
+	/**
+	 * r = a^(2^n) 
+	 */
+	private static void sqrN(long[] r, long[] a, int n, long[] t) {
+		Secp256k1Field.sqr(r, a, t);
+		for(int i = 1; i < n; i++) {
+			Secp256k1Field.sqr(r, r, t);
+		}
+	}
+
+	/**
+	 * r = a^((p+1)/4), a square root of a if it has one
+	 * (since p = 3 mod 4). The exponent has runs of 1s of length
+	 * 2, 22 and 223, which are built up with an addition chain
+	 * (253 squarings and 13 multiplications).
+	 * @param r - must not be a
+	 * @param a
+	 * @param t - scratch space, at least 2 * LIMBS long
+	 * @return true if r is a square root of a
+	 */
+	static boolean sqrt(long[] r, long[] a, long[] t) {
+		// xn = a^(2^n - 1)
+		long[] x2 = Secp256k1Field.create();
+		Secp256k1Field.sqr(x2, a, t);
+		Secp256k1Field.mul(x2, x2, a, t);
+		long[] x3 = Secp256k1Field.create();
+		Secp256k1Field.sqr(x3, x2, t);
+		Secp256k1Field.mul(x3, x3, a, t);
+		long[] x6 = Secp256k1Field.create();
+		Secp256k1Field.sqrN(x6, x3, 3, t);
+		Secp256k1Field.mul(x6, x6, x3, t);
+		long[] x9 = Secp256k1Field.create();
+		Secp256k1Field.sqrN(x9, x6, 3, t);
+		Secp256k1Field.mul(x9, x9, x3, t);
+		long[] x11 = Secp256k1Field.create();
+		Secp256k1Field.sqrN(x11, x9, 2, t);
+		Secp256k1Field.mul(x11, x11, x2, t);
+		long[] x22 = Secp256k1Field.create();
+		Secp256k1Field.sqrN(x22, x11, 11, t);
+		Secp256k1Field.mul(x22, x22, x11, t);
+		long[] x44 = Secp256k1Field.create();
+		Secp256k1Field.sqrN(x44, x22, 22, t);
+		Secp256k1Field.mul(x44, x44, x22, t);
+		long[] x88 = Secp256k1Field.create();
+		Secp256k1Field.sqrN(x88, x44, 44, t);
+		Secp256k1Field.mul(x88, x88, x44, t);
+		long[] x = Secp256k1Field.create();
+		Secp256k1Field.sqrN(x, x88, 88, t);
+		Secp256k1Field.mul(x, x, x88, t);
+		// x220
+		Secp256k1Field.sqrN(x, x, 44, t);
+		Secp256k1Field.mul(x, x, x44, t);
+		// x223
+		Secp256k1Field.sqrN(x, x, 3, t);
+		Secp256k1Field.mul(x, x, x3, t);
+		Secp256k1Field.sqrN(x, x, 23, t);
+		Secp256k1Field.mul(x, x, x22, t);
+		Secp256k1Field.sqrN(x, x, 6, t);
+		Secp256k1Field.mul(x, x, x2, t);
+		Secp256k1Field.sqrN(r, x, 2, t);
+		Secp256k1Field.sqr(x, r, t);
+		return Secp256k1Field.equal(x, a, t);
+	}
+
+	/**
+	 * Reduce a product (19 limbs) to 10 limbs, using
+	 * 2^260 = 2^36 + 0x3D10
+	 */
+	private static void reduce(long[] r, long[] t) {
+		long c = 0;
+		for(int k = 0; k < 2 * LIMBS - 1; k++) {
+			c += t[k];
+			t[k] = c & MASK;
+			c >>>= 26;
+		}
+		t[2 * LIMBS - 1] = c;
+		// limb k (k >= 10) is limb k-10 times 2^260, and adding
+		// to limb k-9 = 10 is folded again, so go down
+		for(int k = 2 * LIMBS - 1; k >= LIMBS; k--) {
+			t[k - LIMBS] += t[k] * FOLD_LOW;
+			t[k - LIMBS + 1] += t[k] << FOLD_SHIFT;
+		}
+		System.arraycopy(t, 0, r, 0, LIMBS);
+		Secp256k1Field.carry(r);
+	}
+
+	/**
+	 * Propagate the carries so every limb is less than 2^26,
+	 * folding anything above 2^260 back into the bottom limbs
+	 */
+	private static void carry(long[] r) {
+		long top;
+		do {
+			long c = 0;
+			for(int i = 0; i < LIMBS; i++) {
+				c += r[i];
+				r[i] = c & MASK;
+				c >>>= 26;
+			}
+			top = c;
+			r[0] += top * FOLD_LOW;
+			r[1] += top << FOLD_SHIFT;
+		} while(top != 0);
+	}
+
+	/**
+	 * Reduce r to [0, p)
+	 */
+	static void normalize(long[] r) {
+		Secp256k1Field.carry(r);
+		// r < 2^260, fold the bits above 2^256
+		// (2^256 = 2^32 + 977, 2^32 is 2^6 in the second limb)
+		for(int pass = 0; pass < 2; pass++) {
+			long h = r[LIMBS - 1] >>> 22;
+			r[LIMBS - 1] &= 0x3FFFFFL;
+			r[0] += h * 977;
+			r[1] += h << 6;
+			long c = 0;
+			for(int i = 0; i < LIMBS; i++) {
+				c += r[i];
+				r[i] = c & MASK;
+				c >>>= 26;
+			}
+		}
+		// r < 2^256 < 2p
+		if(Secp256k1Field.geP(r)) {
+			// r - p = r + 2^32 + 977 - 2^256
+			r[0] += 977;
+			r[1] += 1 << 6;
+			long c = 0;
+			for(int i = 0; i < LIMBS; i++) {
+				c += r[i];
+				r[i] = c & MASK;
+				c >>>= 26;
+			}
+			r[LIMBS - 1] &= 0x3FFFFFL;
+		}
+	}
+
+	private static boolean geP(long[] r) {
+		for(int i = LIMBS - 1; i >= 0; i--) {
+			if(r[i] != P[i]) {
+				return r[i] > P[i];
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param a
+	 * @param t - scratch space, at least LIMBS long
+	 * @return true if a = 0 (mod p)
+	 */
+	static boolean isZero(long[] a, long[] t) {
+		System.arraycopy(a, 0, t, 0, LIMBS);
+		Secp256k1Field.normalize(t);
+		for(int i = 0; i < LIMBS; i++) {
+			if(t[i] != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param a
+	 * @param b
+	 * @param t - scratch space, at least 2 * LIMBS long
+	 * @return true if a = b (mod p)
+	 */
+	static boolean equal(long[] a, long[] b, long[] t) {
+		for(int i = 0; i < LIMBS; i++) {
+			t[i] = a[i] + (P[i] << 5) - b[i];
+		}
+		Secp256k1Field.carry(t);
+		return Secp256k1Field.isZero(t, t);
+	}
+
+}
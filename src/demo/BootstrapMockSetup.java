@@ -18,6 +18,7 @@ import mpt.core.Utils;
 import mpt.set.MPTSetFull;
 import pki.Account;
 import io.grpc.bverify.Receipt;
+import io.grpc.bverify.SignatureScheme;
 
 /**
  * This class is used to create mock data
@@ -33,6 +34,14 @@ public class BootstrapMockSetup {
 	public static final String PKI_DIR = "pki/";
 	public static final String CLIENT_DATA = "client-data/";
 	
+	// the signature scheme the mock clients use for the 
+	// requests they start (ECDSA or SCHNORR)
+	public static final String SIGNATURE_SCHEME_PROPERTY = "bverify.signatureScheme";
+	
+	public static SignatureScheme getSignatureScheme() {
+		return SignatureScheme.valueOf(System.getProperty(SIGNATURE_SCHEME_PROPERTY, 
+				SignatureScheme.ECDSA.name()));
+	}
 
 	
 	public static void bootstrapSimpleDemo(String base) {
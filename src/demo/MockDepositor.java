@@ -1,11 +1,17 @@
 package demo;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
@@ -14,39 +20,66 @@ import java.util.stream.Collectors;
 
 import com.google.protobuf.ByteString;
 
+import crpyto.CryptographicDigest;
 import crpyto.CryptographicSignature;
 import crpyto.CryptographicUtils;
+import history.HistoryVerifier;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
 import io.grpc.bverify.BVerifyServerAPIGrpc;
 import io.grpc.bverify.BVerifyServerAPIGrpc.BVerifyServerAPIBlockingStub;
-import io.grpc.bverify.CommitmentsRequest;
-import io.grpc.bverify.CommitmentsResponse;
+import io.grpc.bverify.BVerifyServerAPIGrpc.BVerifyServerAPIStub;
 import io.grpc.bverify.DataRequest;
 import io.grpc.bverify.DataResponse;
 import io.grpc.bverify.ForwardRequest;
 import io.grpc.bverify.GetForwardedRequest;
 import io.grpc.bverify.GetForwardedResponse;
+import io.grpc.bverify.HistoryProof;
 import io.grpc.bverify.IssueReceiptRequest;
+import io.grpc.bverify.LatestCommitmentRequest;
 import io.grpc.bverify.PathRequest;
 import io.grpc.bverify.PathResponse;
+import io.grpc.bverify.ProofEncoding;
 import io.grpc.bverify.Receipt;
+import io.grpc.bverify.ReceiptDiffRequest;
+import io.grpc.bverify.ReceiptDiffResponse;
+import io.grpc.bverify.ReconcileRequest;
+import io.grpc.bverify.ReconcileResponse;
 import io.grpc.bverify.SubmitRequest;
 import io.grpc.bverify.SubmitResponse;
+import io.grpc.bverify.SubtreePrefix;
 import io.grpc.bverify.TransferReceiptRequest;
+import io.grpc.bverify.UpdatesRequest;
+import io.grpc.bverify.UpdatesResponse;
+import io.grpc.stub.StreamObserver;
 import mpt.core.InsufficientAuthenticationDataException;
 import mpt.core.InvalidSerializationException;
+import mpt.core.ProofVerifier;
 import mpt.core.Utils;
 import mpt.dictionary.MPTDictionaryPartial;
+import mpt.dictionary.MPTDictionaryVerifier;
 import mpt.set.AuthenticatedSetServer;
+import mpt.set.MPTSetDiff;
 import mpt.set.MPTSetFull;
+import mpt.set.Prefix;
+import mpt.set.SubtreeSummary;
 import pki.Account;
+import pki.FilePKIDirectory;
 import pki.PKIDirectory;
+import serialization.generated.MptSerialization.MerklePrefixTrie;
 import server.BVerifyServer;
 
 
 public class MockDepositor implements Runnable {
 	private static final Logger logger = Logger.getLogger(BVerifyServer.class.getName());
+	
+	// how many times to try fetching the receipts
+	private static final int MAX_DATA_ATTEMPTS = 3;
+	// how long to wait for each round of reconciliation
+	private static final int RECONCILE_TIMEOUT_SECONDS = 30;
+	// the most prefixes the server accepts in one reconcile request
+	private static final int MAX_RECONCILE_PREFIXES = 1 << 16;
 
 
 	private final Account account;
@@ -54,15 +87,28 @@ public class MockDepositor implements Runnable {
 	// data 
 	private final byte[] adsKey;
 	private final Set<Receipt> adsData;
-	private final AuthenticatedSetServer ads;
+	private AuthenticatedSetServer ads;
+	// the last commitment the receipts were checked against
+	private int dataCommitmentNumber;
 	
 	// witnessing 
+	private final MPTDictionaryVerifier verifier;
+	// (the proof for the current commitment is kept 
+	// so it can be updated incrementally)
+	private MPTDictionaryPartial proof;
 	private byte[] currentCommitment;
 	private int currentCommitmentNumber;
+	// the commitment history last accepted, later 
+	// histories must extend it
+	private int historySize;
+	private byte[] historyRoot;
 	
 	// gRPC
 	private final ManagedChannel channel;
 	private final BVerifyServerAPIBlockingStub blockingStub;
+	private final BVerifyServerAPIStub asyncStub;
+	// forwarded requests are pushed by the server
+	private boolean watchingForwarded;
 
 	
 	public MockDepositor(Account a, String host, int port) {
@@ -70,8 +116,11 @@ public class MockDepositor implements Runnable {
 	   
 		this.channel = ManagedChannelBuilder.forAddress(host, port).usePlaintext().build();
 	    this.blockingStub = BVerifyServerAPIGrpc.newBlockingStub(channel);
+	    this.asyncStub = BVerifyServerAPIGrpc.newStub(channel);
+	    this.watchingForwarded = false;
 
 	    this.account = a;
+	    this.verifier = new MPTDictionaryVerifier();
 		this.ads = new MPTSetFull();
 		this.adsData = new HashSet<>();
 		assert a.getADSKeys().size() == 1;
@@ -80,16 +129,20 @@ public class MockDepositor implements Runnable {
 		logger.log(Level.INFO, "...loading mock depositor "+a.getFirstName());
 		logger.log(Level.INFO, "...cares about ads: "+Utils.byteArrayAsHexString(this.adsKey));
 		
-		logger.log(Level.INFO, "...getting commitments from server");
-		List<byte[]> commitments = this.getCommitments();
-		this.currentCommitmentNumber = commitments.size()-1;
-		this.currentCommitment = commitments.get(this.currentCommitmentNumber);
+		logger.log(Level.INFO, "...getting the latest commitment from server");
+		HistoryProof latest = this.getLatestCommitment();
+		if(!this.checkHistory(latest)) {
+			throw new RuntimeException("bad commitment history!");
+		}
+		int commitmentNumber = latest.getCommitmentNumber();
+		byte[] commitment = latest.getCommitment().toByteArray();
 		
-		logger.log(Level.INFO, "...current commitment: #"+this.currentCommitmentNumber+" - "+
-				Utils.byteArrayAsHexString(this.currentCommitment));
+		logger.log(Level.INFO, "...current commitment: #"+commitmentNumber+" - "+
+				Utils.byteArrayAsHexString(commitment));
 		
 		logger.log(Level.INFO, "...asking for data from the server");
-		List<Receipt> receipts = this.getDataRequest(this.adsKey, this.currentCommitmentNumber);
+		List<Receipt> receipts = this.getDataRequest(this.adsKey, commitmentNumber);
+		this.dataCommitmentNumber = commitmentNumber;
 		for(Receipt r : receipts) {
 			logger.log(Level.INFO, "...adding receipt: "+r);
 			this.adsData.add(r);
@@ -98,84 +151,201 @@ public class MockDepositor implements Runnable {
 		}
 		
 		logger.log(Level.INFO, "...asking for a proof, checking latest commitment");
-		this.checkCommitment(this.currentCommitment, this.currentCommitmentNumber);
+		if(this.checkCommitment(commitment, commitmentNumber)) {
+			this.acceptCommitment(latest);
+		}else {
+			// there is no checkpoint yet, so the 
+			// next poll checks the latest commitment again
+			logger.log(Level.WARNING, "...commitment #"+commitmentNumber+" rejected");
+			this.currentCommitmentNumber = -1;
+		}
 		logger.log(Level.INFO, "...setup complete!");
 				
 	}
 	
 	/**
-	 * Periodically the mock depositor polls the serve and approves any requests
+	 * Periodically the mock depositor polls the server for new commitments.
+	 * Forwarded requests are pushed by the server and handled as they arrive
 	 */
 	@Override
-	public void run() {
-		logger.log(Level.FINE, "...polling server for forwarded requests");
-		GetForwardedResponse approvals = this.getForwarded();
-		if(approvals.hasIssueReceipt()) {
-			IssueReceiptRequest approvedRequest = this.approveRequestAndApply(approvals.getIssueReceipt());
-			logger.log(Level.INFO, "...submitting approved request to server");
-			this.submitApprovedRequest(approvedRequest);
-		}
-		if(approvals.hasTransferReceipt()) {
-			TransferReceiptRequest approvedRequest = this.approveTransferRequestAndApply(approvals.getTransferReceipt());
-			logger.log(Level.INFO, "...submitting approved request to server");
-			this.submitApprovedRequest(approvedRequest);
+	public synchronized void run() {
+		if(!this.watchingForwarded) {
+			this.watchForwarded();
 		}
 		logger.log(Level.FINE, "...polling sever for new commitments");
-		List<byte[]> commitments  = this.getCommitments();
-		// get the new commitments if any
-		List<byte[]> newCommitments = commitments.subList(this.currentCommitmentNumber+1, commitments.size());
-		if(newCommitments.size() > 0) {
-			for(byte[] newCommitment : newCommitments) {
-				int newCommitmentNumber = this.currentCommitmentNumber + 1;
-				logger.log(Level.INFO, "...new commitment found asking for proof");
-				this.checkCommitment(newCommitment, newCommitmentNumber);
-				this.currentCommitmentNumber = newCommitmentNumber;
-				this.currentCommitment = newCommitment;
-			}
+		// only the latest commitment is checked, the commitments 
+		// in between are covered by the consistency proof
+		HistoryProof latest = this.getLatestCommitment();
+		if(latest.getCommitmentNumber() <= this.currentCommitmentNumber) {
+			return;
+		}
+		logger.log(Level.INFO, "...new commitments found checking the commitment history");
+		if(!this.checkHistory(latest)) {
+			return;
 		}
+		int newCommitmentNumber = latest.getCommitmentNumber();
+		byte[] newCommitment = latest.getCommitment().toByteArray();
+		// if possible update the proof incrementally
+		List<MerklePrefixTrie> updates = null;
+		if(this.proof != null) {
+			logger.log(Level.INFO, "...asking for updates");
+			updates = this.getUpdates(this.currentCommitmentNumber, newCommitmentNumber);
+		}
+		boolean accepted;
+		if(updates != null) {
+			accepted = this.checkUpdates(updates, newCommitment, newCommitmentNumber);
+		}else {
+			accepted = this.checkCommitment(newCommitment, newCommitmentNumber);
+		}
+		// a rejected commitment does not become the checkpoint, 
+		// the next poll checks the latest commitment against 
+		// the last commitment that was accepted
+		if(!accepted) {
+			logger.log(Level.WARNING, "...commitment #"+newCommitmentNumber+" rejected, keeping commitment #"+
+					this.currentCommitmentNumber);
+			return;
+		}
+		this.acceptCommitment(latest);
+	}
+	
+	/**
+	 * Make a commitment that has been checked the checkpoint
+	 * that later commitments and histories are checked against
+	 * @param latest
+	 */
+	private void acceptCommitment(HistoryProof latest) {
+		this.currentCommitmentNumber = latest.getCommitmentNumber();
+		this.currentCommitment = latest.getCommitment().toByteArray();
+		this.historySize = latest.getSize();
+		this.historyRoot = latest.getRoot().toByteArray();
 	}
 	
+	/**
+	 * Check that the commitment history extends the history 
+	 * last accepted and that the commitment is in it. The first 
+	 * history is trusted. The history is only accepted (see 
+	 * acceptCommitment) once the commitment has been checked too.
+	 * @param latest
+	 * @return true if the history is accepted
+	 */
+	private boolean checkHistory(HistoryProof latest) {
+		byte[] root = latest.getRoot().toByteArray();
+		List<byte[]> consistencyProof = latest.getConsistencyProofList().stream()
+				.map(x -> x.toByteArray()).collect(Collectors.toList());
+		List<byte[]> inclusionProof = latest.getInclusionProofList().stream()
+				.map(x -> x.toByteArray()).collect(Collectors.toList());
+		if(this.historySize > 0 && !HistoryVerifier.verifyConsistency(this.historySize, latest.getSize(), 
+				this.historyRoot, root, consistencyProof)) {
+			logger.log(Level.WARNING, "...COMMITMENT HISTORY WAS REWRITTEN");
+			System.err.println("COMMITMENT HISTORY WAS REWRITTEN");
+			return false;
+		}
+		if(!HistoryVerifier.verifyInclusion(latest.getCommitment().toByteArray(), latest.getCommitmentNumber(), 
+				latest.getSize(), inclusionProof, root)) {
+			logger.log(Level.WARNING, "...COMMITMENT NOT IN HISTORY");
+			System.err.println("COMMITMENT NOT IN HISTORY");
+			return false;
+		}
+		return true;
+	}
+	
+	
 	public void shutdown() throws InterruptedException {
 	    this.channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
 	}
 	
-	private List<byte[]> getCommitments() {
-		CommitmentsRequest request = CommitmentsRequest.newBuilder().build();
-		CommitmentsResponse response = this.blockingStub.getCommitments(request);
-		return response.getCommitmentsList().stream().map(x -> x.toByteArray()).collect(Collectors.toList());
+	private HistoryProof getLatestCommitment() {
+		LatestCommitmentRequest request = LatestCommitmentRequest.newBuilder()
+				.setCheckpointSize(this.historySize)
+				.build();
+		return this.blockingStub.getLatestCommitment(request);
 	}
 	
 	private List<Receipt> getDataRequest(byte[] adsId, int commitmentNumber){
-		DataRequest request = DataRequest.newBuilder()
-				.setAdsId(ByteString.copyFrom(adsId))
-				.setCommitmentNumber(commitmentNumber)
-				.build();
-		DataResponse response = this.blockingStub.getDataRequest(request);
-		return response.getReceiptsList();
-		
+		// the receipts are streamed in chunks, if the 
+		// stream fails it is resumed after the last receipt received
+		List<Receipt> receipts = new ArrayList<>();
+		ByteString continuationToken = ByteString.EMPTY;
+		for(int attempt = 0; ; attempt++) {
+			DataRequest request = DataRequest.newBuilder()
+					.setAdsId(ByteString.copyFrom(adsId))
+					.setCommitmentNumber(commitmentNumber)
+					.setContinuationToken(continuationToken)
+					.build();
+			try {
+				Iterator<DataResponse> chunks = this.blockingStub.streamDataRequest(request);
+				while(chunks.hasNext()) {
+					DataResponse chunk = chunks.next();
+					receipts.addAll(chunk.getReceiptsList());
+					continuationToken = chunk.getContinuationToken();
+				}
+				return receipts;
+			}catch(StatusRuntimeException e) {
+				if(attempt == MAX_DATA_ATTEMPTS - 1) {
+					throw e;
+				}
+				logger.log(Level.WARNING, "...receipt stream failed, resuming: "+e);
+			}
+		}
 	}
 	
-	private MPTDictionaryPartial getPath(List<byte[]> adsIds, int commitment) {
+	private byte[] getPath(List<byte[]> adsIds, int commitment) {
 		PathRequest request = PathRequest.newBuilder()
 				.setCommitmentNumber(commitment)
 				.addAllAdsIds(adsIds.stream().map(x -> ByteString.copyFrom(x)).collect(Collectors.toList()))
+				.setEncoding(ProofEncoding.ENCODED)
 				.build();
 		PathResponse response = this.blockingStub.getAuthPath(request);
-		MPTDictionaryPartial res;
-		try {
-			res = MPTDictionaryPartial.deserialize(response.getPath());
-		} catch (InvalidSerializationException e) {
-			e.printStackTrace();
-			throw new RuntimeException("MPT cannot be deserialized");
+		if(!response.getEncodedPath().isEmpty()) {
+			return response.getEncodedPath().toByteArray();
 		}
-		return res;
+		return response.getPath().toByteArray();
 	}
 	
-	private GetForwardedResponse getForwarded() {
+	/**
+	 * Ask the server to push requests forwarded to this client.
+	 * If the stream fails it is restarted on the next run.
+	 */
+	private synchronized void watchForwarded() {
+		logger.log(Level.INFO, "...watching server for forwarded requests");
 		GetForwardedRequest request = GetForwardedRequest.newBuilder()
 				.setId(this.account.getIdAsString())
 				.build();
-		return this.blockingStub.getForwarded(request);
+		this.watchingForwarded = true;
+		this.asyncStub.watchForwarded(request, new StreamObserver<GetForwardedResponse>() {
+			@Override
+			public void onNext(GetForwardedResponse approvals) {
+				MockDepositor.this.handleForwarded(approvals);
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				logger.log(Level.WARNING, "...stopped watching forwarded requests: "+t);
+				MockDepositor.this.stopWatchingForwarded();
+			}
+
+			@Override
+			public void onCompleted() {
+				MockDepositor.this.stopWatchingForwarded();
+			}
+		});
+	}
+	
+	private synchronized void stopWatchingForwarded() {
+		this.watchingForwarded = false;
+	}
+	
+	private synchronized void handleForwarded(GetForwardedResponse approvals) {
+		if(approvals.hasIssueReceipt()) {
+			IssueReceiptRequest approvedRequest = this.approveRequestAndApply(approvals.getIssueReceipt());
+			logger.log(Level.INFO, "...submitting approved request to server");
+			this.submitApprovedRequest(approvedRequest);
+		}
+		if(approvals.hasTransferReceipt()) {
+			TransferReceiptRequest approvedRequest = this.approveTransferRequestAndApply(approvals.getTransferReceipt());
+			logger.log(Level.INFO, "...submitting approved request to server");
+			this.submitApprovedRequest(approvedRequest);
+		}
 	}
 	
 	private IssueReceiptRequest approveRequestAndApply(IssueReceiptRequest request) {
@@ -186,7 +356,7 @@ public class MockDepositor implements Runnable {
 		this.ads.insert(witness);
 		byte[] newRoot = this.ads.commitment();
 		logger.log(Level.INFO, "...NEW ADS ROOT: "+Utils.byteArrayAsHexString(newRoot));
-		byte[] sig = CryptographicSignature.sign(newRoot, this.account.getPrivateKey());
+		byte[] sig = CryptographicSignature.sign(newRoot, this.account.getPrivateKey(), request.getScheme());
 		return request.toBuilder().setSignatureDepositor(ByteString.copyFrom(sig)).build();
 	}
 	
@@ -200,7 +370,7 @@ public class MockDepositor implements Runnable {
 			this.ads.delete(witness);
 			byte[] newRoot = this.ads.commitment();
 			logger.log(Level.INFO, "...NEW ADS ROOT: "+Utils.byteArrayAsHexString(newRoot));
-			byte[] sig = CryptographicSignature.sign(newRoot, this.account.getPrivateKey());
+			byte[] sig = CryptographicSignature.sign(newRoot, this.account.getPrivateKey(), request.getScheme());
 			return request.toBuilder().setSignatureCurrentOwner(ByteString.copyFrom(sig)).build();
 		}
 		logger.log(Level.INFO, "...adding receipt");
@@ -208,7 +378,7 @@ public class MockDepositor implements Runnable {
 		this.adsData.add(r);
 		byte[] newRoot = this.ads.commitment();
 		logger.log(Level.INFO, "...NEW ADS ROOT: "+Utils.byteArrayAsHexString(newRoot));
-		byte[] sig = CryptographicSignature.sign(newRoot, this.account.getPrivateKey());
+		byte[] sig = CryptographicSignature.sign(newRoot, this.account.getPrivateKey(), request.getScheme());
 		return request.toBuilder().setSignatureNewOwner(ByteString.copyFrom(sig)).build();
 	}
 	
@@ -236,37 +406,264 @@ public class MockDepositor implements Runnable {
 		return accepted;
 	}
 	
-	private boolean checkCommitment(final byte[] commitment, final int commitmentNumber) {
+	
+	private List<MerklePrefixTrie> getUpdates(int fromCommitmentNumber, int toCommitmentNumber) {
+		UpdatesRequest request = UpdatesRequest.newBuilder()
+				.addAdsIds(ByteString.copyFrom(this.adsKey))
+				.setFromCommitmentNumber(fromCommitmentNumber)
+				.setToCommitmentNumber(toCommitmentNumber)
+				.build();
+		UpdatesResponse response = this.blockingStub.getUpdates(request);
+		if(response.getUnavailable()) {
+			logger.log(Level.INFO, "...updates not available");
+			return null;
+		}
+		return response.getUpdatesList();
+	}
+	
+	/**
+	 * If the local receipts have fallen behind, ask the server for 
+	 * the receipts added and removed since they were last checked 
+	 * and apply them. The changes are only kept if the resulting 
+	 * ADS matches the proven root.
+	 * @param provenRoot - the root of the ADS in the commitment
+	 * @param commitmentNumber
+	 * @return true if the receipts were brought up to date
+	 */
+	private boolean catchUp(byte[] provenRoot, int commitmentNumber) {
+		logger.log(Level.INFO, "...receipts do not match, asking for changes since commitment #"+
+				this.dataCommitmentNumber);
+		ReceiptDiffRequest request = ReceiptDiffRequest.newBuilder()
+				.setAdsId(ByteString.copyFrom(this.adsKey))
+				.setFromCommitmentNumber(this.dataCommitmentNumber)
+				.setToCommitmentNumber(commitmentNumber)
+				.build();
+		ReceiptDiffResponse diff;
+		try {
+			diff = this.blockingStub.getReceiptDiff(request);
+		}catch(StatusRuntimeException e) {
+			logger.log(Level.WARNING, "...changes not available: "+e);
+			return this.reconcile(provenRoot);
+		}
+		// apply the changes to a copy
+		MPTSetFull ads;
+		try {
+			ads = MPTSetFull.fromSnapshot(((MPTSetFull) this.ads).snapshot(true));
+		} catch (InvalidSerializationException e) {
+			throw new RuntimeException(e);
+		}
+		Set<Receipt> adsData = new HashSet<>(this.adsData);
+		for(Receipt r : diff.getRemovedList()) {
+			adsData.remove(r);
+			ads.delete(CryptographicUtils.witnessReceipt(r));
+		}
+		for(Receipt r : diff.getAddedList()) {
+			adsData.add(r);
+			ads.insert(CryptographicUtils.witnessReceipt(r));
+		}
+		if(!Arrays.equals(provenRoot, ads.commitment())) {
+			return this.reconcile(provenRoot);
+		}
+		logger.log(Level.INFO, "...applied "+diff.getAddedCount()+" added and "+
+				diff.getRemovedCount()+" removed receipts");
+		this.ads = ads;
+		this.adsData.clear();
+		this.adsData.addAll(adsData);
+		return true;
+	}
+	
+	/**
+	 * Reconcile the local receipts with the committed receipts on the 
+	 * server by comparing the subtrees of the ADS level by level, 
+	 * so that only the receipts that differ are sent. The result 
+	 * is only kept if it matches the proven root.
+	 * @param provenRoot - the root of the ADS in the commitment
+	 * @return true if the receipts were brought up to date
+	 */
+	private boolean reconcile(byte[] provenRoot) {
+		logger.log(Level.INFO, "...reconciling receipts with the server");
+		MPTSetFull ads;
+		try {
+			ads = MPTSetFull.fromSnapshot(((MPTSetFull) this.ads).snapshot(true));
+		} catch (InvalidSerializationException e) {
+			throw new RuntimeException(e);
+		}
+		MPTSetDiff diff = new MPTSetDiff();
+		Map<ByteString, Receipt> receipts = new HashMap<>();
+		BlockingQueue<Object> responses = new LinkedBlockingQueue<>();
+		StreamObserver<ReconcileRequest> requests = this.asyncStub.reconcileADS(
+				new StreamObserver<ReconcileResponse>() {
+			@Override
+			public void onNext(ReconcileResponse response) {
+				responses.add(response);
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				responses.add(t);
+			}
+
+			@Override
+			public void onCompleted() {
+			}
+		});
+		try {
+			for(int round = 0; !diff.isComplete(); round++) {
+				if(round > CryptographicDigest.getSizeBits() + 1) {
+					throw new RuntimeException("reconciliation did not finish");
+				}
+				// the server limits the prefixes in each request, 
+				// so a round may take several requests
+				List<Prefix> unresolved = diff.getUnresolved();
+				List<SubtreeSummary> summaries = new ArrayList<>(unresolved.size());
+				for(int from = 0; from < unresolved.size(); from += MAX_RECONCILE_PREFIXES) {
+					ReconcileRequest.Builder request = ReconcileRequest.newBuilder()
+							.setAdsId(ByteString.copyFrom(this.adsKey));
+					for(Prefix prefix : unresolved.subList(from, 
+							Math.min(unresolved.size(), from + MAX_RECONCILE_PREFIXES))) {
+						request.addPrefixes(SubtreePrefix.newBuilder()
+								.setBits(ByteString.copyFrom(prefix.getBits()))
+								.setLength(prefix.getLength()));
+					}
+					requests.onNext(request.build());
+					Object response = responses.poll(RECONCILE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+					if(!(response instanceof ReconcileResponse)) {
+						throw new RuntimeException("no response: "+response);
+					}
+					for(io.grpc.bverify.SubtreeSummary subtree : ((ReconcileResponse) response).getSubtreesList()) {
+						Prefix prefix = new Prefix(subtree.getPrefix().getBits().toByteArray(), 
+								subtree.getPrefix().getLength());
+						if(!subtree.getHash().isEmpty()) {
+							summaries.add(SubtreeSummary.interior(prefix, subtree.getHash().toByteArray()));
+						}else if(!subtree.getValue().isEmpty()) {
+							summaries.add(SubtreeSummary.leaf(prefix, subtree.getValue().toByteArray()));
+							receipts.put(subtree.getValue(), subtree.getReceipt());
+						}else {
+							summaries.add(SubtreeSummary.empty(prefix));
+						}
+					}
+				}
+				ads.diff(summaries, diff);
+			}
+			requests.onCompleted();
+		} catch(RuntimeException | InterruptedException e) {
+			logger.log(Level.WARNING, "...reconciliation failed: "+e);
+			requests.onError(e);
+			return false;
+		}
+		// apply the differences
+		Set<Receipt> adsData = new HashSet<>(this.adsData);
+		if(diff.getRemoved().size() > 0) {
+			Map<ByteString, Receipt> witnesses = new HashMap<>();
+			for(Receipt r : adsData) {
+				witnesses.put(ByteString.copyFrom(CryptographicUtils.witnessReceipt(r)), r);
+			}
+			for(byte[] witness : diff.getRemoved()) {
+				adsData.remove(witnesses.get(ByteString.copyFrom(witness)));
+				ads.delete(witness);
+			}
+		}
+		for(byte[] witness : diff.getAdded()) {
+			Receipt r = receipts.get(ByteString.copyFrom(witness));
+			if(r == null || !Arrays.equals(witness, CryptographicUtils.witnessReceipt(r))) {
+				logger.log(Level.WARNING, "...receipt missing for: "+Utils.byteArrayAsHexString(witness));
+				return false;
+			}
+			adsData.add(r);
+			ads.insert(witness);
+		}
+		if(!Arrays.equals(provenRoot, ads.commitment())) {
+			return false;
+		}
+		logger.log(Level.INFO, "...reconciled "+diff.getAdded().size()+" added and "+
+				diff.getRemoved().size()+" removed receipts");
+		this.ads = ads;
+		this.adsData.clear();
+		this.adsData.addAll(adsData);
+		return true;
+	}
+	
+	private boolean checkUpdates(List<MerklePrefixTrie> updates, byte[] commitment, int commitmentNumber) {
 		logger.log(Level.INFO, "...checking commtiment : #"+commitmentNumber+
 				" | "+Utils.byteArrayAsHexString(commitment));
-		logger.log(Level.INFO, "...asking for proof from the server");
-		MPTDictionaryPartial mpt = this.getPath(Arrays.asList(this.adsKey), commitmentNumber);
-		logger.log(Level.INFO, "...checking proof");
-		// check that the auth proof is correct
+		logger.log(Level.INFO, "...applying "+updates.size()+" updates to proof");
+		MPTDictionaryPartial mpt = this.proof;
+		// a proof that does not check out is not updated 
+		// further, a new proof is requested instead
+		this.proof = null;
 		try {
+			for(MerklePrefixTrie update : updates) {
+				mpt.processUpdates(update);
+			}
+			logger.log(Level.INFO, "...checking that commitment matches");
+			if(!Arrays.equals(commitment, mpt.commitment())) {
+				logger.log(Level.WARNING, "...COMMITMENT DOES NOT MATCH");
+				System.err.println("COMMITMENT DOES NOT MATCH");
+				return false;
+			}
 			logger.log(Level.INFO, "...checking that mapping is correct");
-			if(!Arrays.equals(mpt.get(this.adsKey), this.ads.commitment())){
+			byte[] adsRoot = mpt.get(this.adsKey);
+			if(!Arrays.equals(adsRoot, this.ads.commitment()) && 
+					(adsRoot == null || !this.catchUp(adsRoot, commitmentNumber))){
 				logger.log(Level.WARNING, "...MAPPING DOES NOT MATCH");
 				System.err.println("MAPPING DOES NOT MATCH");
 				return false;
 			}
+			this.dataCommitmentNumber = commitmentNumber;
+			logger.log(Level.INFO, "...commitment accepted");
+			this.proof = mpt;
+			return true;
+		} catch (InsufficientAuthenticationDataException | InvalidSerializationException e) {
+			e.printStackTrace();
+			System.err.println("Error!");
+			throw new RuntimeException("bad proof!");
+		}
+	}
+	
+	private boolean checkCommitment(final byte[] commitment, final int commitmentNumber) {
+		logger.log(Level.INFO, "...checking commtiment : #"+commitmentNumber+
+				" | "+Utils.byteArrayAsHexString(commitment));
+		logger.log(Level.INFO, "...asking for proof from the server");
+		byte[] proof = this.getPath(Arrays.asList(this.adsKey), commitmentNumber);
+		return this.checkCommitment(proof, commitment, commitmentNumber);
+	}
+	
+	private boolean checkCommitment(final byte[] proof, final byte[] commitment, final int commitmentNumber) {
+		this.proof = null;
+		logger.log(Level.INFO, "...checking proof");
+		// check that the auth proof is correct, 
+		// without deserializing it
+		try {
+			int valueOffset = this.verifier.lookup(proof, commitment, this.adsKey);
 			logger.log(Level.INFO, "...checking that commitment matches");
-			System.out.println(Utils.byteArrayAsHexString(mpt.commitment()));
-			System.out.println(Utils.byteArrayAsHexString(commitment));
-			if(!Arrays.equals(commitment, mpt.commitment())) {
+			if(valueOffset == ProofVerifier.INVALID) {
 				logger.log(Level.WARNING, "...COMMITMENT DOES NOT MATCH");
 				System.err.println("COMMITMENT DOES NOT MATCH");
+				return false;
+			}
+			logger.log(Level.INFO, "...checking that mapping is correct");
+			byte[] adsRoot = this.ads.commitment();
+			if(valueOffset == ProofVerifier.NOT_FOUND || 
+					(!Arrays.equals(proof, valueOffset, valueOffset + adsRoot.length, adsRoot, 0, adsRoot.length) &&
+					!this.catchUp(Arrays.copyOfRange(proof, valueOffset, valueOffset + adsRoot.length), 
+							commitmentNumber))){
+				logger.log(Level.WARNING, "...MAPPING DOES NOT MATCH");
+				System.err.println("MAPPING DOES NOT MATCH");
+				return false;
 			}
+			this.dataCommitmentNumber = commitmentNumber;
 			logger.log(Level.INFO, "...commitment accepted");
+			// keep the proof so it can be updated incrementally
+			this.proof = MPTDictionaryPartial.deserialize(proof);
 			return true;
-		} catch (InsufficientAuthenticationDataException e) {
+		} catch (InsufficientAuthenticationDataException | InvalidSerializationException e) {
 			e.printStackTrace();
 			System.err.println("Error!");
 			throw new RuntimeException("bad proof!");
 		}
 	}
 
-	private void transferReceipt(Account recepient) {
+	private synchronized void transferReceipt(Account recepient) {
 		if(this.adsData.size() == 0) {
 			logger.log(Level.WARNING, "...no receipts remaining!");
 			return;
@@ -283,6 +680,7 @@ public class MockDepositor implements Runnable {
 				.setReceipt(receipt)
 				.setCurrentOwnerId(this.account.getIdAsString())
 				.setNewOwnerId(recepient.getIdAsString())
+				.setScheme(BootstrapMockSetup.getSignatureScheme())
 				.build();
 		request = this.approveTransferRequestAndApply(request);
 		ForwardRequest forward = ForwardRequest.newBuilder()
@@ -295,7 +693,7 @@ public class MockDepositor implements Runnable {
 	
 	public static void main(String[] args) {
 		String base = System.getProperty("user.dir")  + "/demos/";
-		PKIDirectory pki = new PKIDirectory(base+"pki/");
+		PKIDirectory pki = new FilePKIDirectory(base+"pki/");
 		int port = 50051;
 		if(args.length != 2) {
 			System.out.println("Usage: <host> <ALICE|BOB>");
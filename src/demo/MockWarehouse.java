@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
@@ -19,50 +20,75 @@ import com.google.protobuf.ByteString;
 
 import crpyto.CryptographicSignature;
 import crpyto.CryptographicUtils;
+import crpyto.Digest256;
+import history.HistoryVerifier;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
 import io.grpc.bverify.BVerifyServerAPIGrpc;
 import io.grpc.bverify.BVerifyServerAPIGrpc.BVerifyServerAPIBlockingStub;
-import io.grpc.bverify.CommitmentsRequest;
-import io.grpc.bverify.CommitmentsResponse;
+import io.grpc.bverify.BVerifyServerAPIGrpc.BVerifyServerAPIStub;
 import io.grpc.bverify.DataRequest;
 import io.grpc.bverify.DataResponse;
 import io.grpc.bverify.ForwardRequest;
 import io.grpc.bverify.GetForwardedRequest;
 import io.grpc.bverify.GetForwardedResponse;
+import io.grpc.bverify.HistoryProof;
 import io.grpc.bverify.IssueReceiptRequest;
+import io.grpc.bverify.LatestCommitmentRequest;
 import io.grpc.bverify.PathRequest;
 import io.grpc.bverify.PathResponse;
+import io.grpc.bverify.ProofEncoding;
 import io.grpc.bverify.Receipt;
+import io.grpc.bverify.SignatureScheme;
 import io.grpc.bverify.TransferReceiptRequest;
+import io.grpc.bverify.UpdatesRequest;
+import io.grpc.bverify.UpdatesResponse;
+import io.grpc.stub.StreamObserver;
 import mpt.core.InsufficientAuthenticationDataException;
 import mpt.core.InvalidSerializationException;
 import mpt.core.Utils;
+import mpt.dictionary.MPTDictionaryCompactCodec;
 import mpt.dictionary.MPTDictionaryPartial;
 import mpt.set.AuthenticatedSetServer;
 import mpt.set.MPTSetFull;
 import pki.Account;
+import pki.FilePKIDirectory;
 import pki.PKIDirectory;
+import serialization.generated.MptSerialization.MerklePrefixTrie;
 
 public class MockWarehouse implements Runnable {
 	private static final Logger logger = Logger.getLogger(MockWarehouse.class.getName());
+	
+	// how many times to try fetching the receipts
+	private static final int MAX_DATA_ATTEMPTS = 3;
 
 	private final Account account;
 	
 	private final Map<String, Account> depositors;
 	
 	// data
-	private final Map<String, byte[]> adsStringToKey;
-	private final Map<String, AuthenticatedSetServer> adsKeyToADS;
-	private final Map<String, Set<Receipt>> adsKeyToADSData;
+	private final List<byte[]> adsIds;
+	private final Map<Digest256, AuthenticatedSetServer> adsKeyToADS;
+	private final Map<Digest256, Set<Receipt>> adsKeyToADSData;
 	
 	// witnessing 
+	// (the proof for the current commitment is kept 
+	// so it can be updated incrementally)
+	private MPTDictionaryPartial proof;
 	private byte[] currentCommitment;
 	private int currentCommitmentNumber;
+	// the commitment history last accepted, later 
+	// histories must extend it
+	private int historySize;
+	private byte[] historyRoot;
 	
 	// gRPC
 	private final ManagedChannel channel;
 	private final BVerifyServerAPIBlockingStub blockingStub;
+	private final BVerifyServerAPIStub asyncStub;
+	// forwarded requests are pushed by the server
+	private boolean watchingForwarded;
 	
 	public MockWarehouse(Account thisWarehouse, 
 			List<Account> deps, String host, int port) {
@@ -70,6 +96,8 @@ public class MockWarehouse implements Runnable {
 
 		this.channel = ManagedChannelBuilder.forAddress(host, port).usePlaintext().build();
 	    this.blockingStub = BVerifyServerAPIGrpc.newBlockingStub(channel);
+	    this.asyncStub = BVerifyServerAPIGrpc.newStub(channel);
+	    this.watchingForwarded = false;
 
 	    
 		this.account = thisWarehouse;
@@ -85,82 +113,146 @@ public class MockWarehouse implements Runnable {
 				this.account.getADSKeys().stream().map(x -> 
 					Utils.byteArrayAsHexString(x)).collect(Collectors.toList()));
 
-		logger.log(Level.INFO, "...getting commitments from server");
-		List<byte[]> commitments = this.getCommitments();
-		this.currentCommitmentNumber = commitments.size()-1;
-		this.currentCommitment = commitments.get(this.currentCommitmentNumber);
+		logger.log(Level.INFO, "...getting the latest commitment from server");
+		HistoryProof latest = this.getLatestCommitment();
+		if(!this.checkHistory(latest)) {
+			throw new RuntimeException("bad commitment history!");
+		}
+		int commitmentNumber = latest.getCommitmentNumber();
+		byte[] commitment = latest.getCommitment().toByteArray();
 		
-		logger.log(Level.INFO, "...current commitment: #"+this.currentCommitmentNumber+" - "+
-				Utils.byteArrayAsHexString(this.currentCommitment));
+		logger.log(Level.INFO, "...current commitment: #"+commitmentNumber+" - "+
+				Utils.byteArrayAsHexString(commitment));
 		
-		this.adsStringToKey = new HashMap<>();
+		this.adsIds = new ArrayList<>(this.account.getADSKeys());
 		this.adsKeyToADS = new HashMap<>();
 		this.adsKeyToADSData = new HashMap<>();
-		for(byte[] adsKey : this.account.getADSKeys()) {
-			String adsKeyString = Utils.byteArrayAsHexString(adsKey);
-			this.adsStringToKey.put(adsKeyString, adsKey);
-			logger.log(Level.INFO, "...asking for data from the server for ads: "+adsKeyString);
+		for(byte[] adsId : this.adsIds) {
+			Digest256 adsKey = Digest256.fromBytes(adsId);
+			logger.log(Level.INFO, "...asking for data from the server for ads: "+adsKey);
 			MPTSetFull ads = new MPTSetFull();
 			Set<Receipt> adsData = new HashSet<>();
-			List<Receipt> receipts = this.getDataRequest(adsKey, this.currentCommitmentNumber);
+			List<Receipt> receipts = this.getDataRequest(adsId, commitmentNumber);
 			for(Receipt r : receipts) {
 				adsData.add(r);
 				byte[] receiptWitness = CryptographicUtils.witnessReceipt(r);
 				ads.insert(receiptWitness);
 			}
 			logger.log(Level.INFO, "...added "+adsData.size()+" receipts");
-			this.adsKeyToADS.put(adsKeyString, ads);
-			this.adsKeyToADSData.put(adsKeyString, adsData);
+			this.adsKeyToADS.put(adsKey, ads);
+			this.adsKeyToADSData.put(adsKey, adsData);
 		}
 		
 		logger.log(Level.INFO, "...asking for a proof, checking latest commitment");
-		this.checkCommitment(this.currentCommitment, this.currentCommitmentNumber);
+		if(this.checkCommitment(commitment, commitmentNumber)) {
+			this.acceptCommitment(latest);
+		}else {
+			// there is no checkpoint yet, so the 
+			// next poll checks the latest commitment again
+			logger.log(Level.WARNING, "...commitment #"+commitmentNumber+" rejected");
+			this.currentCommitmentNumber = -1;
+		}
 		logger.log(Level.INFO, "...setup complete!");
 	}
 	
 	/**
-	 * Periodically the mock depositor polls the serve and approves any requests
+	 * Periodically the mock warehouse polls the server for new commitments.
+	 * Forwarded requests are pushed by the server and handled as they arrive
 	 */
 	@Override
-	public void run() {
-		logger.log(Level.FINE, "...polling server for forwarded requests");
-		GetForwardedResponse approvals = this.getForwarded();
-		if(approvals.hasTransferReceipt()) {
-			logger.log(Level.INFO, "...transfer request recieved");
-			ForwardRequest forward = this.approveTransferRequestAndApply(approvals.getTransferReceipt());
-			logger.log(Level.INFO, "...forwarding request to "+forward.getForwardToId());
-			this.blockingStub.forward(forward);
+	public synchronized void run() {
+		if(!this.watchingForwarded) {
+			this.watchForwarded();
 		}
 		logger.log(Level.FINE, "...polling sever for new commitments");
-		List<byte[]> commitments  = this.getCommitments();
-		// get the new commitments if any
-		List<byte[]> newCommitments = commitments.subList(this.currentCommitmentNumber+1, commitments.size());
-		if(newCommitments.size() > 0) {
-			for(byte[] newCommitment : newCommitments) {
-				int newCommitmentNumber = this.currentCommitmentNumber + 1;
-				logger.log(Level.INFO, "...new commitment found asking for proof");
-				this.checkCommitment(newCommitment, newCommitmentNumber);
-				this.currentCommitmentNumber = newCommitmentNumber;
-				this.currentCommitment = newCommitment;
-			}
+		// only the latest commitment is checked, the commitments 
+		// in between are covered by the consistency proof
+		HistoryProof latest = this.getLatestCommitment();
+		if(latest.getCommitmentNumber() <= this.currentCommitmentNumber) {
+			return;
 		}
+		logger.log(Level.INFO, "...new commitments found checking the commitment history");
+		if(!this.checkHistory(latest)) {
+			return;
+		}
+		int newCommitmentNumber = latest.getCommitmentNumber();
+		byte[] newCommitment = latest.getCommitment().toByteArray();
+		// if possible update the proof incrementally
+		List<MerklePrefixTrie> updates = null;
+		if(this.proof != null) {
+			logger.log(Level.INFO, "...asking for updates");
+			updates = this.getUpdates(this.currentCommitmentNumber, newCommitmentNumber);
+		}
+		boolean accepted;
+		if(updates != null) {
+			accepted = this.checkUpdates(updates, newCommitment, newCommitmentNumber);
+		}else {
+			accepted = this.checkCommitment(newCommitment, newCommitmentNumber);
+		}
+		// a rejected commitment does not become the checkpoint, 
+		// the next poll checks the latest commitment against 
+		// the last commitment that was accepted
+		if(!accepted) {
+			logger.log(Level.WARNING, "...commitment #"+newCommitmentNumber+" rejected, keeping commitment #"+
+					this.currentCommitmentNumber);
+			return;
+		}
+		this.acceptCommitment(latest);
+	}
+	
+	/**
+	 * Make a commitment that has been checked the checkpoint
+	 * that later commitments and histories are checked against
+	 * @param latest
+	 */
+	private void acceptCommitment(HistoryProof latest) {
+		this.currentCommitmentNumber = latest.getCommitmentNumber();
+		this.currentCommitment = latest.getCommitment().toByteArray();
+		this.historySize = latest.getSize();
+		this.historyRoot = latest.getRoot().toByteArray();
 	}
 	
+	/**
+	 * Check that the commitment history extends the history 
+	 * last accepted and that the commitment is in it. The first 
+	 * history is trusted. The history is only accepted (see 
+	 * acceptCommitment) once the commitment has been checked too.
+	 * @param latest
+	 * @return true if the history is accepted
+	 */
+	private boolean checkHistory(HistoryProof latest) {
+		byte[] root = latest.getRoot().toByteArray();
+		List<byte[]> consistencyProof = latest.getConsistencyProofList().stream()
+				.map(x -> x.toByteArray()).collect(Collectors.toList());
+		List<byte[]> inclusionProof = latest.getInclusionProofList().stream()
+				.map(x -> x.toByteArray()).collect(Collectors.toList());
+		if(this.historySize > 0 && !HistoryVerifier.verifyConsistency(this.historySize, latest.getSize(), 
+				this.historyRoot, root, consistencyProof)) {
+			logger.log(Level.WARNING, "...COMMITMENT HISTORY WAS REWRITTEN");
+			System.err.println("COMMITMENT HISTORY WAS REWRITTEN");
+			return false;
+		}
+		if(!HistoryVerifier.verifyInclusion(latest.getCommitment().toByteArray(), latest.getCommitmentNumber(), 
+				latest.getSize(), inclusionProof, root)) {
+			logger.log(Level.WARNING, "...COMMITMENT NOT IN HISTORY");
+			System.err.println("COMMITMENT NOT IN HISTORY");
+			return false;
+		}
+		return true;
+	}
+	
+	
 	private ForwardRequest approveTransferRequestAndApply(TransferReceiptRequest request) {
 		Receipt receipt = request.getReceipt();
 		Account currentOwner = this.depositors.get(request.getCurrentOwnerId());
 		Account newOwner = this.depositors.get(request.getNewOwnerId());
 		logger.log(Level.INFO, "... transfering "+receipt+" from "+currentOwner+" -> "+newOwner);
 		
-		List<Account> currentOwnerADSAccounts = Arrays.asList(this.account, currentOwner);
-		String currentOwnerADSId = Utils.byteArrayAsHexString(
-				CryptographicUtils.listOfAccountsToADSKey(currentOwnerADSAccounts));
+		Digest256 currentOwnerADSId = CryptographicUtils.getADSKey(this.account, currentOwner);
 		AuthenticatedSetServer currentOwnerADS = this.adsKeyToADS.get(currentOwnerADSId);
 		Set<Receipt> currentOwnerData = this.adsKeyToADSData.get(currentOwnerADSId);
 		
-		List<Account> newOwnerADSAccounts = Arrays.asList(this.account, newOwner);
-		String newOwnerADSId = Utils.byteArrayAsHexString(
-				CryptographicUtils.listOfAccountsToADSKey(newOwnerADSAccounts));
+		Digest256 newOwnerADSId = CryptographicUtils.getADSKey(this.account, newOwner);
 		AuthenticatedSetServer newOwnerADS = this.adsKeyToADS.get(newOwnerADSId);
 		Set<Receipt> newOwnerData = this.adsKeyToADSData.get(newOwnerADSId);
 		
@@ -169,14 +261,16 @@ public class MockWarehouse implements Runnable {
 		currentOwnerData.remove(receipt);
 		currentOwnerADS.delete(receiptWitness);
 		byte[] currentOwnerNewCmt = currentOwnerADS.commitment();
-		byte[] signatureCurrent = CryptographicSignature.sign(currentOwnerNewCmt, this.account.getPrivateKey());
+		byte[] signatureCurrent = CryptographicSignature.sign(currentOwnerNewCmt, this.account.getPrivateKey(), 
+				request.getScheme());
 		logger.log(Level.INFO, "... current owner ADS "+currentOwnerADSId+ 
 				" NEW ROOT: "+Utils.byteArrayAsHexString(currentOwnerNewCmt));
 		
 		newOwnerData.add(receipt);
 		newOwnerADS.insert(receiptWitness);
 		byte[] newOwnerCmt = newOwnerADS.commitment();
-		byte[] signatureNew = CryptographicSignature.sign(newOwnerCmt, this.account.getPrivateKey());
+		byte[] signatureNew = CryptographicSignature.sign(newOwnerCmt, this.account.getPrivateKey(), 
+				request.getScheme());
 		logger.log(Level.INFO, "... new owner ADS "+newOwnerADSId+ 
 				" NEW ROOT: "+Utils.byteArrayAsHexString(newOwnerCmt));
 		
@@ -197,25 +291,26 @@ public class MockWarehouse implements Runnable {
 		this.deposit(BootstrapMockSetup.generateReceipt(this.account, depositor), depositor);
 	}
 	
-	public void deposit(Receipt r, Account depositor) {
+	public synchronized void deposit(Receipt r, Account depositor) {
 		logger.log(Level.INFO, "...depositing receipt: "+r+" to "+depositor.getFirstName());
-		byte[] adsId = CryptographicUtils.listOfAccountsToADSKey(Arrays.asList(this.account, depositor));
-		String adsIdString = Utils.byteArrayAsHexString(adsId);
-		if(!this.adsKeyToADS.containsKey(adsIdString)) {
+		Digest256 adsKey = CryptographicUtils.getADSKey(this.account, depositor);
+		if(!this.adsKeyToADS.containsKey(adsKey)) {
 			throw new RuntimeException("not a valid depositor");
 		}
-		AuthenticatedSetServer ads = this.adsKeyToADS.get(adsIdString);
-		Set<Receipt> adsData = this.adsKeyToADSData.get(adsIdString);
+		AuthenticatedSetServer ads = this.adsKeyToADS.get(adsKey);
+		Set<Receipt> adsData = this.adsKeyToADSData.get(adsKey);
 		adsData.add(r);
 		byte[] receiptWitness = CryptographicUtils.witnessReceipt(r);
 		ads.insert(receiptWitness);
 		byte[] newRoot = ads.commitment();
 		logger.log(Level.INFO, "...new ads root: "+Utils.byteArrayAsHexString(newRoot));
-		byte[] signature = CryptographicSignature.sign(newRoot, this.account.getPrivateKey());
+		SignatureScheme scheme = BootstrapMockSetup.getSignatureScheme();
+		byte[] signature = CryptographicSignature.sign(newRoot, this.account.getPrivateKey(), scheme);
 		
 		IssueReceiptRequest request = IssueReceiptRequest.newBuilder()
 				.setReceipt(r)
 				.setSignatureWarehouse(ByteString.copyFrom(signature))
+				.setScheme(scheme)
 				.build();
 		
 		ForwardRequest requestToForward = ForwardRequest.newBuilder()
@@ -226,39 +321,100 @@ public class MockWarehouse implements Runnable {
 		this.blockingStub.forward(requestToForward);
 	}
 
-	private GetForwardedResponse getForwarded() {
+	/**
+	 * Ask the server to push requests forwarded to this client.
+	 * If the stream fails it is restarted on the next run.
+	 */
+	private synchronized void watchForwarded() {
+		logger.log(Level.INFO, "...watching server for forwarded requests");
 		GetForwardedRequest request = GetForwardedRequest.newBuilder()
 				.setId(this.account.getIdAsString())
 				.build();
-		return this.blockingStub.getForwarded(request);
+		this.watchingForwarded = true;
+		this.asyncStub.watchForwarded(request, new StreamObserver<GetForwardedResponse>() {
+			@Override
+			public void onNext(GetForwardedResponse approvals) {
+				MockWarehouse.this.handleForwarded(approvals);
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				logger.log(Level.WARNING, "...stopped watching forwarded requests: "+t);
+				MockWarehouse.this.stopWatchingForwarded();
+			}
+
+			@Override
+			public void onCompleted() {
+				MockWarehouse.this.stopWatchingForwarded();
+			}
+		});
 	}
 	
-	private List<byte[]> getCommitments() {
-		CommitmentsRequest request = CommitmentsRequest.newBuilder().build();
-		CommitmentsResponse response = this.blockingStub.getCommitments(request);
-		return response.getCommitmentsList().stream().map(x -> x.toByteArray()).collect(Collectors.toList());
+	private synchronized void stopWatchingForwarded() {
+		this.watchingForwarded = false;
 	}
 	
+	private synchronized void handleForwarded(GetForwardedResponse approvals) {
+		if(approvals.hasTransferReceipt()) {
+			logger.log(Level.INFO, "...transfer request recieved");
+			ForwardRequest forward = this.approveTransferRequestAndApply(approvals.getTransferReceipt());
+			logger.log(Level.INFO, "...forwarding request to "+forward.getForwardToId());
+			this.blockingStub.forward(forward);
+		}
+	}
 	
-	private List<Receipt> getDataRequest(byte[] adsId, int commitmentNumber){
-		DataRequest request = DataRequest.newBuilder()
-				.setAdsId(ByteString.copyFrom(adsId))
-				.setCommitmentNumber(commitmentNumber)
+	private HistoryProof getLatestCommitment() {
+		LatestCommitmentRequest request = LatestCommitmentRequest.newBuilder()
+				.setCheckpointSize(this.historySize)
 				.build();
-		DataResponse response = this.blockingStub.getDataRequest(request);
-		return response.getReceiptsList();
-		
+		return this.blockingStub.getLatestCommitment(request);
+	}
+	
+	
+	private List<Receipt> getDataRequest(byte[] adsId, int commitmentNumber){
+		// the receipts are streamed in chunks, if the 
+		// stream fails it is resumed after the last receipt received
+		List<Receipt> receipts = new ArrayList<>();
+		ByteString continuationToken = ByteString.EMPTY;
+		for(int attempt = 0; ; attempt++) {
+			DataRequest request = DataRequest.newBuilder()
+					.setAdsId(ByteString.copyFrom(adsId))
+					.setCommitmentNumber(commitmentNumber)
+					.setContinuationToken(continuationToken)
+					.build();
+			try {
+				Iterator<DataResponse> chunks = this.blockingStub.streamDataRequest(request);
+				while(chunks.hasNext()) {
+					DataResponse chunk = chunks.next();
+					receipts.addAll(chunk.getReceiptsList());
+					continuationToken = chunk.getContinuationToken();
+				}
+				return receipts;
+			}catch(StatusRuntimeException e) {
+				if(attempt == MAX_DATA_ATTEMPTS - 1) {
+					throw e;
+				}
+				logger.log(Level.WARNING, "...receipt stream failed, resuming: "+e);
+			}
+		}
 	}
 	
 	private MPTDictionaryPartial getPath(List<byte[]> adsIds, int commitment) {
 		PathRequest request = PathRequest.newBuilder()
 				.setCommitmentNumber(commitment)
 				.addAllAdsIds(adsIds.stream().map(x -> ByteString.copyFrom(x)).collect(Collectors.toList()))
+				.setEncoding(ProofEncoding.COMPACT)
 				.build();
 		PathResponse response = this.blockingStub.getAuthPath(request);
 		MPTDictionaryPartial res;
 		try {
-			res = MPTDictionaryPartial.deserialize(response.getPath());
+			if(!response.getCompactPath().isEmpty()) {
+				res = MPTDictionaryCompactCodec.decode(response.getCompactPath().toByteArray());
+			}else if(!response.getEncodedPath().isEmpty()) {
+				res = MPTDictionaryPartial.deserialize(response.getEncodedPath().toByteArray());
+			}else {
+				res = MPTDictionaryPartial.deserialize(response.getPath());
+			}
 		} catch (InvalidSerializationException e) {
 			e.printStackTrace();
 			throw new RuntimeException("MPT cannot be deserialized");
@@ -267,20 +423,57 @@ public class MockWarehouse implements Runnable {
 	}
 	
 	
+	
+	private List<MerklePrefixTrie> getUpdates(int fromCommitmentNumber, int toCommitmentNumber) {
+		UpdatesRequest request = UpdatesRequest.newBuilder()
+				.addAllAdsIds(this.adsIds.stream().map(x -> ByteString.copyFrom(x))
+						.collect(Collectors.toList()))
+				.setFromCommitmentNumber(fromCommitmentNumber)
+				.setToCommitmentNumber(toCommitmentNumber)
+				.build();
+		UpdatesResponse response = this.blockingStub.getUpdates(request);
+		if(response.getUnavailable()) {
+			logger.log(Level.INFO, "...updates not available");
+			return null;
+		}
+		return response.getUpdatesList();
+	}
+	
 	private boolean checkCommitment(byte[] commitment, int commitmentNumber) {
 		logger.log(Level.INFO, "...checking commtiment : #"+commitmentNumber+
 				" | "+Utils.byteArrayAsHexString(commitment));
 		logger.log(Level.INFO, "...asking for proof from the server");
-		List<byte[]> adsIds = this.adsStringToKey.values().stream().collect(Collectors.toList());
-		MPTDictionaryPartial mpt = this.getPath(adsIds, commitmentNumber);
+		this.proof = this.getPath(this.adsIds, commitmentNumber);
+		return this.checkProof(commitment);
+	}
+	
+	private boolean checkUpdates(List<MerklePrefixTrie> updates, byte[] commitment, int commitmentNumber) {
+		logger.log(Level.INFO, "...checking commtiment : #"+commitmentNumber+
+				" | "+Utils.byteArrayAsHexString(commitment));
+		logger.log(Level.INFO, "...applying "+updates.size()+" updates to proof");
+		try {
+			for(MerklePrefixTrie update : updates) {
+				this.proof.processUpdates(update);
+			}
+		} catch (InvalidSerializationException e) {
+			e.printStackTrace();
+			throw new RuntimeException("MPT update cannot be deserialized");
+		}
+		return this.checkProof(commitment);
+	}
+	
+	private boolean checkProof(byte[] commitment) {
+		MPTDictionaryPartial mpt = this.proof;
+		// a proof that does not check out is not updated 
+		// further, a new proof is requested instead
+		this.proof = null;
 		logger.log(Level.INFO, "...checking proof");
 		// check that the auth proof is correct
 		try {
-			for(Map.Entry<String, byte[]> kv : this.adsStringToKey.entrySet()) {
-				String adsIdAsString = kv.getKey();
-				byte[] adsId = kv.getValue();
-				byte[] cmt = this.adsKeyToADS.get(adsIdAsString).commitment();
-				logger.log(Level.INFO, "...checking "+adsIdAsString+" -> "+
+			for(Map.Entry<Digest256, AuthenticatedSetServer> kv : this.adsKeyToADS.entrySet()) {
+				byte[] adsId = kv.getKey().toBytes();
+				byte[] cmt = kv.getValue().commitment();
+				logger.log(Level.INFO, "...checking "+kv.getKey()+" -> "+
 						Utils.byteArrayAsHexString(cmt));
 				if(!Arrays.equals(mpt.get(adsId), cmt)){
 					logger.log(Level.WARNING, "...MAPPING DOES NOT MATCH");
@@ -295,6 +488,7 @@ public class MockWarehouse implements Runnable {
 				return false;
 			}
 			logger.log(Level.INFO, "...commitment accepted");
+			this.proof = mpt;
 			return true;
 		} catch (InsufficientAuthenticationDataException e) {
 			e.printStackTrace();
@@ -309,7 +503,7 @@ public class MockWarehouse implements Runnable {
 			System.out.println("Usage: <host> \n of b_verify server");
 		}		
 		String base = System.getProperty("user.dir")  + "/demos/";
-		PKIDirectory pki = new PKIDirectory(base+"pki/");
+		PKIDirectory pki = new FilePKIDirectory(base+"pki/");
 		String host = args[0];
 		int port = 50051;
 		/**
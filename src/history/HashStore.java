@@ -0,0 +1,32 @@
+package history;
+
+import java.util.List;
+
+/**
+ * An append-only sequence of hashes, where a HistoryTree keeps the
+ * hashes of its complete subtrees. A store can be kept on disk so
+ * that the tree does not have to be held in memory or rebuilt
+ * from its entries when it is reopened.
+ */
+public interface HashStore {
+
+	/**
+	 * @return the number of hashes in the store
+	 */
+	public int size();
+
+	/**
+	 * @param index
+	 * @return the hash at the index
+	 */
+	public byte[] get(int index);
+
+	/**
+	 * Add hashes to the end of the store. The hashes are
+	 * added together: if the store is kept on disk either
+	 * all of them or none of them are there when it is reopened.
+	 * @param hashes
+	 */
+	public void add(List<byte[]> hashes);
+
+}
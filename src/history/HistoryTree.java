@@ -0,0 +1,253 @@
+package history;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import crpyto.CryptographicDigest;
+
+/**
+ * NOT THREADSAFE
+ *
+ * An append-only Merkle tree (a history tree) over a sequence of
+ * entries, following RFC 6962 (Certificate Transparency): the hash
+ * of a leaf is H(0x00 || entry) and the hash of an interior node
+ * is H(0x01 || left || right), where a tree of n entries is split into
+ * a complete left subtree of the largest power of two smaller
+ * than n entries and a right subtree of the rest.
+ *
+ * The root of the tree commits to the whole sequence. Inclusion
+ * proofs show that an entry is in the tree and consistency proofs
+ * show that a tree extends an earlier version of it (so no entries were
+ * rewritten). Both are O(log n) hashes and can be checked using HistoryVerifier.
+ *
+ * The hashes of all complete subtrees are kept in a HashStore, so roots
+ * and proofs for any version of the tree are calculated in O(log n) time.
+ * The hashes are stored in the order they are calculated (post-order),
+ * so the hash of any complete subtree is at a fixed position and the
+ * store only grows at the end. With a store on disk the tree does not
+ * need to be kept in memory or rebuilt when it is reopened.
+ */
+public class HistoryTree {
+
+	static final byte LEAF_PREFIX = 0;
+	static final byte NODE_PREFIX = 1;
+
+	private final HashStore hashes;
+	// the number of entries
+	private int size;
+
+	/**
+	 * Create a tree kept in memory
+	 */
+	public HistoryTree() {
+		this(new MemoryHashStore());
+	}
+
+	/**
+	 * Open the tree kept in a store
+	 * @param hashes - the store, empty for a new tree
+	 */
+	public HistoryTree(HashStore hashes) {
+		this.hashes = hashes;
+		// a tree of n entries has 2n - bitCount(n) complete subtrees
+		int stored = hashes.size();
+		int size = stored / 2;
+		while(HistoryTree.storedHashes(size) < stored) {
+			size++;
+		}
+		if(HistoryTree.storedHashes(size) != stored) {
+			throw new IllegalArgumentException("invalid number of stored hashes: "+stored);
+		}
+		this.size = size;
+	}
+
+	/**
+	 * Append an entry to the tree
+	 * @param entry
+	 */
+	public void append(byte[] entry) {
+		List<byte[]> added = new ArrayList<>();
+		byte[] hash = HistoryTree.leafHash(entry);
+		added.add(hash);
+		// complete the subtrees this entry finishes
+		int index = this.size;
+		for(int level = 0; (index & 1) == 1; level++) {
+			hash = HistoryTree.nodeHash(this.hashes.get(HistoryTree.position(level, index - 1)), hash);
+			added.add(hash);
+			index >>= 1;
+		}
+		this.hashes.add(added);
+		this.size++;
+	}
+
+	/**
+	 * @return the number of entries
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the root of the current tree
+	 */
+	public byte[] root() {
+		return this.root(this.size());
+	}
+
+	/**
+	 * @param size
+	 * @return the root of the tree of the first size entries
+	 */
+	public byte[] root(int size) {
+		if(size < 0 || size > this.size()) {
+			throw new IllegalArgumentException("invalid size: "+size);
+		}
+		if(size == 0) {
+			return CryptographicDigest.hash(new byte[0]);
+		}
+		return this.hash(0, size).clone();
+	}
+
+	/**
+	 * Prove that an entry is in the tree of the first size entries
+	 * @param index - the index of the entry
+	 * @param size
+	 * @return the audit path, from the leaf up
+	 */
+	public List<byte[]> inclusionProof(int index, int size) {
+		if(size < 1 || size > this.size() || index < 0 || index >= size) {
+			throw new IllegalArgumentException("invalid index: "+index+" for size: "+size);
+		}
+		List<byte[]> proof = new ArrayList<>();
+		this.inclusionProof(index, 0, size, proof);
+		return proof;
+	}
+
+	private void inclusionProof(int index, int start, int end, List<byte[]> proof) {
+		if(end - start == 1) {
+			return;
+		}
+		int k = HistoryTree.split(end - start);
+		if(index < start + k) {
+			this.inclusionProof(index, start, start + k, proof);
+			proof.add(this.hash(start + k, end).clone());
+		}else {
+			this.inclusionProof(index, start + k, end, proof);
+			proof.add(this.hash(start, start + k).clone());
+		}
+	}
+
+	/**
+	 * Prove that the tree of the first newSize entries extends
+	 * the tree of the first oldSize entries
+	 * @param oldSize
+	 * @param newSize
+	 * @return the consistency proof
+	 */
+	public List<byte[]> consistencyProof(int oldSize, int newSize) {
+		if(oldSize < 1 || oldSize > newSize || newSize > this.size()) {
+			throw new IllegalArgumentException("invalid sizes: "+oldSize+" -> "+newSize);
+		}
+		List<byte[]> proof = new ArrayList<>();
+		this.consistencyProof(oldSize, 0, newSize, true, proof);
+		return proof;
+	}
+
+	// SUBPROOF from RFC 6962 section 2.1.2
+	private void consistencyProof(int m, int start, int end, boolean complete, List<byte[]> proof) {
+		int n = end - start;
+		if(m == n) {
+			if(!complete) {
+				proof.add(this.hash(start, end).clone());
+			}
+			return;
+		}
+		int k = HistoryTree.split(n);
+		if(m <= k) {
+			this.consistencyProof(m, start, start + k, complete, proof);
+			proof.add(this.hash(start + k, end).clone());
+		}else {
+			this.consistencyProof(m - k, start + k, end, false, proof);
+			proof.add(this.hash(start, start + k).clone());
+		}
+	}
+
+	/**
+	 * The hash of the subtree of the entries [start, end). Only the
+	 * right edge of a tree is not complete, so this takes O(log n) time.
+	 */
+	private byte[] hash(int start, int end) {
+		int n = end - start;
+		if((n & (n - 1)) == 0 && start % n == 0) {
+			int level = Integer.numberOfTrailingZeros(n);
+			return this.hashes.get(HistoryTree.position(level, start >> level));
+		}
+		int k = HistoryTree.split(n);
+		return HistoryTree.nodeHash(this.hash(start, start + k), this.hash(start + k, end));
+	}
+
+	/**
+	 * @return the position in the store of the hash of the complete 
+	 * subtree of the entries [i*2^level, (i+1)*2^level). It is added 
+	 * with the last entry of the subtree, after the hashes of the 
+	 * entries before it and the hashes of its lower levels.
+	 */
+	static int position(int level, int i) {
+		long last = (((long) i + 1) << level) - 1;
+		return (int) (HistoryTree.storedHashes(last) + level);
+	}
+
+	/**
+	 * @return the number of hashes stored for a tree of n entries
+	 */
+	static long storedHashes(long n) {
+		return 2 * n - Long.bitCount(n);
+	}
+
+	/**
+	 * @return the largest power of two smaller than n (n > 1)
+	 */
+	static int split(int n) {
+		return Integer.highestOneBit(n - 1);
+	}
+
+	static byte[] leafHash(byte[] entry) {
+		byte[] input = new byte[entry.length + 1];
+		input[0] = LEAF_PREFIX;
+		System.arraycopy(entry, 0, input, 1, entry.length);
+		return CryptographicDigest.hash(input);
+	}
+
+	static byte[] nodeHash(byte[] left, byte[] right) {
+		byte[] input = new byte[left.length + right.length + 1];
+		input[0] = NODE_PREFIX;
+		System.arraycopy(left, 0, input, 1, left.length);
+		System.arraycopy(right, 0, input, 1 + left.length, right.length);
+		return CryptographicDigest.hash(input);
+	}
+
+	/**
+	 * NOT THREADSAFE
+	 * 
+	 * Keeps the hashes in memory
+	 */
+	private static class MemoryHashStore implements HashStore {
+		private final List<byte[]> hashes = new ArrayList<>();
+
+		@Override
+		public int size() {
+			return this.hashes.size();
+		}
+
+		@Override
+		public byte[] get(int index) {
+			return this.hashes.get(index);
+		}
+
+		@Override
+		public void add(List<byte[]> hashes) {
+			this.hashes.addAll(hashes);
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+package history;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Verifies inclusion and consistency proofs for a HistoryTree
+ * (using the verification algorithms from RFC 9162, section 2.1.3 and 2.1.4).
+ * Clients only need to keep the size and root of the last
+ * version of the tree they checked.
+ */
+public class HistoryVerifier {
+
+	/**
+	 * Check that an entry is in a tree
+	 * @param entry - the entry
+	 * @param index - the index of the entry
+	 * @param size - the size of the tree
+	 * @param proof - the inclusion proof
+	 * @param root - the root of the tree
+	 * @return true if the proof shows the entry is at the index
+	 */
+	public static boolean verifyInclusion(byte[] entry, int index, int size, List<byte[]> proof, byte[] root) {
+		if(index < 0 || index >= size) {
+			return false;
+		}
+		long fn = index;
+		long sn = size - 1;
+		byte[] r = HistoryTree.leafHash(entry);
+		for(byte[] p : proof) {
+			if(sn == 0) {
+				return false;
+			}
+			if((fn & 1) == 1 || fn == sn) {
+				r = HistoryTree.nodeHash(p, r);
+				while((fn & 1) == 0 && fn != 0) {
+					fn >>= 1;
+					sn >>= 1;
+				}
+			}else {
+				r = HistoryTree.nodeHash(r, p);
+			}
+			fn >>= 1;
+			sn >>= 1;
+		}
+		return sn == 0 && Arrays.equals(r, root);
+	}
+
+	/**
+	 * Check that a tree extends an earlier version of it
+	 * @param oldSize - the size of the earlier tree (at least 1)
+	 * @param newSize - the size of the tree
+	 * @param oldRoot - the root of the earlier tree
+	 * @param newRoot - the root of the tree
+	 * @param proof - the consistency proof
+	 * @return true if the proof shows that the first oldSize entries
+	 * of the tree are the entries of the earlier tree
+	 */
+	public static boolean verifyConsistency(int oldSize, int newSize, byte[] oldRoot, byte[] newRoot,
+			List<byte[]> proof) {
+		if(oldSize < 1 || oldSize > newSize) {
+			return false;
+		}
+		if(oldSize == newSize) {
+			return proof.isEmpty() && Arrays.equals(oldRoot, newRoot);
+		}
+		List<byte[]> path = proof;
+		// if the old tree is complete its root is not included
+		if((oldSize & (oldSize - 1)) == 0) {
+			path = new ArrayList<>(proof.size() + 1);
+			path.add(oldRoot);
+			path.addAll(proof);
+		}
+		if(path.isEmpty()) {
+			return false;
+		}
+		long fn = oldSize - 1;
+		long sn = newSize - 1;
+		while((fn & 1) == 1) {
+			fn >>= 1;
+			sn >>= 1;
+		}
+		byte[] fr = path.get(0);
+		byte[] sr = path.get(0);
+		for(byte[] c : path.subList(1, path.size())) {
+			if(sn == 0) {
+				return false;
+			}
+			if((fn & 1) == 1 || fn == sn) {
+				fr = HistoryTree.nodeHash(c, fr);
+				sr = HistoryTree.nodeHash(c, sr);
+				while((fn & 1) == 0 && fn != 0) {
+					fn >>= 1;
+					sn >>= 1;
+				}
+			}else {
+				sr = HistoryTree.nodeHash(sr, c);
+			}
+			fn >>= 1;
+			sn >>= 1;
+		}
+		return sn == 0 && Arrays.equals(fr, oldRoot) && Arrays.equals(sr, newRoot);
+	}
+
+}
@@ -54,6 +54,36 @@ public final class Api {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_api_DataResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_ReceiptDiffRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_ReceiptDiffRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_ReceiptDiffResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_ReceiptDiffResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_ReconcileRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_ReconcileRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_ReconcileResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_ReconcileResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_SubtreePrefix_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_SubtreePrefix_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_SubtreeSummary_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_SubtreeSummary_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_api_PathRequest_descriptor;
   static final 
@@ -64,6 +94,31 @@ public final class Api {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_api_PathResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_UpdatesRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_UpdatesRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_UpdatesResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_UpdatesResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_ProofRangeRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_ProofRangeRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_ProofRangeResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_ProofRangeResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_ProofStep_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_ProofStep_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_api_CommitmentsRequest_descriptor;
   static final 
@@ -74,6 +129,31 @@ public final class Api {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_api_CommitmentsResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_WatchCommitmentsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_WatchCommitmentsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_CommitmentUpdate_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_CommitmentUpdate_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_LatestCommitmentRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_LatestCommitmentRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_HistoryProofRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_HistoryProofRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_api_HistoryProof_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_api_HistoryProof_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_api_IssueReceiptRequest_descriptor;
   static final 
@@ -103,48 +183,109 @@ public final class Api {
       "\001(\0132\030.api.IssueReceiptRequestH\000\0227\n\020trans" +
       "fer_receipt\030\002 \001(\0132\033.api.TransferReceiptR" +
       "equestH\000\022\025\n\rforward_to_id\030\003 \001(\tB\t\n\007reque" +
-      "st\" \n\017ForwardResponse\022\r\n\005added\030\001 \001(\010\"!\n\023" +
-      "GetForwardedRequest\022\n\n\002id\030\001 \001(\t\"\215\001\n\024GetF" +
-      "orwardedResponse\0221\n\rissue_receipt\030\001 \001(\0132" +
-      "\030.api.IssueReceiptRequestH\000\0227\n\020transfer_" +
-      "receipt\030\002 \001(\0132\033.api.TransferReceiptReque" +
-      "stH\000B\t\n\007request\"\206\001\n\rSubmitRequest\0221\n\riss" +
-      "ue_receipt\030\001 \001(\0132\030.api.IssueReceiptReque" +
-      "stH\000\0227\n\020transfer_receipt\030\002 \001(\0132\033.api.Tra" +
-      "nsferReceiptRequestH\000B\t\n\007request\"\"\n\016Subm" +
-      "itResponse\022\020\n\010accepted\030\001 \001(\010\"6\n\013DataRequ" +
-      "est\022\r\n\005adsId\030\001 \001(\014\022\030\n\020commitmentNumber\030\002" +
-      " \001(\005\".\n\014DataResponse\022\036\n\010receipts\030\001 \003(\0132\014" +
-      ".api.Receipt\"7\n\013PathRequest\022\016\n\006adsIds\030\001 " +
-      "\003(\014\022\030\n\020commitmentNumber\030\002 \001(\005\"G\n\014PathRes" +
-      "ponse\0227\n\004path\030\001 \001(\0132).serialization.gene" +
-      "rated.MerklePrefixTrie\"\024\n\022CommitmentsReq" +
-      "uest\"*\n\023CommitmentsResponse\022\023\n\013commitmen" +
-      "ts\030\001 \003(\014\"n\n\023IssueReceiptRequest\022\035\n\007recei" +
-      "pt\030\001 \001(\0132\014.api.Receipt\022\033\n\023signature_ware" +
-      "house\030\002 \001(\014\022\033\n\023signature_depositor\030\003 \001(\014" +
-      "\"\353\001\n\026TransferReceiptRequest\022\035\n\007receipt\030\001" +
-      " \001(\0132\014.api.Receipt\022\030\n\020current_owner_id\030\002" +
-      " \001(\t\022\024\n\014new_owner_id\030\003 \001(\t\022#\n\033signature_" +
-      "warehouse_current\030\004 \001(\014\022\037\n\027signature_cur" +
-      "rent_owner\030\005 \001(\014\022\037\n\027signature_warehouse_" +
-      "new\030\006 \001(\014\022\033\n\023signature_new_owner\030\007 \001(\014\"\316" +
-      "\001\n\007Receipt\022\024\n\014warehouse_id\030\001 \001(\t\022\024\n\014depo" +
-      "sitor_id\030\002 \001(\t\022\022\n\naccountant\030\003 \001(\t\022\020\n\010ca" +
-      "tegory\030\004 \001(\t\022\014\n\004date\030\005 \001(\t\022\021\n\tinsurance\030" +
-      "\006 \001(\t\022\016\n\006weight\030\007 \001(\001\022\016\n\006volume\030\010 \001(\001\022\020\n" +
-      "\010humidity\030\t \001(\001\022\r\n\005price\030\n \001(\001\022\017\n\007detail" +
-      "s\030\013 \001(\t2\374\002\n\020BVerifyServerAPI\0226\n\007Forward\022" +
-      "\023.api.ForwardRequest\032\024.api.ForwardRespon" +
-      "se\"\000\022E\n\014GetForwarded\022\030.api.GetForwardedR" +
-      "equest\032\031.api.GetForwardedResponse\"\000\0223\n\006S" +
-      "ubmit\022\022.api.SubmitRequest\032\023.api.SubmitRe" +
-      "sponse\"\000\0227\n\016GetDataRequest\022\020.api.DataReq" +
-      "uest\032\021.api.DataResponse\"\000\0224\n\013GetAuthPath" +
-      "\022\020.api.PathRequest\032\021.api.PathResponse\"\000\022" +
-      "E\n\016GetCommitments\022\027.api.CommitmentsReque" +
-      "st\032\030.api.CommitmentsResponse\"\000B\023\n\017io.grp" +
-      "c.bverifyP\001b\006proto3"
+      "st\" \n\017ForwardResponse\022\r\n\005added\030\001 \001(\010\"6\n\023" +
+      "GetForwardedRequest\022\n\n\002id\030\001 \001(\t\022\023\n\013wait_" +
+      "millis\030\002 \001(\005\"\215\001\n\024GetForwardedResponse\0221\n" +
+      "\rissue_receipt\030\001 \001(\0132\030.api.IssueReceiptR" +
+      "equestH\000\0227\n\020transfer_receipt\030\002 \001(\0132\033.api" +
+      ".TransferReceiptRequestH\000B\t\n\007request\"\206\001\n" +
+      "\rSubmitRequest\0221\n\rissue_receipt\030\001 \001(\0132\030." +
+      "api.IssueReceiptRequestH\000\0227\n\020transfer_re" +
+      "ceipt\030\002 \001(\0132\033.api.TransferReceiptRequest" +
+      "H\000B\t\n\007request\"\"\n\016SubmitResponse\022\020\n\010accep" +
+      "ted\030\001 \001(\010\"Q\n\013DataRequest\022\r\n\005adsId\030\001 \001(\014\022" +
+      "\030\n\020commitmentNumber\030\002 \001(\005\022\031\n\021continuatio" +
+      "nToken\030\003 \001(\014\"I\n\014DataResponse\022\036\n\010receipts" +
+      "\030\001 \003(\0132\014.api.Receipt\022\031\n\021continuationToke" +
+      "n\030\002 \001(\014\"]\n\022ReceiptDiffRequest\022\r\n\005adsId\030\001" +
+      " \001(\014\022\034\n\024fromCommitmentNumber\030\002 \001(\005\022\032\n\022to" +
+      "CommitmentNumber\030\003 \001(\005\"Q\n\023ReceiptDiffRes" +
+      "ponse\022\033\n\005added\030\001 \003(\0132\014.api.Receipt\022\035\n\007re" +
+      "moved\030\002 \003(\0132\014.api.Receipt\"G\n\020ReconcileRe" +
+      "quest\022\r\n\005adsId\030\001 \001(\014\022$\n\010prefixes\030\002 \003(\0132\022" +
+      ".api.SubtreePrefix\":\n\021ReconcileResponse\022" +
+      "%\n\010subtrees\030\001 \003(\0132\023.api.SubtreeSummary\"-" +
+      "\n\rSubtreePrefix\022\014\n\004bits\030\001 \001(\014\022\016\n\006length\030" +
+      "\002 \001(\005\"p\n\016SubtreeSummary\022\"\n\006prefix\030\001 \001(\0132" +
+      "\022.api.SubtreePrefix\022\014\n\004hash\030\002 \001(\014\022\r\n\005val" +
+      "ue\030\003 \001(\014\022\035\n\007receipt\030\004 \001(\0132\014.api.Receipt\"" +
+      "]\n\013PathRequest\022\016\n\006adsIds\030\001 \003(\014\022\030\n\020commit" +
+      "mentNumber\030\002 \001(\005\022$\n\010encoding\030\003 \001(\0162\022.api" +
+      ".ProofEncoding\"s\n\014PathResponse\0227\n\004path\030\001" +
+      " \001(\0132).serialization.generated.MerklePre" +
+      "fixTrie\022\024\n\014encoded_path\030\002 \001(\014\022\024\n\014compact" +
+      "_path\030\003 \001(\014\"Z\n\016UpdatesRequest\022\016\n\006adsIds\030" +
+      "\001 \003(\014\022\034\n\024fromCommitmentNumber\030\002 \001(\005\022\032\n\022t" +
+      "oCommitmentNumber\030\003 \001(\005\"b\n\017UpdatesRespon" +
+      "se\022:\n\007updates\030\001 \003(\0132).serialization.gene" +
+      "rated.MerklePrefixTrie\022\023\n\013unavailable\030\002 " +
+      "\001(\010\"]\n\021ProofRangeRequest\022\016\n\006adsIds\030\001 \003(\014" +
+      "\022\034\n\024fromCommitmentNumber\030\002 \001(\005\022\032\n\022toComm" +
+      "itmentNumber\030\003 \001(\005\"e\n\022ProofRangeResponse" +
+      "\022\032\n\022toCommitmentNumber\030\001 \001(\005\022\024\n\014encoded_" +
+      "base\030\002 \001(\014\022\035\n\005steps\030\003 \003(\0132\016.api.ProofSte" +
+      "p\"h\n\tProofStep\022;\n\006update\030\001 \001(\0132).seriali" +
+      "zation.generated.MerklePrefixTrieH\000\022\026\n\014e" +
+      "ncoded_path\030\002 \001(\014H\000B\006\n\004step\"2\n\022Commitmen" +
+      "tsRequest\022\034\n\024fromCommitmentNumber\030\001 \001(\005\"" +
+      "*\n\023CommitmentsResponse\022\023\n\013commitments\030\001 " +
+      "\003(\014\"m\n\027WatchCommitmentsRequest\022\034\n\024fromCo" +
+      "mmitmentNumber\030\001 \001(\005\022\016\n\006adsIds\030\002 \003(\014\022$\n\010" +
+      "encoding\030\003 \001(\0162\022.api.ProofEncoding\"l\n\020Co" +
+      "mmitmentUpdate\022\030\n\020commitmentNumber\030\001 \001(\005" +
+      "\022\022\n\ncommitment\030\002 \001(\014\022\024\n\014encoded_path\030\003 \001" +
+      "(\014\022\024\n\014compact_path\030\004 \001(\014\"1\n\027LatestCommit" +
+      "mentRequest\022\026\n\016checkpointSize\030\001 \001(\005\"U\n\023H" +
+      "istoryProofRequest\022\030\n\020commitmentNumber\030\001" +
+      " \001(\005\022\026\n\016checkpointSize\030\002 \001(\005\022\014\n\004size\030\003 \001" +
+      "(\005\"\214\001\n\014HistoryProof\022\030\n\020commitmentNumber\030" +
+      "\001 \001(\005\022\022\n\ncommitment\030\002 \001(\014\022\014\n\004size\030\003 \001(\005\022" +
+      "\014\n\004root\030\004 \001(\014\022\027\n\017inclusion_proof\030\005 \003(\014\022\031" +
+      "\n\021consistency_proof\030\006 \003(\014\"\224\001\n\023IssueRecei" +
+      "ptRequest\022\035\n\007receipt\030\001 \001(\0132\014.api.Receipt" +
+      "\022\033\n\023signature_warehouse\030\002 \001(\014\022\033\n\023signatu" +
+      "re_depositor\030\003 \001(\014\022$\n\006scheme\030\004 \001(\0162\024.api" +
+      ".SignatureScheme\"\221\002\n\026TransferReceiptRequ" +
+      "est\022\035\n\007receipt\030\001 \001(\0132\014.api.Receipt\022\030\n\020cu" +
+      "rrent_owner_id\030\002 \001(\t\022\024\n\014new_owner_id\030\003 \001" +
+      "(\t\022#\n\033signature_warehouse_current\030\004 \001(\014\022" +
+      "\037\n\027signature_current_owner\030\005 \001(\014\022\037\n\027sign" +
+      "ature_warehouse_new\030\006 \001(\014\022\033\n\023signature_n" +
+      "ew_owner\030\007 \001(\014\022$\n\006scheme\030\010 \001(\0162\024.api.Sig" +
+      "natureScheme\"\316\001\n\007Receipt\022\024\n\014warehouse_id" +
+      "\030\001 \001(\t\022\024\n\014depositor_id\030\002 \001(\t\022\022\n\naccounta" +
+      "nt\030\003 \001(\t\022\020\n\010category\030\004 \001(\t\022\014\n\004date\030\005 \001(\t" +
+      "\022\021\n\tinsurance\030\006 \001(\t\022\016\n\006weight\030\007 \001(\001\022\016\n\006v" +
+      "olume\030\010 \001(\001\022\020\n\010humidity\030\t \001(\001\022\r\n\005price\030\n" +
+      " \001(\001\022\017\n\007details\030\013 \001(\t*7\n\rProofEncoding\022\014" +
+      "\n\010PROTOBUF\020\000\022\013\n\007COMPACT\020\001\022\013\n\007ENCODED\020\002*)" +
+      "\n\017SignatureScheme\022\t\n\005ECDSA\020\000\022\013\n\007SCHNORR\020" +
+      "\0012\351\007\n\020BVerifyServerAPI\0226\n\007Forward\022\023.api." +
+      "ForwardRequest\032\024.api.ForwardResponse\"\000\022E" +
+      "\n\014GetForwarded\022\030.api.GetForwardedRequest" +
+      "\032\031.api.GetForwardedResponse\"\000\022I\n\016WatchFo" +
+      "rwarded\022\030.api.GetForwardedRequest\032\031.api." +
+      "GetForwardedResponse\"\0000\001\0223\n\006Submit\022\022.api" +
+      ".SubmitRequest\032\023.api.SubmitResponse\"\000\0227\n" +
+      "\016GetDataRequest\022\020.api.DataRequest\032\021.api." +
+      "DataResponse\"\000\022<\n\021StreamDataRequest\022\020.ap" +
+      "i.DataRequest\032\021.api.DataResponse\"\0000\001\022E\n\016" +
+      "GetReceiptDiff\022\027.api.ReceiptDiffRequest\032" +
+      "\030.api.ReceiptDiffResponse\"\000\022C\n\014Reconcile" +
+      "ADS\022\025.api.ReconcileRequest\032\026.api.Reconci" +
+      "leResponse\"\000(\0010\001\0224\n\013GetAuthPath\022\020.api.Pa" +
+      "thRequest\032\021.api.PathResponse\"\000\0229\n\nGetUpd" +
+      "ates\022\023.api.UpdatesRequest\032\024.api.UpdatesR" +
+      "esponse\"\000\022B\n\rGetProofRange\022\026.api.ProofRa" +
+      "ngeRequest\032\027.api.ProofRangeResponse\"\000\022E\n" +
+      "\016GetCommitments\022\027.api.CommitmentsRequest" +
+      "\032\030.api.CommitmentsResponse\"\000\022K\n\020WatchCom" +
+      "mitments\022\034.api.WatchCommitmentsRequest\032\025" +
+      ".api.CommitmentUpdate\"\0000\001\022H\n\023GetLatestCo" +
+      "mmitment\022\034.api.LatestCommitmentRequest\032\021" +
+      ".api.HistoryProof\"\000\022@\n\017GetHistoryProof\022\030" +
+      ".api.HistoryProofRequest\032\021.api.HistoryPr" +
+      "oof\"\000B\023\n\017io.grpc.bverifyP\001b\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -176,7 +317,7 @@ public final class Api {
     internal_static_api_GetForwardedRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_api_GetForwardedRequest_descriptor,
-        new java.lang.String[] { "Id", });
+        new java.lang.String[] { "Id", "WaitMillis", });
     internal_static_api_GetForwardedResponse_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_api_GetForwardedResponse_fieldAccessorTable = new
@@ -200,51 +341,147 @@ public final class Api {
     internal_static_api_DataRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_api_DataRequest_descriptor,
-        new java.lang.String[] { "AdsId", "CommitmentNumber", });
+        new java.lang.String[] { "AdsId", "CommitmentNumber", "ContinuationToken", });
     internal_static_api_DataResponse_descriptor =
       getDescriptor().getMessageTypes().get(7);
     internal_static_api_DataResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_api_DataResponse_descriptor,
-        new java.lang.String[] { "Receipts", });
-    internal_static_api_PathRequest_descriptor =
+        new java.lang.String[] { "Receipts", "ContinuationToken", });
+    internal_static_api_ReceiptDiffRequest_descriptor =
       getDescriptor().getMessageTypes().get(8);
+    internal_static_api_ReceiptDiffRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_ReceiptDiffRequest_descriptor,
+        new java.lang.String[] { "AdsId", "FromCommitmentNumber", "ToCommitmentNumber", });
+    internal_static_api_ReceiptDiffResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_api_ReceiptDiffResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_ReceiptDiffResponse_descriptor,
+        new java.lang.String[] { "Added", "Removed", });
+    internal_static_api_ReconcileRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_api_ReconcileRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_ReconcileRequest_descriptor,
+        new java.lang.String[] { "AdsId", "Prefixes", });
+    internal_static_api_ReconcileResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_api_ReconcileResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_ReconcileResponse_descriptor,
+        new java.lang.String[] { "Subtrees", });
+    internal_static_api_SubtreePrefix_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_api_SubtreePrefix_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_SubtreePrefix_descriptor,
+        new java.lang.String[] { "Bits", "Length", });
+    internal_static_api_SubtreeSummary_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_api_SubtreeSummary_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_SubtreeSummary_descriptor,
+        new java.lang.String[] { "Prefix", "Hash", "Value", "Receipt", });
+    internal_static_api_PathRequest_descriptor =
+      getDescriptor().getMessageTypes().get(14);
     internal_static_api_PathRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_api_PathRequest_descriptor,
-        new java.lang.String[] { "AdsIds", "CommitmentNumber", });
+        new java.lang.String[] { "AdsIds", "CommitmentNumber", "Encoding", });
     internal_static_api_PathResponse_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_api_PathResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_api_PathResponse_descriptor,
-        new java.lang.String[] { "Path", });
+        new java.lang.String[] { "Path", "EncodedPath", "CompactPath", });
+    internal_static_api_UpdatesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_api_UpdatesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_UpdatesRequest_descriptor,
+        new java.lang.String[] { "AdsIds", "FromCommitmentNumber", "ToCommitmentNumber", });
+    internal_static_api_UpdatesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_api_UpdatesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_UpdatesResponse_descriptor,
+        new java.lang.String[] { "Updates", "Unavailable", });
+    internal_static_api_ProofRangeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_api_ProofRangeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_ProofRangeRequest_descriptor,
+        new java.lang.String[] { "AdsIds", "FromCommitmentNumber", "ToCommitmentNumber", });
+    internal_static_api_ProofRangeResponse_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_api_ProofRangeResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_ProofRangeResponse_descriptor,
+        new java.lang.String[] { "ToCommitmentNumber", "EncodedBase", "Steps", });
+    internal_static_api_ProofStep_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_api_ProofStep_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_ProofStep_descriptor,
+        new java.lang.String[] { "Update", "EncodedPath", "Step", });
     internal_static_api_CommitmentsRequest_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(21);
     internal_static_api_CommitmentsRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_api_CommitmentsRequest_descriptor,
-        new java.lang.String[] { });
+        new java.lang.String[] { "FromCommitmentNumber", });
     internal_static_api_CommitmentsResponse_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(22);
     internal_static_api_CommitmentsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_api_CommitmentsResponse_descriptor,
         new java.lang.String[] { "Commitments", });
+    internal_static_api_WatchCommitmentsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_api_WatchCommitmentsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_WatchCommitmentsRequest_descriptor,
+        new java.lang.String[] { "FromCommitmentNumber", "AdsIds", "Encoding", });
+    internal_static_api_CommitmentUpdate_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_api_CommitmentUpdate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_CommitmentUpdate_descriptor,
+        new java.lang.String[] { "CommitmentNumber", "Commitment", "EncodedPath", "CompactPath", });
+    internal_static_api_LatestCommitmentRequest_descriptor =
+      getDescriptor().getMessageTypes().get(25);
+    internal_static_api_LatestCommitmentRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_LatestCommitmentRequest_descriptor,
+        new java.lang.String[] { "CheckpointSize", });
+    internal_static_api_HistoryProofRequest_descriptor =
+      getDescriptor().getMessageTypes().get(26);
+    internal_static_api_HistoryProofRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_HistoryProofRequest_descriptor,
+        new java.lang.String[] { "CommitmentNumber", "CheckpointSize", "Size", });
+    internal_static_api_HistoryProof_descriptor =
+      getDescriptor().getMessageTypes().get(27);
+    internal_static_api_HistoryProof_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_api_HistoryProof_descriptor,
+        new java.lang.String[] { "CommitmentNumber", "Commitment", "Size", "Root", "InclusionProof", "ConsistencyProof", });
     internal_static_api_IssueReceiptRequest_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(28);
     internal_static_api_IssueReceiptRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_api_IssueReceiptRequest_descriptor,
-        new java.lang.String[] { "Receipt", "SignatureWarehouse", "SignatureDepositor", });
+        new java.lang.String[] { "Receipt", "SignatureWarehouse", "SignatureDepositor", "Scheme", });
     internal_static_api_TransferReceiptRequest_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(29);
     internal_static_api_TransferReceiptRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_api_TransferReceiptRequest_descriptor,
-        new java.lang.String[] { "Receipt", "CurrentOwnerId", "NewOwnerId", "SignatureWarehouseCurrent", "SignatureCurrentOwner", "SignatureWarehouseNew", "SignatureNewOwner", });
+        new java.lang.String[] { "Receipt", "CurrentOwnerId", "NewOwnerId", "SignatureWarehouseCurrent", "SignatureCurrentOwner", "SignatureWarehouseNew", "SignatureNewOwner", "Scheme", });
     internal_static_api_Receipt_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(30);
     internal_static_api_Receipt_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_api_Receipt_descriptor,
@@ -106,6 +106,43 @@ public final class BVerifyServerAPIGrpc {
      return getGetForwardedMethod;
   }
   @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  @java.lang.Deprecated // Use {@link #getWatchForwardedMethod()} instead. 
+  public static final io.grpc.MethodDescriptor<io.grpc.bverify.GetForwardedRequest,
+      io.grpc.bverify.GetForwardedResponse> METHOD_WATCH_FORWARDED = getWatchForwardedMethodHelper();
+
+  private static volatile io.grpc.MethodDescriptor<io.grpc.bverify.GetForwardedRequest,
+      io.grpc.bverify.GetForwardedResponse> getWatchForwardedMethod;
+
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static io.grpc.MethodDescriptor<io.grpc.bverify.GetForwardedRequest,
+      io.grpc.bverify.GetForwardedResponse> getWatchForwardedMethod() {
+    return getWatchForwardedMethodHelper();
+  }
+
+  private static io.grpc.MethodDescriptor<io.grpc.bverify.GetForwardedRequest,
+      io.grpc.bverify.GetForwardedResponse> getWatchForwardedMethodHelper() {
+    io.grpc.MethodDescriptor<io.grpc.bverify.GetForwardedRequest, io.grpc.bverify.GetForwardedResponse> getWatchForwardedMethod;
+    if ((getWatchForwardedMethod = BVerifyServerAPIGrpc.getWatchForwardedMethod) == null) {
+      synchronized (BVerifyServerAPIGrpc.class) {
+        if ((getWatchForwardedMethod = BVerifyServerAPIGrpc.getWatchForwardedMethod) == null) {
+          BVerifyServerAPIGrpc.getWatchForwardedMethod = getWatchForwardedMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.bverify.GetForwardedRequest, io.grpc.bverify.GetForwardedResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "api.BVerifyServerAPI", "WatchForwarded"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.GetForwardedRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.GetForwardedResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new BVerifyServerAPIMethodDescriptorSupplier("WatchForwarded"))
+                  .build();
+          }
+        }
+     }
+     return getWatchForwardedMethod;
+  }
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
   @java.lang.Deprecated // Use {@link #getSubmitMethod()} instead. 
   public static final io.grpc.MethodDescriptor<io.grpc.bverify.SubmitRequest,
       io.grpc.bverify.SubmitResponse> METHOD_SUBMIT = getSubmitMethodHelper();
@@ -180,6 +217,117 @@ public final class BVerifyServerAPIGrpc {
      return getGetDataRequestMethod;
   }
   @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  @java.lang.Deprecated // Use {@link #getStreamDataRequestMethod()} instead. 
+  public static final io.grpc.MethodDescriptor<io.grpc.bverify.DataRequest,
+      io.grpc.bverify.DataResponse> METHOD_STREAM_DATA_REQUEST = getStreamDataRequestMethodHelper();
+
+  private static volatile io.grpc.MethodDescriptor<io.grpc.bverify.DataRequest,
+      io.grpc.bverify.DataResponse> getStreamDataRequestMethod;
+
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static io.grpc.MethodDescriptor<io.grpc.bverify.DataRequest,
+      io.grpc.bverify.DataResponse> getStreamDataRequestMethod() {
+    return getStreamDataRequestMethodHelper();
+  }
+
+  private static io.grpc.MethodDescriptor<io.grpc.bverify.DataRequest,
+      io.grpc.bverify.DataResponse> getStreamDataRequestMethodHelper() {
+    io.grpc.MethodDescriptor<io.grpc.bverify.DataRequest, io.grpc.bverify.DataResponse> getStreamDataRequestMethod;
+    if ((getStreamDataRequestMethod = BVerifyServerAPIGrpc.getStreamDataRequestMethod) == null) {
+      synchronized (BVerifyServerAPIGrpc.class) {
+        if ((getStreamDataRequestMethod = BVerifyServerAPIGrpc.getStreamDataRequestMethod) == null) {
+          BVerifyServerAPIGrpc.getStreamDataRequestMethod = getStreamDataRequestMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.bverify.DataRequest, io.grpc.bverify.DataResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "api.BVerifyServerAPI", "StreamDataRequest"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.DataRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.DataResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new BVerifyServerAPIMethodDescriptorSupplier("StreamDataRequest"))
+                  .build();
+          }
+        }
+     }
+     return getStreamDataRequestMethod;
+  }
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  @java.lang.Deprecated // Use {@link #getGetReceiptDiffMethod()} instead. 
+  public static final io.grpc.MethodDescriptor<io.grpc.bverify.ReceiptDiffRequest,
+      io.grpc.bverify.ReceiptDiffResponse> METHOD_GET_RECEIPT_DIFF = getGetReceiptDiffMethodHelper();
+
+  private static volatile io.grpc.MethodDescriptor<io.grpc.bverify.ReceiptDiffRequest,
+      io.grpc.bverify.ReceiptDiffResponse> getGetReceiptDiffMethod;
+
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static io.grpc.MethodDescriptor<io.grpc.bverify.ReceiptDiffRequest,
+      io.grpc.bverify.ReceiptDiffResponse> getGetReceiptDiffMethod() {
+    return getGetReceiptDiffMethodHelper();
+  }
+
+  private static io.grpc.MethodDescriptor<io.grpc.bverify.ReceiptDiffRequest,
+      io.grpc.bverify.ReceiptDiffResponse> getGetReceiptDiffMethodHelper() {
+    io.grpc.MethodDescriptor<io.grpc.bverify.ReceiptDiffRequest, io.grpc.bverify.ReceiptDiffResponse> getGetReceiptDiffMethod;
+    if ((getGetReceiptDiffMethod = BVerifyServerAPIGrpc.getGetReceiptDiffMethod) == null) {
+      synchronized (BVerifyServerAPIGrpc.class) {
+        if ((getGetReceiptDiffMethod = BVerifyServerAPIGrpc.getGetReceiptDiffMethod) == null) {
+          BVerifyServerAPIGrpc.getGetReceiptDiffMethod = getGetReceiptDiffMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.bverify.ReceiptDiffRequest, io.grpc.bverify.ReceiptDiffResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "api.BVerifyServerAPI", "GetReceiptDiff"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.ReceiptDiffRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.ReceiptDiffResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new BVerifyServerAPIMethodDescriptorSupplier("GetReceiptDiff"))
+                  .build();
+          }
+        }
+     }
+     return getGetReceiptDiffMethod;
+  }
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  @java.lang.Deprecated // Use {@link #getReconcileADSMethod()} instead. 
+  public static final io.grpc.MethodDescriptor<io.grpc.bverify.ReconcileRequest,
+      io.grpc.bverify.ReconcileResponse> METHOD_RECONCILE_ADS = getReconcileADSMethodHelper();
+
+  private static volatile io.grpc.MethodDescriptor<io.grpc.bverify.ReconcileRequest,
+      io.grpc.bverify.ReconcileResponse> getReconcileADSMethod;
+
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static io.grpc.MethodDescriptor<io.grpc.bverify.ReconcileRequest,
+      io.grpc.bverify.ReconcileResponse> getReconcileADSMethod() {
+    return getReconcileADSMethodHelper();
+  }
+
+  private static io.grpc.MethodDescriptor<io.grpc.bverify.ReconcileRequest,
+      io.grpc.bverify.ReconcileResponse> getReconcileADSMethodHelper() {
+    io.grpc.MethodDescriptor<io.grpc.bverify.ReconcileRequest, io.grpc.bverify.ReconcileResponse> getReconcileADSMethod;
+    if ((getReconcileADSMethod = BVerifyServerAPIGrpc.getReconcileADSMethod) == null) {
+      synchronized (BVerifyServerAPIGrpc.class) {
+        if ((getReconcileADSMethod = BVerifyServerAPIGrpc.getReconcileADSMethod) == null) {
+          BVerifyServerAPIGrpc.getReconcileADSMethod = getReconcileADSMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.bverify.ReconcileRequest, io.grpc.bverify.ReconcileResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "api.BVerifyServerAPI", "ReconcileADS"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.ReconcileRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.ReconcileResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new BVerifyServerAPIMethodDescriptorSupplier("ReconcileADS"))
+                  .build();
+          }
+        }
+     }
+     return getReconcileADSMethod;
+  }
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
   @java.lang.Deprecated // Use {@link #getGetAuthPathMethod()} instead. 
   public static final io.grpc.MethodDescriptor<io.grpc.bverify.PathRequest,
       io.grpc.bverify.PathResponse> METHOD_GET_AUTH_PATH = getGetAuthPathMethodHelper();
@@ -217,6 +365,80 @@ public final class BVerifyServerAPIGrpc {
      return getGetAuthPathMethod;
   }
   @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  @java.lang.Deprecated // Use {@link #getGetUpdatesMethod()} instead. 
+  public static final io.grpc.MethodDescriptor<io.grpc.bverify.UpdatesRequest,
+      io.grpc.bverify.UpdatesResponse> METHOD_GET_UPDATES = getGetUpdatesMethodHelper();
+
+  private static volatile io.grpc.MethodDescriptor<io.grpc.bverify.UpdatesRequest,
+      io.grpc.bverify.UpdatesResponse> getGetUpdatesMethod;
+
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static io.grpc.MethodDescriptor<io.grpc.bverify.UpdatesRequest,
+      io.grpc.bverify.UpdatesResponse> getGetUpdatesMethod() {
+    return getGetUpdatesMethodHelper();
+  }
+
+  private static io.grpc.MethodDescriptor<io.grpc.bverify.UpdatesRequest,
+      io.grpc.bverify.UpdatesResponse> getGetUpdatesMethodHelper() {
+    io.grpc.MethodDescriptor<io.grpc.bverify.UpdatesRequest, io.grpc.bverify.UpdatesResponse> getGetUpdatesMethod;
+    if ((getGetUpdatesMethod = BVerifyServerAPIGrpc.getGetUpdatesMethod) == null) {
+      synchronized (BVerifyServerAPIGrpc.class) {
+        if ((getGetUpdatesMethod = BVerifyServerAPIGrpc.getGetUpdatesMethod) == null) {
+          BVerifyServerAPIGrpc.getGetUpdatesMethod = getGetUpdatesMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.bverify.UpdatesRequest, io.grpc.bverify.UpdatesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "api.BVerifyServerAPI", "GetUpdates"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.UpdatesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.UpdatesResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new BVerifyServerAPIMethodDescriptorSupplier("GetUpdates"))
+                  .build();
+          }
+        }
+     }
+     return getGetUpdatesMethod;
+  }
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  @java.lang.Deprecated // Use {@link #getGetProofRangeMethod()} instead. 
+  public static final io.grpc.MethodDescriptor<io.grpc.bverify.ProofRangeRequest,
+      io.grpc.bverify.ProofRangeResponse> METHOD_GET_PROOF_RANGE = getGetProofRangeMethodHelper();
+
+  private static volatile io.grpc.MethodDescriptor<io.grpc.bverify.ProofRangeRequest,
+      io.grpc.bverify.ProofRangeResponse> getGetProofRangeMethod;
+
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static io.grpc.MethodDescriptor<io.grpc.bverify.ProofRangeRequest,
+      io.grpc.bverify.ProofRangeResponse> getGetProofRangeMethod() {
+    return getGetProofRangeMethodHelper();
+  }
+
+  private static io.grpc.MethodDescriptor<io.grpc.bverify.ProofRangeRequest,
+      io.grpc.bverify.ProofRangeResponse> getGetProofRangeMethodHelper() {
+    io.grpc.MethodDescriptor<io.grpc.bverify.ProofRangeRequest, io.grpc.bverify.ProofRangeResponse> getGetProofRangeMethod;
+    if ((getGetProofRangeMethod = BVerifyServerAPIGrpc.getGetProofRangeMethod) == null) {
+      synchronized (BVerifyServerAPIGrpc.class) {
+        if ((getGetProofRangeMethod = BVerifyServerAPIGrpc.getGetProofRangeMethod) == null) {
+          BVerifyServerAPIGrpc.getGetProofRangeMethod = getGetProofRangeMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.bverify.ProofRangeRequest, io.grpc.bverify.ProofRangeResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "api.BVerifyServerAPI", "GetProofRange"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.ProofRangeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.ProofRangeResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new BVerifyServerAPIMethodDescriptorSupplier("GetProofRange"))
+                  .build();
+          }
+        }
+     }
+     return getGetProofRangeMethod;
+  }
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
   @java.lang.Deprecated // Use {@link #getGetCommitmentsMethod()} instead. 
   public static final io.grpc.MethodDescriptor<io.grpc.bverify.CommitmentsRequest,
       io.grpc.bverify.CommitmentsResponse> METHOD_GET_COMMITMENTS = getGetCommitmentsMethodHelper();
@@ -253,6 +475,117 @@ public final class BVerifyServerAPIGrpc {
      }
      return getGetCommitmentsMethod;
   }
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  @java.lang.Deprecated // Use {@link #getWatchCommitmentsMethod()} instead. 
+  public static final io.grpc.MethodDescriptor<io.grpc.bverify.WatchCommitmentsRequest,
+      io.grpc.bverify.CommitmentUpdate> METHOD_WATCH_COMMITMENTS = getWatchCommitmentsMethodHelper();
+
+  private static volatile io.grpc.MethodDescriptor<io.grpc.bverify.WatchCommitmentsRequest,
+      io.grpc.bverify.CommitmentUpdate> getWatchCommitmentsMethod;
+
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static io.grpc.MethodDescriptor<io.grpc.bverify.WatchCommitmentsRequest,
+      io.grpc.bverify.CommitmentUpdate> getWatchCommitmentsMethod() {
+    return getWatchCommitmentsMethodHelper();
+  }
+
+  private static io.grpc.MethodDescriptor<io.grpc.bverify.WatchCommitmentsRequest,
+      io.grpc.bverify.CommitmentUpdate> getWatchCommitmentsMethodHelper() {
+    io.grpc.MethodDescriptor<io.grpc.bverify.WatchCommitmentsRequest, io.grpc.bverify.CommitmentUpdate> getWatchCommitmentsMethod;
+    if ((getWatchCommitmentsMethod = BVerifyServerAPIGrpc.getWatchCommitmentsMethod) == null) {
+      synchronized (BVerifyServerAPIGrpc.class) {
+        if ((getWatchCommitmentsMethod = BVerifyServerAPIGrpc.getWatchCommitmentsMethod) == null) {
+          BVerifyServerAPIGrpc.getWatchCommitmentsMethod = getWatchCommitmentsMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.bverify.WatchCommitmentsRequest, io.grpc.bverify.CommitmentUpdate>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "api.BVerifyServerAPI", "WatchCommitments"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.WatchCommitmentsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.CommitmentUpdate.getDefaultInstance()))
+                  .setSchemaDescriptor(new BVerifyServerAPIMethodDescriptorSupplier("WatchCommitments"))
+                  .build();
+          }
+        }
+     }
+     return getWatchCommitmentsMethod;
+  }
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  @java.lang.Deprecated // Use {@link #getGetLatestCommitmentMethod()} instead. 
+  public static final io.grpc.MethodDescriptor<io.grpc.bverify.LatestCommitmentRequest,
+      io.grpc.bverify.HistoryProof> METHOD_GET_LATEST_COMMITMENT = getGetLatestCommitmentMethodHelper();
+
+  private static volatile io.grpc.MethodDescriptor<io.grpc.bverify.LatestCommitmentRequest,
+      io.grpc.bverify.HistoryProof> getGetLatestCommitmentMethod;
+
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static io.grpc.MethodDescriptor<io.grpc.bverify.LatestCommitmentRequest,
+      io.grpc.bverify.HistoryProof> getGetLatestCommitmentMethod() {
+    return getGetLatestCommitmentMethodHelper();
+  }
+
+  private static io.grpc.MethodDescriptor<io.grpc.bverify.LatestCommitmentRequest,
+      io.grpc.bverify.HistoryProof> getGetLatestCommitmentMethodHelper() {
+    io.grpc.MethodDescriptor<io.grpc.bverify.LatestCommitmentRequest, io.grpc.bverify.HistoryProof> getGetLatestCommitmentMethod;
+    if ((getGetLatestCommitmentMethod = BVerifyServerAPIGrpc.getGetLatestCommitmentMethod) == null) {
+      synchronized (BVerifyServerAPIGrpc.class) {
+        if ((getGetLatestCommitmentMethod = BVerifyServerAPIGrpc.getGetLatestCommitmentMethod) == null) {
+          BVerifyServerAPIGrpc.getGetLatestCommitmentMethod = getGetLatestCommitmentMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.bverify.LatestCommitmentRequest, io.grpc.bverify.HistoryProof>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "api.BVerifyServerAPI", "GetLatestCommitment"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.LatestCommitmentRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.HistoryProof.getDefaultInstance()))
+                  .setSchemaDescriptor(new BVerifyServerAPIMethodDescriptorSupplier("GetLatestCommitment"))
+                  .build();
+          }
+        }
+     }
+     return getGetLatestCommitmentMethod;
+  }
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  @java.lang.Deprecated // Use {@link #getGetHistoryProofMethod()} instead. 
+  public static final io.grpc.MethodDescriptor<io.grpc.bverify.HistoryProofRequest,
+      io.grpc.bverify.HistoryProof> METHOD_GET_HISTORY_PROOF = getGetHistoryProofMethodHelper();
+
+  private static volatile io.grpc.MethodDescriptor<io.grpc.bverify.HistoryProofRequest,
+      io.grpc.bverify.HistoryProof> getGetHistoryProofMethod;
+
+  @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/1901")
+  public static io.grpc.MethodDescriptor<io.grpc.bverify.HistoryProofRequest,
+      io.grpc.bverify.HistoryProof> getGetHistoryProofMethod() {
+    return getGetHistoryProofMethodHelper();
+  }
+
+  private static io.grpc.MethodDescriptor<io.grpc.bverify.HistoryProofRequest,
+      io.grpc.bverify.HistoryProof> getGetHistoryProofMethodHelper() {
+    io.grpc.MethodDescriptor<io.grpc.bverify.HistoryProofRequest, io.grpc.bverify.HistoryProof> getGetHistoryProofMethod;
+    if ((getGetHistoryProofMethod = BVerifyServerAPIGrpc.getGetHistoryProofMethod) == null) {
+      synchronized (BVerifyServerAPIGrpc.class) {
+        if ((getGetHistoryProofMethod = BVerifyServerAPIGrpc.getGetHistoryProofMethod) == null) {
+          BVerifyServerAPIGrpc.getGetHistoryProofMethod = getGetHistoryProofMethod = 
+              io.grpc.MethodDescriptor.<io.grpc.bverify.HistoryProofRequest, io.grpc.bverify.HistoryProof>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "api.BVerifyServerAPI", "GetHistoryProof"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.HistoryProofRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  io.grpc.bverify.HistoryProof.getDefaultInstance()))
+                  .setSchemaDescriptor(new BVerifyServerAPIMethodDescriptorSupplier("GetHistoryProof"))
+                  .build();
+          }
+        }
+     }
+     return getGetHistoryProofMethod;
+  }
 
   /**
    * Creates a new async stub that supports all call types for the service
@@ -299,6 +632,16 @@ public final class BVerifyServerAPIGrpc {
       asyncUnimplementedUnaryCall(getGetForwardedMethodHelper(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * streams each request forwarded to the client as soon as it is forwarded
+     * </pre>
+     */
+    public void watchForwarded(io.grpc.bverify.GetForwardedRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.GetForwardedResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getWatchForwardedMethodHelper(), responseObserver);
+    }
+
     /**
      */
     public void submit(io.grpc.bverify.SubmitRequest request,
@@ -313,6 +656,37 @@ public final class BVerifyServerAPIGrpc {
       asyncUnimplementedUnaryCall(getGetDataRequestMethodHelper(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * streams the receipts in chunks, ordered by witness 
+     * </pre>
+     */
+    public void streamDataRequest(io.grpc.bverify.DataRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.DataResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getStreamDataRequestMethodHelper(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * the receipts added and removed between two commitments
+     * </pre>
+     */
+    public void getReceiptDiff(io.grpc.bverify.ReceiptDiffRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.ReceiptDiffResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getGetReceiptDiffMethodHelper(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * reconciles a client's copy of an ADS with the latest version 
+     * on the server by comparing subtrees, one level per round 
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<io.grpc.bverify.ReconcileRequest> reconcileADS(
+        io.grpc.stub.StreamObserver<io.grpc.bverify.ReconcileResponse> responseObserver) {
+      return asyncUnimplementedStreamingCall(getReconcileADSMethodHelper(), responseObserver);
+    }
+
     /**
      */
     public void getAuthPath(io.grpc.bverify.PathRequest request,
@@ -320,6 +694,26 @@ public final class BVerifyServerAPIGrpc {
       asyncUnimplementedUnaryCall(getGetAuthPathMethodHelper(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * updates a proof from one commitment to a later one
+     * </pre>
+     */
+    public void getUpdates(io.grpc.bverify.UpdatesRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.UpdatesResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getGetUpdatesMethodHelper(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * the proofs for a range of commitments in one response
+     * </pre>
+     */
+    public void getProofRange(io.grpc.bverify.ProofRangeRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.ProofRangeResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getGetProofRangeMethodHelper(), responseObserver);
+    }
+
     /**
      * <pre>
      * only really should be used if no Catena witnessing 
@@ -330,6 +724,38 @@ public final class BVerifyServerAPIGrpc {
       asyncUnimplementedUnaryCall(getGetCommitmentsMethodHelper(), responseObserver);
     }
 
+    /**
+     * <pre>
+     * streams each new commitment as soon as it is made 
+     * </pre>
+     */
+    public void watchCommitments(io.grpc.bverify.WatchCommitmentsRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.CommitmentUpdate> responseObserver) {
+      asyncUnimplementedUnaryCall(getWatchCommitmentsMethodHelper(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * the latest commitment with proofs that it is in the 
+     * commitment history and that the history extends 
+     * the client's checkpoint
+     * </pre>
+     */
+    public void getLatestCommitment(io.grpc.bverify.LatestCommitmentRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.HistoryProof> responseObserver) {
+      asyncUnimplementedUnaryCall(getGetLatestCommitmentMethodHelper(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * the same proofs for any commitment and history size
+     * </pre>
+     */
+    public void getHistoryProof(io.grpc.bverify.HistoryProofRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.HistoryProof> responseObserver) {
+      asyncUnimplementedUnaryCall(getGetHistoryProofMethodHelper(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -346,6 +772,13 @@ public final class BVerifyServerAPIGrpc {
                 io.grpc.bverify.GetForwardedRequest,
                 io.grpc.bverify.GetForwardedResponse>(
                   this, METHODID_GET_FORWARDED)))
+          .addMethod(
+            getWatchForwardedMethodHelper(),
+            asyncServerStreamingCall(
+              new MethodHandlers<
+                io.grpc.bverify.GetForwardedRequest,
+                io.grpc.bverify.GetForwardedResponse>(
+                  this, METHODID_WATCH_FORWARDED)))
           .addMethod(
             getSubmitMethodHelper(),
             asyncUnaryCall(
@@ -360,6 +793,27 @@ public final class BVerifyServerAPIGrpc {
                 io.grpc.bverify.DataRequest,
                 io.grpc.bverify.DataResponse>(
                   this, METHODID_GET_DATA_REQUEST)))
+          .addMethod(
+            getStreamDataRequestMethodHelper(),
+            asyncServerStreamingCall(
+              new MethodHandlers<
+                io.grpc.bverify.DataRequest,
+                io.grpc.bverify.DataResponse>(
+                  this, METHODID_STREAM_DATA_REQUEST)))
+          .addMethod(
+            getGetReceiptDiffMethodHelper(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                io.grpc.bverify.ReceiptDiffRequest,
+                io.grpc.bverify.ReceiptDiffResponse>(
+                  this, METHODID_GET_RECEIPT_DIFF)))
+          .addMethod(
+            getReconcileADSMethodHelper(),
+            asyncBidiStreamingCall(
+              new MethodHandlers<
+                io.grpc.bverify.ReconcileRequest,
+                io.grpc.bverify.ReconcileResponse>(
+                  this, METHODID_RECONCILE_ADS)))
           .addMethod(
             getGetAuthPathMethodHelper(),
             asyncUnaryCall(
@@ -367,6 +821,20 @@ public final class BVerifyServerAPIGrpc {
                 io.grpc.bverify.PathRequest,
                 io.grpc.bverify.PathResponse>(
                   this, METHODID_GET_AUTH_PATH)))
+          .addMethod(
+            getGetUpdatesMethodHelper(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                io.grpc.bverify.UpdatesRequest,
+                io.grpc.bverify.UpdatesResponse>(
+                  this, METHODID_GET_UPDATES)))
+          .addMethod(
+            getGetProofRangeMethodHelper(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                io.grpc.bverify.ProofRangeRequest,
+                io.grpc.bverify.ProofRangeResponse>(
+                  this, METHODID_GET_PROOF_RANGE)))
           .addMethod(
             getGetCommitmentsMethodHelper(),
             asyncUnaryCall(
@@ -374,6 +842,27 @@ public final class BVerifyServerAPIGrpc {
                 io.grpc.bverify.CommitmentsRequest,
                 io.grpc.bverify.CommitmentsResponse>(
                   this, METHODID_GET_COMMITMENTS)))
+          .addMethod(
+            getWatchCommitmentsMethodHelper(),
+            asyncServerStreamingCall(
+              new MethodHandlers<
+                io.grpc.bverify.WatchCommitmentsRequest,
+                io.grpc.bverify.CommitmentUpdate>(
+                  this, METHODID_WATCH_COMMITMENTS)))
+          .addMethod(
+            getGetLatestCommitmentMethodHelper(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                io.grpc.bverify.LatestCommitmentRequest,
+                io.grpc.bverify.HistoryProof>(
+                  this, METHODID_GET_LATEST_COMMITMENT)))
+          .addMethod(
+            getGetHistoryProofMethodHelper(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                io.grpc.bverify.HistoryProofRequest,
+                io.grpc.bverify.HistoryProof>(
+                  this, METHODID_GET_HISTORY_PROOF)))
           .build();
     }
   }
@@ -416,6 +905,17 @@ public final class BVerifyServerAPIGrpc {
           getChannel().newCall(getGetForwardedMethodHelper(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     * <pre>
+     * streams each request forwarded to the client as soon as it is forwarded
+     * </pre>
+     */
+    public void watchForwarded(io.grpc.bverify.GetForwardedRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.GetForwardedResponse> responseObserver) {
+      asyncServerStreamingCall(
+          getChannel().newCall(getWatchForwardedMethodHelper(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      */
     public void submit(io.grpc.bverify.SubmitRequest request,
@@ -432,6 +932,40 @@ public final class BVerifyServerAPIGrpc {
           getChannel().newCall(getGetDataRequestMethodHelper(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     * <pre>
+     * streams the receipts in chunks, ordered by witness 
+     * </pre>
+     */
+    public void streamDataRequest(io.grpc.bverify.DataRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.DataResponse> responseObserver) {
+      asyncServerStreamingCall(
+          getChannel().newCall(getStreamDataRequestMethodHelper(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * the receipts added and removed between two commitments
+     * </pre>
+     */
+    public void getReceiptDiff(io.grpc.bverify.ReceiptDiffRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.ReceiptDiffResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getGetReceiptDiffMethodHelper(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * reconciles a client's copy of an ADS with the latest version 
+     * on the server by comparing subtrees, one level per round 
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<io.grpc.bverify.ReconcileRequest> reconcileADS(
+        io.grpc.stub.StreamObserver<io.grpc.bverify.ReconcileResponse> responseObserver) {
+      return asyncBidiStreamingCall(
+          getChannel().newCall(getReconcileADSMethodHelper(), getCallOptions()), responseObserver);
+    }
+
     /**
      */
     public void getAuthPath(io.grpc.bverify.PathRequest request,
@@ -440,6 +974,28 @@ public final class BVerifyServerAPIGrpc {
           getChannel().newCall(getGetAuthPathMethodHelper(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     * <pre>
+     * updates a proof from one commitment to a later one
+     * </pre>
+     */
+    public void getUpdates(io.grpc.bverify.UpdatesRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.UpdatesResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getGetUpdatesMethodHelper(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * the proofs for a range of commitments in one response
+     * </pre>
+     */
+    public void getProofRange(io.grpc.bverify.ProofRangeRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.ProofRangeResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getGetProofRangeMethodHelper(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      * <pre>
      * only really should be used if no Catena witnessing 
@@ -450,6 +1006,41 @@ public final class BVerifyServerAPIGrpc {
       asyncUnaryCall(
           getChannel().newCall(getGetCommitmentsMethodHelper(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     * streams each new commitment as soon as it is made 
+     * </pre>
+     */
+    public void watchCommitments(io.grpc.bverify.WatchCommitmentsRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.CommitmentUpdate> responseObserver) {
+      asyncServerStreamingCall(
+          getChannel().newCall(getWatchCommitmentsMethodHelper(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * the latest commitment with proofs that it is in the 
+     * commitment history and that the history extends 
+     * the client's checkpoint
+     * </pre>
+     */
+    public void getLatestCommitment(io.grpc.bverify.LatestCommitmentRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.HistoryProof> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getGetLatestCommitmentMethodHelper(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * the same proofs for any commitment and history size
+     * </pre>
+     */
+    public void getHistoryProof(io.grpc.bverify.HistoryProofRequest request,
+        io.grpc.stub.StreamObserver<io.grpc.bverify.HistoryProof> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getGetHistoryProofMethodHelper(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -488,6 +1079,17 @@ public final class BVerifyServerAPIGrpc {
           getChannel(), getGetForwardedMethodHelper(), getCallOptions(), request);
     }
 
+    /**
+     * <pre>
+     * streams each request forwarded to the client as soon as it is forwarded
+     * </pre>
+     */
+    public java.util.Iterator<io.grpc.bverify.GetForwardedResponse> watchForwarded(
+        io.grpc.bverify.GetForwardedRequest request) {
+      return blockingServerStreamingCall(
+          getChannel(), getWatchForwardedMethodHelper(), getCallOptions(), request);
+    }
+
     /**
      */
     public io.grpc.bverify.SubmitResponse submit(io.grpc.bverify.SubmitRequest request) {
@@ -502,6 +1104,27 @@ public final class BVerifyServerAPIGrpc {
           getChannel(), getGetDataRequestMethodHelper(), getCallOptions(), request);
     }
 
+    /**
+     * <pre>
+     * streams the receipts in chunks, ordered by witness 
+     * </pre>
+     */
+    public java.util.Iterator<io.grpc.bverify.DataResponse> streamDataRequest(
+        io.grpc.bverify.DataRequest request) {
+      return blockingServerStreamingCall(
+          getChannel(), getStreamDataRequestMethodHelper(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * the receipts added and removed between two commitments
+     * </pre>
+     */
+    public io.grpc.bverify.ReceiptDiffResponse getReceiptDiff(io.grpc.bverify.ReceiptDiffRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getGetReceiptDiffMethodHelper(), getCallOptions(), request);
+    }
+
     /**
      */
     public io.grpc.bverify.PathResponse getAuthPath(io.grpc.bverify.PathRequest request) {
@@ -509,6 +1132,26 @@ public final class BVerifyServerAPIGrpc {
           getChannel(), getGetAuthPathMethodHelper(), getCallOptions(), request);
     }
 
+    /**
+     * <pre>
+     * updates a proof from one commitment to a later one
+     * </pre>
+     */
+    public io.grpc.bverify.UpdatesResponse getUpdates(io.grpc.bverify.UpdatesRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getGetUpdatesMethodHelper(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * the proofs for a range of commitments in one response
+     * </pre>
+     */
+    public io.grpc.bverify.ProofRangeResponse getProofRange(io.grpc.bverify.ProofRangeRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getGetProofRangeMethodHelper(), getCallOptions(), request);
+    }
+
     /**
      * <pre>
      * only really should be used if no Catena witnessing 
@@ -518,6 +1161,39 @@ public final class BVerifyServerAPIGrpc {
       return blockingUnaryCall(
           getChannel(), getGetCommitmentsMethodHelper(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * streams each new commitment as soon as it is made 
+     * </pre>
+     */
+    public java.util.Iterator<io.grpc.bverify.CommitmentUpdate> watchCommitments(
+        io.grpc.bverify.WatchCommitmentsRequest request) {
+      return blockingServerStreamingCall(
+          getChannel(), getWatchCommitmentsMethodHelper(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * the latest commitment with proofs that it is in the 
+     * commitment history and that the history extends 
+     * the client's checkpoint
+     * </pre>
+     */
+    public io.grpc.bverify.HistoryProof getLatestCommitment(io.grpc.bverify.LatestCommitmentRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getGetLatestCommitmentMethodHelper(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * the same proofs for any commitment and history size
+     * </pre>
+     */
+    public io.grpc.bverify.HistoryProof getHistoryProof(io.grpc.bverify.HistoryProofRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getGetHistoryProofMethodHelper(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -574,6 +1250,17 @@ public final class BVerifyServerAPIGrpc {
           getChannel().newCall(getGetDataRequestMethodHelper(), getCallOptions()), request);
     }
 
+    /**
+     * <pre>
+     * the receipts added and removed between two commitments
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<io.grpc.bverify.ReceiptDiffResponse> getReceiptDiff(
+        io.grpc.bverify.ReceiptDiffRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getGetReceiptDiffMethodHelper(), getCallOptions()), request);
+    }
+
     /**
      */
     public com.google.common.util.concurrent.ListenableFuture<io.grpc.bverify.PathResponse> getAuthPath(
@@ -582,6 +1269,28 @@ public final class BVerifyServerAPIGrpc {
           getChannel().newCall(getGetAuthPathMethodHelper(), getCallOptions()), request);
     }
 
+    /**
+     * <pre>
+     * updates a proof from one commitment to a later one
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<io.grpc.bverify.UpdatesResponse> getUpdates(
+        io.grpc.bverify.UpdatesRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getGetUpdatesMethodHelper(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * the proofs for a range of commitments in one response
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<io.grpc.bverify.ProofRangeResponse> getProofRange(
+        io.grpc.bverify.ProofRangeRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getGetProofRangeMethodHelper(), getCallOptions()), request);
+    }
+
     /**
      * <pre>
      * only really should be used if no Catena witnessing 
@@ -592,14 +1301,47 @@ public final class BVerifyServerAPIGrpc {
       return futureUnaryCall(
           getChannel().newCall(getGetCommitmentsMethodHelper(), getCallOptions()), request);
     }
+
+    /**
+     * <pre>
+     * the latest commitment with proofs that it is in the 
+     * commitment history and that the history extends 
+     * the client's checkpoint
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<io.grpc.bverify.HistoryProof> getLatestCommitment(
+        io.grpc.bverify.LatestCommitmentRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getGetLatestCommitmentMethodHelper(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * the same proofs for any commitment and history size
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<io.grpc.bverify.HistoryProof> getHistoryProof(
+        io.grpc.bverify.HistoryProofRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getGetHistoryProofMethodHelper(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_FORWARD = 0;
   private static final int METHODID_GET_FORWARDED = 1;
-  private static final int METHODID_SUBMIT = 2;
-  private static final int METHODID_GET_DATA_REQUEST = 3;
-  private static final int METHODID_GET_AUTH_PATH = 4;
-  private static final int METHODID_GET_COMMITMENTS = 5;
+  private static final int METHODID_WATCH_FORWARDED = 2;
+  private static final int METHODID_SUBMIT = 3;
+  private static final int METHODID_GET_DATA_REQUEST = 4;
+  private static final int METHODID_STREAM_DATA_REQUEST = 5;
+  private static final int METHODID_GET_RECEIPT_DIFF = 6;
+  private static final int METHODID_GET_AUTH_PATH = 7;
+  private static final int METHODID_GET_UPDATES = 8;
+  private static final int METHODID_GET_PROOF_RANGE = 9;
+  private static final int METHODID_GET_COMMITMENTS = 10;
+  private static final int METHODID_WATCH_COMMITMENTS = 11;
+  private static final int METHODID_GET_LATEST_COMMITMENT = 12;
+  private static final int METHODID_GET_HISTORY_PROOF = 13;
+  private static final int METHODID_RECONCILE_ADS = 14;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -626,6 +1368,10 @@ public final class BVerifyServerAPIGrpc {
           serviceImpl.getForwarded((io.grpc.bverify.GetForwardedRequest) request,
               (io.grpc.stub.StreamObserver<io.grpc.bverify.GetForwardedResponse>) responseObserver);
           break;
+        case METHODID_WATCH_FORWARDED:
+          serviceImpl.watchForwarded((io.grpc.bverify.GetForwardedRequest) request,
+              (io.grpc.stub.StreamObserver<io.grpc.bverify.GetForwardedResponse>) responseObserver);
+          break;
         case METHODID_SUBMIT:
           serviceImpl.submit((io.grpc.bverify.SubmitRequest) request,
               (io.grpc.stub.StreamObserver<io.grpc.bverify.SubmitResponse>) responseObserver);
@@ -634,14 +1380,42 @@ public final class BVerifyServerAPIGrpc {
           serviceImpl.getDataRequest((io.grpc.bverify.DataRequest) request,
               (io.grpc.stub.StreamObserver<io.grpc.bverify.DataResponse>) responseObserver);
           break;
+        case METHODID_STREAM_DATA_REQUEST:
+          serviceImpl.streamDataRequest((io.grpc.bverify.DataRequest) request,
+              (io.grpc.stub.StreamObserver<io.grpc.bverify.DataResponse>) responseObserver);
+          break;
+        case METHODID_GET_RECEIPT_DIFF:
+          serviceImpl.getReceiptDiff((io.grpc.bverify.ReceiptDiffRequest) request,
+              (io.grpc.stub.StreamObserver<io.grpc.bverify.ReceiptDiffResponse>) responseObserver);
+          break;
         case METHODID_GET_AUTH_PATH:
           serviceImpl.getAuthPath((io.grpc.bverify.PathRequest) request,
               (io.grpc.stub.StreamObserver<io.grpc.bverify.PathResponse>) responseObserver);
           break;
+        case METHODID_GET_UPDATES:
+          serviceImpl.getUpdates((io.grpc.bverify.UpdatesRequest) request,
+              (io.grpc.stub.StreamObserver<io.grpc.bverify.UpdatesResponse>) responseObserver);
+          break;
+        case METHODID_GET_PROOF_RANGE:
+          serviceImpl.getProofRange((io.grpc.bverify.ProofRangeRequest) request,
+              (io.grpc.stub.StreamObserver<io.grpc.bverify.ProofRangeResponse>) responseObserver);
+          break;
         case METHODID_GET_COMMITMENTS:
           serviceImpl.getCommitments((io.grpc.bverify.CommitmentsRequest) request,
               (io.grpc.stub.StreamObserver<io.grpc.bverify.CommitmentsResponse>) responseObserver);
           break;
+        case METHODID_WATCH_COMMITMENTS:
+          serviceImpl.watchCommitments((io.grpc.bverify.WatchCommitmentsRequest) request,
+              (io.grpc.stub.StreamObserver<io.grpc.bverify.CommitmentUpdate>) responseObserver);
+          break;
+        case METHODID_GET_LATEST_COMMITMENT:
+          serviceImpl.getLatestCommitment((io.grpc.bverify.LatestCommitmentRequest) request,
+              (io.grpc.stub.StreamObserver<io.grpc.bverify.HistoryProof>) responseObserver);
+          break;
+        case METHODID_GET_HISTORY_PROOF:
+          serviceImpl.getHistoryProof((io.grpc.bverify.HistoryProofRequest) request,
+              (io.grpc.stub.StreamObserver<io.grpc.bverify.HistoryProof>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -652,6 +1426,9 @@ public final class BVerifyServerAPIGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_RECONCILE_ADS:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.reconcileADS(
+              (io.grpc.stub.StreamObserver<io.grpc.bverify.ReconcileResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -705,10 +1482,19 @@ public final class BVerifyServerAPIGrpc {
               .setSchemaDescriptor(new BVerifyServerAPIFileDescriptorSupplier())
               .addMethod(getForwardMethodHelper())
               .addMethod(getGetForwardedMethodHelper())
+              .addMethod(getWatchForwardedMethodHelper())
               .addMethod(getSubmitMethodHelper())
               .addMethod(getGetDataRequestMethodHelper())
+              .addMethod(getStreamDataRequestMethodHelper())
+              .addMethod(getGetReceiptDiffMethodHelper())
+              .addMethod(getReconcileADSMethodHelper())
               .addMethod(getGetAuthPathMethodHelper())
+              .addMethod(getGetUpdatesMethodHelper())
+              .addMethod(getGetProofRangeMethodHelper())
               .addMethod(getGetCommitmentsMethodHelper())
+              .addMethod(getWatchCommitmentsMethodHelper())
+              .addMethod(getGetLatestCommitmentMethodHelper())
+              .addMethod(getGetHistoryProofMethodHelper())
               .build();
         }
       }
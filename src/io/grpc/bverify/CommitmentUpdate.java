@@ -0,0 +1,646 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.CommitmentUpdate}
+ */
+public  final class CommitmentUpdate extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.CommitmentUpdate)
+    CommitmentUpdateOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use CommitmentUpdate.newBuilder() to construct.
+  private CommitmentUpdate(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CommitmentUpdate() {
+    commitmentNumber_ = 0;
+    commitment_ = com.google.protobuf.ByteString.EMPTY;
+    encodedPath_ = com.google.protobuf.ByteString.EMPTY;
+    compactPath_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private CommitmentUpdate(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            commitmentNumber_ = input.readInt32();
+            break;
+          }
+          case 18: {
+
+            commitment_ = input.readBytes();
+            break;
+          }
+          case 26: {
+
+            encodedPath_ = input.readBytes();
+            break;
+          }
+          case 34: {
+
+            compactPath_ = input.readBytes();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_CommitmentUpdate_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_CommitmentUpdate_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.CommitmentUpdate.class, io.grpc.bverify.CommitmentUpdate.Builder.class);
+  }
+
+  public static final int COMMITMENTNUMBER_FIELD_NUMBER = 1;
+  private int commitmentNumber_;
+  /**
+   * <code>int32 commitmentNumber = 1;</code>
+   */
+  public int getCommitmentNumber() {
+    return commitmentNumber_;
+  }
+
+  public static final int COMMITMENT_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString commitment_;
+  /**
+   * <code>bytes commitment = 2;</code>
+   */
+  public com.google.protobuf.ByteString getCommitment() {
+    return commitment_;
+  }
+
+  public static final int ENCODED_PATH_FIELD_NUMBER = 3;
+  private com.google.protobuf.ByteString encodedPath_;
+  /**
+   * <pre>
+   * the proof (if requested), as in PathResponse
+   * </pre>
+   *
+   * <code>bytes encoded_path = 3;</code>
+   */
+  public com.google.protobuf.ByteString getEncodedPath() {
+    return encodedPath_;
+  }
+
+  public static final int COMPACT_PATH_FIELD_NUMBER = 4;
+  private com.google.protobuf.ByteString compactPath_;
+  /**
+   * <code>bytes compact_path = 4;</code>
+   */
+  public com.google.protobuf.ByteString getCompactPath() {
+    return compactPath_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (commitmentNumber_ != 0) {
+      output.writeInt32(1, commitmentNumber_);
+    }
+    if (!commitment_.isEmpty()) {
+      output.writeBytes(2, commitment_);
+    }
+    if (!encodedPath_.isEmpty()) {
+      output.writeBytes(3, encodedPath_);
+    }
+    if (!compactPath_.isEmpty()) {
+      output.writeBytes(4, compactPath_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (commitmentNumber_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, commitmentNumber_);
+    }
+    if (!commitment_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, commitment_);
+    }
+    if (!encodedPath_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(3, encodedPath_);
+    }
+    if (!compactPath_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(4, compactPath_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.CommitmentUpdate)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.CommitmentUpdate other = (io.grpc.bverify.CommitmentUpdate) obj;
+
+    boolean result = true;
+    result = result && (getCommitmentNumber()
+        == other.getCommitmentNumber());
+    result = result && getCommitment()
+        .equals(other.getCommitment());
+    result = result && getEncodedPath()
+        .equals(other.getEncodedPath());
+    result = result && getCompactPath()
+        .equals(other.getCompactPath());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + COMMITMENTNUMBER_FIELD_NUMBER;
+    hash = (53 * hash) + getCommitmentNumber();
+    hash = (37 * hash) + COMMITMENT_FIELD_NUMBER;
+    hash = (53 * hash) + getCommitment().hashCode();
+    hash = (37 * hash) + ENCODED_PATH_FIELD_NUMBER;
+    hash = (53 * hash) + getEncodedPath().hashCode();
+    hash = (37 * hash) + COMPACT_PATH_FIELD_NUMBER;
+    hash = (53 * hash) + getCompactPath().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.CommitmentUpdate parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.CommitmentUpdate parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.CommitmentUpdate prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.CommitmentUpdate}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.CommitmentUpdate)
+      io.grpc.bverify.CommitmentUpdateOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_CommitmentUpdate_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_CommitmentUpdate_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.CommitmentUpdate.class, io.grpc.bverify.CommitmentUpdate.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.CommitmentUpdate.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      commitmentNumber_ = 0;
+
+      commitment_ = com.google.protobuf.ByteString.EMPTY;
+
+      encodedPath_ = com.google.protobuf.ByteString.EMPTY;
+
+      compactPath_ = com.google.protobuf.ByteString.EMPTY;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_CommitmentUpdate_descriptor;
+    }
+
+    public io.grpc.bverify.CommitmentUpdate getDefaultInstanceForType() {
+      return io.grpc.bverify.CommitmentUpdate.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.CommitmentUpdate build() {
+      io.grpc.bverify.CommitmentUpdate result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.CommitmentUpdate buildPartial() {
+      io.grpc.bverify.CommitmentUpdate result = new io.grpc.bverify.CommitmentUpdate(this);
+      result.commitmentNumber_ = commitmentNumber_;
+      result.commitment_ = commitment_;
+      result.encodedPath_ = encodedPath_;
+      result.compactPath_ = compactPath_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.CommitmentUpdate) {
+        return mergeFrom((io.grpc.bverify.CommitmentUpdate)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.CommitmentUpdate other) {
+      if (other == io.grpc.bverify.CommitmentUpdate.getDefaultInstance()) return this;
+      if (other.getCommitmentNumber() != 0) {
+        setCommitmentNumber(other.getCommitmentNumber());
+      }
+      if (other.getCommitment() != com.google.protobuf.ByteString.EMPTY) {
+        setCommitment(other.getCommitment());
+      }
+      if (other.getEncodedPath() != com.google.protobuf.ByteString.EMPTY) {
+        setEncodedPath(other.getEncodedPath());
+      }
+      if (other.getCompactPath() != com.google.protobuf.ByteString.EMPTY) {
+        setCompactPath(other.getCompactPath());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.CommitmentUpdate parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.CommitmentUpdate) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int commitmentNumber_ ;
+    /**
+     * <code>int32 commitmentNumber = 1;</code>
+     */
+    public int getCommitmentNumber() {
+      return commitmentNumber_;
+    }
+    /**
+     * <code>int32 commitmentNumber = 1;</code>
+     */
+    public Builder setCommitmentNumber(int value) {
+      
+      commitmentNumber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 commitmentNumber = 1;</code>
+     */
+    public Builder clearCommitmentNumber() {
+      
+      commitmentNumber_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString commitment_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes commitment = 2;</code>
+     */
+    public com.google.protobuf.ByteString getCommitment() {
+      return commitment_;
+    }
+    /**
+     * <code>bytes commitment = 2;</code>
+     */
+    public Builder setCommitment(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      commitment_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes commitment = 2;</code>
+     */
+    public Builder clearCommitment() {
+      
+      commitment_ = getDefaultInstance().getCommitment();
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString encodedPath_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * the proof (if requested), as in PathResponse
+     * </pre>
+     *
+     * <code>bytes encoded_path = 3;</code>
+     */
+    public com.google.protobuf.ByteString getEncodedPath() {
+      return encodedPath_;
+    }
+    /**
+     * <pre>
+     * the proof (if requested), as in PathResponse
+     * </pre>
+     *
+     * <code>bytes encoded_path = 3;</code>
+     */
+    public Builder setEncodedPath(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      encodedPath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the proof (if requested), as in PathResponse
+     * </pre>
+     *
+     * <code>bytes encoded_path = 3;</code>
+     */
+    public Builder clearEncodedPath() {
+      
+      encodedPath_ = getDefaultInstance().getEncodedPath();
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString compactPath_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes compact_path = 4;</code>
+     */
+    public com.google.protobuf.ByteString getCompactPath() {
+      return compactPath_;
+    }
+    /**
+     * <code>bytes compact_path = 4;</code>
+     */
+    public Builder setCompactPath(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      compactPath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes compact_path = 4;</code>
+     */
+    public Builder clearCompactPath() {
+      
+      compactPath_ = getDefaultInstance().getCompactPath();
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.CommitmentUpdate)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.CommitmentUpdate)
+  private static final io.grpc.bverify.CommitmentUpdate DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.CommitmentUpdate();
+  }
+
+  public static io.grpc.bverify.CommitmentUpdate getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CommitmentUpdate>
+      PARSER = new com.google.protobuf.AbstractParser<CommitmentUpdate>() {
+    public CommitmentUpdate parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new CommitmentUpdate(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CommitmentUpdate> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CommitmentUpdate> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.CommitmentUpdate getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface CommitmentUpdateOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.CommitmentUpdate)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 commitmentNumber = 1;</code>
+   */
+  int getCommitmentNumber();
+
+  /**
+   * <code>bytes commitment = 2;</code>
+   */
+  com.google.protobuf.ByteString getCommitment();
+
+  /**
+   * <pre>
+   * the proof (if requested), as in PathResponse
+   * </pre>
+   *
+   * <code>bytes encoded_path = 3;</code>
+   */
+  com.google.protobuf.ByteString getEncodedPath();
+
+  /**
+   * <code>bytes compact_path = 4;</code>
+   */
+  com.google.protobuf.ByteString getCompactPath();
+}
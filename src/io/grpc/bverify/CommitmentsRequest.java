@@ -16,6 +16,7 @@ private static final long serialVersionUID = 0L;
     super(builder);
   }
   private CommitmentsRequest() {
+    fromCommitmentNumber_ = 0;
   }
 
   @java.lang.Override
@@ -31,6 +32,7 @@ private static final long serialVersionUID = 0L;
     if (extensionRegistry == null) {
       throw new java.lang.NullPointerException();
     }
+    int mutable_bitField0_ = 0;
     com.google.protobuf.UnknownFieldSet.Builder unknownFields =
         com.google.protobuf.UnknownFieldSet.newBuilder();
     try {
@@ -48,6 +50,11 @@ private static final long serialVersionUID = 0L;
             }
             break;
           }
+          case 8: {
+
+            fromCommitmentNumber_ = input.readInt32();
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -72,6 +79,19 @@ private static final long serialVersionUID = 0L;
             io.grpc.bverify.CommitmentsRequest.class, io.grpc.bverify.CommitmentsRequest.Builder.class);
   }
 
+  public static final int FROMCOMMITMENTNUMBER_FIELD_NUMBER = 1;
+  private int fromCommitmentNumber_;
+  /**
+   * <pre>
+   * only the commitments starting at this number are returned
+   * </pre>
+   *
+   * <code>int32 fromCommitmentNumber = 1;</code>
+   */
+  public int getFromCommitmentNumber() {
+    return fromCommitmentNumber_;
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -84,6 +104,9 @@ private static final long serialVersionUID = 0L;
 
   public void writeTo(com.google.protobuf.CodedOutputStream output)
                       throws java.io.IOException {
+    if (fromCommitmentNumber_ != 0) {
+      output.writeInt32(1, fromCommitmentNumber_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -92,6 +115,10 @@ private static final long serialVersionUID = 0L;
     if (size != -1) return size;
 
     size = 0;
+    if (fromCommitmentNumber_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, fromCommitmentNumber_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -108,6 +135,8 @@ private static final long serialVersionUID = 0L;
     io.grpc.bverify.CommitmentsRequest other = (io.grpc.bverify.CommitmentsRequest) obj;
 
     boolean result = true;
+    result = result && (getFromCommitmentNumber()
+        == other.getFromCommitmentNumber());
     result = result && unknownFields.equals(other.unknownFields);
     return result;
   }
@@ -119,6 +148,8 @@ private static final long serialVersionUID = 0L;
     }
     int hash = 41;
     hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + FROMCOMMITMENTNUMBER_FIELD_NUMBER;
+    hash = (53 * hash) + getFromCommitmentNumber();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -248,6 +279,8 @@ private static final long serialVersionUID = 0L;
     }
     public Builder clear() {
       super.clear();
+      fromCommitmentNumber_ = 0;
+
       return this;
     }
 
@@ -270,6 +303,7 @@ private static final long serialVersionUID = 0L;
 
     public io.grpc.bverify.CommitmentsRequest buildPartial() {
       io.grpc.bverify.CommitmentsRequest result = new io.grpc.bverify.CommitmentsRequest(this);
+      result.fromCommitmentNumber_ = fromCommitmentNumber_;
       onBuilt();
       return result;
     }
@@ -311,6 +345,9 @@ private static final long serialVersionUID = 0L;
 
     public Builder mergeFrom(io.grpc.bverify.CommitmentsRequest other) {
       if (other == io.grpc.bverify.CommitmentsRequest.getDefaultInstance()) return this;
+      if (other.getFromCommitmentNumber() != 0) {
+        setFromCommitmentNumber(other.getFromCommitmentNumber());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -337,6 +374,44 @@ private static final long serialVersionUID = 0L;
       }
       return this;
     }
+
+    private int fromCommitmentNumber_ ;
+    /**
+     * <pre>
+     * only the commitments starting at this number are returned
+     * </pre>
+     *
+     * <code>int32 fromCommitmentNumber = 1;</code>
+     */
+    public int getFromCommitmentNumber() {
+      return fromCommitmentNumber_;
+    }
+    /**
+     * <pre>
+     * only the commitments starting at this number are returned
+     * </pre>
+     *
+     * <code>int32 fromCommitmentNumber = 1;</code>
+     */
+    public Builder setFromCommitmentNumber(int value) {
+      
+      fromCommitmentNumber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * only the commitments starting at this number are returned
+     * </pre>
+     *
+     * <code>int32 fromCommitmentNumber = 1;</code>
+     */
+    public Builder clearFromCommitmentNumber() {
+      
+      fromCommitmentNumber_ = 0;
+      onChanged();
+      return this;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFieldsProto3(unknownFields);
@@ -6,4 +6,13 @@ package io.grpc.bverify;
 public interface CommitmentsRequestOrBuilder extends
     // @@protoc_insertion_point(interface_extends:api.CommitmentsRequest)
     com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * only the commitments starting at this number are returned
+   * </pre>
+   *
+   * <code>int32 fromCommitmentNumber = 1;</code>
+   */
+  int getFromCommitmentNumber();
 }
@@ -88,6 +88,10 @@ private static final long serialVersionUID = 0L;
   public static final int COMMITMENTS_FIELD_NUMBER = 1;
   private java.util.List<com.google.protobuf.ByteString> commitments_;
   /**
+   * <pre>
+   * commitments[i] is commitment fromCommitmentNumber + i
+   * </pre>
+   *
    * <code>repeated bytes commitments = 1;</code>
    */
   public java.util.List<com.google.protobuf.ByteString>
@@ -95,12 +99,20 @@ private static final long serialVersionUID = 0L;
     return commitments_;
   }
   /**
+   * <pre>
+   * commitments[i] is commitment fromCommitmentNumber + i
+   * </pre>
+   *
    * <code>repeated bytes commitments = 1;</code>
    */
   public int getCommitmentsCount() {
     return commitments_.size();
   }
   /**
+   * <pre>
+   * commitments[i] is commitment fromCommitmentNumber + i
+   * </pre>
+   *
    * <code>repeated bytes commitments = 1;</code>
    */
   public com.google.protobuf.ByteString getCommitments(int index) {
@@ -418,6 +430,10 @@ private static final long serialVersionUID = 0L;
        }
     }
     /**
+     * <pre>
+     * commitments[i] is commitment fromCommitmentNumber + i
+     * </pre>
+     *
      * <code>repeated bytes commitments = 1;</code>
      */
     public java.util.List<com.google.protobuf.ByteString>
@@ -425,18 +441,30 @@ private static final long serialVersionUID = 0L;
       return java.util.Collections.unmodifiableList(commitments_);
     }
     /**
+     * <pre>
+     * commitments[i] is commitment fromCommitmentNumber + i
+     * </pre>
+     *
      * <code>repeated bytes commitments = 1;</code>
      */
     public int getCommitmentsCount() {
       return commitments_.size();
     }
     /**
+     * <pre>
+     * commitments[i] is commitment fromCommitmentNumber + i
+     * </pre>
+     *
      * <code>repeated bytes commitments = 1;</code>
      */
     public com.google.protobuf.ByteString getCommitments(int index) {
       return commitments_.get(index);
     }
     /**
+     * <pre>
+     * commitments[i] is commitment fromCommitmentNumber + i
+     * </pre>
+     *
      * <code>repeated bytes commitments = 1;</code>
      */
     public Builder setCommitments(
@@ -450,6 +478,10 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
+     * <pre>
+     * commitments[i] is commitment fromCommitmentNumber + i
+     * </pre>
+     *
      * <code>repeated bytes commitments = 1;</code>
      */
     public Builder addCommitments(com.google.protobuf.ByteString value) {
@@ -462,6 +494,10 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
+     * <pre>
+     * commitments[i] is commitment fromCommitmentNumber + i
+     * </pre>
+     *
      * <code>repeated bytes commitments = 1;</code>
      */
     public Builder addAllCommitments(
@@ -473,6 +509,10 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
+     * <pre>
+     * commitments[i] is commitment fromCommitmentNumber + i
+     * </pre>
+     *
      * <code>repeated bytes commitments = 1;</code>
      */
     public Builder clearCommitments() {
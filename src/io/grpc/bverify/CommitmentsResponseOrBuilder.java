@@ -8,14 +8,26 @@ public interface CommitmentsResponseOrBuilder extends
     com.google.protobuf.MessageOrBuilder {
 
   /**
+   * <pre>
+   * commitments[i] is commitment fromCommitmentNumber + i
+   * </pre>
+   *
    * <code>repeated bytes commitments = 1;</code>
    */
   java.util.List<com.google.protobuf.ByteString> getCommitmentsList();
   /**
+   * <pre>
+   * commitments[i] is commitment fromCommitmentNumber + i
+   * </pre>
+   *
    * <code>repeated bytes commitments = 1;</code>
    */
   int getCommitmentsCount();
   /**
+   * <pre>
+   * commitments[i] is commitment fromCommitmentNumber + i
+   * </pre>
+   *
    * <code>repeated bytes commitments = 1;</code>
    */
   com.google.protobuf.ByteString getCommitments(int index);
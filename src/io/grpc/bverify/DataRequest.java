@@ -18,6 +18,7 @@ private static final long serialVersionUID = 0L;
   private DataRequest() {
     adsId_ = com.google.protobuf.ByteString.EMPTY;
     commitmentNumber_ = 0;
+    continuationToken_ = com.google.protobuf.ByteString.EMPTY;
   }
 
   @java.lang.Override
@@ -61,6 +62,11 @@ private static final long serialVersionUID = 0L;
             commitmentNumber_ = input.readInt32();
             break;
           }
+          case 26: {
+
+            continuationToken_ = input.readBytes();
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -103,6 +109,20 @@ private static final long serialVersionUID = 0L;
     return commitmentNumber_;
   }
 
+  public static final int CONTINUATIONTOKEN_FIELD_NUMBER = 3;
+  private com.google.protobuf.ByteString continuationToken_;
+  /**
+   * <pre>
+   * (streaming only) resume after the receipt 
+   * with this witness 
+   * </pre>
+   *
+   * <code>bytes continuationToken = 3;</code>
+   */
+  public com.google.protobuf.ByteString getContinuationToken() {
+    return continuationToken_;
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -121,6 +141,9 @@ private static final long serialVersionUID = 0L;
     if (commitmentNumber_ != 0) {
       output.writeInt32(2, commitmentNumber_);
     }
+    if (!continuationToken_.isEmpty()) {
+      output.writeBytes(3, continuationToken_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -137,6 +160,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(2, commitmentNumber_);
     }
+    if (!continuationToken_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(3, continuationToken_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -157,6 +184,8 @@ private static final long serialVersionUID = 0L;
         .equals(other.getAdsId());
     result = result && (getCommitmentNumber()
         == other.getCommitmentNumber());
+    result = result && getContinuationToken()
+        .equals(other.getContinuationToken());
     result = result && unknownFields.equals(other.unknownFields);
     return result;
   }
@@ -172,6 +201,8 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + getAdsId().hashCode();
     hash = (37 * hash) + COMMITMENTNUMBER_FIELD_NUMBER;
     hash = (53 * hash) + getCommitmentNumber();
+    hash = (37 * hash) + CONTINUATIONTOKEN_FIELD_NUMBER;
+    hash = (53 * hash) + getContinuationToken().hashCode();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -305,6 +336,8 @@ private static final long serialVersionUID = 0L;
 
       commitmentNumber_ = 0;
 
+      continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+
       return this;
     }
 
@@ -329,6 +362,7 @@ private static final long serialVersionUID = 0L;
       io.grpc.bverify.DataRequest result = new io.grpc.bverify.DataRequest(this);
       result.adsId_ = adsId_;
       result.commitmentNumber_ = commitmentNumber_;
+      result.continuationToken_ = continuationToken_;
       onBuilt();
       return result;
     }
@@ -376,6 +410,9 @@ private static final long serialVersionUID = 0L;
       if (other.getCommitmentNumber() != 0) {
         setCommitmentNumber(other.getCommitmentNumber());
       }
+      if (other.getContinuationToken() != com.google.protobuf.ByteString.EMPTY) {
+        setContinuationToken(other.getContinuationToken());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -457,6 +494,50 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private com.google.protobuf.ByteString continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * (streaming only) resume after the receipt 
+     * with this witness 
+     * </pre>
+     *
+     * <code>bytes continuationToken = 3;</code>
+     */
+    public com.google.protobuf.ByteString getContinuationToken() {
+      return continuationToken_;
+    }
+    /**
+     * <pre>
+     * (streaming only) resume after the receipt 
+     * with this witness 
+     * </pre>
+     *
+     * <code>bytes continuationToken = 3;</code>
+     */
+    public Builder setContinuationToken(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      continuationToken_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * (streaming only) resume after the receipt 
+     * with this witness 
+     * </pre>
+     *
+     * <code>bytes continuationToken = 3;</code>
+     */
+    public Builder clearContinuationToken() {
+      
+      continuationToken_ = getDefaultInstance().getContinuationToken();
+      onChanged();
+      return this;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFieldsProto3(unknownFields);
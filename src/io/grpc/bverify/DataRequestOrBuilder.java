@@ -16,4 +16,14 @@ public interface DataRequestOrBuilder extends
    * <code>int32 commitmentNumber = 2;</code>
    */
   int getCommitmentNumber();
+
+  /**
+   * <pre>
+   * (streaming only) resume after the receipt 
+   * with this witness 
+   * </pre>
+   *
+   * <code>bytes continuationToken = 3;</code>
+   */
+  com.google.protobuf.ByteString getContinuationToken();
 }
@@ -17,6 +17,7 @@ private static final long serialVersionUID = 0L;
   }
   private DataResponse() {
     receipts_ = java.util.Collections.emptyList();
+    continuationToken_ = com.google.protobuf.ByteString.EMPTY;
   }
 
   @java.lang.Override
@@ -59,6 +60,11 @@ private static final long serialVersionUID = 0L;
                 input.readMessage(io.grpc.bverify.Receipt.parser(), extensionRegistry));
             break;
           }
+          case 18: {
+
+            continuationToken_ = input.readBytes();
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -86,6 +92,7 @@ private static final long serialVersionUID = 0L;
             io.grpc.bverify.DataResponse.class, io.grpc.bverify.DataResponse.Builder.class);
   }
 
+  private int bitField0_;
   public static final int RECEIPTS_FIELD_NUMBER = 1;
   private java.util.List<io.grpc.bverify.Receipt> receipts_;
   /**
@@ -121,6 +128,19 @@ private static final long serialVersionUID = 0L;
     return receipts_.get(index);
   }
 
+  public static final int CONTINUATIONTOKEN_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString continuationToken_;
+  /**
+   * <pre>
+   * (streaming only) the witness of the last receipt 
+   * </pre>
+   *
+   * <code>bytes continuationToken = 2;</code>
+   */
+  public com.google.protobuf.ByteString getContinuationToken() {
+    return continuationToken_;
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -136,6 +156,9 @@ private static final long serialVersionUID = 0L;
     for (int i = 0; i < receipts_.size(); i++) {
       output.writeMessage(1, receipts_.get(i));
     }
+    if (!continuationToken_.isEmpty()) {
+      output.writeBytes(2, continuationToken_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -148,6 +171,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(1, receipts_.get(i));
     }
+    if (!continuationToken_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, continuationToken_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -166,6 +193,8 @@ private static final long serialVersionUID = 0L;
     boolean result = true;
     result = result && getReceiptsList()
         .equals(other.getReceiptsList());
+    result = result && getContinuationToken()
+        .equals(other.getContinuationToken());
     result = result && unknownFields.equals(other.unknownFields);
     return result;
   }
@@ -181,6 +210,8 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + RECEIPTS_FIELD_NUMBER;
       hash = (53 * hash) + getReceiptsList().hashCode();
     }
+    hash = (37 * hash) + CONTINUATIONTOKEN_FIELD_NUMBER;
+    hash = (53 * hash) + getContinuationToken().hashCode();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -317,6 +348,8 @@ private static final long serialVersionUID = 0L;
       } else {
         receiptsBuilder_.clear();
       }
+      continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+
       return this;
     }
 
@@ -340,6 +373,7 @@ private static final long serialVersionUID = 0L;
     public io.grpc.bverify.DataResponse buildPartial() {
       io.grpc.bverify.DataResponse result = new io.grpc.bverify.DataResponse(this);
       int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
       if (receiptsBuilder_ == null) {
         if (((bitField0_ & 0x00000001) == 0x00000001)) {
           receipts_ = java.util.Collections.unmodifiableList(receipts_);
@@ -349,6 +383,8 @@ private static final long serialVersionUID = 0L;
       } else {
         result.receipts_ = receiptsBuilder_.build();
       }
+      result.continuationToken_ = continuationToken_;
+      result.bitField0_ = to_bitField0_;
       onBuilt();
       return result;
     }
@@ -416,6 +452,9 @@ private static final long serialVersionUID = 0L;
           }
         }
       }
+      if (other.getContinuationToken() != com.google.protobuf.ByteString.EMPTY) {
+        setContinuationToken(other.getContinuationToken());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -683,6 +722,47 @@ private static final long serialVersionUID = 0L;
       }
       return receiptsBuilder_;
     }
+
+    private com.google.protobuf.ByteString continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * (streaming only) the witness of the last receipt 
+     * </pre>
+     *
+     * <code>bytes continuationToken = 2;</code>
+     */
+    public com.google.protobuf.ByteString getContinuationToken() {
+      return continuationToken_;
+    }
+    /**
+     * <pre>
+     * (streaming only) the witness of the last receipt 
+     * </pre>
+     *
+     * <code>bytes continuationToken = 2;</code>
+     */
+    public Builder setContinuationToken(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      continuationToken_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * (streaming only) the witness of the last receipt 
+     * </pre>
+     *
+     * <code>bytes continuationToken = 2;</code>
+     */
+    public Builder clearContinuationToken() {
+      
+      continuationToken_ = getDefaultInstance().getContinuationToken();
+      onChanged();
+      return this;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFieldsProto3(unknownFields);
@@ -30,4 +30,13 @@ public interface DataResponseOrBuilder extends
    */
   io.grpc.bverify.ReceiptOrBuilder getReceiptsOrBuilder(
       int index);
+
+  /**
+   * <pre>
+   * (streaming only) the witness of the last receipt 
+   * </pre>
+   *
+   * <code>bytes continuationToken = 2;</code>
+   */
+  com.google.protobuf.ByteString getContinuationToken();
 }
@@ -17,6 +17,7 @@ private static final long serialVersionUID = 0L;
   }
   private GetForwardedRequest() {
     id_ = "";
+    waitMillis_ = 0;
   }
 
   @java.lang.Override
@@ -56,6 +57,11 @@ private static final long serialVersionUID = 0L;
             id_ = s;
             break;
           }
+          case 16: {
+
+            waitMillis_ = input.readInt32();
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -114,6 +120,20 @@ private static final long serialVersionUID = 0L;
     }
   }
 
+  public static final int WAIT_MILLIS_FIELD_NUMBER = 2;
+  private int waitMillis_;
+  /**
+   * <pre>
+   * how long to wait for a request to be forwarded 
+   * if there is none (0 to return immediately)
+   * </pre>
+   *
+   * <code>int32 wait_millis = 2;</code>
+   */
+  public int getWaitMillis() {
+    return waitMillis_;
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -129,6 +149,9 @@ private static final long serialVersionUID = 0L;
     if (!getIdBytes().isEmpty()) {
       com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
     }
+    if (waitMillis_ != 0) {
+      output.writeInt32(2, waitMillis_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -140,6 +163,10 @@ private static final long serialVersionUID = 0L;
     if (!getIdBytes().isEmpty()) {
       size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
     }
+    if (waitMillis_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, waitMillis_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -158,6 +185,8 @@ private static final long serialVersionUID = 0L;
     boolean result = true;
     result = result && getId()
         .equals(other.getId());
+    result = result && (getWaitMillis()
+        == other.getWaitMillis());
     result = result && unknownFields.equals(other.unknownFields);
     return result;
   }
@@ -171,6 +200,8 @@ private static final long serialVersionUID = 0L;
     hash = (19 * hash) + getDescriptor().hashCode();
     hash = (37 * hash) + ID_FIELD_NUMBER;
     hash = (53 * hash) + getId().hashCode();
+    hash = (37 * hash) + WAIT_MILLIS_FIELD_NUMBER;
+    hash = (53 * hash) + getWaitMillis();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -302,6 +333,8 @@ private static final long serialVersionUID = 0L;
       super.clear();
       id_ = "";
 
+      waitMillis_ = 0;
+
       return this;
     }
 
@@ -325,6 +358,7 @@ private static final long serialVersionUID = 0L;
     public io.grpc.bverify.GetForwardedRequest buildPartial() {
       io.grpc.bverify.GetForwardedRequest result = new io.grpc.bverify.GetForwardedRequest(this);
       result.id_ = id_;
+      result.waitMillis_ = waitMillis_;
       onBuilt();
       return result;
     }
@@ -370,6 +404,9 @@ private static final long serialVersionUID = 0L;
         id_ = other.id_;
         onChanged();
       }
+      if (other.getWaitMillis() != 0) {
+        setWaitMillis(other.getWaitMillis());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -465,6 +502,47 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private int waitMillis_ ;
+    /**
+     * <pre>
+     * how long to wait for a request to be forwarded 
+     * if there is none (0 to return immediately)
+     * </pre>
+     *
+     * <code>int32 wait_millis = 2;</code>
+     */
+    public int getWaitMillis() {
+      return waitMillis_;
+    }
+    /**
+     * <pre>
+     * how long to wait for a request to be forwarded 
+     * if there is none (0 to return immediately)
+     * </pre>
+     *
+     * <code>int32 wait_millis = 2;</code>
+     */
+    public Builder setWaitMillis(int value) {
+      
+      waitMillis_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * how long to wait for a request to be forwarded 
+     * if there is none (0 to return immediately)
+     * </pre>
+     *
+     * <code>int32 wait_millis = 2;</code>
+     */
+    public Builder clearWaitMillis() {
+      
+      waitMillis_ = 0;
+      onChanged();
+      return this;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFieldsProto3(unknownFields);
@@ -16,4 +16,14 @@ public interface GetForwardedRequestOrBuilder extends
    */
   com.google.protobuf.ByteString
       getIdBytes();
+
+  /**
+   * <pre>
+   * how long to wait for a request to be forwarded 
+   * if there is none (0 to return immediately)
+   * </pre>
+   *
+   * <code>int32 wait_millis = 2;</code>
+   */
+  int getWaitMillis();
 }
@@ -0,0 +1,1024 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.HistoryProof}
+ */
+public  final class HistoryProof extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.HistoryProof)
+    HistoryProofOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use HistoryProof.newBuilder() to construct.
+  private HistoryProof(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private HistoryProof() {
+    commitmentNumber_ = 0;
+    commitment_ = com.google.protobuf.ByteString.EMPTY;
+    size_ = 0;
+    root_ = com.google.protobuf.ByteString.EMPTY;
+    inclusionProof_ = java.util.Collections.emptyList();
+    consistencyProof_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private HistoryProof(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            commitmentNumber_ = input.readInt32();
+            break;
+          }
+          case 18: {
+
+            commitment_ = input.readBytes();
+            break;
+          }
+          case 24: {
+
+            size_ = input.readInt32();
+            break;
+          }
+          case 34: {
+
+            root_ = input.readBytes();
+            break;
+          }
+          case 42: {
+            if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+              inclusionProof_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+              mutable_bitField0_ |= 0x00000010;
+            }
+            inclusionProof_.add(input.readBytes());
+            break;
+          }
+          case 50: {
+            if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+              consistencyProof_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+              mutable_bitField0_ |= 0x00000020;
+            }
+            consistencyProof_.add(input.readBytes());
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+        inclusionProof_ = java.util.Collections.unmodifiableList(inclusionProof_);
+      }
+      if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+        consistencyProof_ = java.util.Collections.unmodifiableList(consistencyProof_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_HistoryProof_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_HistoryProof_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.HistoryProof.class, io.grpc.bverify.HistoryProof.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int COMMITMENTNUMBER_FIELD_NUMBER = 1;
+  private int commitmentNumber_;
+  /**
+   * <code>int32 commitmentNumber = 1;</code>
+   */
+  public int getCommitmentNumber() {
+    return commitmentNumber_;
+  }
+
+  public static final int COMMITMENT_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString commitment_;
+  /**
+   * <code>bytes commitment = 2;</code>
+   */
+  public com.google.protobuf.ByteString getCommitment() {
+    return commitment_;
+  }
+
+  public static final int SIZE_FIELD_NUMBER = 3;
+  private int size_;
+  /**
+   * <pre>
+   * the commitment history (a Merkle log over 
+   * the commitments) that the proofs are against
+   * </pre>
+   *
+   * <code>int32 size = 3;</code>
+   */
+  public int getSize() {
+    return size_;
+  }
+
+  public static final int ROOT_FIELD_NUMBER = 4;
+  private com.google.protobuf.ByteString root_;
+  /**
+   * <code>bytes root = 4;</code>
+   */
+  public com.google.protobuf.ByteString getRoot() {
+    return root_;
+  }
+
+  public static final int INCLUSION_PROOF_FIELD_NUMBER = 5;
+  private java.util.List<com.google.protobuf.ByteString> inclusionProof_;
+  /**
+   * <pre>
+   * the audit path for the commitment, from the leaf up
+   * </pre>
+   *
+   * <code>repeated bytes inclusion_proof = 5;</code>
+   */
+  public java.util.List<com.google.protobuf.ByteString>
+      getInclusionProofList() {
+    return inclusionProof_;
+  }
+  /**
+   * <pre>
+   * the audit path for the commitment, from the leaf up
+   * </pre>
+   *
+   * <code>repeated bytes inclusion_proof = 5;</code>
+   */
+  public int getInclusionProofCount() {
+    return inclusionProof_.size();
+  }
+  /**
+   * <pre>
+   * the audit path for the commitment, from the leaf up
+   * </pre>
+   *
+   * <code>repeated bytes inclusion_proof = 5;</code>
+   */
+  public com.google.protobuf.ByteString getInclusionProof(int index) {
+    return inclusionProof_.get(index);
+  }
+
+  public static final int CONSISTENCY_PROOF_FIELD_NUMBER = 6;
+  private java.util.List<com.google.protobuf.ByteString> consistencyProof_;
+  /**
+   * <pre>
+   * from the checkpoint to this history, 
+   * empty if there is no checkpoint
+   * </pre>
+   *
+   * <code>repeated bytes consistency_proof = 6;</code>
+   */
+  public java.util.List<com.google.protobuf.ByteString>
+      getConsistencyProofList() {
+    return consistencyProof_;
+  }
+  /**
+   * <pre>
+   * from the checkpoint to this history, 
+   * empty if there is no checkpoint
+   * </pre>
+   *
+   * <code>repeated bytes consistency_proof = 6;</code>
+   */
+  public int getConsistencyProofCount() {
+    return consistencyProof_.size();
+  }
+  /**
+   * <pre>
+   * from the checkpoint to this history, 
+   * empty if there is no checkpoint
+   * </pre>
+   *
+   * <code>repeated bytes consistency_proof = 6;</code>
+   */
+  public com.google.protobuf.ByteString getConsistencyProof(int index) {
+    return consistencyProof_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (commitmentNumber_ != 0) {
+      output.writeInt32(1, commitmentNumber_);
+    }
+    if (!commitment_.isEmpty()) {
+      output.writeBytes(2, commitment_);
+    }
+    if (size_ != 0) {
+      output.writeInt32(3, size_);
+    }
+    if (!root_.isEmpty()) {
+      output.writeBytes(4, root_);
+    }
+    for (int i = 0; i < inclusionProof_.size(); i++) {
+      output.writeBytes(5, inclusionProof_.get(i));
+    }
+    for (int i = 0; i < consistencyProof_.size(); i++) {
+      output.writeBytes(6, consistencyProof_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (commitmentNumber_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, commitmentNumber_);
+    }
+    if (!commitment_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, commitment_);
+    }
+    if (size_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(3, size_);
+    }
+    if (!root_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(4, root_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < inclusionProof_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeBytesSizeNoTag(inclusionProof_.get(i));
+      }
+      size += dataSize;
+      size += 1 * getInclusionProofList().size();
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < consistencyProof_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeBytesSizeNoTag(consistencyProof_.get(i));
+      }
+      size += dataSize;
+      size += 1 * getConsistencyProofList().size();
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.HistoryProof)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.HistoryProof other = (io.grpc.bverify.HistoryProof) obj;
+
+    boolean result = true;
+    result = result && (getCommitmentNumber()
+        == other.getCommitmentNumber());
+    result = result && getCommitment()
+        .equals(other.getCommitment());
+    result = result && (getSize()
+        == other.getSize());
+    result = result && getRoot()
+        .equals(other.getRoot());
+    result = result && getInclusionProofList()
+        .equals(other.getInclusionProofList());
+    result = result && getConsistencyProofList()
+        .equals(other.getConsistencyProofList());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + COMMITMENTNUMBER_FIELD_NUMBER;
+    hash = (53 * hash) + getCommitmentNumber();
+    hash = (37 * hash) + COMMITMENT_FIELD_NUMBER;
+    hash = (53 * hash) + getCommitment().hashCode();
+    hash = (37 * hash) + SIZE_FIELD_NUMBER;
+    hash = (53 * hash) + getSize();
+    hash = (37 * hash) + ROOT_FIELD_NUMBER;
+    hash = (53 * hash) + getRoot().hashCode();
+    if (getInclusionProofCount() > 0) {
+      hash = (37 * hash) + INCLUSION_PROOF_FIELD_NUMBER;
+      hash = (53 * hash) + getInclusionProofList().hashCode();
+    }
+    if (getConsistencyProofCount() > 0) {
+      hash = (37 * hash) + CONSISTENCY_PROOF_FIELD_NUMBER;
+      hash = (53 * hash) + getConsistencyProofList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.HistoryProof parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.HistoryProof parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.HistoryProof parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.HistoryProof parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.HistoryProof parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.HistoryProof parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.HistoryProof parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.HistoryProof parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.HistoryProof parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.HistoryProof parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.HistoryProof parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.HistoryProof parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.HistoryProof prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.HistoryProof}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.HistoryProof)
+      io.grpc.bverify.HistoryProofOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_HistoryProof_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_HistoryProof_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.HistoryProof.class, io.grpc.bverify.HistoryProof.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.HistoryProof.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      commitmentNumber_ = 0;
+
+      commitment_ = com.google.protobuf.ByteString.EMPTY;
+
+      size_ = 0;
+
+      root_ = com.google.protobuf.ByteString.EMPTY;
+
+      inclusionProof_ = java.util.Collections.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000010);
+      consistencyProof_ = java.util.Collections.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000020);
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_HistoryProof_descriptor;
+    }
+
+    public io.grpc.bverify.HistoryProof getDefaultInstanceForType() {
+      return io.grpc.bverify.HistoryProof.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.HistoryProof build() {
+      io.grpc.bverify.HistoryProof result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.HistoryProof buildPartial() {
+      io.grpc.bverify.HistoryProof result = new io.grpc.bverify.HistoryProof(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.commitmentNumber_ = commitmentNumber_;
+      result.commitment_ = commitment_;
+      result.size_ = size_;
+      result.root_ = root_;
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        inclusionProof_ = java.util.Collections.unmodifiableList(inclusionProof_);
+        bitField0_ = (bitField0_ & ~0x00000010);
+      }
+      result.inclusionProof_ = inclusionProof_;
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        consistencyProof_ = java.util.Collections.unmodifiableList(consistencyProof_);
+        bitField0_ = (bitField0_ & ~0x00000020);
+      }
+      result.consistencyProof_ = consistencyProof_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.HistoryProof) {
+        return mergeFrom((io.grpc.bverify.HistoryProof)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.HistoryProof other) {
+      if (other == io.grpc.bverify.HistoryProof.getDefaultInstance()) return this;
+      if (other.getCommitmentNumber() != 0) {
+        setCommitmentNumber(other.getCommitmentNumber());
+      }
+      if (other.getCommitment() != com.google.protobuf.ByteString.EMPTY) {
+        setCommitment(other.getCommitment());
+      }
+      if (other.getSize() != 0) {
+        setSize(other.getSize());
+      }
+      if (other.getRoot() != com.google.protobuf.ByteString.EMPTY) {
+        setRoot(other.getRoot());
+      }
+      if (!other.inclusionProof_.isEmpty()) {
+        if (inclusionProof_.isEmpty()) {
+          inclusionProof_ = other.inclusionProof_;
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          ensureInclusionProofIsMutable();
+          inclusionProof_.addAll(other.inclusionProof_);
+        }
+        onChanged();
+      }
+      if (!other.consistencyProof_.isEmpty()) {
+        if (consistencyProof_.isEmpty()) {
+          consistencyProof_ = other.consistencyProof_;
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          ensureConsistencyProofIsMutable();
+          consistencyProof_.addAll(other.consistencyProof_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.HistoryProof parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.HistoryProof) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int commitmentNumber_ ;
+    /**
+     * <code>int32 commitmentNumber = 1;</code>
+     */
+    public int getCommitmentNumber() {
+      return commitmentNumber_;
+    }
+    /**
+     * <code>int32 commitmentNumber = 1;</code>
+     */
+    public Builder setCommitmentNumber(int value) {
+      
+      commitmentNumber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 commitmentNumber = 1;</code>
+     */
+    public Builder clearCommitmentNumber() {
+      
+      commitmentNumber_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString commitment_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes commitment = 2;</code>
+     */
+    public com.google.protobuf.ByteString getCommitment() {
+      return commitment_;
+    }
+    /**
+     * <code>bytes commitment = 2;</code>
+     */
+    public Builder setCommitment(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      commitment_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes commitment = 2;</code>
+     */
+    public Builder clearCommitment() {
+      
+      commitment_ = getDefaultInstance().getCommitment();
+      onChanged();
+      return this;
+    }
+
+    private int size_ ;
+    /**
+     * <pre>
+     * the commitment history (a Merkle log over 
+     * the commitments) that the proofs are against
+     * </pre>
+     *
+     * <code>int32 size = 3;</code>
+     */
+    public int getSize() {
+      return size_;
+    }
+    /**
+     * <pre>
+     * the commitment history (a Merkle log over 
+     * the commitments) that the proofs are against
+     * </pre>
+     *
+     * <code>int32 size = 3;</code>
+     */
+    public Builder setSize(int value) {
+      
+      size_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the commitment history (a Merkle log over 
+     * the commitments) that the proofs are against
+     * </pre>
+     *
+     * <code>int32 size = 3;</code>
+     */
+    public Builder clearSize() {
+      
+      size_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString root_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes root = 4;</code>
+     */
+    public com.google.protobuf.ByteString getRoot() {
+      return root_;
+    }
+    /**
+     * <code>bytes root = 4;</code>
+     */
+    public Builder setRoot(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      root_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes root = 4;</code>
+     */
+    public Builder clearRoot() {
+      
+      root_ = getDefaultInstance().getRoot();
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.google.protobuf.ByteString> inclusionProof_ = java.util.Collections.emptyList();
+    private void ensureInclusionProofIsMutable() {
+      if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+        inclusionProof_ = new java.util.ArrayList<com.google.protobuf.ByteString>(inclusionProof_);
+        bitField0_ |= 0x00000010;
+       }
+    }
+    /**
+     * <pre>
+     * the audit path for the commitment, from the leaf up
+     * </pre>
+     *
+     * <code>repeated bytes inclusion_proof = 5;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getInclusionProofList() {
+      return java.util.Collections.unmodifiableList(inclusionProof_);
+    }
+    /**
+     * <pre>
+     * the audit path for the commitment, from the leaf up
+     * </pre>
+     *
+     * <code>repeated bytes inclusion_proof = 5;</code>
+     */
+    public int getInclusionProofCount() {
+      return inclusionProof_.size();
+    }
+    /**
+     * <pre>
+     * the audit path for the commitment, from the leaf up
+     * </pre>
+     *
+     * <code>repeated bytes inclusion_proof = 5;</code>
+     */
+    public com.google.protobuf.ByteString getInclusionProof(int index) {
+      return inclusionProof_.get(index);
+    }
+    /**
+     * <pre>
+     * the audit path for the commitment, from the leaf up
+     * </pre>
+     *
+     * <code>repeated bytes inclusion_proof = 5;</code>
+     */
+    public Builder setInclusionProof(
+        int index, com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureInclusionProofIsMutable();
+      inclusionProof_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the audit path for the commitment, from the leaf up
+     * </pre>
+     *
+     * <code>repeated bytes inclusion_proof = 5;</code>
+     */
+    public Builder addInclusionProof(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureInclusionProofIsMutable();
+      inclusionProof_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the audit path for the commitment, from the leaf up
+     * </pre>
+     *
+     * <code>repeated bytes inclusion_proof = 5;</code>
+     */
+    public Builder addAllInclusionProof(
+        java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+      ensureInclusionProofIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, inclusionProof_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the audit path for the commitment, from the leaf up
+     * </pre>
+     *
+     * <code>repeated bytes inclusion_proof = 5;</code>
+     */
+    public Builder clearInclusionProof() {
+      inclusionProof_ = java.util.Collections.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000010);
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.google.protobuf.ByteString> consistencyProof_ = java.util.Collections.emptyList();
+    private void ensureConsistencyProofIsMutable() {
+      if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+        consistencyProof_ = new java.util.ArrayList<com.google.protobuf.ByteString>(consistencyProof_);
+        bitField0_ |= 0x00000020;
+       }
+    }
+    /**
+     * <pre>
+     * from the checkpoint to this history, 
+     * empty if there is no checkpoint
+     * </pre>
+     *
+     * <code>repeated bytes consistency_proof = 6;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getConsistencyProofList() {
+      return java.util.Collections.unmodifiableList(consistencyProof_);
+    }
+    /**
+     * <pre>
+     * from the checkpoint to this history, 
+     * empty if there is no checkpoint
+     * </pre>
+     *
+     * <code>repeated bytes consistency_proof = 6;</code>
+     */
+    public int getConsistencyProofCount() {
+      return consistencyProof_.size();
+    }
+    /**
+     * <pre>
+     * from the checkpoint to this history, 
+     * empty if there is no checkpoint
+     * </pre>
+     *
+     * <code>repeated bytes consistency_proof = 6;</code>
+     */
+    public com.google.protobuf.ByteString getConsistencyProof(int index) {
+      return consistencyProof_.get(index);
+    }
+    /**
+     * <pre>
+     * from the checkpoint to this history, 
+     * empty if there is no checkpoint
+     * </pre>
+     *
+     * <code>repeated bytes consistency_proof = 6;</code>
+     */
+    public Builder setConsistencyProof(
+        int index, com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureConsistencyProofIsMutable();
+      consistencyProof_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * from the checkpoint to this history, 
+     * empty if there is no checkpoint
+     * </pre>
+     *
+     * <code>repeated bytes consistency_proof = 6;</code>
+     */
+    public Builder addConsistencyProof(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureConsistencyProofIsMutable();
+      consistencyProof_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * from the checkpoint to this history, 
+     * empty if there is no checkpoint
+     * </pre>
+     *
+     * <code>repeated bytes consistency_proof = 6;</code>
+     */
+    public Builder addAllConsistencyProof(
+        java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+      ensureConsistencyProofIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, consistencyProof_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * from the checkpoint to this history, 
+     * empty if there is no checkpoint
+     * </pre>
+     *
+     * <code>repeated bytes consistency_proof = 6;</code>
+     */
+    public Builder clearConsistencyProof() {
+      consistencyProof_ = java.util.Collections.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000020);
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.HistoryProof)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.HistoryProof)
+  private static final io.grpc.bverify.HistoryProof DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.HistoryProof();
+  }
+
+  public static io.grpc.bverify.HistoryProof getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<HistoryProof>
+      PARSER = new com.google.protobuf.AbstractParser<HistoryProof>() {
+    public HistoryProof parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new HistoryProof(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<HistoryProof> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<HistoryProof> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.HistoryProof getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
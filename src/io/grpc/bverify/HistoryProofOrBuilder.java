@@ -0,0 +1,87 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface HistoryProofOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.HistoryProof)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 commitmentNumber = 1;</code>
+   */
+  int getCommitmentNumber();
+
+  /**
+   * <code>bytes commitment = 2;</code>
+   */
+  com.google.protobuf.ByteString getCommitment();
+
+  /**
+   * <pre>
+   * the commitment history (a Merkle log over 
+   * the commitments) that the proofs are against
+   * </pre>
+   *
+   * <code>int32 size = 3;</code>
+   */
+  int getSize();
+
+  /**
+   * <code>bytes root = 4;</code>
+   */
+  com.google.protobuf.ByteString getRoot();
+
+  /**
+   * <pre>
+   * the audit path for the commitment, from the leaf up
+   * </pre>
+   *
+   * <code>repeated bytes inclusion_proof = 5;</code>
+   */
+  java.util.List<com.google.protobuf.ByteString> getInclusionProofList();
+  /**
+   * <pre>
+   * the audit path for the commitment, from the leaf up
+   * </pre>
+   *
+   * <code>repeated bytes inclusion_proof = 5;</code>
+   */
+  int getInclusionProofCount();
+  /**
+   * <pre>
+   * the audit path for the commitment, from the leaf up
+   * </pre>
+   *
+   * <code>repeated bytes inclusion_proof = 5;</code>
+   */
+  com.google.protobuf.ByteString getInclusionProof(int index);
+
+  /**
+   * <pre>
+   * from the checkpoint to this history, 
+   * empty if there is no checkpoint
+   * </pre>
+   *
+   * <code>repeated bytes consistency_proof = 6;</code>
+   */
+  java.util.List<com.google.protobuf.ByteString> getConsistencyProofList();
+  /**
+   * <pre>
+   * from the checkpoint to this history, 
+   * empty if there is no checkpoint
+   * </pre>
+   *
+   * <code>repeated bytes consistency_proof = 6;</code>
+   */
+  int getConsistencyProofCount();
+  /**
+   * <pre>
+   * from the checkpoint to this history, 
+   * empty if there is no checkpoint
+   * </pre>
+   *
+   * <code>repeated bytes consistency_proof = 6;</code>
+   */
+  com.google.protobuf.ByteString getConsistencyProof(int index);
+}
@@ -0,0 +1,599 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.HistoryProofRequest}
+ */
+public  final class HistoryProofRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.HistoryProofRequest)
+    HistoryProofRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use HistoryProofRequest.newBuilder() to construct.
+  private HistoryProofRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private HistoryProofRequest() {
+    commitmentNumber_ = 0;
+    checkpointSize_ = 0;
+    size_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private HistoryProofRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            commitmentNumber_ = input.readInt32();
+            break;
+          }
+          case 16: {
+
+            checkpointSize_ = input.readInt32();
+            break;
+          }
+          case 24: {
+
+            size_ = input.readInt32();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_HistoryProofRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_HistoryProofRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.HistoryProofRequest.class, io.grpc.bverify.HistoryProofRequest.Builder.class);
+  }
+
+  public static final int COMMITMENTNUMBER_FIELD_NUMBER = 1;
+  private int commitmentNumber_;
+  /**
+   * <code>int32 commitmentNumber = 1;</code>
+   */
+  public int getCommitmentNumber() {
+    return commitmentNumber_;
+  }
+
+  public static final int CHECKPOINTSIZE_FIELD_NUMBER = 2;
+  private int checkpointSize_;
+  /**
+   * <pre>
+   * the size of the history the client last checked, 
+   * or 0 if there is none
+   * </pre>
+   *
+   * <code>int32 checkpointSize = 2;</code>
+   */
+  public int getCheckpointSize() {
+    return checkpointSize_;
+  }
+
+  public static final int SIZE_FIELD_NUMBER = 3;
+  private int size_;
+  /**
+   * <pre>
+   * the size of the history to prove against
+   * </pre>
+   *
+   * <code>int32 size = 3;</code>
+   */
+  public int getSize() {
+    return size_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (commitmentNumber_ != 0) {
+      output.writeInt32(1, commitmentNumber_);
+    }
+    if (checkpointSize_ != 0) {
+      output.writeInt32(2, checkpointSize_);
+    }
+    if (size_ != 0) {
+      output.writeInt32(3, size_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (commitmentNumber_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, commitmentNumber_);
+    }
+    if (checkpointSize_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, checkpointSize_);
+    }
+    if (size_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(3, size_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.HistoryProofRequest)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.HistoryProofRequest other = (io.grpc.bverify.HistoryProofRequest) obj;
+
+    boolean result = true;
+    result = result && (getCommitmentNumber()
+        == other.getCommitmentNumber());
+    result = result && (getCheckpointSize()
+        == other.getCheckpointSize());
+    result = result && (getSize()
+        == other.getSize());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + COMMITMENTNUMBER_FIELD_NUMBER;
+    hash = (53 * hash) + getCommitmentNumber();
+    hash = (37 * hash) + CHECKPOINTSIZE_FIELD_NUMBER;
+    hash = (53 * hash) + getCheckpointSize();
+    hash = (37 * hash) + SIZE_FIELD_NUMBER;
+    hash = (53 * hash) + getSize();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.HistoryProofRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.HistoryProofRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.HistoryProofRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.HistoryProofRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.HistoryProofRequest)
+      io.grpc.bverify.HistoryProofRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_HistoryProofRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_HistoryProofRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.HistoryProofRequest.class, io.grpc.bverify.HistoryProofRequest.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.HistoryProofRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      commitmentNumber_ = 0;
+
+      checkpointSize_ = 0;
+
+      size_ = 0;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_HistoryProofRequest_descriptor;
+    }
+
+    public io.grpc.bverify.HistoryProofRequest getDefaultInstanceForType() {
+      return io.grpc.bverify.HistoryProofRequest.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.HistoryProofRequest build() {
+      io.grpc.bverify.HistoryProofRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.HistoryProofRequest buildPartial() {
+      io.grpc.bverify.HistoryProofRequest result = new io.grpc.bverify.HistoryProofRequest(this);
+      result.commitmentNumber_ = commitmentNumber_;
+      result.checkpointSize_ = checkpointSize_;
+      result.size_ = size_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.HistoryProofRequest) {
+        return mergeFrom((io.grpc.bverify.HistoryProofRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.HistoryProofRequest other) {
+      if (other == io.grpc.bverify.HistoryProofRequest.getDefaultInstance()) return this;
+      if (other.getCommitmentNumber() != 0) {
+        setCommitmentNumber(other.getCommitmentNumber());
+      }
+      if (other.getCheckpointSize() != 0) {
+        setCheckpointSize(other.getCheckpointSize());
+      }
+      if (other.getSize() != 0) {
+        setSize(other.getSize());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.HistoryProofRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.HistoryProofRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int commitmentNumber_ ;
+    /**
+     * <code>int32 commitmentNumber = 1;</code>
+     */
+    public int getCommitmentNumber() {
+      return commitmentNumber_;
+    }
+    /**
+     * <code>int32 commitmentNumber = 1;</code>
+     */
+    public Builder setCommitmentNumber(int value) {
+      
+      commitmentNumber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 commitmentNumber = 1;</code>
+     */
+    public Builder clearCommitmentNumber() {
+      
+      commitmentNumber_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int checkpointSize_ ;
+    /**
+     * <pre>
+     * the size of the history the client last checked, 
+     * or 0 if there is none
+     * </pre>
+     *
+     * <code>int32 checkpointSize = 2;</code>
+     */
+    public int getCheckpointSize() {
+      return checkpointSize_;
+    }
+    /**
+     * <pre>
+     * the size of the history the client last checked, 
+     * or 0 if there is none
+     * </pre>
+     *
+     * <code>int32 checkpointSize = 2;</code>
+     */
+    public Builder setCheckpointSize(int value) {
+      
+      checkpointSize_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the size of the history the client last checked, 
+     * or 0 if there is none
+     * </pre>
+     *
+     * <code>int32 checkpointSize = 2;</code>
+     */
+    public Builder clearCheckpointSize() {
+      
+      checkpointSize_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int size_ ;
+    /**
+     * <pre>
+     * the size of the history to prove against
+     * </pre>
+     *
+     * <code>int32 size = 3;</code>
+     */
+    public int getSize() {
+      return size_;
+    }
+    /**
+     * <pre>
+     * the size of the history to prove against
+     * </pre>
+     *
+     * <code>int32 size = 3;</code>
+     */
+    public Builder setSize(int value) {
+      
+      size_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the size of the history to prove against
+     * </pre>
+     *
+     * <code>int32 size = 3;</code>
+     */
+    public Builder clearSize() {
+      
+      size_ = 0;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.HistoryProofRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.HistoryProofRequest)
+  private static final io.grpc.bverify.HistoryProofRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.HistoryProofRequest();
+  }
+
+  public static io.grpc.bverify.HistoryProofRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<HistoryProofRequest>
+      PARSER = new com.google.protobuf.AbstractParser<HistoryProofRequest>() {
+    public HistoryProofRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new HistoryProofRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<HistoryProofRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<HistoryProofRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.HistoryProofRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
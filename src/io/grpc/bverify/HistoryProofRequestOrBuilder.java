@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface HistoryProofRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.HistoryProofRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 commitmentNumber = 1;</code>
+   */
+  int getCommitmentNumber();
+
+  /**
+   * <pre>
+   * the size of the history the client last checked, 
+   * or 0 if there is none
+   * </pre>
+   *
+   * <code>int32 checkpointSize = 2;</code>
+   */
+  int getCheckpointSize();
+
+  /**
+   * <pre>
+   * the size of the history to prove against
+   * </pre>
+   *
+   * <code>int32 size = 3;</code>
+   */
+  int getSize();
+}
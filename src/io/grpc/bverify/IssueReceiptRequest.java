@@ -24,6 +24,7 @@ private static final long serialVersionUID = 0L;
   private IssueReceiptRequest() {
     signatureWarehouse_ = com.google.protobuf.ByteString.EMPTY;
     signatureDepositor_ = com.google.protobuf.ByteString.EMPTY;
+    scheme_ = 0;
   }
 
   @java.lang.Override
@@ -80,6 +81,12 @@ private static final long serialVersionUID = 0L;
             signatureDepositor_ = input.readBytes();
             break;
           }
+          case 32: {
+            int rawValue = input.readEnum();
+
+            scheme_ = rawValue;
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -143,6 +150,30 @@ private static final long serialVersionUID = 0L;
     return signatureDepositor_;
   }
 
+  public static final int SCHEME_FIELD_NUMBER = 4;
+  private int scheme_;
+  /**
+   * <pre>
+   * the scheme of all of the signatures
+   * </pre>
+   *
+   * <code>.api.SignatureScheme scheme = 4;</code>
+   */
+  public int getSchemeValue() {
+    return scheme_;
+  }
+  /**
+   * <pre>
+   * the scheme of all of the signatures
+   * </pre>
+   *
+   * <code>.api.SignatureScheme scheme = 4;</code>
+   */
+  public io.grpc.bverify.SignatureScheme getScheme() {
+    io.grpc.bverify.SignatureScheme result = io.grpc.bverify.SignatureScheme.valueOf(scheme_);
+    return result == null ? io.grpc.bverify.SignatureScheme.UNRECOGNIZED : result;
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -164,6 +195,9 @@ private static final long serialVersionUID = 0L;
     if (!signatureDepositor_.isEmpty()) {
       output.writeBytes(3, signatureDepositor_);
     }
+    if (scheme_ != io.grpc.bverify.SignatureScheme.ECDSA.getNumber()) {
+      output.writeEnum(4, scheme_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -184,6 +218,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeBytesSize(3, signatureDepositor_);
     }
+    if (scheme_ != io.grpc.bverify.SignatureScheme.ECDSA.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(4, scheme_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -209,6 +247,7 @@ private static final long serialVersionUID = 0L;
         .equals(other.getSignatureWarehouse());
     result = result && getSignatureDepositor()
         .equals(other.getSignatureDepositor());
+    result = result && scheme_ == other.scheme_;
     result = result && unknownFields.equals(other.unknownFields);
     return result;
   }
@@ -228,6 +267,8 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + getSignatureWarehouse().hashCode();
     hash = (37 * hash) + SIGNATURE_DEPOSITOR_FIELD_NUMBER;
     hash = (53 * hash) + getSignatureDepositor().hashCode();
+    hash = (37 * hash) + SCHEME_FIELD_NUMBER;
+    hash = (53 * hash) + scheme_;
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -373,6 +414,8 @@ private static final long serialVersionUID = 0L;
 
       signatureDepositor_ = com.google.protobuf.ByteString.EMPTY;
 
+      scheme_ = 0;
+
       return this;
     }
 
@@ -402,6 +445,7 @@ private static final long serialVersionUID = 0L;
       }
       result.signatureWarehouse_ = signatureWarehouse_;
       result.signatureDepositor_ = signatureDepositor_;
+      result.scheme_ = scheme_;
       onBuilt();
       return result;
     }
@@ -452,6 +496,9 @@ private static final long serialVersionUID = 0L;
       if (other.getSignatureDepositor() != com.google.protobuf.ByteString.EMPTY) {
         setSignatureDepositor(other.getSignatureDepositor());
       }
+      if (other.scheme_ != 0) {
+        setSchemeValue(other.getSchemeValue());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -653,6 +700,70 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private int scheme_ = 0;
+    /**
+     * <pre>
+     * the scheme of all of the signatures
+     * </pre>
+     *
+     * <code>.api.SignatureScheme scheme = 4;</code>
+     */
+    public int getSchemeValue() {
+      return scheme_;
+    }
+    /**
+     * <pre>
+     * the scheme of all of the signatures
+     * </pre>
+     *
+     * <code>.api.SignatureScheme scheme = 4;</code>
+     */
+    public Builder setSchemeValue(int value) {
+      scheme_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the scheme of all of the signatures
+     * </pre>
+     *
+     * <code>.api.SignatureScheme scheme = 4;</code>
+     */
+    public io.grpc.bverify.SignatureScheme getScheme() {
+      io.grpc.bverify.SignatureScheme result = io.grpc.bverify.SignatureScheme.valueOf(scheme_);
+      return result == null ? io.grpc.bverify.SignatureScheme.UNRECOGNIZED : result;
+    }
+    /**
+     * <pre>
+     * the scheme of all of the signatures
+     * </pre>
+     *
+     * <code>.api.SignatureScheme scheme = 4;</code>
+     */
+    public Builder setScheme(io.grpc.bverify.SignatureScheme value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      scheme_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the scheme of all of the signatures
+     * </pre>
+     *
+     * <code>.api.SignatureScheme scheme = 4;</code>
+     */
+    public Builder clearScheme() {
+      
+      scheme_ = 0;
+      onChanged();
+      return this;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFieldsProto3(unknownFields);
@@ -29,4 +29,21 @@ public interface IssueReceiptRequestOrBuilder extends
    * <code>bytes signature_depositor = 3;</code>
    */
   com.google.protobuf.ByteString getSignatureDepositor();
+
+  /**
+   * <pre>
+   * the scheme of all of the signatures
+   * </pre>
+   *
+   * <code>.api.SignatureScheme scheme = 4;</code>
+   */
+  int getSchemeValue();
+  /**
+   * <pre>
+   * the scheme of all of the signatures
+   * </pre>
+   *
+   * <code>.api.SignatureScheme scheme = 4;</code>
+   */
+  io.grpc.bverify.SignatureScheme getScheme();
 }
@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface LatestCommitmentRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.LatestCommitmentRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * the size of the history the client last checked, 
+   * or 0 if there is none
+   * </pre>
+   *
+   * <code>int32 checkpointSize = 1;</code>
+   */
+  int getCheckpointSize();
+}
@@ -18,6 +18,7 @@ private static final long serialVersionUID = 0L;
   private PathRequest() {
     adsIds_ = java.util.Collections.emptyList();
     commitmentNumber_ = 0;
+    encoding_ = 0;
   }
 
   @java.lang.Override
@@ -64,6 +65,12 @@ private static final long serialVersionUID = 0L;
             commitmentNumber_ = input.readInt32();
             break;
           }
+          case 24: {
+            int rawValue = input.readEnum();
+
+            encoding_ = rawValue;
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -123,6 +130,22 @@ private static final long serialVersionUID = 0L;
     return commitmentNumber_;
   }
 
+  public static final int ENCODING_FIELD_NUMBER = 3;
+  private int encoding_;
+  /**
+   * <code>.api.ProofEncoding encoding = 3;</code>
+   */
+  public int getEncodingValue() {
+    return encoding_;
+  }
+  /**
+   * <code>.api.ProofEncoding encoding = 3;</code>
+   */
+  public io.grpc.bverify.ProofEncoding getEncoding() {
+    io.grpc.bverify.ProofEncoding result = io.grpc.bverify.ProofEncoding.valueOf(encoding_);
+    return result == null ? io.grpc.bverify.ProofEncoding.UNRECOGNIZED : result;
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -141,6 +164,9 @@ private static final long serialVersionUID = 0L;
     if (commitmentNumber_ != 0) {
       output.writeInt32(2, commitmentNumber_);
     }
+    if (encoding_ != io.grpc.bverify.ProofEncoding.PROTOBUF.getNumber()) {
+      output.writeEnum(3, encoding_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -162,6 +188,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt32Size(2, commitmentNumber_);
     }
+    if (encoding_ != io.grpc.bverify.ProofEncoding.PROTOBUF.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, encoding_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -182,6 +212,7 @@ private static final long serialVersionUID = 0L;
         .equals(other.getAdsIdsList());
     result = result && (getCommitmentNumber()
         == other.getCommitmentNumber());
+    result = result && encoding_ == other.encoding_;
     result = result && unknownFields.equals(other.unknownFields);
     return result;
   }
@@ -199,6 +230,8 @@ private static final long serialVersionUID = 0L;
     }
     hash = (37 * hash) + COMMITMENTNUMBER_FIELD_NUMBER;
     hash = (53 * hash) + getCommitmentNumber();
+    hash = (37 * hash) + ENCODING_FIELD_NUMBER;
+    hash = (53 * hash) + encoding_;
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -332,6 +365,8 @@ private static final long serialVersionUID = 0L;
       bitField0_ = (bitField0_ & ~0x00000001);
       commitmentNumber_ = 0;
 
+      encoding_ = 0;
+
       return this;
     }
 
@@ -362,6 +397,7 @@ private static final long serialVersionUID = 0L;
       }
       result.adsIds_ = adsIds_;
       result.commitmentNumber_ = commitmentNumber_;
+      result.encoding_ = encoding_;
       result.bitField0_ = to_bitField0_;
       onBuilt();
       return result;
@@ -417,6 +453,9 @@ private static final long serialVersionUID = 0L;
       if (other.getCommitmentNumber() != 0) {
         setCommitmentNumber(other.getCommitmentNumber());
       }
+      if (other.encoding_ != 0) {
+        setEncodingValue(other.getEncodingValue());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -542,6 +581,50 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private int encoding_ = 0;
+    /**
+     * <code>.api.ProofEncoding encoding = 3;</code>
+     */
+    public int getEncodingValue() {
+      return encoding_;
+    }
+    /**
+     * <code>.api.ProofEncoding encoding = 3;</code>
+     */
+    public Builder setEncodingValue(int value) {
+      encoding_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.api.ProofEncoding encoding = 3;</code>
+     */
+    public io.grpc.bverify.ProofEncoding getEncoding() {
+      io.grpc.bverify.ProofEncoding result = io.grpc.bverify.ProofEncoding.valueOf(encoding_);
+      return result == null ? io.grpc.bverify.ProofEncoding.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.api.ProofEncoding encoding = 3;</code>
+     */
+    public Builder setEncoding(io.grpc.bverify.ProofEncoding value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      encoding_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.api.ProofEncoding encoding = 3;</code>
+     */
+    public Builder clearEncoding() {
+      
+      encoding_ = 0;
+      onChanged();
+      return this;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFieldsProto3(unknownFields);
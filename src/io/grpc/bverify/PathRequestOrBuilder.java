@@ -24,4 +24,13 @@ public interface PathRequestOrBuilder extends
    * <code>int32 commitmentNumber = 2;</code>
    */
   int getCommitmentNumber();
+
+  /**
+   * <code>.api.ProofEncoding encoding = 3;</code>
+   */
+  int getEncodingValue();
+  /**
+   * <code>.api.ProofEncoding encoding = 3;</code>
+   */
+  io.grpc.bverify.ProofEncoding getEncoding();
 }
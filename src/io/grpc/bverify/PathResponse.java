@@ -16,6 +16,8 @@ private static final long serialVersionUID = 0L;
     super(builder);
   }
   private PathResponse() {
+    encodedPath_ = com.google.protobuf.ByteString.EMPTY;
+    compactPath_ = com.google.protobuf.ByteString.EMPTY;
   }
 
   @java.lang.Override
@@ -62,6 +64,16 @@ private static final long serialVersionUID = 0L;
 
             break;
           }
+          case 18: {
+
+            encodedPath_ = input.readBytes();
+            break;
+          }
+          case 26: {
+
+            compactPath_ = input.readBytes();
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -107,6 +119,35 @@ private static final long serialVersionUID = 0L;
     return getPath();
   }
 
+  public static final int ENCODED_PATH_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString encodedPath_;
+  /**
+   * <pre>
+   * the same proof as an already encoded MerklePrefixTrie, 
+   * set instead if the ENCODED encoding was requested so
+   * that cached proofs can be sent without re-encoding them
+   * </pre>
+   *
+   * <code>bytes encoded_path = 2;</code>
+   */
+  public com.google.protobuf.ByteString getEncodedPath() {
+    return encodedPath_;
+  }
+
+  public static final int COMPACT_PATH_FIELD_NUMBER = 3;
+  private com.google.protobuf.ByteString compactPath_;
+  /**
+   * <pre>
+   * the proof in the compact encoding, 
+   * set instead if it was requested
+   * </pre>
+   *
+   * <code>bytes compact_path = 3;</code>
+   */
+  public com.google.protobuf.ByteString getCompactPath() {
+    return compactPath_;
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -122,6 +163,12 @@ private static final long serialVersionUID = 0L;
     if (path_ != null) {
       output.writeMessage(1, getPath());
     }
+    if (!encodedPath_.isEmpty()) {
+      output.writeBytes(2, encodedPath_);
+    }
+    if (!compactPath_.isEmpty()) {
+      output.writeBytes(3, compactPath_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -134,6 +181,14 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(1, getPath());
     }
+    if (!encodedPath_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, encodedPath_);
+    }
+    if (!compactPath_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(3, compactPath_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -155,6 +210,10 @@ private static final long serialVersionUID = 0L;
       result = result && getPath()
           .equals(other.getPath());
     }
+    result = result && getEncodedPath()
+        .equals(other.getEncodedPath());
+    result = result && getCompactPath()
+        .equals(other.getCompactPath());
     result = result && unknownFields.equals(other.unknownFields);
     return result;
   }
@@ -170,6 +229,10 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + PATH_FIELD_NUMBER;
       hash = (53 * hash) + getPath().hashCode();
     }
+    hash = (37 * hash) + ENCODED_PATH_FIELD_NUMBER;
+    hash = (53 * hash) + getEncodedPath().hashCode();
+    hash = (37 * hash) + COMPACT_PATH_FIELD_NUMBER;
+    hash = (53 * hash) + getCompactPath().hashCode();
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -305,6 +368,10 @@ private static final long serialVersionUID = 0L;
         path_ = null;
         pathBuilder_ = null;
       }
+      encodedPath_ = com.google.protobuf.ByteString.EMPTY;
+
+      compactPath_ = com.google.protobuf.ByteString.EMPTY;
+
       return this;
     }
 
@@ -332,6 +399,8 @@ private static final long serialVersionUID = 0L;
       } else {
         result.path_ = pathBuilder_.build();
       }
+      result.encodedPath_ = encodedPath_;
+      result.compactPath_ = compactPath_;
       onBuilt();
       return result;
     }
@@ -376,6 +445,12 @@ private static final long serialVersionUID = 0L;
       if (other.hasPath()) {
         mergePath(other.getPath());
       }
+      if (other.getEncodedPath() != com.google.protobuf.ByteString.EMPTY) {
+        setEncodedPath(other.getEncodedPath());
+      }
+      if (other.getCompactPath() != com.google.protobuf.ByteString.EMPTY) {
+        setCompactPath(other.getCompactPath());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -519,6 +594,97 @@ private static final long serialVersionUID = 0L;
       }
       return pathBuilder_;
     }
+
+    private com.google.protobuf.ByteString encodedPath_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * the same proof as an already encoded MerklePrefixTrie, 
+     * set instead if the ENCODED encoding was requested so
+     * that cached proofs can be sent without re-encoding them
+     * </pre>
+     *
+     * <code>bytes encoded_path = 2;</code>
+     */
+    public com.google.protobuf.ByteString getEncodedPath() {
+      return encodedPath_;
+    }
+    /**
+     * <pre>
+     * the same proof as an already encoded MerklePrefixTrie, 
+     * set instead if the ENCODED encoding was requested so
+     * that cached proofs can be sent without re-encoding them
+     * </pre>
+     *
+     * <code>bytes encoded_path = 2;</code>
+     */
+    public Builder setEncodedPath(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      encodedPath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the same proof as an already encoded MerklePrefixTrie, 
+     * set instead if the ENCODED encoding was requested so
+     * that cached proofs can be sent without re-encoding them
+     * </pre>
+     *
+     * <code>bytes encoded_path = 2;</code>
+     */
+    public Builder clearEncodedPath() {
+      
+      encodedPath_ = getDefaultInstance().getEncodedPath();
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString compactPath_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * the proof in the compact encoding, 
+     * set instead if it was requested
+     * </pre>
+     *
+     * <code>bytes compact_path = 3;</code>
+     */
+    public com.google.protobuf.ByteString getCompactPath() {
+      return compactPath_;
+    }
+    /**
+     * <pre>
+     * the proof in the compact encoding, 
+     * set instead if it was requested
+     * </pre>
+     *
+     * <code>bytes compact_path = 3;</code>
+     */
+    public Builder setCompactPath(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      compactPath_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the proof in the compact encoding, 
+     * set instead if it was requested
+     * </pre>
+     *
+     * <code>bytes compact_path = 3;</code>
+     */
+    public Builder clearCompactPath() {
+      
+      compactPath_ = getDefaultInstance().getCompactPath();
+      onChanged();
+      return this;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFieldsProto3(unknownFields);
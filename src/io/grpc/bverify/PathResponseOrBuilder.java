@@ -19,4 +19,25 @@ public interface PathResponseOrBuilder extends
    * <code>.serialization.generated.MerklePrefixTrie path = 1;</code>
    */
   serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getPathOrBuilder();
+
+  /**
+   * <pre>
+   * the same proof as an already encoded MerklePrefixTrie, 
+   * set instead if the ENCODED encoding was requested so
+   * that cached proofs can be sent without re-encoding them
+   * </pre>
+   *
+   * <code>bytes encoded_path = 2;</code>
+   */
+  com.google.protobuf.ByteString getEncodedPath();
+
+  /**
+   * <pre>
+   * the proof in the compact encoding, 
+   * set instead if it was requested
+   * </pre>
+   *
+   * <code>bytes compact_path = 3;</code>
+   */
+  com.google.protobuf.ByteString getCompactPath();
 }
@@ -0,0 +1,140 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf enum {@code api.ProofEncoding}
+ */
+public enum ProofEncoding
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <pre>
+   * a MerklePrefixTrie (in path)
+   * </pre>
+   *
+   * <code>PROTOBUF = 0;</code>
+   */
+  PROTOBUF(0),
+  /**
+   * <pre>
+   * the compact encoding of the partial MPT (in compact_path)
+   * see MPTDictionaryCompactCodec
+   * </pre>
+   *
+   * <code>COMPACT = 1;</code>
+   */
+  COMPACT(1),
+  /**
+   * <pre>
+   * an already serialized MerklePrefixTrie (in encoded_path), 
+   * which the server can send without re-encoding it
+   * </pre>
+   *
+   * <code>ENCODED = 2;</code>
+   */
+  ENCODED(2),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <pre>
+   * a MerklePrefixTrie (in path)
+   * </pre>
+   *
+   * <code>PROTOBUF = 0;</code>
+   */
+  public static final int PROTOBUF_VALUE = 0;
+  /**
+   * <pre>
+   * the compact encoding of the partial MPT (in compact_path)
+   * see MPTDictionaryCompactCodec
+   * </pre>
+   *
+   * <code>COMPACT = 1;</code>
+   */
+  public static final int COMPACT_VALUE = 1;
+  /**
+   * <pre>
+   * an already serialized MerklePrefixTrie (in encoded_path), 
+   * which the server can send without re-encoding it
+   * </pre>
+   *
+   * <code>ENCODED = 2;</code>
+   */
+  public static final int ENCODED_VALUE = 2;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static ProofEncoding valueOf(int value) {
+    return forNumber(value);
+  }
+
+  public static ProofEncoding forNumber(int value) {
+    switch (value) {
+      case 0: return PROTOBUF;
+      case 1: return COMPACT;
+      case 2: return ENCODED;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<ProofEncoding>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      ProofEncoding> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<ProofEncoding>() {
+          public ProofEncoding findValueByNumber(int number) {
+            return ProofEncoding.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.getDescriptor().getEnumTypes().get(0);
+  }
+
+  private static final ProofEncoding[] VALUES = values();
+
+  public static ProofEncoding valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private ProofEncoding(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:api.ProofEncoding)
+}
+
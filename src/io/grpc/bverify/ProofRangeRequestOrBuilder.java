@@ -0,0 +1,37 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface ProofRangeRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.ProofRangeRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated bytes adsIds = 1;</code>
+   */
+  java.util.List<com.google.protobuf.ByteString> getAdsIdsList();
+  /**
+   * <code>repeated bytes adsIds = 1;</code>
+   */
+  int getAdsIdsCount();
+  /**
+   * <code>repeated bytes adsIds = 1;</code>
+   */
+  com.google.protobuf.ByteString getAdsIds(int index);
+
+  /**
+   * <code>int32 fromCommitmentNumber = 2;</code>
+   */
+  int getFromCommitmentNumber();
+
+  /**
+   * <pre>
+   * the server may return fewer commitments than 
+   * requested, see ProofRangeResponse.toCommitmentNumber
+   * </pre>
+   *
+   * <code>int32 toCommitmentNumber = 3;</code>
+   */
+  int getToCommitmentNumber();
+}
@@ -0,0 +1,980 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.ProofRangeResponse}
+ */
+public  final class ProofRangeResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.ProofRangeResponse)
+    ProofRangeResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ProofRangeResponse.newBuilder() to construct.
+  private ProofRangeResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ProofRangeResponse() {
+    toCommitmentNumber_ = 0;
+    encodedBase_ = com.google.protobuf.ByteString.EMPTY;
+    steps_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ProofRangeResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            toCommitmentNumber_ = input.readInt32();
+            break;
+          }
+          case 18: {
+
+            encodedBase_ = input.readBytes();
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+              steps_ = new java.util.ArrayList<io.grpc.bverify.ProofStep>();
+              mutable_bitField0_ |= 0x00000004;
+            }
+            steps_.add(
+                input.readMessage(io.grpc.bverify.ProofStep.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+        steps_ = java.util.Collections.unmodifiableList(steps_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_ProofRangeResponse_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_ProofRangeResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.ProofRangeResponse.class, io.grpc.bverify.ProofRangeResponse.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int TOCOMMITMENTNUMBER_FIELD_NUMBER = 1;
+  private int toCommitmentNumber_;
+  /**
+   * <pre>
+   * the last commitment included
+   * </pre>
+   *
+   * <code>int32 toCommitmentNumber = 1;</code>
+   */
+  public int getToCommitmentNumber() {
+    return toCommitmentNumber_;
+  }
+
+  public static final int ENCODED_BASE_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString encodedBase_;
+  /**
+   * <pre>
+   * the proof for fromCommitmentNumber (a serialized MerklePrefixTrie)
+   * </pre>
+   *
+   * <code>bytes encoded_base = 2;</code>
+   */
+  public com.google.protobuf.ByteString getEncodedBase() {
+    return encodedBase_;
+  }
+
+  public static final int STEPS_FIELD_NUMBER = 3;
+  private java.util.List<io.grpc.bverify.ProofStep> steps_;
+  /**
+   * <pre>
+   * one step for each later commitment, in order
+   * </pre>
+   *
+   * <code>repeated .api.ProofStep steps = 3;</code>
+   */
+  public java.util.List<io.grpc.bverify.ProofStep> getStepsList() {
+    return steps_;
+  }
+  /**
+   * <pre>
+   * one step for each later commitment, in order
+   * </pre>
+   *
+   * <code>repeated .api.ProofStep steps = 3;</code>
+   */
+  public java.util.List<? extends io.grpc.bverify.ProofStepOrBuilder> 
+      getStepsOrBuilderList() {
+    return steps_;
+  }
+  /**
+   * <pre>
+   * one step for each later commitment, in order
+   * </pre>
+   *
+   * <code>repeated .api.ProofStep steps = 3;</code>
+   */
+  public int getStepsCount() {
+    return steps_.size();
+  }
+  /**
+   * <pre>
+   * one step for each later commitment, in order
+   * </pre>
+   *
+   * <code>repeated .api.ProofStep steps = 3;</code>
+   */
+  public io.grpc.bverify.ProofStep getSteps(int index) {
+    return steps_.get(index);
+  }
+  /**
+   * <pre>
+   * one step for each later commitment, in order
+   * </pre>
+   *
+   * <code>repeated .api.ProofStep steps = 3;</code>
+   */
+  public io.grpc.bverify.ProofStepOrBuilder getStepsOrBuilder(
+      int index) {
+    return steps_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (toCommitmentNumber_ != 0) {
+      output.writeInt32(1, toCommitmentNumber_);
+    }
+    if (!encodedBase_.isEmpty()) {
+      output.writeBytes(2, encodedBase_);
+    }
+    for (int i = 0; i < steps_.size(); i++) {
+      output.writeMessage(3, steps_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (toCommitmentNumber_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, toCommitmentNumber_);
+    }
+    if (!encodedBase_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, encodedBase_);
+    }
+    for (int i = 0; i < steps_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, steps_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.ProofRangeResponse)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.ProofRangeResponse other = (io.grpc.bverify.ProofRangeResponse) obj;
+
+    boolean result = true;
+    result = result && (getToCommitmentNumber()
+        == other.getToCommitmentNumber());
+    result = result && getEncodedBase()
+        .equals(other.getEncodedBase());
+    result = result && getStepsList()
+        .equals(other.getStepsList());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + TOCOMMITMENTNUMBER_FIELD_NUMBER;
+    hash = (53 * hash) + getToCommitmentNumber();
+    hash = (37 * hash) + ENCODED_BASE_FIELD_NUMBER;
+    hash = (53 * hash) + getEncodedBase().hashCode();
+    if (getStepsCount() > 0) {
+      hash = (37 * hash) + STEPS_FIELD_NUMBER;
+      hash = (53 * hash) + getStepsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.ProofRangeResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ProofRangeResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.ProofRangeResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.ProofRangeResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.ProofRangeResponse)
+      io.grpc.bverify.ProofRangeResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_ProofRangeResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_ProofRangeResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.ProofRangeResponse.class, io.grpc.bverify.ProofRangeResponse.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.ProofRangeResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getStepsFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      toCommitmentNumber_ = 0;
+
+      encodedBase_ = com.google.protobuf.ByteString.EMPTY;
+
+      if (stepsBuilder_ == null) {
+        steps_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+      } else {
+        stepsBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_ProofRangeResponse_descriptor;
+    }
+
+    public io.grpc.bverify.ProofRangeResponse getDefaultInstanceForType() {
+      return io.grpc.bverify.ProofRangeResponse.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.ProofRangeResponse build() {
+      io.grpc.bverify.ProofRangeResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.ProofRangeResponse buildPartial() {
+      io.grpc.bverify.ProofRangeResponse result = new io.grpc.bverify.ProofRangeResponse(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.toCommitmentNumber_ = toCommitmentNumber_;
+      result.encodedBase_ = encodedBase_;
+      if (stepsBuilder_ == null) {
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          steps_ = java.util.Collections.unmodifiableList(steps_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.steps_ = steps_;
+      } else {
+        result.steps_ = stepsBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.ProofRangeResponse) {
+        return mergeFrom((io.grpc.bverify.ProofRangeResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.ProofRangeResponse other) {
+      if (other == io.grpc.bverify.ProofRangeResponse.getDefaultInstance()) return this;
+      if (other.getToCommitmentNumber() != 0) {
+        setToCommitmentNumber(other.getToCommitmentNumber());
+      }
+      if (other.getEncodedBase() != com.google.protobuf.ByteString.EMPTY) {
+        setEncodedBase(other.getEncodedBase());
+      }
+      if (stepsBuilder_ == null) {
+        if (!other.steps_.isEmpty()) {
+          if (steps_.isEmpty()) {
+            steps_ = other.steps_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureStepsIsMutable();
+            steps_.addAll(other.steps_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.steps_.isEmpty()) {
+          if (stepsBuilder_.isEmpty()) {
+            stepsBuilder_.dispose();
+            stepsBuilder_ = null;
+            steps_ = other.steps_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+            stepsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getStepsFieldBuilder() : null;
+          } else {
+            stepsBuilder_.addAllMessages(other.steps_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.ProofRangeResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.ProofRangeResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int toCommitmentNumber_ ;
+    /**
+     * <pre>
+     * the last commitment included
+     * </pre>
+     *
+     * <code>int32 toCommitmentNumber = 1;</code>
+     */
+    public int getToCommitmentNumber() {
+      return toCommitmentNumber_;
+    }
+    /**
+     * <pre>
+     * the last commitment included
+     * </pre>
+     *
+     * <code>int32 toCommitmentNumber = 1;</code>
+     */
+    public Builder setToCommitmentNumber(int value) {
+      
+      toCommitmentNumber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the last commitment included
+     * </pre>
+     *
+     * <code>int32 toCommitmentNumber = 1;</code>
+     */
+    public Builder clearToCommitmentNumber() {
+      
+      toCommitmentNumber_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString encodedBase_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <pre>
+     * the proof for fromCommitmentNumber (a serialized MerklePrefixTrie)
+     * </pre>
+     *
+     * <code>bytes encoded_base = 2;</code>
+     */
+    public com.google.protobuf.ByteString getEncodedBase() {
+      return encodedBase_;
+    }
+    /**
+     * <pre>
+     * the proof for fromCommitmentNumber (a serialized MerklePrefixTrie)
+     * </pre>
+     *
+     * <code>bytes encoded_base = 2;</code>
+     */
+    public Builder setEncodedBase(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      encodedBase_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the proof for fromCommitmentNumber (a serialized MerklePrefixTrie)
+     * </pre>
+     *
+     * <code>bytes encoded_base = 2;</code>
+     */
+    public Builder clearEncodedBase() {
+      
+      encodedBase_ = getDefaultInstance().getEncodedBase();
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<io.grpc.bverify.ProofStep> steps_ =
+      java.util.Collections.emptyList();
+    private void ensureStepsIsMutable() {
+      if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+        steps_ = new java.util.ArrayList<io.grpc.bverify.ProofStep>(steps_);
+        bitField0_ |= 0x00000004;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.bverify.ProofStep, io.grpc.bverify.ProofStep.Builder, io.grpc.bverify.ProofStepOrBuilder> stepsBuilder_;
+
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public java.util.List<io.grpc.bverify.ProofStep> getStepsList() {
+      if (stepsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(steps_);
+      } else {
+        return stepsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public int getStepsCount() {
+      if (stepsBuilder_ == null) {
+        return steps_.size();
+      } else {
+        return stepsBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public io.grpc.bverify.ProofStep getSteps(int index) {
+      if (stepsBuilder_ == null) {
+        return steps_.get(index);
+      } else {
+        return stepsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public Builder setSteps(
+        int index, io.grpc.bverify.ProofStep value) {
+      if (stepsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureStepsIsMutable();
+        steps_.set(index, value);
+        onChanged();
+      } else {
+        stepsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public Builder setSteps(
+        int index, io.grpc.bverify.ProofStep.Builder builderForValue) {
+      if (stepsBuilder_ == null) {
+        ensureStepsIsMutable();
+        steps_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        stepsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public Builder addSteps(io.grpc.bverify.ProofStep value) {
+      if (stepsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureStepsIsMutable();
+        steps_.add(value);
+        onChanged();
+      } else {
+        stepsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public Builder addSteps(
+        int index, io.grpc.bverify.ProofStep value) {
+      if (stepsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureStepsIsMutable();
+        steps_.add(index, value);
+        onChanged();
+      } else {
+        stepsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public Builder addSteps(
+        io.grpc.bverify.ProofStep.Builder builderForValue) {
+      if (stepsBuilder_ == null) {
+        ensureStepsIsMutable();
+        steps_.add(builderForValue.build());
+        onChanged();
+      } else {
+        stepsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public Builder addSteps(
+        int index, io.grpc.bverify.ProofStep.Builder builderForValue) {
+      if (stepsBuilder_ == null) {
+        ensureStepsIsMutable();
+        steps_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        stepsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public Builder addAllSteps(
+        java.lang.Iterable<? extends io.grpc.bverify.ProofStep> values) {
+      if (stepsBuilder_ == null) {
+        ensureStepsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, steps_);
+        onChanged();
+      } else {
+        stepsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public Builder clearSteps() {
+      if (stepsBuilder_ == null) {
+        steps_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+      } else {
+        stepsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public Builder removeSteps(int index) {
+      if (stepsBuilder_ == null) {
+        ensureStepsIsMutable();
+        steps_.remove(index);
+        onChanged();
+      } else {
+        stepsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public io.grpc.bverify.ProofStep.Builder getStepsBuilder(
+        int index) {
+      return getStepsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public io.grpc.bverify.ProofStepOrBuilder getStepsOrBuilder(
+        int index) {
+      if (stepsBuilder_ == null) {
+        return steps_.get(index);  } else {
+        return stepsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public java.util.List<? extends io.grpc.bverify.ProofStepOrBuilder> 
+         getStepsOrBuilderList() {
+      if (stepsBuilder_ != null) {
+        return stepsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(steps_);
+      }
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public io.grpc.bverify.ProofStep.Builder addStepsBuilder() {
+      return getStepsFieldBuilder().addBuilder(
+          io.grpc.bverify.ProofStep.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public io.grpc.bverify.ProofStep.Builder addStepsBuilder(
+        int index) {
+      return getStepsFieldBuilder().addBuilder(
+          index, io.grpc.bverify.ProofStep.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * one step for each later commitment, in order
+     * </pre>
+     *
+     * <code>repeated .api.ProofStep steps = 3;</code>
+     */
+    public java.util.List<io.grpc.bverify.ProofStep.Builder> 
+         getStepsBuilderList() {
+      return getStepsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.bverify.ProofStep, io.grpc.bverify.ProofStep.Builder, io.grpc.bverify.ProofStepOrBuilder> 
+        getStepsFieldBuilder() {
+      if (stepsBuilder_ == null) {
+        stepsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            io.grpc.bverify.ProofStep, io.grpc.bverify.ProofStep.Builder, io.grpc.bverify.ProofStepOrBuilder>(
+                steps_,
+                ((bitField0_ & 0x00000004) == 0x00000004),
+                getParentForChildren(),
+                isClean());
+        steps_ = null;
+      }
+      return stepsBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.ProofRangeResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.ProofRangeResponse)
+  private static final io.grpc.bverify.ProofRangeResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.ProofRangeResponse();
+  }
+
+  public static io.grpc.bverify.ProofRangeResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ProofRangeResponse>
+      PARSER = new com.google.protobuf.AbstractParser<ProofRangeResponse>() {
+    public ProofRangeResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ProofRangeResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ProofRangeResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ProofRangeResponse> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.ProofRangeResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
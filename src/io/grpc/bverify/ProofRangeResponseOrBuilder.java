@@ -0,0 +1,71 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface ProofRangeResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.ProofRangeResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * the last commitment included
+   * </pre>
+   *
+   * <code>int32 toCommitmentNumber = 1;</code>
+   */
+  int getToCommitmentNumber();
+
+  /**
+   * <pre>
+   * the proof for fromCommitmentNumber (a serialized MerklePrefixTrie)
+   * </pre>
+   *
+   * <code>bytes encoded_base = 2;</code>
+   */
+  com.google.protobuf.ByteString getEncodedBase();
+
+  /**
+   * <pre>
+   * one step for each later commitment, in order
+   * </pre>
+   *
+   * <code>repeated .api.ProofStep steps = 3;</code>
+   */
+  java.util.List<io.grpc.bverify.ProofStep> 
+      getStepsList();
+  /**
+   * <pre>
+   * one step for each later commitment, in order
+   * </pre>
+   *
+   * <code>repeated .api.ProofStep steps = 3;</code>
+   */
+  io.grpc.bverify.ProofStep getSteps(int index);
+  /**
+   * <pre>
+   * one step for each later commitment, in order
+   * </pre>
+   *
+   * <code>repeated .api.ProofStep steps = 3;</code>
+   */
+  int getStepsCount();
+  /**
+   * <pre>
+   * one step for each later commitment, in order
+   * </pre>
+   *
+   * <code>repeated .api.ProofStep steps = 3;</code>
+   */
+  java.util.List<? extends io.grpc.bverify.ProofStepOrBuilder> 
+      getStepsOrBuilderList();
+  /**
+   * <pre>
+   * one step for each later commitment, in order
+   * </pre>
+   *
+   * <code>repeated .api.ProofStep steps = 3;</code>
+   */
+  io.grpc.bverify.ProofStepOrBuilder getStepsOrBuilder(
+      int index);
+}
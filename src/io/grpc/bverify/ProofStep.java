@@ -0,0 +1,800 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.ProofStep}
+ */
+public  final class ProofStep extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.ProofStep)
+    ProofStepOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ProofStep.newBuilder() to construct.
+  private ProofStep(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ProofStep() {
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ProofStep(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            serialization.generated.MptSerialization.MerklePrefixTrie.Builder subBuilder = null;
+            if (stepCase_ == 1) {
+              subBuilder = ((serialization.generated.MptSerialization.MerklePrefixTrie) step_).toBuilder();
+            }
+            step_ =
+                input.readMessage(serialization.generated.MptSerialization.MerklePrefixTrie.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((serialization.generated.MptSerialization.MerklePrefixTrie) step_);
+              step_ = subBuilder.buildPartial();
+            }
+            stepCase_ = 1;
+            break;
+          }
+          case 18: {
+            stepCase_ = 2;
+            step_ = input.readBytes();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_ProofStep_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_ProofStep_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.ProofStep.class, io.grpc.bverify.ProofStep.Builder.class);
+  }
+
+  private int stepCase_ = 0;
+  private java.lang.Object step_;
+  public enum StepCase
+      implements com.google.protobuf.Internal.EnumLite {
+    UPDATE(1),
+    ENCODED_PATH(2),
+    STEP_NOT_SET(0);
+    private final int value;
+    private StepCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static StepCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static StepCase forNumber(int value) {
+      switch (value) {
+        case 1: return UPDATE;
+        case 2: return ENCODED_PATH;
+        case 0: return STEP_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public StepCase
+  getStepCase() {
+    return StepCase.forNumber(
+        stepCase_);
+  }
+
+  public static final int UPDATE_FIELD_NUMBER = 1;
+  /**
+   * <pre>
+   * the changes to the previous proof
+   * </pre>
+   *
+   * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+   */
+  public boolean hasUpdate() {
+    return stepCase_ == 1;
+  }
+  /**
+   * <pre>
+   * the changes to the previous proof
+   * </pre>
+   *
+   * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+   */
+  public serialization.generated.MptSerialization.MerklePrefixTrie getUpdate() {
+    if (stepCase_ == 1) {
+       return (serialization.generated.MptSerialization.MerklePrefixTrie) step_;
+    }
+    return serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * the changes to the previous proof
+   * </pre>
+   *
+   * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+   */
+  public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getUpdateOrBuilder() {
+    if (stepCase_ == 1) {
+       return (serialization.generated.MptSerialization.MerklePrefixTrie) step_;
+    }
+    return serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance();
+  }
+
+  public static final int ENCODED_PATH_FIELD_NUMBER = 2;
+  /**
+   * <pre>
+   * the whole proof, if the changes are not available
+   * </pre>
+   *
+   * <code>bytes encoded_path = 2;</code>
+   */
+  public com.google.protobuf.ByteString getEncodedPath() {
+    if (stepCase_ == 2) {
+      return (com.google.protobuf.ByteString) step_;
+    }
+    return com.google.protobuf.ByteString.EMPTY;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (stepCase_ == 1) {
+      output.writeMessage(1, (serialization.generated.MptSerialization.MerklePrefixTrie) step_);
+    }
+    if (stepCase_ == 2) {
+      output.writeBytes(
+          2, (com.google.protobuf.ByteString) step_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (stepCase_ == 1) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, (serialization.generated.MptSerialization.MerklePrefixTrie) step_);
+    }
+    if (stepCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(
+            2, (com.google.protobuf.ByteString) step_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.ProofStep)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.ProofStep other = (io.grpc.bverify.ProofStep) obj;
+
+    boolean result = true;
+    result = result && getStepCase().equals(
+        other.getStepCase());
+    if (!result) return false;
+    switch (stepCase_) {
+      case 1:
+        result = result && getUpdate()
+            .equals(other.getUpdate());
+        break;
+      case 2:
+        result = result && getEncodedPath()
+            .equals(other.getEncodedPath());
+        break;
+      case 0:
+      default:
+    }
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    switch (stepCase_) {
+      case 1:
+        hash = (37 * hash) + UPDATE_FIELD_NUMBER;
+        hash = (53 * hash) + getUpdate().hashCode();
+        break;
+      case 2:
+        hash = (37 * hash) + ENCODED_PATH_FIELD_NUMBER;
+        hash = (53 * hash) + getEncodedPath().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.ProofStep parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ProofStep parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ProofStep parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ProofStep parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ProofStep parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ProofStep parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ProofStep parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ProofStep parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ProofStep parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ProofStep parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ProofStep parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ProofStep parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.ProofStep prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.ProofStep}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.ProofStep)
+      io.grpc.bverify.ProofStepOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_ProofStep_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_ProofStep_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.ProofStep.class, io.grpc.bverify.ProofStep.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.ProofStep.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      stepCase_ = 0;
+      step_ = null;
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_ProofStep_descriptor;
+    }
+
+    public io.grpc.bverify.ProofStep getDefaultInstanceForType() {
+      return io.grpc.bverify.ProofStep.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.ProofStep build() {
+      io.grpc.bverify.ProofStep result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.ProofStep buildPartial() {
+      io.grpc.bverify.ProofStep result = new io.grpc.bverify.ProofStep(this);
+      if (stepCase_ == 1) {
+        if (updateBuilder_ == null) {
+          result.step_ = step_;
+        } else {
+          result.step_ = updateBuilder_.build();
+        }
+      }
+      if (stepCase_ == 2) {
+        result.step_ = step_;
+      }
+      result.stepCase_ = stepCase_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.ProofStep) {
+        return mergeFrom((io.grpc.bverify.ProofStep)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.ProofStep other) {
+      if (other == io.grpc.bverify.ProofStep.getDefaultInstance()) return this;
+      switch (other.getStepCase()) {
+        case UPDATE: {
+          mergeUpdate(other.getUpdate());
+          break;
+        }
+        case ENCODED_PATH: {
+          setEncodedPath(other.getEncodedPath());
+          break;
+        }
+        case STEP_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.ProofStep parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.ProofStep) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int stepCase_ = 0;
+    private java.lang.Object step_;
+    public StepCase
+        getStepCase() {
+      return StepCase.forNumber(
+          stepCase_);
+    }
+
+    public Builder clearStep() {
+      stepCase_ = 0;
+      step_ = null;
+      onChanged();
+      return this;
+    }
+
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> updateBuilder_;
+    /**
+     * <pre>
+     * the changes to the previous proof
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+     */
+    public boolean hasUpdate() {
+      return stepCase_ == 1;
+    }
+    /**
+     * <pre>
+     * the changes to the previous proof
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie getUpdate() {
+      if (updateBuilder_ == null) {
+        if (stepCase_ == 1) {
+          return (serialization.generated.MptSerialization.MerklePrefixTrie) step_;
+        }
+        return serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance();
+      } else {
+        if (stepCase_ == 1) {
+          return updateBuilder_.getMessage();
+        }
+        return serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * the changes to the previous proof
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+     */
+    public Builder setUpdate(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+      if (updateBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        step_ = value;
+        onChanged();
+      } else {
+        updateBuilder_.setMessage(value);
+      }
+      stepCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * the changes to the previous proof
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+     */
+    public Builder setUpdate(
+        serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+      if (updateBuilder_ == null) {
+        step_ = builderForValue.build();
+        onChanged();
+      } else {
+        updateBuilder_.setMessage(builderForValue.build());
+      }
+      stepCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * the changes to the previous proof
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+     */
+    public Builder mergeUpdate(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+      if (updateBuilder_ == null) {
+        if (stepCase_ == 1 &&
+            step_ != serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance()) {
+          step_ = serialization.generated.MptSerialization.MerklePrefixTrie.newBuilder((serialization.generated.MptSerialization.MerklePrefixTrie) step_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          step_ = value;
+        }
+        onChanged();
+      } else {
+        if (stepCase_ == 1) {
+          updateBuilder_.mergeFrom(value);
+        }
+        updateBuilder_.setMessage(value);
+      }
+      stepCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * the changes to the previous proof
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+     */
+    public Builder clearUpdate() {
+      if (updateBuilder_ == null) {
+        if (stepCase_ == 1) {
+          stepCase_ = 0;
+          step_ = null;
+          onChanged();
+        }
+      } else {
+        if (stepCase_ == 1) {
+          stepCase_ = 0;
+          step_ = null;
+        }
+        updateBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * the changes to the previous proof
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie.Builder getUpdateBuilder() {
+      return getUpdateFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * the changes to the previous proof
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getUpdateOrBuilder() {
+      if ((stepCase_ == 1) && (updateBuilder_ != null)) {
+        return updateBuilder_.getMessageOrBuilder();
+      } else {
+        if (stepCase_ == 1) {
+          return (serialization.generated.MptSerialization.MerklePrefixTrie) step_;
+        }
+        return serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * the changes to the previous proof
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+        getUpdateFieldBuilder() {
+      if (updateBuilder_ == null) {
+        if (!(stepCase_ == 1)) {
+          step_ = serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance();
+        }
+        updateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder>(
+                (serialization.generated.MptSerialization.MerklePrefixTrie) step_,
+                getParentForChildren(),
+                isClean());
+        step_ = null;
+      }
+      stepCase_ = 1;
+      onChanged();;
+      return updateBuilder_;
+    }
+
+    /**
+     * <pre>
+     * the whole proof, if the changes are not available
+     * </pre>
+     *
+     * <code>bytes encoded_path = 2;</code>
+     */
+    public com.google.protobuf.ByteString getEncodedPath() {
+      if (stepCase_ == 2) {
+        return (com.google.protobuf.ByteString) step_;
+      }
+      return com.google.protobuf.ByteString.EMPTY;
+    }
+    /**
+     * <pre>
+     * the whole proof, if the changes are not available
+     * </pre>
+     *
+     * <code>bytes encoded_path = 2;</code>
+     */
+    public Builder setEncodedPath(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  stepCase_ = 2;
+      step_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the whole proof, if the changes are not available
+     * </pre>
+     *
+     * <code>bytes encoded_path = 2;</code>
+     */
+    public Builder clearEncodedPath() {
+      if (stepCase_ == 2) {
+        stepCase_ = 0;
+        step_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.ProofStep)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.ProofStep)
+  private static final io.grpc.bverify.ProofStep DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.ProofStep();
+  }
+
+  public static io.grpc.bverify.ProofStep getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ProofStep>
+      PARSER = new com.google.protobuf.AbstractParser<ProofStep>() {
+    public ProofStep parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ProofStep(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ProofStep> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ProofStep> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.ProofStep getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,45 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface ProofStepOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.ProofStep)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * the changes to the previous proof
+   * </pre>
+   *
+   * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+   */
+  boolean hasUpdate();
+  /**
+   * <pre>
+   * the changes to the previous proof
+   * </pre>
+   *
+   * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+   */
+  serialization.generated.MptSerialization.MerklePrefixTrie getUpdate();
+  /**
+   * <pre>
+   * the changes to the previous proof
+   * </pre>
+   *
+   * <code>.serialization.generated.MerklePrefixTrie update = 1;</code>
+   */
+  serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getUpdateOrBuilder();
+
+  /**
+   * <pre>
+   * the whole proof, if the changes are not available
+   * </pre>
+   *
+   * <code>bytes encoded_path = 2;</code>
+   */
+  com.google.protobuf.ByteString getEncodedPath();
+
+  public io.grpc.bverify.ProofStep.StepCase getStepCase();
+}
@@ -0,0 +1,566 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.ReceiptDiffRequest}
+ */
+public  final class ReceiptDiffRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.ReceiptDiffRequest)
+    ReceiptDiffRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ReceiptDiffRequest.newBuilder() to construct.
+  private ReceiptDiffRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ReceiptDiffRequest() {
+    adsId_ = com.google.protobuf.ByteString.EMPTY;
+    fromCommitmentNumber_ = 0;
+    toCommitmentNumber_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ReceiptDiffRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+
+            adsId_ = input.readBytes();
+            break;
+          }
+          case 16: {
+
+            fromCommitmentNumber_ = input.readInt32();
+            break;
+          }
+          case 24: {
+
+            toCommitmentNumber_ = input.readInt32();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_ReceiptDiffRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_ReceiptDiffRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.ReceiptDiffRequest.class, io.grpc.bverify.ReceiptDiffRequest.Builder.class);
+  }
+
+  public static final int ADSID_FIELD_NUMBER = 1;
+  private com.google.protobuf.ByteString adsId_;
+  /**
+   * <code>bytes adsId = 1;</code>
+   */
+  public com.google.protobuf.ByteString getAdsId() {
+    return adsId_;
+  }
+
+  public static final int FROMCOMMITMENTNUMBER_FIELD_NUMBER = 2;
+  private int fromCommitmentNumber_;
+  /**
+   * <code>int32 fromCommitmentNumber = 2;</code>
+   */
+  public int getFromCommitmentNumber() {
+    return fromCommitmentNumber_;
+  }
+
+  public static final int TOCOMMITMENTNUMBER_FIELD_NUMBER = 3;
+  private int toCommitmentNumber_;
+  /**
+   * <code>int32 toCommitmentNumber = 3;</code>
+   */
+  public int getToCommitmentNumber() {
+    return toCommitmentNumber_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!adsId_.isEmpty()) {
+      output.writeBytes(1, adsId_);
+    }
+    if (fromCommitmentNumber_ != 0) {
+      output.writeInt32(2, fromCommitmentNumber_);
+    }
+    if (toCommitmentNumber_ != 0) {
+      output.writeInt32(3, toCommitmentNumber_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!adsId_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(1, adsId_);
+    }
+    if (fromCommitmentNumber_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, fromCommitmentNumber_);
+    }
+    if (toCommitmentNumber_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(3, toCommitmentNumber_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.ReceiptDiffRequest)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.ReceiptDiffRequest other = (io.grpc.bverify.ReceiptDiffRequest) obj;
+
+    boolean result = true;
+    result = result && getAdsId()
+        .equals(other.getAdsId());
+    result = result && (getFromCommitmentNumber()
+        == other.getFromCommitmentNumber());
+    result = result && (getToCommitmentNumber()
+        == other.getToCommitmentNumber());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ADSID_FIELD_NUMBER;
+    hash = (53 * hash) + getAdsId().hashCode();
+    hash = (37 * hash) + FROMCOMMITMENTNUMBER_FIELD_NUMBER;
+    hash = (53 * hash) + getFromCommitmentNumber();
+    hash = (37 * hash) + TOCOMMITMENTNUMBER_FIELD_NUMBER;
+    hash = (53 * hash) + getToCommitmentNumber();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.ReceiptDiffRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReceiptDiffRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.ReceiptDiffRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.ReceiptDiffRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.ReceiptDiffRequest)
+      io.grpc.bverify.ReceiptDiffRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_ReceiptDiffRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_ReceiptDiffRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.ReceiptDiffRequest.class, io.grpc.bverify.ReceiptDiffRequest.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.ReceiptDiffRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      adsId_ = com.google.protobuf.ByteString.EMPTY;
+
+      fromCommitmentNumber_ = 0;
+
+      toCommitmentNumber_ = 0;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_ReceiptDiffRequest_descriptor;
+    }
+
+    public io.grpc.bverify.ReceiptDiffRequest getDefaultInstanceForType() {
+      return io.grpc.bverify.ReceiptDiffRequest.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.ReceiptDiffRequest build() {
+      io.grpc.bverify.ReceiptDiffRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.ReceiptDiffRequest buildPartial() {
+      io.grpc.bverify.ReceiptDiffRequest result = new io.grpc.bverify.ReceiptDiffRequest(this);
+      result.adsId_ = adsId_;
+      result.fromCommitmentNumber_ = fromCommitmentNumber_;
+      result.toCommitmentNumber_ = toCommitmentNumber_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.ReceiptDiffRequest) {
+        return mergeFrom((io.grpc.bverify.ReceiptDiffRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.ReceiptDiffRequest other) {
+      if (other == io.grpc.bverify.ReceiptDiffRequest.getDefaultInstance()) return this;
+      if (other.getAdsId() != com.google.protobuf.ByteString.EMPTY) {
+        setAdsId(other.getAdsId());
+      }
+      if (other.getFromCommitmentNumber() != 0) {
+        setFromCommitmentNumber(other.getFromCommitmentNumber());
+      }
+      if (other.getToCommitmentNumber() != 0) {
+        setToCommitmentNumber(other.getToCommitmentNumber());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.ReceiptDiffRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.ReceiptDiffRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private com.google.protobuf.ByteString adsId_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes adsId = 1;</code>
+     */
+    public com.google.protobuf.ByteString getAdsId() {
+      return adsId_;
+    }
+    /**
+     * <code>bytes adsId = 1;</code>
+     */
+    public Builder setAdsId(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      adsId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes adsId = 1;</code>
+     */
+    public Builder clearAdsId() {
+      
+      adsId_ = getDefaultInstance().getAdsId();
+      onChanged();
+      return this;
+    }
+
+    private int fromCommitmentNumber_ ;
+    /**
+     * <code>int32 fromCommitmentNumber = 2;</code>
+     */
+    public int getFromCommitmentNumber() {
+      return fromCommitmentNumber_;
+    }
+    /**
+     * <code>int32 fromCommitmentNumber = 2;</code>
+     */
+    public Builder setFromCommitmentNumber(int value) {
+      
+      fromCommitmentNumber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 fromCommitmentNumber = 2;</code>
+     */
+    public Builder clearFromCommitmentNumber() {
+      
+      fromCommitmentNumber_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int toCommitmentNumber_ ;
+    /**
+     * <code>int32 toCommitmentNumber = 3;</code>
+     */
+    public int getToCommitmentNumber() {
+      return toCommitmentNumber_;
+    }
+    /**
+     * <code>int32 toCommitmentNumber = 3;</code>
+     */
+    public Builder setToCommitmentNumber(int value) {
+      
+      toCommitmentNumber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 toCommitmentNumber = 3;</code>
+     */
+    public Builder clearToCommitmentNumber() {
+      
+      toCommitmentNumber_ = 0;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.ReceiptDiffRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.ReceiptDiffRequest)
+  private static final io.grpc.bverify.ReceiptDiffRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.ReceiptDiffRequest();
+  }
+
+  public static io.grpc.bverify.ReceiptDiffRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ReceiptDiffRequest>
+      PARSER = new com.google.protobuf.AbstractParser<ReceiptDiffRequest>() {
+    public ReceiptDiffRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ReceiptDiffRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ReceiptDiffRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ReceiptDiffRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.ReceiptDiffRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
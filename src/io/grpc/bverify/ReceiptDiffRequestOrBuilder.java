@@ -0,0 +1,24 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface ReceiptDiffRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.ReceiptDiffRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>bytes adsId = 1;</code>
+   */
+  com.google.protobuf.ByteString getAdsId();
+
+  /**
+   * <code>int32 fromCommitmentNumber = 2;</code>
+   */
+  int getFromCommitmentNumber();
+
+  /**
+   * <code>int32 toCommitmentNumber = 3;</code>
+   */
+  int getToCommitmentNumber();
+}
@@ -0,0 +1,1077 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.ReceiptDiffResponse}
+ */
+public  final class ReceiptDiffResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.ReceiptDiffResponse)
+    ReceiptDiffResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ReceiptDiffResponse.newBuilder() to construct.
+  private ReceiptDiffResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ReceiptDiffResponse() {
+    added_ = java.util.Collections.emptyList();
+    removed_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ReceiptDiffResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              added_ = new java.util.ArrayList<io.grpc.bverify.Receipt>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            added_.add(
+                input.readMessage(io.grpc.bverify.Receipt.parser(), extensionRegistry));
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              removed_ = new java.util.ArrayList<io.grpc.bverify.Receipt>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            removed_.add(
+                input.readMessage(io.grpc.bverify.Receipt.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+        added_ = java.util.Collections.unmodifiableList(added_);
+      }
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        removed_ = java.util.Collections.unmodifiableList(removed_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_ReceiptDiffResponse_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_ReceiptDiffResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.ReceiptDiffResponse.class, io.grpc.bverify.ReceiptDiffResponse.Builder.class);
+  }
+
+  public static final int ADDED_FIELD_NUMBER = 1;
+  private java.util.List<io.grpc.bverify.Receipt> added_;
+  /**
+   * <code>repeated .api.Receipt added = 1;</code>
+   */
+  public java.util.List<io.grpc.bverify.Receipt> getAddedList() {
+    return added_;
+  }
+  /**
+   * <code>repeated .api.Receipt added = 1;</code>
+   */
+  public java.util.List<? extends io.grpc.bverify.ReceiptOrBuilder> 
+      getAddedOrBuilderList() {
+    return added_;
+  }
+  /**
+   * <code>repeated .api.Receipt added = 1;</code>
+   */
+  public int getAddedCount() {
+    return added_.size();
+  }
+  /**
+   * <code>repeated .api.Receipt added = 1;</code>
+   */
+  public io.grpc.bverify.Receipt getAdded(int index) {
+    return added_.get(index);
+  }
+  /**
+   * <code>repeated .api.Receipt added = 1;</code>
+   */
+  public io.grpc.bverify.ReceiptOrBuilder getAddedOrBuilder(
+      int index) {
+    return added_.get(index);
+  }
+
+  public static final int REMOVED_FIELD_NUMBER = 2;
+  private java.util.List<io.grpc.bverify.Receipt> removed_;
+  /**
+   * <code>repeated .api.Receipt removed = 2;</code>
+   */
+  public java.util.List<io.grpc.bverify.Receipt> getRemovedList() {
+    return removed_;
+  }
+  /**
+   * <code>repeated .api.Receipt removed = 2;</code>
+   */
+  public java.util.List<? extends io.grpc.bverify.ReceiptOrBuilder> 
+      getRemovedOrBuilderList() {
+    return removed_;
+  }
+  /**
+   * <code>repeated .api.Receipt removed = 2;</code>
+   */
+  public int getRemovedCount() {
+    return removed_.size();
+  }
+  /**
+   * <code>repeated .api.Receipt removed = 2;</code>
+   */
+  public io.grpc.bverify.Receipt getRemoved(int index) {
+    return removed_.get(index);
+  }
+  /**
+   * <code>repeated .api.Receipt removed = 2;</code>
+   */
+  public io.grpc.bverify.ReceiptOrBuilder getRemovedOrBuilder(
+      int index) {
+    return removed_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < added_.size(); i++) {
+      output.writeMessage(1, added_.get(i));
+    }
+    for (int i = 0; i < removed_.size(); i++) {
+      output.writeMessage(2, removed_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < added_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, added_.get(i));
+    }
+    for (int i = 0; i < removed_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, removed_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.ReceiptDiffResponse)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.ReceiptDiffResponse other = (io.grpc.bverify.ReceiptDiffResponse) obj;
+
+    boolean result = true;
+    result = result && getAddedList()
+        .equals(other.getAddedList());
+    result = result && getRemovedList()
+        .equals(other.getRemovedList());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getAddedCount() > 0) {
+      hash = (37 * hash) + ADDED_FIELD_NUMBER;
+      hash = (53 * hash) + getAddedList().hashCode();
+    }
+    if (getRemovedCount() > 0) {
+      hash = (37 * hash) + REMOVED_FIELD_NUMBER;
+      hash = (53 * hash) + getRemovedList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.ReceiptDiffResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReceiptDiffResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.ReceiptDiffResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.ReceiptDiffResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.ReceiptDiffResponse)
+      io.grpc.bverify.ReceiptDiffResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_ReceiptDiffResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_ReceiptDiffResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.ReceiptDiffResponse.class, io.grpc.bverify.ReceiptDiffResponse.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.ReceiptDiffResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getAddedFieldBuilder();
+        getRemovedFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (addedBuilder_ == null) {
+        added_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        addedBuilder_.clear();
+      }
+      if (removedBuilder_ == null) {
+        removed_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        removedBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_ReceiptDiffResponse_descriptor;
+    }
+
+    public io.grpc.bverify.ReceiptDiffResponse getDefaultInstanceForType() {
+      return io.grpc.bverify.ReceiptDiffResponse.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.ReceiptDiffResponse build() {
+      io.grpc.bverify.ReceiptDiffResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.ReceiptDiffResponse buildPartial() {
+      io.grpc.bverify.ReceiptDiffResponse result = new io.grpc.bverify.ReceiptDiffResponse(this);
+      int from_bitField0_ = bitField0_;
+      if (addedBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          added_ = java.util.Collections.unmodifiableList(added_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.added_ = added_;
+      } else {
+        result.added_ = addedBuilder_.build();
+      }
+      if (removedBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          removed_ = java.util.Collections.unmodifiableList(removed_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.removed_ = removed_;
+      } else {
+        result.removed_ = removedBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.ReceiptDiffResponse) {
+        return mergeFrom((io.grpc.bverify.ReceiptDiffResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.ReceiptDiffResponse other) {
+      if (other == io.grpc.bverify.ReceiptDiffResponse.getDefaultInstance()) return this;
+      if (addedBuilder_ == null) {
+        if (!other.added_.isEmpty()) {
+          if (added_.isEmpty()) {
+            added_ = other.added_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureAddedIsMutable();
+            added_.addAll(other.added_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.added_.isEmpty()) {
+          if (addedBuilder_.isEmpty()) {
+            addedBuilder_.dispose();
+            addedBuilder_ = null;
+            added_ = other.added_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            addedBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getAddedFieldBuilder() : null;
+          } else {
+            addedBuilder_.addAllMessages(other.added_);
+          }
+        }
+      }
+      if (removedBuilder_ == null) {
+        if (!other.removed_.isEmpty()) {
+          if (removed_.isEmpty()) {
+            removed_ = other.removed_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureRemovedIsMutable();
+            removed_.addAll(other.removed_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.removed_.isEmpty()) {
+          if (removedBuilder_.isEmpty()) {
+            removedBuilder_.dispose();
+            removedBuilder_ = null;
+            removed_ = other.removed_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            removedBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getRemovedFieldBuilder() : null;
+          } else {
+            removedBuilder_.addAllMessages(other.removed_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.ReceiptDiffResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.ReceiptDiffResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<io.grpc.bverify.Receipt> added_ =
+      java.util.Collections.emptyList();
+    private void ensureAddedIsMutable() {
+      if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+        added_ = new java.util.ArrayList<io.grpc.bverify.Receipt>(added_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.bverify.Receipt, io.grpc.bverify.Receipt.Builder, io.grpc.bverify.ReceiptOrBuilder> addedBuilder_;
+
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public java.util.List<io.grpc.bverify.Receipt> getAddedList() {
+      if (addedBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(added_);
+      } else {
+        return addedBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public int getAddedCount() {
+      if (addedBuilder_ == null) {
+        return added_.size();
+      } else {
+        return addedBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public io.grpc.bverify.Receipt getAdded(int index) {
+      if (addedBuilder_ == null) {
+        return added_.get(index);
+      } else {
+        return addedBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public Builder setAdded(
+        int index, io.grpc.bverify.Receipt value) {
+      if (addedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAddedIsMutable();
+        added_.set(index, value);
+        onChanged();
+      } else {
+        addedBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public Builder setAdded(
+        int index, io.grpc.bverify.Receipt.Builder builderForValue) {
+      if (addedBuilder_ == null) {
+        ensureAddedIsMutable();
+        added_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        addedBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public Builder addAdded(io.grpc.bverify.Receipt value) {
+      if (addedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAddedIsMutable();
+        added_.add(value);
+        onChanged();
+      } else {
+        addedBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public Builder addAdded(
+        int index, io.grpc.bverify.Receipt value) {
+      if (addedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAddedIsMutable();
+        added_.add(index, value);
+        onChanged();
+      } else {
+        addedBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public Builder addAdded(
+        io.grpc.bverify.Receipt.Builder builderForValue) {
+      if (addedBuilder_ == null) {
+        ensureAddedIsMutable();
+        added_.add(builderForValue.build());
+        onChanged();
+      } else {
+        addedBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public Builder addAdded(
+        int index, io.grpc.bverify.Receipt.Builder builderForValue) {
+      if (addedBuilder_ == null) {
+        ensureAddedIsMutable();
+        added_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        addedBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public Builder addAllAdded(
+        java.lang.Iterable<? extends io.grpc.bverify.Receipt> values) {
+      if (addedBuilder_ == null) {
+        ensureAddedIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, added_);
+        onChanged();
+      } else {
+        addedBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public Builder clearAdded() {
+      if (addedBuilder_ == null) {
+        added_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        addedBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public Builder removeAdded(int index) {
+      if (addedBuilder_ == null) {
+        ensureAddedIsMutable();
+        added_.remove(index);
+        onChanged();
+      } else {
+        addedBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public io.grpc.bverify.Receipt.Builder getAddedBuilder(
+        int index) {
+      return getAddedFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public io.grpc.bverify.ReceiptOrBuilder getAddedOrBuilder(
+        int index) {
+      if (addedBuilder_ == null) {
+        return added_.get(index);  } else {
+        return addedBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public java.util.List<? extends io.grpc.bverify.ReceiptOrBuilder> 
+         getAddedOrBuilderList() {
+      if (addedBuilder_ != null) {
+        return addedBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(added_);
+      }
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public io.grpc.bverify.Receipt.Builder addAddedBuilder() {
+      return getAddedFieldBuilder().addBuilder(
+          io.grpc.bverify.Receipt.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public io.grpc.bverify.Receipt.Builder addAddedBuilder(
+        int index) {
+      return getAddedFieldBuilder().addBuilder(
+          index, io.grpc.bverify.Receipt.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .api.Receipt added = 1;</code>
+     */
+    public java.util.List<io.grpc.bverify.Receipt.Builder> 
+         getAddedBuilderList() {
+      return getAddedFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.bverify.Receipt, io.grpc.bverify.Receipt.Builder, io.grpc.bverify.ReceiptOrBuilder> 
+        getAddedFieldBuilder() {
+      if (addedBuilder_ == null) {
+        addedBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            io.grpc.bverify.Receipt, io.grpc.bverify.Receipt.Builder, io.grpc.bverify.ReceiptOrBuilder>(
+                added_,
+                ((bitField0_ & 0x00000001) == 0x00000001),
+                getParentForChildren(),
+                isClean());
+        added_ = null;
+      }
+      return addedBuilder_;
+    }
+
+    private java.util.List<io.grpc.bverify.Receipt> removed_ =
+      java.util.Collections.emptyList();
+    private void ensureRemovedIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        removed_ = new java.util.ArrayList<io.grpc.bverify.Receipt>(removed_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.bverify.Receipt, io.grpc.bverify.Receipt.Builder, io.grpc.bverify.ReceiptOrBuilder> removedBuilder_;
+
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public java.util.List<io.grpc.bverify.Receipt> getRemovedList() {
+      if (removedBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(removed_);
+      } else {
+        return removedBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public int getRemovedCount() {
+      if (removedBuilder_ == null) {
+        return removed_.size();
+      } else {
+        return removedBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public io.grpc.bverify.Receipt getRemoved(int index) {
+      if (removedBuilder_ == null) {
+        return removed_.get(index);
+      } else {
+        return removedBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public Builder setRemoved(
+        int index, io.grpc.bverify.Receipt value) {
+      if (removedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRemovedIsMutable();
+        removed_.set(index, value);
+        onChanged();
+      } else {
+        removedBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public Builder setRemoved(
+        int index, io.grpc.bverify.Receipt.Builder builderForValue) {
+      if (removedBuilder_ == null) {
+        ensureRemovedIsMutable();
+        removed_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        removedBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public Builder addRemoved(io.grpc.bverify.Receipt value) {
+      if (removedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRemovedIsMutable();
+        removed_.add(value);
+        onChanged();
+      } else {
+        removedBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public Builder addRemoved(
+        int index, io.grpc.bverify.Receipt value) {
+      if (removedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRemovedIsMutable();
+        removed_.add(index, value);
+        onChanged();
+      } else {
+        removedBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public Builder addRemoved(
+        io.grpc.bverify.Receipt.Builder builderForValue) {
+      if (removedBuilder_ == null) {
+        ensureRemovedIsMutable();
+        removed_.add(builderForValue.build());
+        onChanged();
+      } else {
+        removedBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public Builder addRemoved(
+        int index, io.grpc.bverify.Receipt.Builder builderForValue) {
+      if (removedBuilder_ == null) {
+        ensureRemovedIsMutable();
+        removed_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        removedBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public Builder addAllRemoved(
+        java.lang.Iterable<? extends io.grpc.bverify.Receipt> values) {
+      if (removedBuilder_ == null) {
+        ensureRemovedIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removed_);
+        onChanged();
+      } else {
+        removedBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public Builder clearRemoved() {
+      if (removedBuilder_ == null) {
+        removed_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        removedBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public Builder removeRemoved(int index) {
+      if (removedBuilder_ == null) {
+        ensureRemovedIsMutable();
+        removed_.remove(index);
+        onChanged();
+      } else {
+        removedBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public io.grpc.bverify.Receipt.Builder getRemovedBuilder(
+        int index) {
+      return getRemovedFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public io.grpc.bverify.ReceiptOrBuilder getRemovedOrBuilder(
+        int index) {
+      if (removedBuilder_ == null) {
+        return removed_.get(index);  } else {
+        return removedBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public java.util.List<? extends io.grpc.bverify.ReceiptOrBuilder> 
+         getRemovedOrBuilderList() {
+      if (removedBuilder_ != null) {
+        return removedBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(removed_);
+      }
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public io.grpc.bverify.Receipt.Builder addRemovedBuilder() {
+      return getRemovedFieldBuilder().addBuilder(
+          io.grpc.bverify.Receipt.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public io.grpc.bverify.Receipt.Builder addRemovedBuilder(
+        int index) {
+      return getRemovedFieldBuilder().addBuilder(
+          index, io.grpc.bverify.Receipt.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .api.Receipt removed = 2;</code>
+     */
+    public java.util.List<io.grpc.bverify.Receipt.Builder> 
+         getRemovedBuilderList() {
+      return getRemovedFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.bverify.Receipt, io.grpc.bverify.Receipt.Builder, io.grpc.bverify.ReceiptOrBuilder> 
+        getRemovedFieldBuilder() {
+      if (removedBuilder_ == null) {
+        removedBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            io.grpc.bverify.Receipt, io.grpc.bverify.Receipt.Builder, io.grpc.bverify.ReceiptOrBuilder>(
+                removed_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        removed_ = null;
+      }
+      return removedBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.ReceiptDiffResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.ReceiptDiffResponse)
+  private static final io.grpc.bverify.ReceiptDiffResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.ReceiptDiffResponse();
+  }
+
+  public static io.grpc.bverify.ReceiptDiffResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ReceiptDiffResponse>
+      PARSER = new com.google.protobuf.AbstractParser<ReceiptDiffResponse>() {
+    public ReceiptDiffResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ReceiptDiffResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ReceiptDiffResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ReceiptDiffResponse> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.ReceiptDiffResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
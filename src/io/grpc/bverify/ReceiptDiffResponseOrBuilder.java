@@ -0,0 +1,57 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface ReceiptDiffResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.ReceiptDiffResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .api.Receipt added = 1;</code>
+   */
+  java.util.List<io.grpc.bverify.Receipt> 
+      getAddedList();
+  /**
+   * <code>repeated .api.Receipt added = 1;</code>
+   */
+  io.grpc.bverify.Receipt getAdded(int index);
+  /**
+   * <code>repeated .api.Receipt added = 1;</code>
+   */
+  int getAddedCount();
+  /**
+   * <code>repeated .api.Receipt added = 1;</code>
+   */
+  java.util.List<? extends io.grpc.bverify.ReceiptOrBuilder> 
+      getAddedOrBuilderList();
+  /**
+   * <code>repeated .api.Receipt added = 1;</code>
+   */
+  io.grpc.bverify.ReceiptOrBuilder getAddedOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated .api.Receipt removed = 2;</code>
+   */
+  java.util.List<io.grpc.bverify.Receipt> 
+      getRemovedList();
+  /**
+   * <code>repeated .api.Receipt removed = 2;</code>
+   */
+  io.grpc.bverify.Receipt getRemoved(int index);
+  /**
+   * <code>repeated .api.Receipt removed = 2;</code>
+   */
+  int getRemovedCount();
+  /**
+   * <code>repeated .api.Receipt removed = 2;</code>
+   */
+  java.util.List<? extends io.grpc.bverify.ReceiptOrBuilder> 
+      getRemovedOrBuilderList();
+  /**
+   * <code>repeated .api.Receipt removed = 2;</code>
+   */
+  io.grpc.bverify.ReceiptOrBuilder getRemovedOrBuilder(
+      int index);
+}
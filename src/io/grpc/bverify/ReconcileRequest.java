@@ -0,0 +1,890 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.ReconcileRequest}
+ */
+public  final class ReconcileRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.ReconcileRequest)
+    ReconcileRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ReconcileRequest.newBuilder() to construct.
+  private ReconcileRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ReconcileRequest() {
+    adsId_ = com.google.protobuf.ByteString.EMPTY;
+    prefixes_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ReconcileRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+
+            adsId_ = input.readBytes();
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              prefixes_ = new java.util.ArrayList<io.grpc.bverify.SubtreePrefix>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            prefixes_.add(
+                input.readMessage(io.grpc.bverify.SubtreePrefix.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        prefixes_ = java.util.Collections.unmodifiableList(prefixes_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_ReconcileRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_ReconcileRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.ReconcileRequest.class, io.grpc.bverify.ReconcileRequest.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int ADSID_FIELD_NUMBER = 1;
+  private com.google.protobuf.ByteString adsId_;
+  /**
+   * <code>bytes adsId = 1;</code>
+   */
+  public com.google.protobuf.ByteString getAdsId() {
+    return adsId_;
+  }
+
+  public static final int PREFIXES_FIELD_NUMBER = 2;
+  private java.util.List<io.grpc.bverify.SubtreePrefix> prefixes_;
+  /**
+   * <pre>
+   * the subtrees to summarize
+   * </pre>
+   *
+   * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+   */
+  public java.util.List<io.grpc.bverify.SubtreePrefix> getPrefixesList() {
+    return prefixes_;
+  }
+  /**
+   * <pre>
+   * the subtrees to summarize
+   * </pre>
+   *
+   * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+   */
+  public java.util.List<? extends io.grpc.bverify.SubtreePrefixOrBuilder> 
+      getPrefixesOrBuilderList() {
+    return prefixes_;
+  }
+  /**
+   * <pre>
+   * the subtrees to summarize
+   * </pre>
+   *
+   * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+   */
+  public int getPrefixesCount() {
+    return prefixes_.size();
+  }
+  /**
+   * <pre>
+   * the subtrees to summarize
+   * </pre>
+   *
+   * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+   */
+  public io.grpc.bverify.SubtreePrefix getPrefixes(int index) {
+    return prefixes_.get(index);
+  }
+  /**
+   * <pre>
+   * the subtrees to summarize
+   * </pre>
+   *
+   * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+   */
+  public io.grpc.bverify.SubtreePrefixOrBuilder getPrefixesOrBuilder(
+      int index) {
+    return prefixes_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!adsId_.isEmpty()) {
+      output.writeBytes(1, adsId_);
+    }
+    for (int i = 0; i < prefixes_.size(); i++) {
+      output.writeMessage(2, prefixes_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!adsId_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(1, adsId_);
+    }
+    for (int i = 0; i < prefixes_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, prefixes_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.ReconcileRequest)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.ReconcileRequest other = (io.grpc.bverify.ReconcileRequest) obj;
+
+    boolean result = true;
+    result = result && getAdsId()
+        .equals(other.getAdsId());
+    result = result && getPrefixesList()
+        .equals(other.getPrefixesList());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ADSID_FIELD_NUMBER;
+    hash = (53 * hash) + getAdsId().hashCode();
+    if (getPrefixesCount() > 0) {
+      hash = (37 * hash) + PREFIXES_FIELD_NUMBER;
+      hash = (53 * hash) + getPrefixesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.ReconcileRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReconcileRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.ReconcileRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.ReconcileRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.ReconcileRequest)
+      io.grpc.bverify.ReconcileRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_ReconcileRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_ReconcileRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.ReconcileRequest.class, io.grpc.bverify.ReconcileRequest.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.ReconcileRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getPrefixesFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      adsId_ = com.google.protobuf.ByteString.EMPTY;
+
+      if (prefixesBuilder_ == null) {
+        prefixes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      } else {
+        prefixesBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_ReconcileRequest_descriptor;
+    }
+
+    public io.grpc.bverify.ReconcileRequest getDefaultInstanceForType() {
+      return io.grpc.bverify.ReconcileRequest.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.ReconcileRequest build() {
+      io.grpc.bverify.ReconcileRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.ReconcileRequest buildPartial() {
+      io.grpc.bverify.ReconcileRequest result = new io.grpc.bverify.ReconcileRequest(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.adsId_ = adsId_;
+      if (prefixesBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          prefixes_ = java.util.Collections.unmodifiableList(prefixes_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.prefixes_ = prefixes_;
+      } else {
+        result.prefixes_ = prefixesBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.ReconcileRequest) {
+        return mergeFrom((io.grpc.bverify.ReconcileRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.ReconcileRequest other) {
+      if (other == io.grpc.bverify.ReconcileRequest.getDefaultInstance()) return this;
+      if (other.getAdsId() != com.google.protobuf.ByteString.EMPTY) {
+        setAdsId(other.getAdsId());
+      }
+      if (prefixesBuilder_ == null) {
+        if (!other.prefixes_.isEmpty()) {
+          if (prefixes_.isEmpty()) {
+            prefixes_ = other.prefixes_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePrefixesIsMutable();
+            prefixes_.addAll(other.prefixes_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.prefixes_.isEmpty()) {
+          if (prefixesBuilder_.isEmpty()) {
+            prefixesBuilder_.dispose();
+            prefixesBuilder_ = null;
+            prefixes_ = other.prefixes_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            prefixesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getPrefixesFieldBuilder() : null;
+          } else {
+            prefixesBuilder_.addAllMessages(other.prefixes_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.ReconcileRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.ReconcileRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.ByteString adsId_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes adsId = 1;</code>
+     */
+    public com.google.protobuf.ByteString getAdsId() {
+      return adsId_;
+    }
+    /**
+     * <code>bytes adsId = 1;</code>
+     */
+    public Builder setAdsId(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      adsId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes adsId = 1;</code>
+     */
+    public Builder clearAdsId() {
+      
+      adsId_ = getDefaultInstance().getAdsId();
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<io.grpc.bverify.SubtreePrefix> prefixes_ =
+      java.util.Collections.emptyList();
+    private void ensurePrefixesIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        prefixes_ = new java.util.ArrayList<io.grpc.bverify.SubtreePrefix>(prefixes_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.bverify.SubtreePrefix, io.grpc.bverify.SubtreePrefix.Builder, io.grpc.bverify.SubtreePrefixOrBuilder> prefixesBuilder_;
+
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public java.util.List<io.grpc.bverify.SubtreePrefix> getPrefixesList() {
+      if (prefixesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(prefixes_);
+      } else {
+        return prefixesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public int getPrefixesCount() {
+      if (prefixesBuilder_ == null) {
+        return prefixes_.size();
+      } else {
+        return prefixesBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public io.grpc.bverify.SubtreePrefix getPrefixes(int index) {
+      if (prefixesBuilder_ == null) {
+        return prefixes_.get(index);
+      } else {
+        return prefixesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public Builder setPrefixes(
+        int index, io.grpc.bverify.SubtreePrefix value) {
+      if (prefixesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePrefixesIsMutable();
+        prefixes_.set(index, value);
+        onChanged();
+      } else {
+        prefixesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public Builder setPrefixes(
+        int index, io.grpc.bverify.SubtreePrefix.Builder builderForValue) {
+      if (prefixesBuilder_ == null) {
+        ensurePrefixesIsMutable();
+        prefixes_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        prefixesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public Builder addPrefixes(io.grpc.bverify.SubtreePrefix value) {
+      if (prefixesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePrefixesIsMutable();
+        prefixes_.add(value);
+        onChanged();
+      } else {
+        prefixesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public Builder addPrefixes(
+        int index, io.grpc.bverify.SubtreePrefix value) {
+      if (prefixesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePrefixesIsMutable();
+        prefixes_.add(index, value);
+        onChanged();
+      } else {
+        prefixesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public Builder addPrefixes(
+        io.grpc.bverify.SubtreePrefix.Builder builderForValue) {
+      if (prefixesBuilder_ == null) {
+        ensurePrefixesIsMutable();
+        prefixes_.add(builderForValue.build());
+        onChanged();
+      } else {
+        prefixesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public Builder addPrefixes(
+        int index, io.grpc.bverify.SubtreePrefix.Builder builderForValue) {
+      if (prefixesBuilder_ == null) {
+        ensurePrefixesIsMutable();
+        prefixes_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        prefixesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public Builder addAllPrefixes(
+        java.lang.Iterable<? extends io.grpc.bverify.SubtreePrefix> values) {
+      if (prefixesBuilder_ == null) {
+        ensurePrefixesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, prefixes_);
+        onChanged();
+      } else {
+        prefixesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public Builder clearPrefixes() {
+      if (prefixesBuilder_ == null) {
+        prefixes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        prefixesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public Builder removePrefixes(int index) {
+      if (prefixesBuilder_ == null) {
+        ensurePrefixesIsMutable();
+        prefixes_.remove(index);
+        onChanged();
+      } else {
+        prefixesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public io.grpc.bverify.SubtreePrefix.Builder getPrefixesBuilder(
+        int index) {
+      return getPrefixesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public io.grpc.bverify.SubtreePrefixOrBuilder getPrefixesOrBuilder(
+        int index) {
+      if (prefixesBuilder_ == null) {
+        return prefixes_.get(index);  } else {
+        return prefixesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public java.util.List<? extends io.grpc.bverify.SubtreePrefixOrBuilder> 
+         getPrefixesOrBuilderList() {
+      if (prefixesBuilder_ != null) {
+        return prefixesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(prefixes_);
+      }
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public io.grpc.bverify.SubtreePrefix.Builder addPrefixesBuilder() {
+      return getPrefixesFieldBuilder().addBuilder(
+          io.grpc.bverify.SubtreePrefix.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public io.grpc.bverify.SubtreePrefix.Builder addPrefixesBuilder(
+        int index) {
+      return getPrefixesFieldBuilder().addBuilder(
+          index, io.grpc.bverify.SubtreePrefix.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * the subtrees to summarize
+     * </pre>
+     *
+     * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+     */
+    public java.util.List<io.grpc.bverify.SubtreePrefix.Builder> 
+         getPrefixesBuilderList() {
+      return getPrefixesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.bverify.SubtreePrefix, io.grpc.bverify.SubtreePrefix.Builder, io.grpc.bverify.SubtreePrefixOrBuilder> 
+        getPrefixesFieldBuilder() {
+      if (prefixesBuilder_ == null) {
+        prefixesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            io.grpc.bverify.SubtreePrefix, io.grpc.bverify.SubtreePrefix.Builder, io.grpc.bverify.SubtreePrefixOrBuilder>(
+                prefixes_,
+                ((bitField0_ & 0x00000002) == 0x00000002),
+                getParentForChildren(),
+                isClean());
+        prefixes_ = null;
+      }
+      return prefixesBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.ReconcileRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.ReconcileRequest)
+  private static final io.grpc.bverify.ReconcileRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.ReconcileRequest();
+  }
+
+  public static io.grpc.bverify.ReconcileRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ReconcileRequest>
+      PARSER = new com.google.protobuf.AbstractParser<ReconcileRequest>() {
+    public ReconcileRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ReconcileRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ReconcileRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ReconcileRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.ReconcileRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
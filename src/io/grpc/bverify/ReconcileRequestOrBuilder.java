@@ -0,0 +1,58 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface ReconcileRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.ReconcileRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>bytes adsId = 1;</code>
+   */
+  com.google.protobuf.ByteString getAdsId();
+
+  /**
+   * <pre>
+   * the subtrees to summarize
+   * </pre>
+   *
+   * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+   */
+  java.util.List<io.grpc.bverify.SubtreePrefix> 
+      getPrefixesList();
+  /**
+   * <pre>
+   * the subtrees to summarize
+   * </pre>
+   *
+   * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+   */
+  io.grpc.bverify.SubtreePrefix getPrefixes(int index);
+  /**
+   * <pre>
+   * the subtrees to summarize
+   * </pre>
+   *
+   * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+   */
+  int getPrefixesCount();
+  /**
+   * <pre>
+   * the subtrees to summarize
+   * </pre>
+   *
+   * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+   */
+  java.util.List<? extends io.grpc.bverify.SubtreePrefixOrBuilder> 
+      getPrefixesOrBuilderList();
+  /**
+   * <pre>
+   * the subtrees to summarize
+   * </pre>
+   *
+   * <code>repeated .api.SubtreePrefix prefixes = 2;</code>
+   */
+  io.grpc.bverify.SubtreePrefixOrBuilder getPrefixesOrBuilder(
+      int index);
+}
@@ -0,0 +1,734 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.ReconcileResponse}
+ */
+public  final class ReconcileResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.ReconcileResponse)
+    ReconcileResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ReconcileResponse.newBuilder() to construct.
+  private ReconcileResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ReconcileResponse() {
+    subtrees_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ReconcileResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              subtrees_ = new java.util.ArrayList<io.grpc.bverify.SubtreeSummary>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            subtrees_.add(
+                input.readMessage(io.grpc.bverify.SubtreeSummary.parser(), extensionRegistry));
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+        subtrees_ = java.util.Collections.unmodifiableList(subtrees_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_ReconcileResponse_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_ReconcileResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.ReconcileResponse.class, io.grpc.bverify.ReconcileResponse.Builder.class);
+  }
+
+  public static final int SUBTREES_FIELD_NUMBER = 1;
+  private java.util.List<io.grpc.bverify.SubtreeSummary> subtrees_;
+  /**
+   * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+   */
+  public java.util.List<io.grpc.bverify.SubtreeSummary> getSubtreesList() {
+    return subtrees_;
+  }
+  /**
+   * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+   */
+  public java.util.List<? extends io.grpc.bverify.SubtreeSummaryOrBuilder> 
+      getSubtreesOrBuilderList() {
+    return subtrees_;
+  }
+  /**
+   * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+   */
+  public int getSubtreesCount() {
+    return subtrees_.size();
+  }
+  /**
+   * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+   */
+  public io.grpc.bverify.SubtreeSummary getSubtrees(int index) {
+    return subtrees_.get(index);
+  }
+  /**
+   * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+   */
+  public io.grpc.bverify.SubtreeSummaryOrBuilder getSubtreesOrBuilder(
+      int index) {
+    return subtrees_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < subtrees_.size(); i++) {
+      output.writeMessage(1, subtrees_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < subtrees_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, subtrees_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.ReconcileResponse)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.ReconcileResponse other = (io.grpc.bverify.ReconcileResponse) obj;
+
+    boolean result = true;
+    result = result && getSubtreesList()
+        .equals(other.getSubtreesList());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getSubtreesCount() > 0) {
+      hash = (37 * hash) + SUBTREES_FIELD_NUMBER;
+      hash = (53 * hash) + getSubtreesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.ReconcileResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.ReconcileResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.ReconcileResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.ReconcileResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.ReconcileResponse)
+      io.grpc.bverify.ReconcileResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_ReconcileResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_ReconcileResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.ReconcileResponse.class, io.grpc.bverify.ReconcileResponse.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.ReconcileResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getSubtreesFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (subtreesBuilder_ == null) {
+        subtrees_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        subtreesBuilder_.clear();
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_ReconcileResponse_descriptor;
+    }
+
+    public io.grpc.bverify.ReconcileResponse getDefaultInstanceForType() {
+      return io.grpc.bverify.ReconcileResponse.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.ReconcileResponse build() {
+      io.grpc.bverify.ReconcileResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.ReconcileResponse buildPartial() {
+      io.grpc.bverify.ReconcileResponse result = new io.grpc.bverify.ReconcileResponse(this);
+      int from_bitField0_ = bitField0_;
+      if (subtreesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          subtrees_ = java.util.Collections.unmodifiableList(subtrees_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.subtrees_ = subtrees_;
+      } else {
+        result.subtrees_ = subtreesBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.ReconcileResponse) {
+        return mergeFrom((io.grpc.bverify.ReconcileResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.ReconcileResponse other) {
+      if (other == io.grpc.bverify.ReconcileResponse.getDefaultInstance()) return this;
+      if (subtreesBuilder_ == null) {
+        if (!other.subtrees_.isEmpty()) {
+          if (subtrees_.isEmpty()) {
+            subtrees_ = other.subtrees_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureSubtreesIsMutable();
+            subtrees_.addAll(other.subtrees_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.subtrees_.isEmpty()) {
+          if (subtreesBuilder_.isEmpty()) {
+            subtreesBuilder_.dispose();
+            subtreesBuilder_ = null;
+            subtrees_ = other.subtrees_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            subtreesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getSubtreesFieldBuilder() : null;
+          } else {
+            subtreesBuilder_.addAllMessages(other.subtrees_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.ReconcileResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.ReconcileResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<io.grpc.bverify.SubtreeSummary> subtrees_ =
+      java.util.Collections.emptyList();
+    private void ensureSubtreesIsMutable() {
+      if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+        subtrees_ = new java.util.ArrayList<io.grpc.bverify.SubtreeSummary>(subtrees_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.bverify.SubtreeSummary, io.grpc.bverify.SubtreeSummary.Builder, io.grpc.bverify.SubtreeSummaryOrBuilder> subtreesBuilder_;
+
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public java.util.List<io.grpc.bverify.SubtreeSummary> getSubtreesList() {
+      if (subtreesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(subtrees_);
+      } else {
+        return subtreesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public int getSubtreesCount() {
+      if (subtreesBuilder_ == null) {
+        return subtrees_.size();
+      } else {
+        return subtreesBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public io.grpc.bverify.SubtreeSummary getSubtrees(int index) {
+      if (subtreesBuilder_ == null) {
+        return subtrees_.get(index);
+      } else {
+        return subtreesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public Builder setSubtrees(
+        int index, io.grpc.bverify.SubtreeSummary value) {
+      if (subtreesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubtreesIsMutable();
+        subtrees_.set(index, value);
+        onChanged();
+      } else {
+        subtreesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public Builder setSubtrees(
+        int index, io.grpc.bverify.SubtreeSummary.Builder builderForValue) {
+      if (subtreesBuilder_ == null) {
+        ensureSubtreesIsMutable();
+        subtrees_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        subtreesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public Builder addSubtrees(io.grpc.bverify.SubtreeSummary value) {
+      if (subtreesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubtreesIsMutable();
+        subtrees_.add(value);
+        onChanged();
+      } else {
+        subtreesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public Builder addSubtrees(
+        int index, io.grpc.bverify.SubtreeSummary value) {
+      if (subtreesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubtreesIsMutable();
+        subtrees_.add(index, value);
+        onChanged();
+      } else {
+        subtreesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public Builder addSubtrees(
+        io.grpc.bverify.SubtreeSummary.Builder builderForValue) {
+      if (subtreesBuilder_ == null) {
+        ensureSubtreesIsMutable();
+        subtrees_.add(builderForValue.build());
+        onChanged();
+      } else {
+        subtreesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public Builder addSubtrees(
+        int index, io.grpc.bverify.SubtreeSummary.Builder builderForValue) {
+      if (subtreesBuilder_ == null) {
+        ensureSubtreesIsMutable();
+        subtrees_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        subtreesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public Builder addAllSubtrees(
+        java.lang.Iterable<? extends io.grpc.bverify.SubtreeSummary> values) {
+      if (subtreesBuilder_ == null) {
+        ensureSubtreesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, subtrees_);
+        onChanged();
+      } else {
+        subtreesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public Builder clearSubtrees() {
+      if (subtreesBuilder_ == null) {
+        subtrees_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        subtreesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public Builder removeSubtrees(int index) {
+      if (subtreesBuilder_ == null) {
+        ensureSubtreesIsMutable();
+        subtrees_.remove(index);
+        onChanged();
+      } else {
+        subtreesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public io.grpc.bverify.SubtreeSummary.Builder getSubtreesBuilder(
+        int index) {
+      return getSubtreesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public io.grpc.bverify.SubtreeSummaryOrBuilder getSubtreesOrBuilder(
+        int index) {
+      if (subtreesBuilder_ == null) {
+        return subtrees_.get(index);  } else {
+        return subtreesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public java.util.List<? extends io.grpc.bverify.SubtreeSummaryOrBuilder> 
+         getSubtreesOrBuilderList() {
+      if (subtreesBuilder_ != null) {
+        return subtreesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(subtrees_);
+      }
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public io.grpc.bverify.SubtreeSummary.Builder addSubtreesBuilder() {
+      return getSubtreesFieldBuilder().addBuilder(
+          io.grpc.bverify.SubtreeSummary.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public io.grpc.bverify.SubtreeSummary.Builder addSubtreesBuilder(
+        int index) {
+      return getSubtreesFieldBuilder().addBuilder(
+          index, io.grpc.bverify.SubtreeSummary.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+     */
+    public java.util.List<io.grpc.bverify.SubtreeSummary.Builder> 
+         getSubtreesBuilderList() {
+      return getSubtreesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        io.grpc.bverify.SubtreeSummary, io.grpc.bverify.SubtreeSummary.Builder, io.grpc.bverify.SubtreeSummaryOrBuilder> 
+        getSubtreesFieldBuilder() {
+      if (subtreesBuilder_ == null) {
+        subtreesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            io.grpc.bverify.SubtreeSummary, io.grpc.bverify.SubtreeSummary.Builder, io.grpc.bverify.SubtreeSummaryOrBuilder>(
+                subtrees_,
+                ((bitField0_ & 0x00000001) == 0x00000001),
+                getParentForChildren(),
+                isClean());
+        subtrees_ = null;
+      }
+      return subtreesBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.ReconcileResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.ReconcileResponse)
+  private static final io.grpc.bverify.ReconcileResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.ReconcileResponse();
+  }
+
+  public static io.grpc.bverify.ReconcileResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ReconcileResponse>
+      PARSER = new com.google.protobuf.AbstractParser<ReconcileResponse>() {
+    public ReconcileResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ReconcileResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ReconcileResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ReconcileResponse> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.ReconcileResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
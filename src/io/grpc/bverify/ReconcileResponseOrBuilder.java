@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface ReconcileResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.ReconcileResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+   */
+  java.util.List<io.grpc.bverify.SubtreeSummary> 
+      getSubtreesList();
+  /**
+   * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+   */
+  io.grpc.bverify.SubtreeSummary getSubtrees(int index);
+  /**
+   * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+   */
+  int getSubtreesCount();
+  /**
+   * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+   */
+  java.util.List<? extends io.grpc.bverify.SubtreeSummaryOrBuilder> 
+      getSubtreesOrBuilderList();
+  /**
+   * <code>repeated .api.SubtreeSummary subtrees = 1;</code>
+   */
+  io.grpc.bverify.SubtreeSummaryOrBuilder getSubtreesOrBuilder(
+      int index);
+}
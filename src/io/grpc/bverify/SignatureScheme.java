@@ -0,0 +1,121 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf enum {@code api.SignatureScheme}
+ */
+public enum SignatureScheme
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <pre>
+   * DER encoded ECDSA signatures (NONEwithECDSA)
+   * </pre>
+   *
+   * <code>ECDSA = 0;</code>
+   */
+  ECDSA(0),
+  /**
+   * <pre>
+   * 64 byte Schnorr signatures (see crpyto.Schnorr), 
+   * which the server verifies in batches
+   * </pre>
+   *
+   * <code>SCHNORR = 1;</code>
+   */
+  SCHNORR(1),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <pre>
+   * DER encoded ECDSA signatures (NONEwithECDSA)
+   * </pre>
+   *
+   * <code>ECDSA = 0;</code>
+   */
+  public static final int ECDSA_VALUE = 0;
+  /**
+   * <pre>
+   * 64 byte Schnorr signatures (see crpyto.Schnorr), 
+   * which the server verifies in batches
+   * </pre>
+   *
+   * <code>SCHNORR = 1;</code>
+   */
+  public static final int SCHNORR_VALUE = 1;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static SignatureScheme valueOf(int value) {
+    return forNumber(value);
+  }
+
+  public static SignatureScheme forNumber(int value) {
+    switch (value) {
+      case 0: return ECDSA;
+      case 1: return SCHNORR;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<SignatureScheme>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      SignatureScheme> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<SignatureScheme>() {
+          public SignatureScheme findValueByNumber(int number) {
+            return SignatureScheme.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.getDescriptor().getEnumTypes().get(1);
+  }
+
+  private static final SignatureScheme[] VALUES = values();
+
+  public static SignatureScheme valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private SignatureScheme(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:api.SignatureScheme)
+}
+
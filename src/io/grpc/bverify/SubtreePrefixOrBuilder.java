@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface SubtreePrefixOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.SubtreePrefix)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>bytes bits = 1;</code>
+   */
+  com.google.protobuf.ByteString getBits();
+
+  /**
+   * <code>int32 length = 2;</code>
+   */
+  int getLength();
+}
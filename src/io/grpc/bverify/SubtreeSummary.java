@@ -0,0 +1,885 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * <pre>
+ * a subtree is summarized by the hash of its root if it 
+ * is an interior node, by its value (and the receipt) if 
+ * it is a leaf and is empty otherwise
+ * </pre>
+ *
+ * Protobuf type {@code api.SubtreeSummary}
+ */
+public  final class SubtreeSummary extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.SubtreeSummary)
+    SubtreeSummaryOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SubtreeSummary.newBuilder() to construct.
+  private SubtreeSummary(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SubtreeSummary() {
+    hash_ = com.google.protobuf.ByteString.EMPTY;
+    value_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SubtreeSummary(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            io.grpc.bverify.SubtreePrefix.Builder subBuilder = null;
+            if (prefix_ != null) {
+              subBuilder = prefix_.toBuilder();
+            }
+            prefix_ = input.readMessage(io.grpc.bverify.SubtreePrefix.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(prefix_);
+              prefix_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+
+            hash_ = input.readBytes();
+            break;
+          }
+          case 26: {
+
+            value_ = input.readBytes();
+            break;
+          }
+          case 34: {
+            io.grpc.bverify.Receipt.Builder subBuilder = null;
+            if (receipt_ != null) {
+              subBuilder = receipt_.toBuilder();
+            }
+            receipt_ = input.readMessage(io.grpc.bverify.Receipt.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(receipt_);
+              receipt_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_SubtreeSummary_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_SubtreeSummary_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.SubtreeSummary.class, io.grpc.bverify.SubtreeSummary.Builder.class);
+  }
+
+  public static final int PREFIX_FIELD_NUMBER = 1;
+  private io.grpc.bverify.SubtreePrefix prefix_;
+  /**
+   * <code>.api.SubtreePrefix prefix = 1;</code>
+   */
+  public boolean hasPrefix() {
+    return prefix_ != null;
+  }
+  /**
+   * <code>.api.SubtreePrefix prefix = 1;</code>
+   */
+  public io.grpc.bverify.SubtreePrefix getPrefix() {
+    return prefix_ == null ? io.grpc.bverify.SubtreePrefix.getDefaultInstance() : prefix_;
+  }
+  /**
+   * <code>.api.SubtreePrefix prefix = 1;</code>
+   */
+  public io.grpc.bverify.SubtreePrefixOrBuilder getPrefixOrBuilder() {
+    return getPrefix();
+  }
+
+  public static final int HASH_FIELD_NUMBER = 2;
+  private com.google.protobuf.ByteString hash_;
+  /**
+   * <code>bytes hash = 2;</code>
+   */
+  public com.google.protobuf.ByteString getHash() {
+    return hash_;
+  }
+
+  public static final int VALUE_FIELD_NUMBER = 3;
+  private com.google.protobuf.ByteString value_;
+  /**
+   * <code>bytes value = 3;</code>
+   */
+  public com.google.protobuf.ByteString getValue() {
+    return value_;
+  }
+
+  public static final int RECEIPT_FIELD_NUMBER = 4;
+  private io.grpc.bverify.Receipt receipt_;
+  /**
+   * <code>.api.Receipt receipt = 4;</code>
+   */
+  public boolean hasReceipt() {
+    return receipt_ != null;
+  }
+  /**
+   * <code>.api.Receipt receipt = 4;</code>
+   */
+  public io.grpc.bverify.Receipt getReceipt() {
+    return receipt_ == null ? io.grpc.bverify.Receipt.getDefaultInstance() : receipt_;
+  }
+  /**
+   * <code>.api.Receipt receipt = 4;</code>
+   */
+  public io.grpc.bverify.ReceiptOrBuilder getReceiptOrBuilder() {
+    return getReceipt();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (prefix_ != null) {
+      output.writeMessage(1, getPrefix());
+    }
+    if (!hash_.isEmpty()) {
+      output.writeBytes(2, hash_);
+    }
+    if (!value_.isEmpty()) {
+      output.writeBytes(3, value_);
+    }
+    if (receipt_ != null) {
+      output.writeMessage(4, getReceipt());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (prefix_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getPrefix());
+    }
+    if (!hash_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(2, hash_);
+    }
+    if (!value_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(3, value_);
+    }
+    if (receipt_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, getReceipt());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.SubtreeSummary)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.SubtreeSummary other = (io.grpc.bverify.SubtreeSummary) obj;
+
+    boolean result = true;
+    result = result && (hasPrefix() == other.hasPrefix());
+    if (hasPrefix()) {
+      result = result && getPrefix()
+          .equals(other.getPrefix());
+    }
+    result = result && getHash()
+        .equals(other.getHash());
+    result = result && getValue()
+        .equals(other.getValue());
+    result = result && (hasReceipt() == other.hasReceipt());
+    if (hasReceipt()) {
+      result = result && getReceipt()
+          .equals(other.getReceipt());
+    }
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasPrefix()) {
+      hash = (37 * hash) + PREFIX_FIELD_NUMBER;
+      hash = (53 * hash) + getPrefix().hashCode();
+    }
+    hash = (37 * hash) + HASH_FIELD_NUMBER;
+    hash = (53 * hash) + getHash().hashCode();
+    hash = (37 * hash) + VALUE_FIELD_NUMBER;
+    hash = (53 * hash) + getValue().hashCode();
+    if (hasReceipt()) {
+      hash = (37 * hash) + RECEIPT_FIELD_NUMBER;
+      hash = (53 * hash) + getReceipt().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.SubtreeSummary parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.SubtreeSummary parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.SubtreeSummary prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * a subtree is summarized by the hash of its root if it 
+   * is an interior node, by its value (and the receipt) if 
+   * it is a leaf and is empty otherwise
+   * </pre>
+   *
+   * Protobuf type {@code api.SubtreeSummary}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.SubtreeSummary)
+      io.grpc.bverify.SubtreeSummaryOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_SubtreeSummary_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_SubtreeSummary_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.SubtreeSummary.class, io.grpc.bverify.SubtreeSummary.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.SubtreeSummary.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (prefixBuilder_ == null) {
+        prefix_ = null;
+      } else {
+        prefix_ = null;
+        prefixBuilder_ = null;
+      }
+      hash_ = com.google.protobuf.ByteString.EMPTY;
+
+      value_ = com.google.protobuf.ByteString.EMPTY;
+
+      if (receiptBuilder_ == null) {
+        receipt_ = null;
+      } else {
+        receipt_ = null;
+        receiptBuilder_ = null;
+      }
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_SubtreeSummary_descriptor;
+    }
+
+    public io.grpc.bverify.SubtreeSummary getDefaultInstanceForType() {
+      return io.grpc.bverify.SubtreeSummary.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.SubtreeSummary build() {
+      io.grpc.bverify.SubtreeSummary result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.SubtreeSummary buildPartial() {
+      io.grpc.bverify.SubtreeSummary result = new io.grpc.bverify.SubtreeSummary(this);
+      if (prefixBuilder_ == null) {
+        result.prefix_ = prefix_;
+      } else {
+        result.prefix_ = prefixBuilder_.build();
+      }
+      result.hash_ = hash_;
+      result.value_ = value_;
+      if (receiptBuilder_ == null) {
+        result.receipt_ = receipt_;
+      } else {
+        result.receipt_ = receiptBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.SubtreeSummary) {
+        return mergeFrom((io.grpc.bverify.SubtreeSummary)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.SubtreeSummary other) {
+      if (other == io.grpc.bverify.SubtreeSummary.getDefaultInstance()) return this;
+      if (other.hasPrefix()) {
+        mergePrefix(other.getPrefix());
+      }
+      if (other.getHash() != com.google.protobuf.ByteString.EMPTY) {
+        setHash(other.getHash());
+      }
+      if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+        setValue(other.getValue());
+      }
+      if (other.hasReceipt()) {
+        mergeReceipt(other.getReceipt());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.SubtreeSummary parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.SubtreeSummary) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private io.grpc.bverify.SubtreePrefix prefix_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        io.grpc.bverify.SubtreePrefix, io.grpc.bverify.SubtreePrefix.Builder, io.grpc.bverify.SubtreePrefixOrBuilder> prefixBuilder_;
+    /**
+     * <code>.api.SubtreePrefix prefix = 1;</code>
+     */
+    public boolean hasPrefix() {
+      return prefixBuilder_ != null || prefix_ != null;
+    }
+    /**
+     * <code>.api.SubtreePrefix prefix = 1;</code>
+     */
+    public io.grpc.bverify.SubtreePrefix getPrefix() {
+      if (prefixBuilder_ == null) {
+        return prefix_ == null ? io.grpc.bverify.SubtreePrefix.getDefaultInstance() : prefix_;
+      } else {
+        return prefixBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.api.SubtreePrefix prefix = 1;</code>
+     */
+    public Builder setPrefix(io.grpc.bverify.SubtreePrefix value) {
+      if (prefixBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        prefix_ = value;
+        onChanged();
+      } else {
+        prefixBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.api.SubtreePrefix prefix = 1;</code>
+     */
+    public Builder setPrefix(
+        io.grpc.bverify.SubtreePrefix.Builder builderForValue) {
+      if (prefixBuilder_ == null) {
+        prefix_ = builderForValue.build();
+        onChanged();
+      } else {
+        prefixBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.api.SubtreePrefix prefix = 1;</code>
+     */
+    public Builder mergePrefix(io.grpc.bverify.SubtreePrefix value) {
+      if (prefixBuilder_ == null) {
+        if (prefix_ != null) {
+          prefix_ =
+            io.grpc.bverify.SubtreePrefix.newBuilder(prefix_).mergeFrom(value).buildPartial();
+        } else {
+          prefix_ = value;
+        }
+        onChanged();
+      } else {
+        prefixBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.api.SubtreePrefix prefix = 1;</code>
+     */
+    public Builder clearPrefix() {
+      if (prefixBuilder_ == null) {
+        prefix_ = null;
+        onChanged();
+      } else {
+        prefix_ = null;
+        prefixBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.api.SubtreePrefix prefix = 1;</code>
+     */
+    public io.grpc.bverify.SubtreePrefix.Builder getPrefixBuilder() {
+      
+      onChanged();
+      return getPrefixFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.api.SubtreePrefix prefix = 1;</code>
+     */
+    public io.grpc.bverify.SubtreePrefixOrBuilder getPrefixOrBuilder() {
+      if (prefixBuilder_ != null) {
+        return prefixBuilder_.getMessageOrBuilder();
+      } else {
+        return prefix_ == null ?
+            io.grpc.bverify.SubtreePrefix.getDefaultInstance() : prefix_;
+      }
+    }
+    /**
+     * <code>.api.SubtreePrefix prefix = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        io.grpc.bverify.SubtreePrefix, io.grpc.bverify.SubtreePrefix.Builder, io.grpc.bverify.SubtreePrefixOrBuilder> 
+        getPrefixFieldBuilder() {
+      if (prefixBuilder_ == null) {
+        prefixBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            io.grpc.bverify.SubtreePrefix, io.grpc.bverify.SubtreePrefix.Builder, io.grpc.bverify.SubtreePrefixOrBuilder>(
+                getPrefix(),
+                getParentForChildren(),
+                isClean());
+        prefix_ = null;
+      }
+      return prefixBuilder_;
+    }
+
+    private com.google.protobuf.ByteString hash_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes hash = 2;</code>
+     */
+    public com.google.protobuf.ByteString getHash() {
+      return hash_;
+    }
+    /**
+     * <code>bytes hash = 2;</code>
+     */
+    public Builder setHash(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      hash_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes hash = 2;</code>
+     */
+    public Builder clearHash() {
+      
+      hash_ = getDefaultInstance().getHash();
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes value = 3;</code>
+     */
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+    /**
+     * <code>bytes value = 3;</code>
+     */
+    public Builder setValue(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes value = 3;</code>
+     */
+    public Builder clearValue() {
+      
+      value_ = getDefaultInstance().getValue();
+      onChanged();
+      return this;
+    }
+
+    private io.grpc.bverify.Receipt receipt_ = null;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        io.grpc.bverify.Receipt, io.grpc.bverify.Receipt.Builder, io.grpc.bverify.ReceiptOrBuilder> receiptBuilder_;
+    /**
+     * <code>.api.Receipt receipt = 4;</code>
+     */
+    public boolean hasReceipt() {
+      return receiptBuilder_ != null || receipt_ != null;
+    }
+    /**
+     * <code>.api.Receipt receipt = 4;</code>
+     */
+    public io.grpc.bverify.Receipt getReceipt() {
+      if (receiptBuilder_ == null) {
+        return receipt_ == null ? io.grpc.bverify.Receipt.getDefaultInstance() : receipt_;
+      } else {
+        return receiptBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.api.Receipt receipt = 4;</code>
+     */
+    public Builder setReceipt(io.grpc.bverify.Receipt value) {
+      if (receiptBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        receipt_ = value;
+        onChanged();
+      } else {
+        receiptBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.api.Receipt receipt = 4;</code>
+     */
+    public Builder setReceipt(
+        io.grpc.bverify.Receipt.Builder builderForValue) {
+      if (receiptBuilder_ == null) {
+        receipt_ = builderForValue.build();
+        onChanged();
+      } else {
+        receiptBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.api.Receipt receipt = 4;</code>
+     */
+    public Builder mergeReceipt(io.grpc.bverify.Receipt value) {
+      if (receiptBuilder_ == null) {
+        if (receipt_ != null) {
+          receipt_ =
+            io.grpc.bverify.Receipt.newBuilder(receipt_).mergeFrom(value).buildPartial();
+        } else {
+          receipt_ = value;
+        }
+        onChanged();
+      } else {
+        receiptBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.api.Receipt receipt = 4;</code>
+     */
+    public Builder clearReceipt() {
+      if (receiptBuilder_ == null) {
+        receipt_ = null;
+        onChanged();
+      } else {
+        receipt_ = null;
+        receiptBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.api.Receipt receipt = 4;</code>
+     */
+    public io.grpc.bverify.Receipt.Builder getReceiptBuilder() {
+      
+      onChanged();
+      return getReceiptFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.api.Receipt receipt = 4;</code>
+     */
+    public io.grpc.bverify.ReceiptOrBuilder getReceiptOrBuilder() {
+      if (receiptBuilder_ != null) {
+        return receiptBuilder_.getMessageOrBuilder();
+      } else {
+        return receipt_ == null ?
+            io.grpc.bverify.Receipt.getDefaultInstance() : receipt_;
+      }
+    }
+    /**
+     * <code>.api.Receipt receipt = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        io.grpc.bverify.Receipt, io.grpc.bverify.Receipt.Builder, io.grpc.bverify.ReceiptOrBuilder> 
+        getReceiptFieldBuilder() {
+      if (receiptBuilder_ == null) {
+        receiptBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            io.grpc.bverify.Receipt, io.grpc.bverify.Receipt.Builder, io.grpc.bverify.ReceiptOrBuilder>(
+                getReceipt(),
+                getParentForChildren(),
+                isClean());
+        receipt_ = null;
+      }
+      return receiptBuilder_;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.SubtreeSummary)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.SubtreeSummary)
+  private static final io.grpc.bverify.SubtreeSummary DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.SubtreeSummary();
+  }
+
+  public static io.grpc.bverify.SubtreeSummary getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SubtreeSummary>
+      PARSER = new com.google.protobuf.AbstractParser<SubtreeSummary>() {
+    public SubtreeSummary parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SubtreeSummary(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SubtreeSummary> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SubtreeSummary> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.SubtreeSummary getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
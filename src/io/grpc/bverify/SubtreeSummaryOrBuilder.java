@@ -0,0 +1,45 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface SubtreeSummaryOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.SubtreeSummary)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.api.SubtreePrefix prefix = 1;</code>
+   */
+  boolean hasPrefix();
+  /**
+   * <code>.api.SubtreePrefix prefix = 1;</code>
+   */
+  io.grpc.bverify.SubtreePrefix getPrefix();
+  /**
+   * <code>.api.SubtreePrefix prefix = 1;</code>
+   */
+  io.grpc.bverify.SubtreePrefixOrBuilder getPrefixOrBuilder();
+
+  /**
+   * <code>bytes hash = 2;</code>
+   */
+  com.google.protobuf.ByteString getHash();
+
+  /**
+   * <code>bytes value = 3;</code>
+   */
+  com.google.protobuf.ByteString getValue();
+
+  /**
+   * <code>.api.Receipt receipt = 4;</code>
+   */
+  boolean hasReceipt();
+  /**
+   * <code>.api.Receipt receipt = 4;</code>
+   */
+  io.grpc.bverify.Receipt getReceipt();
+  /**
+   * <code>.api.Receipt receipt = 4;</code>
+   */
+  io.grpc.bverify.ReceiptOrBuilder getReceiptOrBuilder();
+}
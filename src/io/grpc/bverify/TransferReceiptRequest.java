@@ -22,6 +22,7 @@ private static final long serialVersionUID = 0L;
     signatureCurrentOwner_ = com.google.protobuf.ByteString.EMPTY;
     signatureWarehouseNew_ = com.google.protobuf.ByteString.EMPTY;
     signatureNewOwner_ = com.google.protobuf.ByteString.EMPTY;
+    scheme_ = 0;
   }
 
   @java.lang.Override
@@ -100,6 +101,12 @@ private static final long serialVersionUID = 0L;
             signatureNewOwner_ = input.readBytes();
             break;
           }
+          case 64: {
+            int rawValue = input.readEnum();
+
+            scheme_ = rawValue;
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -249,6 +256,30 @@ private static final long serialVersionUID = 0L;
     return signatureNewOwner_;
   }
 
+  public static final int SCHEME_FIELD_NUMBER = 8;
+  private int scheme_;
+  /**
+   * <pre>
+   * the scheme of all of the signatures
+   * </pre>
+   *
+   * <code>.api.SignatureScheme scheme = 8;</code>
+   */
+  public int getSchemeValue() {
+    return scheme_;
+  }
+  /**
+   * <pre>
+   * the scheme of all of the signatures
+   * </pre>
+   *
+   * <code>.api.SignatureScheme scheme = 8;</code>
+   */
+  public io.grpc.bverify.SignatureScheme getScheme() {
+    io.grpc.bverify.SignatureScheme result = io.grpc.bverify.SignatureScheme.valueOf(scheme_);
+    return result == null ? io.grpc.bverify.SignatureScheme.UNRECOGNIZED : result;
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -282,6 +313,9 @@ private static final long serialVersionUID = 0L;
     if (!signatureNewOwner_.isEmpty()) {
       output.writeBytes(7, signatureNewOwner_);
     }
+    if (scheme_ != io.grpc.bverify.SignatureScheme.ECDSA.getNumber()) {
+      output.writeEnum(8, scheme_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -316,6 +350,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeBytesSize(7, signatureNewOwner_);
     }
+    if (scheme_ != io.grpc.bverify.SignatureScheme.ECDSA.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(8, scheme_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -349,6 +387,7 @@ private static final long serialVersionUID = 0L;
         .equals(other.getSignatureWarehouseNew());
     result = result && getSignatureNewOwner()
         .equals(other.getSignatureNewOwner());
+    result = result && scheme_ == other.scheme_;
     result = result && unknownFields.equals(other.unknownFields);
     return result;
   }
@@ -376,6 +415,8 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + getSignatureWarehouseNew().hashCode();
     hash = (37 * hash) + SIGNATURE_NEW_OWNER_FIELD_NUMBER;
     hash = (53 * hash) + getSignatureNewOwner().hashCode();
+    hash = (37 * hash) + SCHEME_FIELD_NUMBER;
+    hash = (53 * hash) + scheme_;
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -523,6 +564,8 @@ private static final long serialVersionUID = 0L;
 
       signatureNewOwner_ = com.google.protobuf.ByteString.EMPTY;
 
+      scheme_ = 0;
+
       return this;
     }
 
@@ -556,6 +599,7 @@ private static final long serialVersionUID = 0L;
       result.signatureCurrentOwner_ = signatureCurrentOwner_;
       result.signatureWarehouseNew_ = signatureWarehouseNew_;
       result.signatureNewOwner_ = signatureNewOwner_;
+      result.scheme_ = scheme_;
       onBuilt();
       return result;
     }
@@ -620,6 +664,9 @@ private static final long serialVersionUID = 0L;
       if (other.getSignatureNewOwner() != com.google.protobuf.ByteString.EMPTY) {
         setSignatureNewOwner(other.getSignatureNewOwner());
       }
+      if (other.scheme_ != 0) {
+        setSchemeValue(other.getSchemeValue());
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -1017,6 +1064,70 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private int scheme_ = 0;
+    /**
+     * <pre>
+     * the scheme of all of the signatures
+     * </pre>
+     *
+     * <code>.api.SignatureScheme scheme = 8;</code>
+     */
+    public int getSchemeValue() {
+      return scheme_;
+    }
+    /**
+     * <pre>
+     * the scheme of all of the signatures
+     * </pre>
+     *
+     * <code>.api.SignatureScheme scheme = 8;</code>
+     */
+    public Builder setSchemeValue(int value) {
+      scheme_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the scheme of all of the signatures
+     * </pre>
+     *
+     * <code>.api.SignatureScheme scheme = 8;</code>
+     */
+    public io.grpc.bverify.SignatureScheme getScheme() {
+      io.grpc.bverify.SignatureScheme result = io.grpc.bverify.SignatureScheme.valueOf(scheme_);
+      return result == null ? io.grpc.bverify.SignatureScheme.UNRECOGNIZED : result;
+    }
+    /**
+     * <pre>
+     * the scheme of all of the signatures
+     * </pre>
+     *
+     * <code>.api.SignatureScheme scheme = 8;</code>
+     */
+    public Builder setScheme(io.grpc.bverify.SignatureScheme value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      scheme_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the scheme of all of the signatures
+     * </pre>
+     *
+     * <code>.api.SignatureScheme scheme = 8;</code>
+     */
+    public Builder clearScheme() {
+      
+      scheme_ = 0;
+      onChanged();
+      return this;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFieldsProto3(unknownFields);
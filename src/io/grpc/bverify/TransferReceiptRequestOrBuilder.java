@@ -59,4 +59,21 @@ public interface TransferReceiptRequestOrBuilder extends
    * <code>bytes signature_new_owner = 7;</code>
    */
   com.google.protobuf.ByteString getSignatureNewOwner();
+
+  /**
+   * <pre>
+   * the scheme of all of the signatures
+   * </pre>
+   *
+   * <code>.api.SignatureScheme scheme = 8;</code>
+   */
+  int getSchemeValue();
+  /**
+   * <pre>
+   * the scheme of all of the signatures
+   * </pre>
+   *
+   * <code>.api.SignatureScheme scheme = 8;</code>
+   */
+  io.grpc.bverify.SignatureScheme getScheme();
 }
@@ -0,0 +1,954 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.UpdatesResponse}
+ */
+public  final class UpdatesResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.UpdatesResponse)
+    UpdatesResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use UpdatesResponse.newBuilder() to construct.
+  private UpdatesResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private UpdatesResponse() {
+    updates_ = java.util.Collections.emptyList();
+    unavailable_ = false;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private UpdatesResponse(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+              updates_ = new java.util.ArrayList<serialization.generated.MptSerialization.MerklePrefixTrie>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            updates_.add(
+                input.readMessage(serialization.generated.MptSerialization.MerklePrefixTrie.parser(), extensionRegistry));
+            break;
+          }
+          case 16: {
+
+            unavailable_ = input.readBool();
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+        updates_ = java.util.Collections.unmodifiableList(updates_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_UpdatesResponse_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_UpdatesResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.UpdatesResponse.class, io.grpc.bverify.UpdatesResponse.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int UPDATES_FIELD_NUMBER = 1;
+  private java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> updates_;
+  /**
+   * <pre>
+   * updates[i] takes the proof from commitment 
+   * fromCommitmentNumber + i to the next commitment. 
+   * Parts of the proof that did not change are omitted
+   * </pre>
+   *
+   * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+   */
+  public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> getUpdatesList() {
+    return updates_;
+  }
+  /**
+   * <pre>
+   * updates[i] takes the proof from commitment 
+   * fromCommitmentNumber + i to the next commitment. 
+   * Parts of the proof that did not change are omitted
+   * </pre>
+   *
+   * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+   */
+  public java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+      getUpdatesOrBuilderList() {
+    return updates_;
+  }
+  /**
+   * <pre>
+   * updates[i] takes the proof from commitment 
+   * fromCommitmentNumber + i to the next commitment. 
+   * Parts of the proof that did not change are omitted
+   * </pre>
+   *
+   * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+   */
+  public int getUpdatesCount() {
+    return updates_.size();
+  }
+  /**
+   * <pre>
+   * updates[i] takes the proof from commitment 
+   * fromCommitmentNumber + i to the next commitment. 
+   * Parts of the proof that did not change are omitted
+   * </pre>
+   *
+   * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+   */
+  public serialization.generated.MptSerialization.MerklePrefixTrie getUpdates(int index) {
+    return updates_.get(index);
+  }
+  /**
+   * <pre>
+   * updates[i] takes the proof from commitment 
+   * fromCommitmentNumber + i to the next commitment. 
+   * Parts of the proof that did not change are omitted
+   * </pre>
+   *
+   * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+   */
+  public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getUpdatesOrBuilder(
+      int index) {
+    return updates_.get(index);
+  }
+
+  public static final int UNAVAILABLE_FIELD_NUMBER = 2;
+  private boolean unavailable_;
+  /**
+   * <pre>
+   * set if the updates are no longer available, 
+   * the client should request a new proof instead
+   * </pre>
+   *
+   * <code>bool unavailable = 2;</code>
+   */
+  public boolean getUnavailable() {
+    return unavailable_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < updates_.size(); i++) {
+      output.writeMessage(1, updates_.get(i));
+    }
+    if (unavailable_ != false) {
+      output.writeBool(2, unavailable_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < updates_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, updates_.get(i));
+    }
+    if (unavailable_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(2, unavailable_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.UpdatesResponse)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.UpdatesResponse other = (io.grpc.bverify.UpdatesResponse) obj;
+
+    boolean result = true;
+    result = result && getUpdatesList()
+        .equals(other.getUpdatesList());
+    result = result && (getUnavailable()
+        == other.getUnavailable());
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getUpdatesCount() > 0) {
+      hash = (37 * hash) + UPDATES_FIELD_NUMBER;
+      hash = (53 * hash) + getUpdatesList().hashCode();
+    }
+    hash = (37 * hash) + UNAVAILABLE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getUnavailable());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.UpdatesResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.UpdatesResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.UpdatesResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.UpdatesResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.UpdatesResponse)
+      io.grpc.bverify.UpdatesResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_UpdatesResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_UpdatesResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.UpdatesResponse.class, io.grpc.bverify.UpdatesResponse.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.UpdatesResponse.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getUpdatesFieldBuilder();
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      if (updatesBuilder_ == null) {
+        updates_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        updatesBuilder_.clear();
+      }
+      unavailable_ = false;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_UpdatesResponse_descriptor;
+    }
+
+    public io.grpc.bverify.UpdatesResponse getDefaultInstanceForType() {
+      return io.grpc.bverify.UpdatesResponse.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.UpdatesResponse build() {
+      io.grpc.bverify.UpdatesResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.UpdatesResponse buildPartial() {
+      io.grpc.bverify.UpdatesResponse result = new io.grpc.bverify.UpdatesResponse(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (updatesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          updates_ = java.util.Collections.unmodifiableList(updates_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.updates_ = updates_;
+      } else {
+        result.updates_ = updatesBuilder_.build();
+      }
+      result.unavailable_ = unavailable_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.UpdatesResponse) {
+        return mergeFrom((io.grpc.bverify.UpdatesResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.UpdatesResponse other) {
+      if (other == io.grpc.bverify.UpdatesResponse.getDefaultInstance()) return this;
+      if (updatesBuilder_ == null) {
+        if (!other.updates_.isEmpty()) {
+          if (updates_.isEmpty()) {
+            updates_ = other.updates_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureUpdatesIsMutable();
+            updates_.addAll(other.updates_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.updates_.isEmpty()) {
+          if (updatesBuilder_.isEmpty()) {
+            updatesBuilder_.dispose();
+            updatesBuilder_ = null;
+            updates_ = other.updates_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            updatesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getUpdatesFieldBuilder() : null;
+          } else {
+            updatesBuilder_.addAllMessages(other.updates_);
+          }
+        }
+      }
+      if (other.getUnavailable() != false) {
+        setUnavailable(other.getUnavailable());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.UpdatesResponse parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.UpdatesResponse) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> updates_ =
+      java.util.Collections.emptyList();
+    private void ensureUpdatesIsMutable() {
+      if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+        updates_ = new java.util.ArrayList<serialization.generated.MptSerialization.MerklePrefixTrie>(updates_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> updatesBuilder_;
+
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> getUpdatesList() {
+      if (updatesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(updates_);
+      } else {
+        return updatesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public int getUpdatesCount() {
+      if (updatesBuilder_ == null) {
+        return updates_.size();
+      } else {
+        return updatesBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie getUpdates(int index) {
+      if (updatesBuilder_ == null) {
+        return updates_.get(index);
+      } else {
+        return updatesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public Builder setUpdates(
+        int index, serialization.generated.MptSerialization.MerklePrefixTrie value) {
+      if (updatesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureUpdatesIsMutable();
+        updates_.set(index, value);
+        onChanged();
+      } else {
+        updatesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public Builder setUpdates(
+        int index, serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+      if (updatesBuilder_ == null) {
+        ensureUpdatesIsMutable();
+        updates_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        updatesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public Builder addUpdates(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+      if (updatesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureUpdatesIsMutable();
+        updates_.add(value);
+        onChanged();
+      } else {
+        updatesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public Builder addUpdates(
+        int index, serialization.generated.MptSerialization.MerklePrefixTrie value) {
+      if (updatesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureUpdatesIsMutable();
+        updates_.add(index, value);
+        onChanged();
+      } else {
+        updatesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public Builder addUpdates(
+        serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+      if (updatesBuilder_ == null) {
+        ensureUpdatesIsMutable();
+        updates_.add(builderForValue.build());
+        onChanged();
+      } else {
+        updatesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public Builder addUpdates(
+        int index, serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+      if (updatesBuilder_ == null) {
+        ensureUpdatesIsMutable();
+        updates_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        updatesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public Builder addAllUpdates(
+        java.lang.Iterable<? extends serialization.generated.MptSerialization.MerklePrefixTrie> values) {
+      if (updatesBuilder_ == null) {
+        ensureUpdatesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, updates_);
+        onChanged();
+      } else {
+        updatesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public Builder clearUpdates() {
+      if (updatesBuilder_ == null) {
+        updates_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        updatesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public Builder removeUpdates(int index) {
+      if (updatesBuilder_ == null) {
+        ensureUpdatesIsMutable();
+        updates_.remove(index);
+        onChanged();
+      } else {
+        updatesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie.Builder getUpdatesBuilder(
+        int index) {
+      return getUpdatesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getUpdatesOrBuilder(
+        int index) {
+      if (updatesBuilder_ == null) {
+        return updates_.get(index);  } else {
+        return updatesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+         getUpdatesOrBuilderList() {
+      if (updatesBuilder_ != null) {
+        return updatesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(updates_);
+      }
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie.Builder addUpdatesBuilder() {
+      return getUpdatesFieldBuilder().addBuilder(
+          serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie.Builder addUpdatesBuilder(
+        int index) {
+      return getUpdatesFieldBuilder().addBuilder(
+          index, serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * updates[i] takes the proof from commitment 
+     * fromCommitmentNumber + i to the next commitment. 
+     * Parts of the proof that did not change are omitted
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+     */
+    public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie.Builder> 
+         getUpdatesBuilderList() {
+      return getUpdatesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+        getUpdatesFieldBuilder() {
+      if (updatesBuilder_ == null) {
+        updatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder>(
+                updates_,
+                ((bitField0_ & 0x00000001) == 0x00000001),
+                getParentForChildren(),
+                isClean());
+        updates_ = null;
+      }
+      return updatesBuilder_;
+    }
+
+    private boolean unavailable_ ;
+    /**
+     * <pre>
+     * set if the updates are no longer available, 
+     * the client should request a new proof instead
+     * </pre>
+     *
+     * <code>bool unavailable = 2;</code>
+     */
+    public boolean getUnavailable() {
+      return unavailable_;
+    }
+    /**
+     * <pre>
+     * set if the updates are no longer available, 
+     * the client should request a new proof instead
+     * </pre>
+     *
+     * <code>bool unavailable = 2;</code>
+     */
+    public Builder setUnavailable(boolean value) {
+      
+      unavailable_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * set if the updates are no longer available, 
+     * the client should request a new proof instead
+     * </pre>
+     *
+     * <code>bool unavailable = 2;</code>
+     */
+    public Builder clearUnavailable() {
+      
+      unavailable_ = false;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.UpdatesResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.UpdatesResponse)
+  private static final io.grpc.bverify.UpdatesResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.UpdatesResponse();
+  }
+
+  public static io.grpc.bverify.UpdatesResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<UpdatesResponse>
+      PARSER = new com.google.protobuf.AbstractParser<UpdatesResponse>() {
+    public UpdatesResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new UpdatesResponse(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<UpdatesResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<UpdatesResponse> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.UpdatesResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,73 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface UpdatesResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.UpdatesResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * updates[i] takes the proof from commitment 
+   * fromCommitmentNumber + i to the next commitment. 
+   * Parts of the proof that did not change are omitted
+   * </pre>
+   *
+   * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+   */
+  java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> 
+      getUpdatesList();
+  /**
+   * <pre>
+   * updates[i] takes the proof from commitment 
+   * fromCommitmentNumber + i to the next commitment. 
+   * Parts of the proof that did not change are omitted
+   * </pre>
+   *
+   * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+   */
+  serialization.generated.MptSerialization.MerklePrefixTrie getUpdates(int index);
+  /**
+   * <pre>
+   * updates[i] takes the proof from commitment 
+   * fromCommitmentNumber + i to the next commitment. 
+   * Parts of the proof that did not change are omitted
+   * </pre>
+   *
+   * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+   */
+  int getUpdatesCount();
+  /**
+   * <pre>
+   * updates[i] takes the proof from commitment 
+   * fromCommitmentNumber + i to the next commitment. 
+   * Parts of the proof that did not change are omitted
+   * </pre>
+   *
+   * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+   */
+  java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+      getUpdatesOrBuilderList();
+  /**
+   * <pre>
+   * updates[i] takes the proof from commitment 
+   * fromCommitmentNumber + i to the next commitment. 
+   * Parts of the proof that did not change are omitted
+   * </pre>
+   *
+   * <code>repeated .serialization.generated.MerklePrefixTrie updates = 1;</code>
+   */
+  serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getUpdatesOrBuilder(
+      int index);
+
+  /**
+   * <pre>
+   * set if the updates are no longer available, 
+   * the client should request a new proof instead
+   * </pre>
+   *
+   * <code>bool unavailable = 2;</code>
+   */
+  boolean getUnavailable();
+}
@@ -0,0 +1,746 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+/**
+ * Protobuf type {@code api.WatchCommitmentsRequest}
+ */
+public  final class WatchCommitmentsRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:api.WatchCommitmentsRequest)
+    WatchCommitmentsRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use WatchCommitmentsRequest.newBuilder() to construct.
+  private WatchCommitmentsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private WatchCommitmentsRequest() {
+    fromCommitmentNumber_ = 0;
+    adsIds_ = java.util.Collections.emptyList();
+    encoding_ = 0;
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private WatchCommitmentsRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          default: {
+            if (!parseUnknownFieldProto3(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+          case 8: {
+
+            fromCommitmentNumber_ = input.readInt32();
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+              adsIds_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            adsIds_.add(input.readBytes());
+            break;
+          }
+          case 24: {
+            int rawValue = input.readEnum();
+
+            encoding_ = rawValue;
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+        adsIds_ = java.util.Collections.unmodifiableList(adsIds_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.grpc.bverify.Api.internal_static_api_WatchCommitmentsRequest_descriptor;
+  }
+
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.grpc.bverify.Api.internal_static_api_WatchCommitmentsRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.grpc.bverify.WatchCommitmentsRequest.class, io.grpc.bverify.WatchCommitmentsRequest.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int FROMCOMMITMENTNUMBER_FIELD_NUMBER = 1;
+  private int fromCommitmentNumber_;
+  /**
+   * <pre>
+   * the first commitment to send, earlier commitments 
+   * are sent immediately
+   * </pre>
+   *
+   * <code>int32 fromCommitmentNumber = 1;</code>
+   */
+  public int getFromCommitmentNumber() {
+    return fromCommitmentNumber_;
+  }
+
+  public static final int ADSIDS_FIELD_NUMBER = 2;
+  private java.util.List<com.google.protobuf.ByteString> adsIds_;
+  /**
+   * <pre>
+   * if set the proof for these ADSes is 
+   * attached to each commitment
+   * </pre>
+   *
+   * <code>repeated bytes adsIds = 2;</code>
+   */
+  public java.util.List<com.google.protobuf.ByteString>
+      getAdsIdsList() {
+    return adsIds_;
+  }
+  /**
+   * <pre>
+   * if set the proof for these ADSes is 
+   * attached to each commitment
+   * </pre>
+   *
+   * <code>repeated bytes adsIds = 2;</code>
+   */
+  public int getAdsIdsCount() {
+    return adsIds_.size();
+  }
+  /**
+   * <pre>
+   * if set the proof for these ADSes is 
+   * attached to each commitment
+   * </pre>
+   *
+   * <code>repeated bytes adsIds = 2;</code>
+   */
+  public com.google.protobuf.ByteString getAdsIds(int index) {
+    return adsIds_.get(index);
+  }
+
+  public static final int ENCODING_FIELD_NUMBER = 3;
+  private int encoding_;
+  /**
+   * <code>.api.ProofEncoding encoding = 3;</code>
+   */
+  public int getEncodingValue() {
+    return encoding_;
+  }
+  /**
+   * <code>.api.ProofEncoding encoding = 3;</code>
+   */
+  public io.grpc.bverify.ProofEncoding getEncoding() {
+    io.grpc.bverify.ProofEncoding result = io.grpc.bverify.ProofEncoding.valueOf(encoding_);
+    return result == null ? io.grpc.bverify.ProofEncoding.UNRECOGNIZED : result;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (fromCommitmentNumber_ != 0) {
+      output.writeInt32(1, fromCommitmentNumber_);
+    }
+    for (int i = 0; i < adsIds_.size(); i++) {
+      output.writeBytes(2, adsIds_.get(i));
+    }
+    if (encoding_ != io.grpc.bverify.ProofEncoding.PROTOBUF.getNumber()) {
+      output.writeEnum(3, encoding_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (fromCommitmentNumber_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, fromCommitmentNumber_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < adsIds_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeBytesSizeNoTag(adsIds_.get(i));
+      }
+      size += dataSize;
+      size += 1 * getAdsIdsList().size();
+    }
+    if (encoding_ != io.grpc.bverify.ProofEncoding.PROTOBUF.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, encoding_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.grpc.bverify.WatchCommitmentsRequest)) {
+      return super.equals(obj);
+    }
+    io.grpc.bverify.WatchCommitmentsRequest other = (io.grpc.bverify.WatchCommitmentsRequest) obj;
+
+    boolean result = true;
+    result = result && (getFromCommitmentNumber()
+        == other.getFromCommitmentNumber());
+    result = result && getAdsIdsList()
+        .equals(other.getAdsIdsList());
+    result = result && encoding_ == other.encoding_;
+    result = result && unknownFields.equals(other.unknownFields);
+    return result;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + FROMCOMMITMENTNUMBER_FIELD_NUMBER;
+    hash = (53 * hash) + getFromCommitmentNumber();
+    if (getAdsIdsCount() > 0) {
+      hash = (37 * hash) + ADSIDS_FIELD_NUMBER;
+      hash = (53 * hash) + getAdsIdsList().hashCode();
+    }
+    hash = (37 * hash) + ENCODING_FIELD_NUMBER;
+    hash = (53 * hash) + encoding_;
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.grpc.bverify.WatchCommitmentsRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.grpc.bverify.WatchCommitmentsRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.grpc.bverify.WatchCommitmentsRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code api.WatchCommitmentsRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:api.WatchCommitmentsRequest)
+      io.grpc.bverify.WatchCommitmentsRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.grpc.bverify.Api.internal_static_api_WatchCommitmentsRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.grpc.bverify.Api.internal_static_api_WatchCommitmentsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.grpc.bverify.WatchCommitmentsRequest.class, io.grpc.bverify.WatchCommitmentsRequest.Builder.class);
+    }
+
+    // Construct using io.grpc.bverify.WatchCommitmentsRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    public Builder clear() {
+      super.clear();
+      fromCommitmentNumber_ = 0;
+
+      adsIds_ = java.util.Collections.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      encoding_ = 0;
+
+      return this;
+    }
+
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.grpc.bverify.Api.internal_static_api_WatchCommitmentsRequest_descriptor;
+    }
+
+    public io.grpc.bverify.WatchCommitmentsRequest getDefaultInstanceForType() {
+      return io.grpc.bverify.WatchCommitmentsRequest.getDefaultInstance();
+    }
+
+    public io.grpc.bverify.WatchCommitmentsRequest build() {
+      io.grpc.bverify.WatchCommitmentsRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    public io.grpc.bverify.WatchCommitmentsRequest buildPartial() {
+      io.grpc.bverify.WatchCommitmentsRequest result = new io.grpc.bverify.WatchCommitmentsRequest(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      result.fromCommitmentNumber_ = fromCommitmentNumber_;
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        adsIds_ = java.util.Collections.unmodifiableList(adsIds_);
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.adsIds_ = adsIds_;
+      result.encoding_ = encoding_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    public Builder clone() {
+      return (Builder) super.clone();
+    }
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.setField(field, value);
+    }
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return (Builder) super.clearField(field);
+    }
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return (Builder) super.clearOneof(oneof);
+    }
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return (Builder) super.setRepeatedField(field, index, value);
+    }
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return (Builder) super.addRepeatedField(field, value);
+    }
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.grpc.bverify.WatchCommitmentsRequest) {
+        return mergeFrom((io.grpc.bverify.WatchCommitmentsRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.grpc.bverify.WatchCommitmentsRequest other) {
+      if (other == io.grpc.bverify.WatchCommitmentsRequest.getDefaultInstance()) return this;
+      if (other.getFromCommitmentNumber() != 0) {
+        setFromCommitmentNumber(other.getFromCommitmentNumber());
+      }
+      if (!other.adsIds_.isEmpty()) {
+        if (adsIds_.isEmpty()) {
+          adsIds_ = other.adsIds_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensureAdsIdsIsMutable();
+          adsIds_.addAll(other.adsIds_);
+        }
+        onChanged();
+      }
+      if (other.encoding_ != 0) {
+        setEncodingValue(other.getEncodingValue());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      io.grpc.bverify.WatchCommitmentsRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (io.grpc.bverify.WatchCommitmentsRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private int fromCommitmentNumber_ ;
+    /**
+     * <pre>
+     * the first commitment to send, earlier commitments 
+     * are sent immediately
+     * </pre>
+     *
+     * <code>int32 fromCommitmentNumber = 1;</code>
+     */
+    public int getFromCommitmentNumber() {
+      return fromCommitmentNumber_;
+    }
+    /**
+     * <pre>
+     * the first commitment to send, earlier commitments 
+     * are sent immediately
+     * </pre>
+     *
+     * <code>int32 fromCommitmentNumber = 1;</code>
+     */
+    public Builder setFromCommitmentNumber(int value) {
+      
+      fromCommitmentNumber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * the first commitment to send, earlier commitments 
+     * are sent immediately
+     * </pre>
+     *
+     * <code>int32 fromCommitmentNumber = 1;</code>
+     */
+    public Builder clearFromCommitmentNumber() {
+      
+      fromCommitmentNumber_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.google.protobuf.ByteString> adsIds_ = java.util.Collections.emptyList();
+    private void ensureAdsIdsIsMutable() {
+      if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+        adsIds_ = new java.util.ArrayList<com.google.protobuf.ByteString>(adsIds_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <pre>
+     * if set the proof for these ADSes is 
+     * attached to each commitment
+     * </pre>
+     *
+     * <code>repeated bytes adsIds = 2;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getAdsIdsList() {
+      return java.util.Collections.unmodifiableList(adsIds_);
+    }
+    /**
+     * <pre>
+     * if set the proof for these ADSes is 
+     * attached to each commitment
+     * </pre>
+     *
+     * <code>repeated bytes adsIds = 2;</code>
+     */
+    public int getAdsIdsCount() {
+      return adsIds_.size();
+    }
+    /**
+     * <pre>
+     * if set the proof for these ADSes is 
+     * attached to each commitment
+     * </pre>
+     *
+     * <code>repeated bytes adsIds = 2;</code>
+     */
+    public com.google.protobuf.ByteString getAdsIds(int index) {
+      return adsIds_.get(index);
+    }
+    /**
+     * <pre>
+     * if set the proof for these ADSes is 
+     * attached to each commitment
+     * </pre>
+     *
+     * <code>repeated bytes adsIds = 2;</code>
+     */
+    public Builder setAdsIds(
+        int index, com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAdsIdsIsMutable();
+      adsIds_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * if set the proof for these ADSes is 
+     * attached to each commitment
+     * </pre>
+     *
+     * <code>repeated bytes adsIds = 2;</code>
+     */
+    public Builder addAdsIds(com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAdsIdsIsMutable();
+      adsIds_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * if set the proof for these ADSes is 
+     * attached to each commitment
+     * </pre>
+     *
+     * <code>repeated bytes adsIds = 2;</code>
+     */
+    public Builder addAllAdsIds(
+        java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+      ensureAdsIdsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, adsIds_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * if set the proof for these ADSes is 
+     * attached to each commitment
+     * </pre>
+     *
+     * <code>repeated bytes adsIds = 2;</code>
+     */
+    public Builder clearAdsIds() {
+      adsIds_ = java.util.Collections.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+
+    private int encoding_ = 0;
+    /**
+     * <code>.api.ProofEncoding encoding = 3;</code>
+     */
+    public int getEncodingValue() {
+      return encoding_;
+    }
+    /**
+     * <code>.api.ProofEncoding encoding = 3;</code>
+     */
+    public Builder setEncodingValue(int value) {
+      encoding_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.api.ProofEncoding encoding = 3;</code>
+     */
+    public io.grpc.bverify.ProofEncoding getEncoding() {
+      io.grpc.bverify.ProofEncoding result = io.grpc.bverify.ProofEncoding.valueOf(encoding_);
+      return result == null ? io.grpc.bverify.ProofEncoding.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.api.ProofEncoding encoding = 3;</code>
+     */
+    public Builder setEncoding(io.grpc.bverify.ProofEncoding value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      encoding_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.api.ProofEncoding encoding = 3;</code>
+     */
+    public Builder clearEncoding() {
+      
+      encoding_ = 0;
+      onChanged();
+      return this;
+    }
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFieldsProto3(unknownFields);
+    }
+
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:api.WatchCommitmentsRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:api.WatchCommitmentsRequest)
+  private static final io.grpc.bverify.WatchCommitmentsRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.grpc.bverify.WatchCommitmentsRequest();
+  }
+
+  public static io.grpc.bverify.WatchCommitmentsRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<WatchCommitmentsRequest>
+      PARSER = new com.google.protobuf.AbstractParser<WatchCommitmentsRequest>() {
+    public WatchCommitmentsRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new WatchCommitmentsRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<WatchCommitmentsRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<WatchCommitmentsRequest> getParserForType() {
+    return PARSER;
+  }
+
+  public io.grpc.bverify.WatchCommitmentsRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,56 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: protos/api.proto
+
+package io.grpc.bverify;
+
+public interface WatchCommitmentsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:api.WatchCommitmentsRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * the first commitment to send, earlier commitments 
+   * are sent immediately
+   * </pre>
+   *
+   * <code>int32 fromCommitmentNumber = 1;</code>
+   */
+  int getFromCommitmentNumber();
+
+  /**
+   * <pre>
+   * if set the proof for these ADSes is 
+   * attached to each commitment
+   * </pre>
+   *
+   * <code>repeated bytes adsIds = 2;</code>
+   */
+  java.util.List<com.google.protobuf.ByteString> getAdsIdsList();
+  /**
+   * <pre>
+   * if set the proof for these ADSes is 
+   * attached to each commitment
+   * </pre>
+   *
+   * <code>repeated bytes adsIds = 2;</code>
+   */
+  int getAdsIdsCount();
+  /**
+   * <pre>
+   * if set the proof for these ADSes is 
+   * attached to each commitment
+   * </pre>
+   *
+   * <code>repeated bytes adsIds = 2;</code>
+   */
+  com.google.protobuf.ByteString getAdsIds(int index);
+
+  /**
+   * <code>.api.ProofEncoding encoding = 3;</code>
+   */
+  int getEncodingValue();
+  /**
+   * <code>.api.ProofEncoding encoding = 3;</code>
+   */
+  io.grpc.bverify.ProofEncoding getEncoding();
+}
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import com.google.protobuf.ByteString;
 
 import crpyto.CryptographicUtils;
+import crpyto.Digest256;
 import serialization.generated.MptSerialization;
 
 /**
@@ -35,7 +36,7 @@ public class DictionaryLeafNode implements Node {
 	
 	// the commitment is a witness to BOTH 
 	// the key and value: H(key||value)
-	private byte[] commitmentHash;
+	private Digest256 commitmentHash;
 	private boolean recalculateHash;
 		
 	public DictionaryLeafNode(byte[] key, byte[] value){
@@ -62,13 +63,13 @@ public class DictionaryLeafNode implements Node {
 	}
 		
 	@Override
-	public byte[] getHash() {
+	public Digest256 getDigest() {
 		if(this.recalculateHash) {
 			// witness
-			this.commitmentHash = CryptographicUtils.witnessKeyAndValue(this.key, this.value);
+			this.commitmentHash = Digest256.fromBytes(CryptographicUtils.witnessKeyAndValue(this.key, this.value));
 			this.recalculateHash = false;
 		}
-		return this.commitmentHash.clone();
+		return this.commitmentHash;
 	}
 
 	@Override
@@ -95,7 +96,7 @@ public class DictionaryLeafNode implements Node {
 	public String toString() {
 		return new String("<DictionaryLeaf K: "+ Utils.byteArrayAsHexString(this.key) +
 				" V: "+ Utils.byteArrayAsHexString(this.value) + 
-				" Hash: " + Utils.byteArrayAsHexString(this.getHash())
+				" Hash: " + this.getDigest()
 				+">");
 	}
 
@@ -1,6 +1,7 @@
 package mpt.core;
 
 import crpyto.CryptographicDigest;
+import crpyto.Digest256;
 
 /**
  * This class represents an empty leaf in the tree. Empty leaves 
@@ -13,6 +14,7 @@ public class EmptyLeafNode implements Node {
 	
 	// hash is all zeros
 	public static final byte[] EMPTY_HASH = new byte[CryptographicDigest.getSizeBytes()];
+	public static final Digest256 EMPTY_DIGEST = Digest256.ZERO;
 	public static final String EMPTY_MSG = "<EmptyLeafNode>";
 	
 	// an empty leaf node can still be "changed" - if its location in the MPT changes
@@ -39,8 +41,8 @@ public class EmptyLeafNode implements Node {
 	}
 
 	@Override
-	public byte[] getHash() {
-		return EmptyLeafNode.EMPTY_HASH.clone();
+	public Digest256 getDigest() {
+		return EmptyLeafNode.EMPTY_DIGEST;
 	}
 
 	@Override
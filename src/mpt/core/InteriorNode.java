@@ -1,6 +1,7 @@
 package mpt.core;
 
 import crpyto.CryptographicDigest;
+import crpyto.Digest256;
 import serialization.generated.MptSerialization;
 
 /**
@@ -21,7 +22,7 @@ import serialization.generated.MptSerialization;
  */
 public class InteriorNode implements Node {
 	
-	private byte[] hash;
+	private Digest256 hash;
 	private boolean recalculateHash;
 	private boolean changed;
 	private Node leftChild;
@@ -33,7 +34,22 @@ public class InteriorNode implements Node {
 		this.changed = true;
 		this.recalculateHash = true;
 	}
-	
+
+	/**
+	 * Create an interior node with an already calculated hash.
+	 * The hash is not checked, so it must be H(left.getHash()||right.getHash())
+	 * @param leftChild
+	 * @param rightChild
+	 * @param hash - the hash of the node
+	 */
+	public InteriorNode(Node leftChild, Node rightChild, Digest256 hash) {
+		this.leftChild = leftChild;
+		this.rightChild = rightChild;
+		this.changed = true;
+		this.hash = hash;
+		this.recalculateHash = false;
+	}
+
 	public MptSerialization.Node serialize() {
 		MptSerialization.InteriorNode.Builder builder = MptSerialization.InteriorNode.newBuilder();
 		serialization.generated.MptSerialization.Node leftChildSerialized = this.leftChild.serialize();
@@ -53,19 +69,14 @@ public class InteriorNode implements Node {
 	}
 
 	@Override
-	public byte[] getHash() {
+	public Digest256 getDigest() {
 		// if  the hash must be recalculated.
 		if(this.recalculateHash) {
-			byte[] leftChildHash = this.leftChild.getHash();
-			byte[] rightChildHash = this.rightChild.getHash();
 			// commitment: H(leftChildHash || rightChildHash)
-			byte[] commitment = new byte[leftChildHash.length+rightChildHash.length];
-			System.arraycopy(leftChildHash, 0, commitment, 0, leftChildHash.length);
-			System.arraycopy(rightChildHash, 0, commitment, leftChildHash.length, rightChildHash.length);
-			this.hash = CryptographicDigest.hash(commitment);
+			this.hash = CryptographicDigest.hash(this.leftChild.getDigest(), this.rightChild.getDigest());
 			this.recalculateHash = false;
 		}
-		return this.hash.clone();
+		return this.hash;
 	}
 
 	@Override
@@ -0,0 +1,213 @@
+package mpt.core;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import crpyto.CryptographicDigest;
+import crpyto.Digest256;
+
+/**
+ * A flat snapshot format for full MPTs (dictionaries and sets),
+ * used for copying and checkpointing them. Unlike the
+ * nested protobuf serialization the nodes are written into
+ * a single buffer and both writing and reading are iterative,
+ * so there is no limit on the depth of the MPT.
+ *
+ * The snapshot is:
+ *
+ * 	[flags - 1 byte]
+ * 	[nodes in pre-order]
+ *
+ * where each node is a tag byte followed by fixed size fields:
+ *
+ * 	interior node: 		[tag][hash - 32 bytes, only if hashes are included]
+ * 	empty leaf: 		[tag]
+ * 	dictionary leaf:	[tag][key - 32 bytes][value - 32 bytes]
+ * 	set leaf: 			[tag][value - 32 bytes]
+ *
+ * If the hashes of the interior nodes are included they are
+ * not recalculated when the snapshot is read - so such
+ * snapshots should only be read if they come from a
+ * trusted source (e.g. are the server's own checkpoints)
+ *
+ */
+public class MPTSnapshot {
+
+	private static final byte FLAG_HASHES = 1;
+
+	private static final byte INTERIOR = 0;
+	private static final byte EMPTY_LEAF = 1;
+	private static final byte DICTIONARY_LEAF = 2;
+	private static final byte SET_LEAF = 3;
+
+	private static final int HASH_SIZE = CryptographicDigest.getSizeBytes();
+
+	/**
+	 * Write a snapshot of the MPT
+	 * @param root - the root of the full MPT
+	 * @param includeHashes - if true the hashes of the interior nodes
+	 * are included (and are calculated if they have not been already)
+	 * @return a buffer (positioned at the start) containing the snapshot
+	 */
+	public static ByteBuffer write(InteriorNode root, boolean includeHashes) {
+		// first calculate the size
+		int size = 1;
+		Deque<Node> stack = new ArrayDeque<>();
+		stack.push(root);
+		while(!stack.isEmpty()) {
+			Node node = stack.pop();
+			size += 1;
+			switch(MPTSnapshot.tag(node)) {
+			case INTERIOR:
+				if(includeHashes) {
+					size += HASH_SIZE;
+				}
+				stack.push(node.getRightChild());
+				stack.push(node.getLeftChild());
+				break;
+			case DICTIONARY_LEAF:
+				size += 2 * HASH_SIZE;
+				break;
+			case SET_LEAF:
+				size += HASH_SIZE;
+				break;
+			default:
+				break;
+			}
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.put(includeHashes ? FLAG_HASHES : 0);
+		stack.push(root);
+		while(!stack.isEmpty()) {
+			Node node = stack.pop();
+			byte tag = MPTSnapshot.tag(node);
+			buffer.put(tag);
+			switch(tag) {
+			case INTERIOR:
+				if(includeHashes) {
+					node.getDigest().writeTo(buffer);
+				}
+				stack.push(node.getRightChild());
+				stack.push(node.getLeftChild());
+				break;
+			case DICTIONARY_LEAF:
+				buffer.put(node.getKey());
+				buffer.put(node.getValue());
+				break;
+			case SET_LEAF:
+				// the value of a set leaf is its hash
+				node.getDigest().writeTo(buffer);
+				break;
+			default:
+				break;
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Read the MPT from a snapshot
+	 * @param snapshot - the snapshot, read from the current position
+	 * to the limit
+	 * @param set - true if the MPT is a set, false if it is a dictionary
+	 * @return the root of the MPT
+	 * @throws InvalidSerializationException - if the snapshot cannot be read
+	 */
+	public static InteriorNode read(ByteBuffer snapshot, boolean set) throws InvalidSerializationException {
+		try {
+			boolean includesHashes = (snapshot.get() & FLAG_HASHES) != 0;
+			// the interior nodes whose children are still being read:
+			// [hash (or null), left child (once read)]
+			Deque<Object[]> parents = new ArrayDeque<>();
+			Node root = null;
+			while(root == null) {
+				byte tag = snapshot.get();
+				if(tag == INTERIOR) {
+					Digest256 hash = null;
+					if(includesHashes) {
+						hash = Digest256.fromByteBuffer(snapshot);
+					}
+					parents.push(new Object[] {hash, null});
+					continue;
+				}
+				Node node;
+				switch(tag) {
+				case EMPTY_LEAF:
+					node = new EmptyLeafNode();
+					break;
+				case DICTIONARY_LEAF:
+					if(set) {
+						throw new InvalidSerializationException("dictionary leaf in a set snapshot");
+					}
+					byte[] key = MPTSnapshot.getHash(snapshot);
+					byte[] value = MPTSnapshot.getHash(snapshot);
+					node = new DictionaryLeafNode(key, value);
+					break;
+				case SET_LEAF:
+					if(!set) {
+						throw new InvalidSerializationException("set leaf in a dictionary snapshot");
+					}
+					node = new SetLeafNode(Digest256.fromByteBuffer(snapshot));
+					break;
+				default:
+					throw new InvalidSerializationException("unknown node tag: "+tag);
+				}
+				// attach the node, completing any interior
+				// nodes that now have both children
+				while(true) {
+					if(parents.isEmpty()) {
+						root = node;
+						break;
+					}
+					Object[] parent = parents.peek();
+					if(parent[1] == null) {
+						parent[1] = node;
+						break;
+					}
+					parents.pop();
+					Digest256 hash = (Digest256) parent[0];
+					if(hash != null) {
+						node = new InteriorNode((Node) parent[1], node, hash);
+					}else {
+						node = new InteriorNode((Node) parent[1], node);
+					}
+				}
+			}
+			if(snapshot.hasRemaining()) {
+				throw new InvalidSerializationException("extra bytes at the end of the snapshot");
+			}
+			if(!(root instanceof InteriorNode)) {
+				throw new InvalidSerializationException("root is not an interior node!");
+			}
+			return (InteriorNode) root;
+		}catch(BufferUnderflowException e) {
+			throw new InvalidSerializationException("snapshot is truncated");
+		}
+	}
+
+	private static byte[] getHash(ByteBuffer buffer) {
+		byte[] hash = new byte[HASH_SIZE];
+		buffer.get(hash);
+		return hash;
+	}
+
+	private static byte tag(Node node) {
+		if(node.isStub()) {
+			throw new RuntimeException("cannot snapshot a partial MPT");
+		}
+		if(node.isEmpty()) {
+			return EMPTY_LEAF;
+		}
+		if(!node.isLeaf()) {
+			return INTERIOR;
+		}
+		if(node instanceof SetLeafNode) {
+			return SET_LEAF;
+		}
+		return DICTIONARY_LEAF;
+	}
+
+}
@@ -1,5 +1,6 @@
 package mpt.core;
 
+import crpyto.Digest256;
 import serialization.generated.MptSerialization;
 
 /**
@@ -31,7 +32,17 @@ public interface Node {
 	 * Get the hash of this node. 
 	 * @return
 	 */
-	byte[] getHash();
+	default byte[] getHash() {
+		return this.getDigest().toBytes();
+	}
+	
+	/**
+	 * Get the hash of this node. Unlike getHash() this 
+	 * does not copy the hash, so it should be used 
+	 * when the hash is only read.
+	 * @return
+	 */
+	Digest256 getDigest();
 
 	/**
 	 * Get the key stored at this node, if it exists. This is only 
@@ -0,0 +1,307 @@
+package mpt.core;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import crpyto.CryptographicDigest;
+
+/**
+ * NOT THREADSAFE
+ *
+ * Verifies proofs (serialized partial MPTs) by walking the
+ * encoded MerklePrefixTrie once. The hashes of the nodes are
+ * folded up to the root as the proof is read and the leaf
+ * on the path to the looked up key is located in place,
+ * so no nodes are created and no hashes are copied out of
+ * the proof. The digest and the scratch space for the hashes
+ * are reused between proofs.
+ *
+ * This is the shared implementation for
+ * MPTDictionaryVerifier and MPTSetVerifier.
+ *
+ * Only the encoding produced by the protobuf serialization
+ * is accepted - unknown or repeated fields are rejected.
+ *
+ */
+public class ProofVerifier {
+
+	/**
+	 * Returned if the key is not in the ADS
+	 */
+	public static final int NOT_FOUND = -1;
+
+	/**
+	 * Returned if the proof does not match the commitment
+	 */
+	public static final int INVALID = -2;
+
+	// wire types
+	private static final int LENGTH_DELIMITED = 2;
+
+	// field numbers in mpt.proto
+	private static final int ROOT = 1;
+	private static final int INTERIOR_NODE = 1;
+	private static final int LEAF = 2;
+	private static final int STUB = 3;
+	private static final int EMPTY_LEAF = 4;
+	private static final int LEFT = 1;
+	private static final int RIGHT = 2;
+	private static final int KEY = 1;
+	private static final int VALUE = 2;
+	private static final int HASH = 1;
+
+	private static final int HASH_SIZE = CryptographicDigest.getSizeBytes();
+	// a path has at most one interior node per bit of the key
+	// (plus the root)
+	private static final int MAX_DEPTH = CryptographicDigest.getSizeBits() + 1;
+
+	private final boolean set;
+	private final MessageDigest digest;
+	// the hashes of the children of the interior nodes
+	// on the current path: [left hash][right hash] per level
+	private final byte[] scratch;
+	private final byte[] rootHash;
+
+	// the proof being verified
+	private byte[] proof;
+	private int position;
+	private byte[] key;
+	private int found;
+
+	/**
+	 * @param set - true to verify proofs for MPT sets, false
+	 * to verify proofs for MPT dictionaries
+	 */
+	public ProofVerifier(boolean set) {
+		this.set = set;
+		try {
+			this.digest = MessageDigest.getInstance(CryptographicDigest.getHashFunction());
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+		this.scratch = new byte[(MAX_DEPTH + 1) * 2 * HASH_SIZE];
+		this.rootHash = new byte[HASH_SIZE];
+	}
+
+	/**
+	 * Verify the proof against the commitment and look up the key.
+	 * @param proof - the encoded MerklePrefixTrie
+	 * @param commitment - the commitment the proof must match
+	 * @param key - the key (for a set, the value) to look up
+	 * @return INVALID if the proof does not match the commitment,
+	 * NOT_FOUND if the key is not in the ADS and otherwise the offset in the
+	 * proof of the value the key maps to (for a set, the offset of the value)
+	 * @throws InvalidSerializationException - if the proof cannot be decoded
+	 * @throws InsufficientAuthenticationDataException - if the proof does not
+	 * contain the path to the key
+	 */
+	public int verify(byte[] proof, byte[] commitment, byte[] key) throws InvalidSerializationException,
+		InsufficientAuthenticationDataException {
+		this.proof = proof;
+		this.position = 0;
+		this.key = key;
+		this.found = NOT_FOUND;
+		try {
+			int end = proof.length;
+			boolean hasRoot = false;
+			while(this.position < end) {
+				int field = this.readField();
+				int length = this.readLength(end);
+				if(field != ROOT || hasRoot) {
+					throw new InvalidSerializationException("unexpected field in proof");
+				}
+				hasRoot = true;
+				this.readNode(this.position + length, 0, true, this.rootHash, 0, true);
+			}
+			if(!hasRoot) {
+				throw new InvalidSerializationException("no root included");
+			}
+			if(!Arrays.equals(this.rootHash, commitment)) {
+				return INVALID;
+			}
+			return this.found;
+		}finally {
+			this.proof = null;
+			this.key = null;
+		}
+	}
+
+	/**
+	 * Reads the Node in proof[position:end] (which is at the
+	 * given depth, the root is at depth 0) and writes its hash to out[outOffset].
+	 * onPath is true if the key's path goes through the node
+	 */
+	private void readNode(int end, int depth, boolean onPath, byte[] out, int outOffset, boolean isRoot)
+			throws InvalidSerializationException, InsufficientAuthenticationDataException {
+		int field = this.readField();
+		int length = this.readLength(end);
+		int nodeEnd = this.position + length;
+		if(nodeEnd != end) {
+			throw new InvalidSerializationException("node must have exactly one field");
+		}
+		if(isRoot && field != INTERIOR_NODE) {
+			throw new InvalidSerializationException("root is not an interior node!");
+		}
+		switch(field) {
+		case INTERIOR_NODE:
+			if(depth >= MAX_DEPTH) {
+				throw new InvalidSerializationException("proof is too deep");
+			}
+			this.readInteriorNode(end, depth, onPath, out, outOffset);
+			break;
+		case LEAF:
+			this.readLeaf(end, onPath, out, outOffset);
+			break;
+		case STUB:
+			if(onPath) {
+				throw new InsufficientAuthenticationDataException("stub encountered at depth: "+depth);
+			}
+			int hashOffset = -1;
+			while(this.position < end) {
+				int stubField = this.readField();
+				int stubLength = this.readLength(end);
+				if(stubField != HASH || hashOffset != -1 || stubLength != HASH_SIZE) {
+					throw new InvalidSerializationException("invalid stub");
+				}
+				hashOffset = this.position;
+				this.position += stubLength;
+			}
+			if(hashOffset == -1) {
+				throw new InvalidSerializationException("stub has no hash");
+			}
+			System.arraycopy(this.proof, hashOffset, out, outOffset, HASH_SIZE);
+			break;
+		case EMPTY_LEAF:
+			if(length != 0) {
+				throw new InvalidSerializationException("invalid empty leaf");
+			}
+			Arrays.fill(out, outOffset, outOffset + HASH_SIZE, (byte) 0);
+			break;
+		default:
+			throw new InvalidSerializationException("unknown node type");
+		}
+	}
+
+	private void readInteriorNode(int end, int depth, boolean onPath, byte[] out, int outOffset)
+			throws InvalidSerializationException, InsufficientAuthenticationDataException {
+		// the children of this node write their hashes here
+		int childHashes = depth * 2 * HASH_SIZE;
+		boolean bit = onPath && Utils.getBit(this.key, depth);
+		boolean hasLeft = false;
+		boolean hasRight = false;
+		while(this.position < end) {
+			int field = this.readField();
+			int length = this.readLength(end);
+			int childEnd = this.position + length;
+			if(field == LEFT && !hasLeft) {
+				hasLeft = true;
+				this.readNode(childEnd, depth + 1, onPath && !bit, this.scratch, childHashes, false);
+			}else if(field == RIGHT && !hasRight) {
+				hasRight = true;
+				this.readNode(childEnd, depth + 1, onPath && bit, this.scratch, childHashes + HASH_SIZE, false);
+			}else {
+				throw new InvalidSerializationException("unexpected field in interior node");
+			}
+		}
+		if(!hasLeft || !hasRight) {
+			throw new InvalidSerializationException("interior node does not have both children");
+		}
+		// H(leftHash || rightHash)
+		this.digest.update(this.scratch, childHashes, 2 * HASH_SIZE);
+		this.digestTo(out, outOffset);
+	}
+
+	private void readLeaf(int end, boolean onPath, byte[] out, int outOffset) throws InvalidSerializationException {
+		int keyOffset = -1;
+		int valueOffset = -1;
+		while(this.position < end) {
+			int field = this.readField();
+			int length = this.readLength(end);
+			if(length != HASH_SIZE) {
+				throw new InvalidSerializationException("invalid leaf");
+			}
+			if(field == KEY && keyOffset == -1) {
+				keyOffset = this.position;
+			}else if(field == VALUE && valueOffset == -1) {
+				valueOffset = this.position;
+			}else {
+				throw new InvalidSerializationException("unexpected field in leaf");
+			}
+			this.position += length;
+		}
+		if(valueOffset == -1) {
+			throw new InvalidSerializationException("leaf has no value");
+		}
+		if(this.set) {
+			if(keyOffset != -1) {
+				throw new InvalidSerializationException("set leaf should only have a value");
+			}
+			// the hash of a set leaf is the value
+			System.arraycopy(this.proof, valueOffset, out, outOffset, HASH_SIZE);
+			if(onPath && this.matchesKey(valueOffset)) {
+				this.found = valueOffset;
+			}
+			return;
+		}
+		if(keyOffset == -1) {
+			throw new InvalidSerializationException("leaf doesn't have required keyhash and value");
+		}
+		// H(key || value)
+		this.digest.update(this.proof, keyOffset, HASH_SIZE);
+		this.digest.update(this.proof, valueOffset, HASH_SIZE);
+		this.digestTo(out, outOffset);
+		if(onPath && this.matchesKey(keyOffset)) {
+			this.found = valueOffset;
+		}
+	}
+
+	private boolean matchesKey(int offset) {
+		return Arrays.equals(this.proof, offset, offset + HASH_SIZE, this.key, 0, this.key.length);
+	}
+
+	private void digestTo(byte[] out, int outOffset) {
+		try {
+			this.digest.digest(out, outOffset, HASH_SIZE);
+		} catch (DigestException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Reads a tag and returns the field number. All fields
+	 * in mpt.proto are length delimited.
+	 */
+	private int readField() throws InvalidSerializationException {
+		int tag = this.readVarint();
+		if((tag & 7) != LENGTH_DELIMITED) {
+			throw new InvalidSerializationException("unexpected wire type");
+		}
+		return tag >>> 3;
+	}
+
+	private int readLength(int end) throws InvalidSerializationException {
+		int length = this.readVarint();
+		if(length < 0 || length > end - this.position) {
+			throw new InvalidSerializationException("invalid length");
+		}
+		return length;
+	}
+
+	private int readVarint() throws InvalidSerializationException {
+		int result = 0;
+		for(int shift = 0; shift < 32; shift += 7) {
+			if(this.position >= this.proof.length) {
+				throw new InvalidSerializationException("proof is truncated");
+			}
+			byte b = this.proof[this.position++];
+			result |= (b & 0x7f) << shift;
+			if(b >= 0) {
+				return result;
+			}
+		}
+		throw new InvalidSerializationException("invalid varint");
+	}
+
+}
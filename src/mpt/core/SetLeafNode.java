@@ -1,9 +1,6 @@
 package mpt.core;
 
-import java.util.Arrays;
-
-import com.google.protobuf.ByteString;
-
+import crpyto.Digest256;
 import serialization.generated.MptSerialization;
 
 /**
@@ -20,17 +17,22 @@ import serialization.generated.MptSerialization;
  */
 public class SetLeafNode implements Node{
 	
-	private byte[] value;	
+	// the value is also the hash
+	private final Digest256 value;	
 	private boolean changed;
 	
 	public SetLeafNode(byte[] value) {
-		this.value = value.clone();
+		this(Digest256.fromBytes(value));
+	}
+	
+	public SetLeafNode(Digest256 value) {
+		this.value = value;
 		this.changed = true;
 	}
 
 	@Override
 	public byte[] getValue() {
-		return this.value.clone();
+		return this.value.toBytes();
 	}
 
 	@Override
@@ -39,13 +41,13 @@ public class SetLeafNode implements Node{
 	}
 
 	@Override
-	public byte[] getHash() {
-		return this.value.clone();
+	public Digest256 getDigest() {
+		return this.value;
 	}
 
 	@Override
 	public byte[] getKey() {
-		return this.value.clone();
+		return this.value.toBytes();
 	}
 
 	@Override
@@ -103,7 +105,7 @@ public class SetLeafNode implements Node{
 		MptSerialization.Node node = MptSerialization.Node
 				.newBuilder()
 				.setLeaf(MptSerialization.Leaf.newBuilder()
-						.setValue(ByteString.copyFrom(this.value))
+						.setValue(this.value.toByteString())
 						.build())
 				.build();
 		return node;
@@ -113,15 +115,15 @@ public class SetLeafNode implements Node{
 	public boolean equals(Object other) {
 		if(other instanceof SetLeafNode) {
 			SetLeafNode othersln = (SetLeafNode) other;
-			return Arrays.equals(othersln.value, this.value);
+			return othersln.value.equals(this.value);
 		}
 		return false;
 	}
 	
 	@Override
 	public String toString() {
-		return new String("<SetLeaf V: "+ Utils.byteArrayAsHexString(this.value) +
-				" Hash: " + Utils.byteArrayAsHexString(this.getHash())
+		return new String("<SetLeaf V: "+ this.value +
+				" Hash: " + this.value
 				+">");	
 	}
 	
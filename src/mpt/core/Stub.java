@@ -1,8 +1,6 @@
 package mpt.core;
 
-import java.util.Arrays;
-
-import com.google.protobuf.ByteString;
+import crpyto.Digest256;
 
 /**
  * IMMUTABLE
@@ -15,15 +13,19 @@ import com.google.protobuf.ByteString;
  */
 public class Stub implements Node {
 	
-	private final byte[] hash;
+	private final Digest256 hash;
 	
 	public Stub(byte[] hash) {
-		this.hash = hash.clone();
+		this.hash = Digest256.fromBytes(hash);
+	}
+	
+	public Stub(Digest256 hash) {
+		this.hash = hash;
 	}
 	
 	@Override
-	public byte[] getHash() {
-		return this.hash.clone();
+	public Digest256 getDigest() {
+		return this.hash;
 	}
 	
 	public static Stub deserialize(byte[] raw) {
@@ -37,7 +39,7 @@ public class Stub implements Node {
 						.newBuilder()
 						.setStub(
 								serialization.generated.MptSerialization.Stub.newBuilder()
-								.setHash(ByteString.copyFrom(this.hash))
+								.setHash(this.hash.toByteString())
 								.build())
 						.build();
 		return node;
@@ -80,14 +82,13 @@ public class Stub implements Node {
 	
 	@Override
 	public String toString() {
-		String hex = Utils.byteArrayAsHexString(this.hash);
-		return "<Stub Hash: " + hex + ">";
+		return "<Stub Hash: " + this.hash + ">";
 	}
 	
 	@Override
 	public boolean equals(Object other) {
 		if(other instanceof Stub) {
-			return Arrays.equals(this.hash, ((Stub) other).hash);
+			return this.hash.equals(((Stub) other).hash);
 		}
 		return false;
 	}
@@ -0,0 +1,186 @@
+package mpt.dictionary;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import crpyto.CryptographicDigest;
+import crpyto.Digest256;
+import mpt.core.DictionaryLeafNode;
+import mpt.core.EmptyLeafNode;
+import mpt.core.InteriorNode;
+import mpt.core.InvalidSerializationException;
+import mpt.core.Node;
+import mpt.core.Stub;
+
+/**
+ * A compact encoding for partial MPTs (proofs), an
+ * alternative to the nested protobuf MerklePrefixTrie.
+ *
+ * The nodes of the partial MPT are listed in pre-order
+ * and the encoding is:
+ *
+ * 	[number of nodes - 4 bytes]
+ * 	[node types - 2 bits per node, packed]
+ * 	[stub hashes and leaf keys and values - 32 bytes each,
+ * 		in the same (pre) order as the nodes]
+ *
+ * Interior nodes and empty leaves only take up the
+ * two type bits and there are no tags or length prefixes.
+ * Since the structure is flat both encoding and
+ * decoding are iterative and there is no limit on
+ * the depth of the partial MPT.
+ *
+ */
+public class MPTDictionaryCompactCodec {
+
+	private static final int INTERIOR = 0;
+	private static final int EMPTY_LEAF = 1;
+	private static final int STUB = 2;
+	private static final int LEAF = 3;
+
+	private static final int HASH_SIZE = CryptographicDigest.getSizeBytes();
+
+	/**
+	 * Encode the partial MPT
+	 * @param partialMPT - the partial MPT to encode
+	 * @return
+	 */
+	public static byte[] encode(MPTDictionaryPartial partialMPT) {
+		// list the nodes in pre-order
+		List<Node> nodes = new ArrayList<>();
+		int hashes = 0;
+		Deque<Node> stack = new ArrayDeque<>();
+		stack.push(partialMPT.root);
+		while(!stack.isEmpty()) {
+			Node node = stack.pop();
+			nodes.add(node);
+			switch(MPTDictionaryCompactCodec.type(node)) {
+			case INTERIOR:
+				stack.push(node.getRightChild());
+				stack.push(node.getLeftChild());
+				break;
+			case STUB:
+				hashes += 1;
+				break;
+			case LEAF:
+				hashes += 2;
+				break;
+			default:
+				break;
+			}
+		}
+		int typesSize = (2 * nodes.size() + 7) / 8;
+		ByteBuffer buffer = ByteBuffer.allocate(4 + typesSize + hashes * HASH_SIZE);
+		buffer.putInt(nodes.size());
+		byte[] types = new byte[typesSize];
+		for(int i = 0; i < nodes.size(); i++) {
+			types[i / 4] |= MPTDictionaryCompactCodec.type(nodes.get(i)) << (2 * (i % 4));
+		}
+		buffer.put(types);
+		for(Node node : nodes) {
+			if(node.isStub()) {
+				node.getDigest().writeTo(buffer);
+			}else if(node.isLeaf() && !node.isEmpty()) {
+				buffer.put(node.getKey());
+				buffer.put(node.getValue());
+			}
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * Decode a partial MPT from the compact encoding
+	 * @param encoded - the compact encoding
+	 * @return
+	 * @throws InvalidSerializationException - if the encoding cannot be decoded
+	 */
+	public static MPTDictionaryPartial decode(byte[] encoded) throws InvalidSerializationException {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(encoded);
+			int numberOfNodes = buffer.getInt();
+			if(numberOfNodes <= 0 || numberOfNodes > 4 * (long) buffer.remaining()) {
+				throw new InvalidSerializationException("invalid number of nodes: "+numberOfNodes);
+			}
+			byte[] types = new byte[(2 * numberOfNodes + 7) / 8];
+			buffer.get(types);
+			// the interior nodes whose children are still being decoded,
+			// with their left child once it has been decoded
+			Deque<Node[]> parents = new ArrayDeque<>();
+			Node root = null;
+			for(int i = 0; i < numberOfNodes; i++) {
+				if(root != null) {
+					throw new InvalidSerializationException("nodes after the root is complete");
+				}
+				int type = (types[i / 4] >> (2 * (i % 4))) & 3;
+				if(type == INTERIOR) {
+					parents.push(new Node[1]);
+					continue;
+				}
+				Node node;
+				switch(type) {
+				case EMPTY_LEAF:
+					node = new EmptyLeafNode();
+					break;
+				case STUB:
+					node = new Stub(Digest256.fromByteBuffer(buffer));
+					break;
+				default:
+					byte[] key = MPTDictionaryCompactCodec.getHash(buffer);
+					byte[] value = MPTDictionaryCompactCodec.getHash(buffer);
+					node = new DictionaryLeafNode(key, value);
+					break;
+				}
+				// attach the node, completing any interior
+				// nodes that now have both children
+				while(true) {
+					if(parents.isEmpty()) {
+						root = node;
+						break;
+					}
+					Node[] parent = parents.peek();
+					if(parent[0] == null) {
+						parent[0] = node;
+						break;
+					}
+					parents.pop();
+					node = new InteriorNode(parent[0], node);
+				}
+			}
+			if(root == null) {
+				throw new InvalidSerializationException("incomplete encoding");
+			}
+			if(buffer.hasRemaining()) {
+				throw new InvalidSerializationException("extra bytes at the end of the encoding");
+			}
+			// the proof for no keys is just a stub for the root
+			// (and a trie with a single node is just a leaf)
+			return new MPTDictionaryPartial(root);
+		}catch(BufferUnderflowException e) {
+			throw new InvalidSerializationException("encoding is truncated");
+		}
+	}
+
+	private static byte[] getHash(ByteBuffer buffer) {
+		byte[] hash = new byte[HASH_SIZE];
+		buffer.get(hash);
+		return hash;
+	}
+
+	private static int type(Node node) {
+		if(node.isStub()) {
+			return STUB;
+		}
+		if(node.isEmpty()) {
+			return EMPTY_LEAF;
+		}
+		if(node.isLeaf()) {
+			return LEAF;
+		}
+		return INTERIOR;
+	}
+
+}
@@ -53,7 +53,7 @@ public class MPTDictionaryDelta implements AuthenticatedDictionaryChanges {
 		//System.out.println("In MPTDictionaryDelta: copy changes for node " + currentNode);
 		if(!currentNode.changed()) {
 			//System.out.println("creating stub in copyChangesOnlyHelper");
-			return new Stub(currentNode.getHash());
+			return new Stub(currentNode.getDigest());
 		}
 		if (currentNode.isLeaf()) {
 			if (currentNode.isEmpty()) {
@@ -62,7 +62,7 @@ public class MPTDictionaryDelta implements AuthenticatedDictionaryChanges {
 			if (currentNode.changed()) {
 				return new DictionaryLeafNode(currentNode.getKey(), currentNode.getValue());
 			}
-			return new Stub(currentNode.getHash());
+			return new Stub(currentNode.getDigest());
 		}
 		Node leftChild = MPTDictionaryDelta.copyChangesOnlyHelper(currentNode.getLeftChild());
 		Node rightChild = MPTDictionaryDelta.copyChangesOnlyHelper(currentNode.getRightChild());
@@ -104,7 +104,7 @@ public class MPTDictionaryDelta implements AuthenticatedDictionaryChanges {
 			// if non-empty send stub
 			return MptSerialization.Node.newBuilder()
 					.setStub(MptSerialization.Stub.newBuilder()
-							.setHash(ByteString.copyFrom(currentNode.getHash())))
+							.setHash(currentNode.getDigest().toByteString()))
 					.build();
 		}
 		// subcase: have a matching key and at end of path 
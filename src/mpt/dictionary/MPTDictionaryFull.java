@@ -1,5 +1,6 @@
 package mpt.dictionary;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -7,10 +8,12 @@ import java.util.logging.Logger;
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import crpyto.CryptographicDigest;
+import crpyto.Digest256;
 import mpt.core.DictionaryLeafNode;
 import mpt.core.EmptyLeafNode;
 import mpt.core.InteriorNode;
 import mpt.core.InvalidSerializationException;
+import mpt.core.MPTSnapshot;
 import mpt.core.Node;
 import mpt.core.Utils;
 import serialization.generated.MptSerialization;
@@ -251,7 +254,7 @@ public class MPTDictionaryFull implements AuthenticatedDictionaryServer {
 			throw new InvalidSerializationException("serialized full mpt should not have stubs");
 		case LEAF:
 			MptSerialization.Leaf leaf = nodeSerialization.getLeaf();
-			if (leaf.getKey().isEmpty() || leaf.getValue().isEmpty()) {
+			if (leaf.getKey().size() != Digest256.SIZE_BYTES || leaf.getValue().size() != Digest256.SIZE_BYTES) {
 				throw new InvalidSerializationException("dictionary leaf must have key and value");
 			}
 			return new DictionaryLeafNode(leaf.getKey().toByteArray(), leaf.getValue().toByteArray());
@@ -306,6 +309,29 @@ public class MPTDictionaryFull implements AuthenticatedDictionaryServer {
 		return builder.build();
 	}
 
+	/**
+	 * Write a flat snapshot of the full MPT (see MPTSnapshot). 
+	 * Snapshots are much faster to write and read than the 
+	 * protobuf serialization. 
+	 * @param includeHashes - if true the hashes of the interior 
+	 * nodes are included, so they are not recalculated when 
+	 * the snapshot is read
+	 * @return
+	 */
+	public ByteBuffer snapshot(boolean includeHashes) {
+		return MPTSnapshot.write(this.root, includeHashes);
+	}
+	
+	/**
+	 * Read a full MPT from a snapshot
+	 * @param snapshot
+	 * @return
+	 * @throws InvalidSerializationException - if the snapshot cannot be read
+	 */
+	public static MPTDictionaryFull fromSnapshot(ByteBuffer snapshot) throws InvalidSerializationException {
+		return new MPTDictionaryFull(MPTSnapshot.read(snapshot, false));
+	}
+
 	/**
 	 * Returns the height of the tree. Height is defined as the maximum possible
 	 * distance from the leaf to the root node (TODO: I'm not sure this should be a
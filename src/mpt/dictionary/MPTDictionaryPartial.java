@@ -1,12 +1,15 @@
 package mpt.dictionary;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import crpyto.CryptographicDigest;
+import crpyto.Digest256;
 import mpt.core.EmptyLeafNode;
 import mpt.core.InsufficientAuthenticationDataException;
 import mpt.core.InteriorNode;
@@ -40,8 +43,8 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 	 */
 	public MPTDictionaryPartial(MPTDictionaryFull fullMPT) {
 		// just copies the root
-		this.root = new InteriorNode(new Stub(fullMPT.root.getLeftChild().getHash()),
-				new Stub(fullMPT.root.getRightChild().getHash()));
+		this.root = new InteriorNode(new Stub(fullMPT.root.getLeftChild().getDigest()),
+				new Stub(fullMPT.root.getRightChild().getDigest()));
 	}
 	
 	/**
@@ -83,7 +86,7 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 		this.root = root;
 	}
 	
-	private MPTDictionaryPartial(InteriorNode root) {
+	MPTDictionaryPartial(Node root) {
 		this.root = root;
 	}
 	
@@ -100,7 +103,7 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 			if(copyNode.isEmpty()) {
 				return new EmptyLeafNode();
 			}
-			return new Stub(copyNode.getHash());
+			return new Stub(copyNode.getDigest());
 		}
 		// case: if this is on the path to a key hash
 		// subcase: if we are at the end of a path
@@ -129,6 +132,170 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 		return new InteriorNode(leftChild, rightChild);
 	}
 	
+	/**
+	 * Generates the (serialized) single key proof for every key 
+	 * in the full MPT. This is equivalent to serializing 
+	 * new MPTDictionaryPartial(fullMPT, key) for each key, but 
+	 * is done in a single in-order traversal of the full MPT so 
+	 * that the work of visiting and serializing nodes shared 
+	 * between paths is done only once.
+	 * @param fullMPT - the full MPT to generate the proofs from
+	 * @return a list of (key, proof) pairs in key order
+	 */
+	public static List<Map.Entry<byte[], MptSerialization.MerklePrefixTrie>> serializeAllSingleKeyProofs(
+			MPTDictionaryFull fullMPT) {
+		List<Map.Entry<byte[], MptSerialization.MerklePrefixTrie>> proofs = new ArrayList<>();
+		// the co-path (serialized siblings) and the path taken to the current node
+		MptSerialization.Node[] siblings = new MptSerialization.Node[CryptographicDigest.getSizeBits()+1];
+		boolean[] wentRight = new boolean[CryptographicDigest.getSizeBits()+1];
+		MPTDictionaryPartial.serializeAllSingleKeyProofsHelper(fullMPT.root, 0, siblings, wentRight, proofs);
+		return proofs;
+	}
+	
+	private static void serializeAllSingleKeyProofsHelper(final Node currentNode, final int depth, 
+			final MptSerialization.Node[] siblings, final boolean[] wentRight, 
+			final List<Map.Entry<byte[], MptSerialization.MerklePrefixTrie>> proofs) {
+		if(currentNode.isLeaf()) {
+			if(currentNode.isEmpty()) {
+				return;
+			}
+			// build the proof from the leaf back up to the root
+			MptSerialization.Node proofNode = currentNode.serialize();
+			for(int i = depth - 1; i >= 0; i--) {
+				MptSerialization.InteriorNode.Builder interior = MptSerialization.InteriorNode.newBuilder();
+				if(wentRight[i]) {
+					interior.setLeft(siblings[i]).setRight(proofNode);
+				}else {
+					interior.setLeft(proofNode).setRight(siblings[i]);
+				}
+				proofNode = MptSerialization.Node.newBuilder().setInteriorNode(interior).build();
+			}
+			MptSerialization.MerklePrefixTrie proof = MptSerialization.MerklePrefixTrie.newBuilder()
+					.setRoot(proofNode)
+					.build();
+			proofs.add(new AbstractMap.SimpleImmutableEntry<>(currentNode.getKey(), proof));
+			return;
+		}
+		Node leftChild = currentNode.getLeftChild();
+		Node rightChild = currentNode.getRightChild();
+		// proofs for keys on the left have the right child as a sibling
+		siblings[depth] = MPTDictionaryPartial.serializeSibling(rightChild);
+		wentRight[depth] = false;
+		MPTDictionaryPartial.serializeAllSingleKeyProofsHelper(leftChild, depth + 1, siblings, wentRight, proofs);
+		// and vice versa
+		siblings[depth] = MPTDictionaryPartial.serializeSibling(leftChild);
+		wentRight[depth] = true;
+		MPTDictionaryPartial.serializeAllSingleKeyProofsHelper(rightChild, depth + 1, siblings, wentRight, proofs);
+	}
+	
+	/**
+	 * Generates (serialized) proofs for several groups of keys 
+	 * with a single traversal of the full MPT. The proof for 
+	 * each group is the same as serializing
+	 * new MPTDictionaryPartial(fullMPT, group), but nodes on the 
+	 * paths of several groups are only visited once.
+	 * @param fullMPT - the full MPT to generate the proofs from
+	 * @param keyGroups - the groups of keys, each group must contain
+	 * at least one key
+	 * @return the proofs, in the same order as the groups
+	 */
+	public static List<MptSerialization.MerklePrefixTrie> serializeProofs(MPTDictionaryFull fullMPT, 
+			List<List<byte[]>> keyGroups) {
+		List<MptSerialization.MerklePrefixTrie> proofs = new ArrayList<>();
+		if(keyGroups.size() == 0) {
+			return proofs;
+		}
+		MptSerialization.Node[] roots = MPTDictionaryPartial.serializeProofsHelper(keyGroups, fullMPT.root, -1);
+		for(MptSerialization.Node root : roots) {
+			proofs.add(MptSerialization.MerklePrefixTrie.newBuilder().setRoot(root).build());
+		}
+		return proofs;
+	}
+	
+	private static MptSerialization.Node[] serializeProofsHelper(final List<List<byte[]>> groupKeys, 
+			final Node copyNode, final int currentBitIndex) {
+		// every group here has at least one key whose path
+		// goes through this node
+		MptSerialization.Node[] result = new MptSerialization.Node[groupKeys.size()];
+		if(copyNode.isLeaf()) {
+			Arrays.fill(result, copyNode.serialize());
+			return result;
+		}
+		// divide up the keys of each group into those that match the
+		// left prefix (...0) and those that match the right prefix (...1)
+		// and keep track of which groups continue on each side
+		List<List<byte[]>> leftGroups = new ArrayList<>();
+		List<List<byte[]>> rightGroups = new ArrayList<>();
+		int[] leftIndex = new int[groupKeys.size()];
+		int[] rightIndex = new int[groupKeys.size()];
+		for(int group = 0; group < groupKeys.size(); group++) {
+			List<byte[]> matchRight = new ArrayList<byte[]>();
+			List<byte[]> matchLeft = new ArrayList<byte[]>();
+			for(byte[] key : groupKeys.get(group)) {
+				if(Utils.getBit(key, currentBitIndex + 1)) {
+					matchRight.add(key);
+				}else {
+					matchLeft.add(key);
+				}
+			}
+			leftIndex[group] = -1;
+			if(matchLeft.size() > 0) {
+				leftIndex[group] = leftGroups.size();
+				leftGroups.add(matchLeft);
+			}
+			rightIndex[group] = -1;
+			if(matchRight.size() > 0) {
+				rightIndex[group] = rightGroups.size();
+				rightGroups.add(matchRight);
+			}
+		}
+		MptSerialization.Node[] lefts = null;
+		MptSerialization.Node[] rights = null;
+		if(leftGroups.size() > 0) {
+			lefts = MPTDictionaryPartial.serializeProofsHelper(leftGroups, copyNode.getLeftChild(), currentBitIndex+1);
+		}
+		if(rightGroups.size() > 0) {
+			rights = MPTDictionaryPartial.serializeProofsHelper(rightGroups, copyNode.getRightChild(), currentBitIndex+1);
+		}
+		// groups that do not continue on a side only
+		// need the (shared) sibling
+		MptSerialization.Node leftSibling = null;
+		MptSerialization.Node rightSibling = null;
+		for(int group = 0; group < groupKeys.size(); group++) {
+			MptSerialization.Node left;
+			if(leftIndex[group] >= 0) {
+				left = lefts[leftIndex[group]];
+			}else {
+				if(leftSibling == null) {
+					leftSibling = MPTDictionaryPartial.serializeSibling(copyNode.getLeftChild());
+				}
+				left = leftSibling;
+			}
+			MptSerialization.Node right;
+			if(rightIndex[group] >= 0) {
+				right = rights[rightIndex[group]];
+			}else {
+				if(rightSibling == null) {
+					rightSibling = MPTDictionaryPartial.serializeSibling(copyNode.getRightChild());
+				}
+				right = rightSibling;
+			}
+			result[group] = MptSerialization.Node.newBuilder()
+					.setInteriorNode(MptSerialization.InteriorNode.newBuilder()
+							.setLeft(left)
+							.setRight(right))
+					.build();
+		}
+		return result;
+	}
+	
+	private static MptSerialization.Node serializeSibling(final Node sibling) {
+		if(sibling.isEmpty()) {
+			return new EmptyLeafNode().serialize();
+		}
+		return new Stub(sibling.getDigest()).serialize();
+	}
+	
 	@Override
 	public byte[] get(final byte[] key) throws InsufficientAuthenticationDataException {
 		assert key.length == CryptographicDigest.getSizeBytes();
@@ -221,13 +388,13 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 			return new InteriorNode(left, right);
 		case STUB:
 			MptSerialization.Stub stub = nodeSerialization.getStub();
-			if (stub.getHash().isEmpty()) {
+			if (stub.getHash().size() != Digest256.SIZE_BYTES) {
 				throw new InvalidSerializationException("stub doesn't have a hash");
 			}
-			return new Stub(stub.getHash().toByteArray());
+			return new Stub(Digest256.fromByteString(stub.getHash()));
 		case LEAF:
 			MptSerialization.Leaf leaf = nodeSerialization.getLeaf();
-			if (leaf.getKey().isEmpty() || leaf.getValue().isEmpty()) {
+			if (leaf.getKey().size() != Digest256.SIZE_BYTES || leaf.getValue().size() != Digest256.SIZE_BYTES) {
 				throw new InvalidSerializationException("leaf doesn't have required keyhash and value");
 			}
 			return new DictionaryLeafNode(leaf.getKey().toByteArray(), leaf.getValue().toByteArray());
@@ -271,12 +438,18 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 			//System.out.println(updatedNode);
 			//System.out.println("is leaf");
 			MptSerialization.Leaf leaf = updatedNode.getLeaf();
+			if (leaf.getKey().size() != Digest256.SIZE_BYTES || leaf.getValue().size() != Digest256.SIZE_BYTES) {
+				throw new InvalidSerializationException("leaf doesn't have required keyhash and value");
+			}
 			return new DictionaryLeafNode(leaf.getKey().toByteArray(), leaf.getValue().toByteArray());
 		case STUB:
 			//System.out.println(updatedNode);
 			//System.out.println("is STUB");
 			MptSerialization.Stub stub = updatedNode.getStub();
-			return new Stub(stub.getHash().toByteArray());
+			if (stub.getHash().size() != Digest256.SIZE_BYTES) {
+				throw new InvalidSerializationException("stub doesn't have a hash");
+			}
+			return new Stub(Digest256.fromByteString(stub.getHash()));
 		case NODE_NOT_SET:
 			throw new InvalidSerializationException("tried to use a cached node that is not present");
 		default:
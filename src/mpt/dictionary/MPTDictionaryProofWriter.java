@@ -0,0 +1,243 @@
+package mpt.dictionary;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+
+import crpyto.CryptographicDigest;
+import mpt.core.Node;
+import mpt.core.Utils;
+
+/**
+ * NOT THREADSAFE
+ *
+ * Writes proofs for keys in a full MPT directly in the
+ * wire format of a MerklePrefixTrie. The output is
+ * byte for byte the same as
+ * new MPTDictionaryPartial(fullMPT, keys).serialize().toByteString()
+ * but no partial MPT or protobuf builders are created.
+ *
+ * A proof is written in two passes over the paths: the first
+ * calculates the (length prefixed) sizes of the interior
+ * nodes and the second writes the nodes. The
+ * buffers are reused between proofs.
+ *
+ */
+public class MPTDictionaryProofWriter {
+
+	// tags (field number << 3 | length delimited)
+	// of the fields in mpt.proto
+	private static final int ROOT_TAG = (1 << 3) | 2;
+	private static final int INTERIOR_NODE_TAG = (1 << 3) | 2;
+	private static final int LEAF_TAG = (2 << 3) | 2;
+	private static final int STUB_TAG = (3 << 3) | 2;
+	private static final int EMPTY_LEAF_TAG = (4 << 3) | 2;
+	private static final int LEFT_TAG = (1 << 3) | 2;
+	private static final int RIGHT_TAG = (2 << 3) | 2;
+	private static final int KEY_TAG = (1 << 3) | 2;
+	private static final int VALUE_TAG = (2 << 3) | 2;
+	private static final int HASH_TAG = (1 << 3) | 2;
+
+	// sizes of the fixed size messages
+	private static final int HASH_FIELD_SIZE = MPTDictionaryProofWriter.fieldSize(CryptographicDigest.getSizeBytes());
+	private static final int STUB_SIZE = HASH_FIELD_SIZE;
+	private static final int LEAF_SIZE = 2 * HASH_FIELD_SIZE;
+	private static final int STUB_NODE_SIZE = MPTDictionaryProofWriter.fieldSize(STUB_SIZE);
+	private static final int LEAF_NODE_SIZE = MPTDictionaryProofWriter.fieldSize(LEAF_SIZE);
+	private static final int EMPTY_LEAF_NODE_SIZE = MPTDictionaryProofWriter.fieldSize(0);
+
+	// sizes of the interior nodes on the paths, in pre-order
+	private int[] interiorSizes;
+	private int interiorCount;
+	private int interiorCursor;
+
+	// reused output buffer
+	private byte[] buffer;
+
+	public MPTDictionaryProofWriter() {
+		this.interiorSizes = new int[CryptographicDigest.getSizeBits()];
+		this.buffer = new byte[1024];
+	}
+
+	/**
+	 * Write the proof for the keys as an encoded MerklePrefixTrie
+	 * @param fullMPT - the full MPT to write the proof from
+	 * @param keys - the keys to include in the proof
+	 * @return
+	 */
+	public ByteString writeProof(MPTDictionaryFull fullMPT, List<byte[]> keys) {
+		List<byte[]> sortedKeys = MPTDictionaryProofWriter.sortKeys(keys);
+		int size = this.calculateSizes(fullMPT, sortedKeys);
+		if(this.buffer.length < size) {
+			this.buffer = new byte[Math.max(size, 2 * this.buffer.length)];
+		}
+		CodedOutputStream out = CodedOutputStream.newInstance(this.buffer, 0, size);
+		this.write(fullMPT, sortedKeys, out);
+		// copy out of the reused buffer
+		return ByteString.copyFrom(this.buffer, 0, size);
+	}
+
+	/**
+	 * Write the proof for the keys as an encoded MerklePrefixTrie
+	 * to the output stream.
+	 * @param fullMPT - the full MPT to write the proof from
+	 * @param keys - the keys to include in the proof
+	 * @param out - the stream to write to
+	 * @return the number of bytes written
+	 * @throws IOException
+	 */
+	public int writeProof(MPTDictionaryFull fullMPT, List<byte[]> keys, CodedOutputStream out) throws IOException {
+		List<byte[]> sortedKeys = MPTDictionaryProofWriter.sortKeys(keys);
+		int size = this.calculateSizes(fullMPT, sortedKeys);
+		this.write(fullMPT, sortedKeys, out);
+		return size;
+	}
+
+	private int calculateSizes(MPTDictionaryFull fullMPT, List<byte[]> sortedKeys) {
+		this.interiorCount = 0;
+		int rootSize = this.sizeHelper(fullMPT.root, -1, sortedKeys, 0, sortedKeys.size());
+		return MPTDictionaryProofWriter.fieldSize(rootSize);
+	}
+
+	private void write(MPTDictionaryFull fullMPT, List<byte[]> sortedKeys, CodedOutputStream out) {
+		this.interiorCursor = 0;
+		try {
+			this.writeHelper(fullMPT.root, -1, sortedKeys, 0, sortedKeys.size(), ROOT_TAG, out);
+			out.flush();
+		} catch (IOException e) {
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Calculates the size of the encoded Node for the (copied)
+	 * currentNode, recording the sizes of the interior nodes
+	 * in pre-order. The keys whose paths go through the
+	 * current node are sortedKeys[lo:hi]
+	 */
+	private int sizeHelper(final Node currentNode, final int currentBitIndex,
+			final List<byte[]> sortedKeys, final int lo, final int hi) {
+		// case: not on the path to any key
+		if(lo == hi) {
+			if(currentNode.isEmpty()) {
+				return EMPTY_LEAF_NODE_SIZE;
+			}
+			return STUB_NODE_SIZE;
+		}
+		// case: at the end of a path
+		if(currentNode.isLeaf()) {
+			if(currentNode.isEmpty()) {
+				return EMPTY_LEAF_NODE_SIZE;
+			}
+			return LEAF_NODE_SIZE;
+		}
+		// case: intermediate node - reserve the slot
+		// for this node before visiting the children
+		int slot = this.interiorCount;
+		if(slot == this.interiorSizes.length) {
+			int[] larger = new int[2 * this.interiorSizes.length];
+			System.arraycopy(this.interiorSizes, 0, larger, 0, slot);
+			this.interiorSizes = larger;
+		}
+		this.interiorCount++;
+		int split = MPTDictionaryProofWriter.split(sortedKeys, lo, hi, currentBitIndex + 1);
+		int leftSize = this.sizeHelper(currentNode.getLeftChild(), currentBitIndex + 1, sortedKeys, lo, split);
+		int rightSize = this.sizeHelper(currentNode.getRightChild(), currentBitIndex + 1, sortedKeys, split, hi);
+		int interiorSize = MPTDictionaryProofWriter.fieldSize(leftSize) +
+				MPTDictionaryProofWriter.fieldSize(rightSize);
+		this.interiorSizes[slot] = interiorSize;
+		return MPTDictionaryProofWriter.fieldSize(interiorSize);
+	}
+
+	/**
+	 * Writes the currentNode as a Node in the field with the tag.
+	 * Must visit the nodes in the same order as sizeHelper.
+	 */
+	private void writeHelper(final Node currentNode, final int currentBitIndex,
+			final List<byte[]> sortedKeys, final int lo, final int hi,
+			final int tag, final CodedOutputStream out) throws IOException {
+		boolean onPath = lo < hi;
+		if(currentNode.isEmpty()) {
+			out.writeUInt32NoTag(tag);
+			out.writeUInt32NoTag(EMPTY_LEAF_NODE_SIZE);
+			out.writeUInt32NoTag(EMPTY_LEAF_TAG);
+			out.writeUInt32NoTag(0);
+			return;
+		}
+		if(!onPath) {
+			out.writeUInt32NoTag(tag);
+			out.writeUInt32NoTag(STUB_NODE_SIZE);
+			out.writeUInt32NoTag(STUB_TAG);
+			out.writeUInt32NoTag(STUB_SIZE);
+			MPTDictionaryProofWriter.writeHash(HASH_TAG, currentNode.getHash(), out);
+			return;
+		}
+		if(currentNode.isLeaf()) {
+			out.writeUInt32NoTag(tag);
+			out.writeUInt32NoTag(LEAF_NODE_SIZE);
+			out.writeUInt32NoTag(LEAF_TAG);
+			out.writeUInt32NoTag(LEAF_SIZE);
+			MPTDictionaryProofWriter.writeHash(KEY_TAG, currentNode.getKey(), out);
+			MPTDictionaryProofWriter.writeHash(VALUE_TAG, currentNode.getValue(), out);
+			return;
+		}
+		int interiorSize = this.interiorSizes[this.interiorCursor];
+		this.interiorCursor++;
+		out.writeUInt32NoTag(tag);
+		out.writeUInt32NoTag(MPTDictionaryProofWriter.fieldSize(interiorSize));
+		out.writeUInt32NoTag(INTERIOR_NODE_TAG);
+		out.writeUInt32NoTag(interiorSize);
+		int split = MPTDictionaryProofWriter.split(sortedKeys, lo, hi, currentBitIndex + 1);
+		this.writeHelper(currentNode.getLeftChild(), currentBitIndex + 1, sortedKeys, lo, split, LEFT_TAG, out);
+		this.writeHelper(currentNode.getRightChild(), currentBitIndex + 1, sortedKeys, split, hi, RIGHT_TAG, out);
+	}
+
+	private static void writeHash(int tag, byte[] hash, CodedOutputStream out) throws IOException {
+		out.writeUInt32NoTag(tag);
+		out.writeUInt32NoTag(hash.length);
+		out.writeRawBytes(hash);
+	}
+
+	/**
+	 * Size of a length delimited field (tag, length and contents)
+	 */
+	private static int fieldSize(int size) {
+		return 1 + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+	}
+
+	/**
+	 * Returns the index of the first key in sortedKeys[lo:hi] that
+	 * has a 1 at the bit index, since the keys are sorted the keys
+	 * before this index go left and the keys after go right
+	 */
+	private static int split(final List<byte[]> sortedKeys, final int lo, final int hi, final int bitIndex) {
+		int split = lo;
+		while(split < hi && !Utils.getBit(sortedKeys.get(split), bitIndex)) {
+			split++;
+		}
+		return split;
+	}
+
+	/**
+	 * Sorts the keys in the order of their paths
+	 * (lexicographic order of the unsigned bytes)
+	 */
+	private static List<byte[]> sortKeys(List<byte[]> keys){
+		List<byte[]> sortedKeys = new ArrayList<>(keys);
+		Collections.sort(sortedKeys, (a, b) -> {
+			for(int i = 0; i < Math.min(a.length, b.length); i++) {
+				int cmp = Integer.compare(a[i] & 0xff, b[i] & 0xff);
+				if(cmp != 0) {
+					return cmp;
+				}
+			}
+			return Integer.compare(a.length, b.length);
+		});
+		return sortedKeys;
+	}
+
+}
@@ -0,0 +1,72 @@
+package mpt.dictionary;
+
+import java.util.Arrays;
+
+import mpt.core.InsufficientAuthenticationDataException;
+import mpt.core.InvalidSerializationException;
+import mpt.core.ProofVerifier;
+
+/**
+ * NOT THREADSAFE
+ * 
+ * Verifies proofs for MPT dictionaries directly from 
+ * their serialization (see ProofVerifier). This is 
+ * equivalent to deserializing an MPTDictionaryPartial, 
+ * checking its commitment and calling get(key) but 
+ * does not build the partial MPT. A verifier 
+ * should be reused for many proofs.
+ *
+ */
+public class MPTDictionaryVerifier {
+	
+	private final ProofVerifier verifier;
+	
+	public MPTDictionaryVerifier() {
+		this.verifier = new ProofVerifier(false);
+	}
+	
+	/**
+	 * Verify that the proof matches the commitment and 
+	 * look up the value the key maps to
+	 * @param proof - the serialized partial MPT
+	 * @param commitment - the commitment the proof must match
+	 * @param key - the key to look up
+	 * @return ProofVerifier.INVALID if the proof does not match the commitment, 
+	 * ProofVerifier.NOT_FOUND if the key is not in the dictionary and otherwise 
+	 * the offset of the value in the proof
+	 * @throws InvalidSerializationException - if the proof cannot be decoded
+	 * @throws InsufficientAuthenticationDataException - if the proof does 
+	 * not contain the path to the key
+	 */
+	public int lookup(byte[] proof, byte[] commitment, byte[] key) throws InvalidSerializationException, 
+		InsufficientAuthenticationDataException {
+		return this.verifier.verify(proof, commitment, key);
+	}
+	
+	/**
+	 * Verify that the proof matches the commitment and 
+	 * that the key maps to the value
+	 * @param proof - the serialized partial MPT
+	 * @param commitment - the commitment the proof must match
+	 * @param key - the key to look up 
+	 * @param value - the expected value or null if the 
+	 * key should not be in the dictionary
+	 * @return true if the proof matches the commitment and 
+	 * the key maps to the value, false otherwise 
+	 * @throws InvalidSerializationException - if the proof cannot be decoded
+	 * @throws InsufficientAuthenticationDataException - if the proof does 
+	 * not contain the path to the key
+	 */
+	public boolean verify(byte[] proof, byte[] commitment, byte[] key, byte[] value) throws 
+		InvalidSerializationException, InsufficientAuthenticationDataException {
+		int result = this.verifier.verify(proof, commitment, key);
+		if(result == ProofVerifier.INVALID) {
+			return false;
+		}
+		if(result == ProofVerifier.NOT_FOUND) {
+			return value == null;
+		}
+		return value != null && Arrays.equals(proof, result, result + value.length, value, 0, value.length);
+	}
+
+}
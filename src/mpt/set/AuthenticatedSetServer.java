@@ -1,5 +1,6 @@
 package mpt.set;
 
+import crpyto.Digest256;
 import serialization.generated.MptSerialization.MerklePrefixTrie;
 
 /**
@@ -63,6 +64,13 @@ public interface AuthenticatedSetServer {
 	 */
 	public byte[] commitment();
 	
+	/**
+	 * The same as commitment(), but 
+	 * the commitment is not copied
+	 * @return
+	 */
+	public Digest256 commitmentDigest();
+	
 	/**
 	 * Returns a protobuf serialization of this 
 	 * data structure that can easily be 
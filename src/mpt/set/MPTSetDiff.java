@@ -0,0 +1,83 @@
+package mpt.set;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MUTABLE
+ *
+ * The result of reconciling an MPT set with another
+ * set (see MPTSetFull.diff). Reconciliation proceeds in rounds:
+ * each round compares summaries of the other set's subtrees
+ * and the prefixes whose subtrees differ but can not be
+ * resolved yet are returned as the prefixes to summarize
+ * in the next round. Reconciliation is complete when there
+ * are no unresolved prefixes.
+ */
+public class MPTSetDiff {
+
+	// values in the other set but not in this set
+	private final List<byte[]> added;
+	// values in this set but not in the other set
+	private final List<byte[]> removed;
+	// the prefixes to compare in the next round
+	private List<Prefix> unresolved;
+
+	/**
+	 * Start reconciling from the root
+	 */
+	public MPTSetDiff() {
+		this.added = new ArrayList<>();
+		this.removed = new ArrayList<>();
+		this.unresolved = new ArrayList<>();
+		this.unresolved.add(Prefix.root());
+	}
+
+	void add(byte[] value) {
+		this.added.add(value);
+	}
+
+	void remove(byte[] value) {
+		this.removed.add(value);
+	}
+
+	/**
+	 * Start the next round
+	 * @return the prefixes to compare in this round
+	 */
+	List<Prefix> nextRound() {
+		List<Prefix> round = this.unresolved;
+		this.unresolved = new ArrayList<>();
+		return round;
+	}
+
+	void unresolved(Prefix prefix) {
+		this.unresolved.add(prefix);
+	}
+
+	/**
+	 * @return the values that are in the other set but not in this set
+	 */
+	public List<byte[]> getAdded() {
+		return this.added;
+	}
+
+	/**
+	 * @return the values that are in this set but not in the other set
+	 */
+	public List<byte[]> getRemoved() {
+		return this.removed;
+	}
+
+	/**
+	 * @return the prefixes of the other set that must be summarized next
+	 */
+	public List<Prefix> getUnresolved() {
+		return this.unresolved;
+	}
+
+	public boolean isComplete() {
+		return this.unresolved.isEmpty();
+	}
+
+}
@@ -1,15 +1,22 @@
 package mpt.set;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import crpyto.CryptographicDigest;
+import crpyto.Digest256;
 import mpt.core.EmptyLeafNode;
 import mpt.core.InteriorNode;
 import mpt.core.InvalidSerializationException;
+import mpt.core.MPTSnapshot;
 import mpt.core.Node;
 import mpt.core.SetLeafNode;
 import mpt.core.Utils;
@@ -100,9 +107,10 @@ public class MPTSetFull implements AuthenticatedSetServer {
 	}
 
 	private static Node split(final SetLeafNode a, final SetLeafNode b, final int currentBitIndex) {
-		assert !Arrays.equals(a.getValue(), b.getValue());
-		boolean bitA = Utils.getBit(a.getValue(), currentBitIndex + 1);
-		boolean bitB = Utils.getBit(b.getValue(), currentBitIndex + 1);
+		assert !a.getDigest().equals(b.getDigest());
+		// the value of a set leaf is its hash
+		boolean bitA = a.getDigest().getBit(currentBitIndex + 1);
+		boolean bitB = b.getDigest().getBit(currentBitIndex + 1);
 		// still collision, split again
 		if (bitA == bitB) {
 			// recursively split
@@ -213,6 +221,11 @@ public class MPTSetFull implements AuthenticatedSetServer {
 		return this.root.getHash();
 	};
 	
+	@Override
+	public Digest256 commitmentDigest() {
+		return this.root.getDigest();
+	}
+	
 	private static Node parseNode(MptSerialization.Node nodeSerialization) throws InvalidSerializationException {
 		switch (nodeSerialization.getNodeCase()) {
 		case INTERIOR_NODE:
@@ -227,10 +240,10 @@ public class MPTSetFull implements AuthenticatedSetServer {
 			throw new InvalidSerializationException("serialized full mpt should not have stubs");
 		case LEAF:
 			MptSerialization.Leaf leaf = nodeSerialization.getLeaf();
-			if (!leaf.getKey().isEmpty() || leaf.getValue().isEmpty()) {
+			if (!leaf.getKey().isEmpty() || leaf.getValue().size() != Digest256.SIZE_BYTES) {
 				throw new InvalidSerializationException("set leaf should only have a value");
 			}
-			return new SetLeafNode(leaf.getValue().toByteArray());
+			return new SetLeafNode(Digest256.fromByteString(leaf.getValue()));
 		case EMPTYLEAF:
 			return new EmptyLeafNode();
 		case NODE_NOT_SET:
@@ -283,6 +296,123 @@ public class MPTSetFull implements AuthenticatedSetServer {
 		return builder.build();
 	}
 
+	/**
+	 * Write a flat snapshot of the full MPT set (see MPTSnapshot). 
+	 * Snapshots are much faster to write and read than the 
+	 * protobuf serialization. 
+	 * @param includeHashes - if true the hashes of the interior 
+	 * nodes are included, so they are not recalculated when 
+	 * the snapshot is read
+	 * @return
+	 */
+	public ByteBuffer snapshot(boolean includeHashes) {
+		return MPTSnapshot.write(this.root, includeHashes);
+	}
+	
+	/**
+	 * Read a full MPT set from a snapshot
+	 * @param snapshot
+	 * @return
+	 * @throws InvalidSerializationException - if the snapshot cannot be read
+	 */
+	public static MPTSetFull fromSnapshot(ByteBuffer snapshot) throws InvalidSerializationException {
+		return new MPTSetFull(MPTSnapshot.read(snapshot, true));
+	}
+
+	/**
+	 * Summarize the subtree at a prefix, so that it can be compared
+	 * with the same subtree in another set (see diff)
+	 * @param prefix
+	 * @return the summary of the subtree
+	 */
+	public SubtreeSummary summarize(Prefix prefix) {
+		Node node = this.getSubtree(prefix);
+		if(!node.isLeaf()) {
+			return SubtreeSummary.interior(prefix, node.getHash());
+		}
+		if(node.isEmpty()) {
+			return SubtreeSummary.empty(prefix);
+		}
+		return SubtreeSummary.leaf(prefix, node.getValue());
+	}
+
+	/**
+	 * Compare this set with another set, one round at a time.
+	 * The other set's subtrees at the unresolved prefixes of the diff
+	 * are compared with the subtrees of this set. Equal subtrees are
+	 * skipped, the values in subtrees that are empty or contain a single
+	 * value in the other set are added to the diff and the remaining
+	 * subtrees are split into their children, which are compared
+	 * in the next round. The work done is proportional to the
+	 * number of values that differ (times the height of the MPT)
+	 * rather than to the size of the sets.
+	 * @param other - the summaries of the other set's subtrees at the
+	 * unresolved prefixes of the diff
+	 * @param diff - the result so far
+	 */
+	public void diff(List<SubtreeSummary> other, MPTSetDiff diff) {
+		Set<Prefix> requested = new HashSet<>(diff.nextRound());
+		for(SubtreeSummary summary : other) {
+			Prefix prefix = summary.getPrefix();
+			// ignore any summaries that were not asked for
+			if(!requested.remove(prefix)) {
+				continue;
+			}
+			Node node = this.getSubtree(prefix);
+			if(summary.isInterior()) {
+				// the other set has at least two values here
+				if(prefix.getLength() < CryptographicDigest.getSizeBits() &&
+						(node.isLeaf() || !Arrays.equals(node.getHash(), summary.getHash()))) {
+					diff.unresolved(prefix.child(false));
+					diff.unresolved(prefix.child(true));
+				}
+				continue;
+			}
+			byte[] value = summary.isLeaf() ? summary.getValue() : null;
+			List<byte[]> values = new ArrayList<>();
+			MPTSetFull.getValues(node, values);
+			boolean found = false;
+			for(byte[] v : values) {
+				if(value != null && Arrays.equals(v, value)) {
+					found = true;
+				}else {
+					diff.remove(v);
+				}
+			}
+			if(value != null && !found) {
+				diff.add(value);
+			}
+		}
+		// summaries that are missing must be asked for again
+		for(Prefix prefix : requested) {
+			diff.unresolved(prefix);
+		}
+	}
+
+	private Node getSubtree(Prefix prefix) {
+		Node node = this.root;
+		for(int i = 0; i < prefix.getLength() && !node.isLeaf(); i++) {
+			node = prefix.getBit(i) ? node.getRightChild() : node.getLeftChild();
+		}
+		// a leaf above the prefix is only in the subtree if its value
+		// starts with the prefix
+		if(node.isLeaf() && !node.isEmpty() && !prefix.isPrefixOf(node.getValue())) {
+			return new EmptyLeafNode();
+		}
+		return node;
+	}
+
+	private static void getValues(Node node, List<byte[]> values) {
+		if(node.isLeaf()) {
+			if(!node.isEmpty()) {
+				values.add(node.getValue());
+			}
+			return;
+		}
+		MPTSetFull.getValues(node.getLeftChild(), values);
+		MPTSetFull.getValues(node.getRightChild(), values);
+	}
+
 	/**
 	 * Returns the height of the tree. Height is defined as the maximum possible
 	 * distance from the leaf to the root node (TODO: I'm not sure this should be a
@@ -7,6 +7,7 @@ import java.util.List;
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import crpyto.CryptographicDigest;
+import crpyto.Digest256;
 import mpt.core.EmptyLeafNode;
 import mpt.core.InsufficientAuthenticationDataException;
 import mpt.core.InteriorNode;
@@ -40,8 +41,8 @@ public class MPTSetPartial implements AuthenticatedSetClient {
 	 */
 	public MPTSetPartial(MPTSetFull fullMPTSet) {
 		// just copies the root
-		this.root = new InteriorNode(new Stub(fullMPTSet.root.getLeftChild().getHash()),
-				new Stub(fullMPTSet.root.getRightChild().getHash()));
+		this.root = new InteriorNode(new Stub(fullMPTSet.root.getLeftChild().getDigest()),
+				new Stub(fullMPTSet.root.getRightChild().getDigest()));
 	}
 	
 	/**
@@ -82,7 +83,7 @@ public class MPTSetPartial implements AuthenticatedSetClient {
 			if(copyNode.isEmpty()) {
 				return new EmptyLeafNode();
 			}
-			return new Stub(copyNode.getHash());
+			return new Stub(copyNode.getDigest());
 		}
 		// case: if this is on the path to a key hash
 		// subcase: if we are at the end of a path
@@ -196,16 +197,16 @@ public class MPTSetPartial implements AuthenticatedSetClient {
 			return new InteriorNode(left, right);
 		case STUB:
 			MptSerialization.Stub stub = nodeSerialization.getStub();
-			if (stub.getHash().isEmpty()) {
+			if (stub.getHash().size() != Digest256.SIZE_BYTES) {
 				throw new InvalidSerializationException("stub doesn't have a hash");
 			}
-			return new Stub(stub.getHash().toByteArray());
+			return new Stub(Digest256.fromByteString(stub.getHash()));
 		case LEAF:
 			MptSerialization.Leaf leaf = nodeSerialization.getLeaf();
-			if (!leaf.getKey().isEmpty() || leaf.getValue().isEmpty()) {
+			if (!leaf.getKey().isEmpty() || leaf.getValue().size() != Digest256.SIZE_BYTES) {
 				throw new InvalidSerializationException("set leaf should only have a value");
 			}
-			return new SetLeafNode(leaf.getValue().toByteArray());
+			return new SetLeafNode(Digest256.fromByteString(leaf.getValue()));
 		case EMPTYLEAF:
 			return new EmptyLeafNode();
 		case NODE_NOT_SET:
@@ -0,0 +1,49 @@
+package mpt.set;
+
+import mpt.core.InsufficientAuthenticationDataException;
+import mpt.core.InvalidSerializationException;
+import mpt.core.ProofVerifier;
+
+/**
+ * NOT THREADSAFE
+ * 
+ * Verifies proofs for MPT sets directly from 
+ * their serialization (see ProofVerifier). This is 
+ * equivalent to deserializing an MPTSetPartial, 
+ * checking its commitment and calling inSet(value) but 
+ * does not build the partial MPT. A verifier 
+ * should be reused for many proofs.
+ *
+ */
+public class MPTSetVerifier {
+	
+	private final ProofVerifier verifier;
+	
+	public MPTSetVerifier() {
+		this.verifier = new ProofVerifier(true);
+	}
+	
+	/**
+	 * Verify that the proof matches the commitment and 
+	 * that the value is (or is not) in the set 
+	 * @param proof - the serialized partial MPT set
+	 * @param commitment - the commitment the proof must match
+	 * @param value - the value to look up
+	 * @param inSet - true if the value should be in the set, 
+	 * false if it should not
+	 * @return true if the proof matches the commitment and 
+	 * the value is in the set iff inSet, false otherwise
+	 * @throws InvalidSerializationException - if the proof cannot be decoded
+	 * @throws InsufficientAuthenticationDataException - if the proof does 
+	 * not contain the path to the value
+	 */
+	public boolean verify(byte[] proof, byte[] commitment, byte[] value, boolean inSet) throws 
+		InvalidSerializationException, InsufficientAuthenticationDataException {
+		int result = this.verifier.verify(proof, commitment, value);
+		if(result == ProofVerifier.INVALID) {
+			return false;
+		}
+		return (result != ProofVerifier.NOT_FOUND) == inSet;
+	}
+
+}
@@ -0,0 +1,102 @@
+package mpt.set;
+
+import java.util.Arrays;
+
+import mpt.core.Utils;
+
+/**
+ * IMMUTABLE
+ *
+ * A path from the root of an MPT set: the first length bits
+ * of prefix (0 - go left, 1 - go right). The empty prefix is the root.
+ */
+public class Prefix {
+
+	private final byte[] bits;
+	private final int length;
+
+	/**
+	 * @param bits - the bits of the prefix, only
+	 * the first length bits are used
+	 * @param length - the number of bits in the prefix
+	 */
+	public Prefix(byte[] bits, int length) {
+		if(length < 0 || length > bits.length * 8) {
+			throw new IllegalArgumentException("invalid prefix length: "+length);
+		}
+		// copy only the used bits so that equal prefixes are equal
+		this.bits = Arrays.copyOf(bits, (length + 7) / 8);
+		if(length % 8 != 0) {
+			this.bits[this.bits.length - 1] &= (byte) (0xff << (8 - length % 8));
+		}
+		this.length = length;
+	}
+
+	/**
+	 * @return the empty prefix (the root)
+	 */
+	public static Prefix root() {
+		return new Prefix(new byte[0], 0);
+	}
+
+	/**
+	 * @param right - true for the right child
+	 * @return the prefix of the left or right child
+	 */
+	public Prefix child(boolean right) {
+		byte[] childBits = Arrays.copyOf(this.bits, this.length / 8 + 1);
+		if(right) {
+			childBits[this.length / 8] |= (byte) (0x80 >>> (this.length % 8));
+		}
+		return new Prefix(childBits, this.length + 1);
+	}
+
+	/**
+	 * @param value
+	 * @return true if the value starts with this prefix
+	 */
+	public boolean isPrefixOf(byte[] value) {
+		for(int i = 0; i < this.length; i++) {
+			if(Utils.getBit(this.bits, i) != Utils.getBit(value, i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean getBit(int index) {
+		return Utils.getBit(this.bits, index);
+	}
+
+	public byte[] getBits() {
+		return this.bits.clone();
+	}
+
+	public int getLength() {
+		return this.length;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if(other instanceof Prefix) {
+			Prefix p = (Prefix) other;
+			return this.length == p.length && Arrays.equals(this.bits, p.bits);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Arrays.hashCode(this.bits) + this.length;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("+");
+		for(int i = 0; i < this.length; i++) {
+			sb.append(this.getBit(i) ? '1' : '0');
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,69 @@
+package mpt.set;
+
+/**
+ * IMMUTABLE
+ *
+ * A summary of the subtree of an MPT set at a prefix, used to
+ * reconcile two sets. The subtree is either empty, a single
+ * value (a leaf) or an interior node, in which case it is
+ * summarized by its hash.
+ */
+public class SubtreeSummary {
+
+	private final Prefix prefix;
+	// the hash of an interior node or
+	// the value of a leaf (null if empty)
+	private final byte[] hash;
+	private final boolean leaf;
+
+	private SubtreeSummary(Prefix prefix, byte[] hash, boolean leaf) {
+		this.prefix = prefix;
+		this.hash = hash;
+		this.leaf = leaf;
+	}
+
+	public static SubtreeSummary interior(Prefix prefix, byte[] hash) {
+		return new SubtreeSummary(prefix, hash.clone(), false);
+	}
+
+	public static SubtreeSummary leaf(Prefix prefix, byte[] value) {
+		return new SubtreeSummary(prefix, value.clone(), true);
+	}
+
+	public static SubtreeSummary empty(Prefix prefix) {
+		return new SubtreeSummary(prefix, null, true);
+	}
+
+	public Prefix getPrefix() {
+		return this.prefix;
+	}
+
+	public boolean isEmpty() {
+		return this.hash == null;
+	}
+
+	public boolean isLeaf() {
+		return this.leaf && this.hash != null;
+	}
+
+	public boolean isInterior() {
+		return !this.leaf;
+	}
+
+	/**
+	 * @return the hash of the interior node
+	 */
+	public byte[] getHash() {
+		assert this.isInterior();
+		return this.hash.clone();
+	}
+
+	/**
+	 * @return the value in the leaf
+	 */
+	public byte[] getValue() {
+		assert this.isLeaf();
+		return this.hash.clone();
+	}
+
+}
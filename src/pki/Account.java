@@ -23,8 +23,12 @@ public class Account implements Serializable, Comparable<Account> {
 	private final String firstName;
 	private final String lastName;
 	private final UUID id;
-	private PublicKey pubKey;
-	private PrivateKey privKey;
+	private volatile PublicKey pubKey;
+	private volatile PrivateKey privKey;
+	// accounts read from a PKI keep the encoded keys and 
+	// only decode them when they are used
+	private final byte[] encodedPubKey;
+	private final byte[] encodedPrivKey;
 	
 	// keeps track of the ADSes this client cares about
 	// technically this does not need to be in the PKI, 
@@ -42,6 +46,8 @@ public class Account implements Serializable, Comparable<Account> {
 		KeyPair keys = CryptographicSignature.generateNewKeyPair();
 		this.pubKey = keys.getPublic();
 		this.privKey = keys.getPrivate();		
+		this.encodedPubKey = null;
+		this.encodedPrivKey = null;
 		this.adsKeys = new HashSet<>();
 	}
 	
@@ -52,6 +58,18 @@ public class Account implements Serializable, Comparable<Account> {
 		this.id = uuid;
 		this.pubKey = pubKey;
 		this.privKey = privKey;
+		this.encodedPubKey = null;
+		this.encodedPrivKey = null;
+		this.adsKeys = adsIds;
+	}
+	
+	private Account(String firstName, String lastName, UUID uuid, 
+			byte[] encodedPubKey, byte[] encodedPrivKey, Set<byte[]> adsIds) {
+		this.firstName = firstName;
+		this.lastName = lastName;
+		this.id = uuid;
+		this.encodedPubKey = encodedPubKey;
+		this.encodedPrivKey = encodedPrivKey;
 		this.adsKeys = adsIds;
 	}
 	
@@ -72,11 +90,22 @@ public class Account implements Serializable, Comparable<Account> {
 	}
 	
 	public PublicKey getPublicKey() {
-		return pubKey;
+		PublicKey key = this.pubKey;
+		if(key == null) {
+			// decoding twice is harmless
+			key = CryptographicSignature.loadPublickKey(this.encodedPubKey);
+			this.pubKey = key;
+		}
+		return key;
 	}
 	
 	public PrivateKey getPrivateKey() {
-		return privKey;
+		PrivateKey key = this.privKey;
+		if(key == null) {
+			key = CryptographicSignature.loadPrivateKey(this.encodedPrivKey);
+			this.privKey = key;
+		}
+		return key;
 	}
 	
 	public UUID getId() {
@@ -108,8 +137,10 @@ public class Account implements Serializable, Comparable<Account> {
 				.setFirstName(this.firstName)
 				.setLastName(this.lastName)
 				.setUuid(this.id.toString())
-				.setEncodedPubkey(ByteString.copyFrom(this.pubKey.getEncoded()))
-				.setEncodedPrivkey(ByteString.copyFrom(this.privKey.getEncoded()))
+				.setEncodedPubkey(ByteString.copyFrom(this.encodedPubKey != null ? 
+						this.encodedPubKey : this.pubKey.getEncoded()))
+				.setEncodedPrivkey(ByteString.copyFrom(this.encodedPrivKey != null ? 
+						this.encodedPrivKey : this.privKey.getEncoded()))
 				.addAllAdsIds(this.adsKeys.stream().map(x -> ByteString.copyFrom(x)).collect(Collectors.toList()))
 				.build();
 		return msg;
@@ -119,23 +150,29 @@ public class Account implements Serializable, Comparable<Account> {
 		try {
 			serialization.generated.MptSerialization.Account account = 
 					serialization.generated.MptSerialization.Account.parseFrom(asBytes);
-			PublicKey pubKey = CryptographicSignature.loadPublickKey(
-					account.getEncodedPubkey().toByteArray());
-			PrivateKey privKey = CryptographicSignature.loadPrivateKey(
-					account.getEncodedPrivkey().toByteArray());	
-			Set<byte[]> adsIds = new HashSet<>();
-			for(ByteString adsId : account.getAdsIdsList()) {
-				adsIds.add(adsId.toByteArray());
-			}
-			UUID id = UUID.fromString(account.getUuid());
-			return new Account(account.getFirstName(), account.getLastName(),
-					id, pubKey, privKey, adsIds);
+			return Account.fromSerialization(account);
 		} catch (InvalidProtocolBufferException e) {
 			e.printStackTrace();
 			throw new RuntimeException(e.getMessage());
 		}
 	}
 	
+	/**
+	 * The keys are not decoded until they are used
+	 * @param account
+	 * @return
+	 */
+	public static Account fromSerialization(serialization.generated.MptSerialization.Account account) {
+		Set<byte[]> adsIds = new HashSet<>();
+		for(ByteString adsId : account.getAdsIdsList()) {
+			adsIds.add(adsId.toByteArray());
+		}
+		UUID id = UUID.fromString(account.getUuid());
+		return new Account(account.getFirstName(), account.getLastName(),
+				id, account.getEncodedPubkey().toByteArray(), 
+				account.getEncodedPrivkey().toByteArray(), adsIds);
+	}
+	
 	@Override
 	public boolean equals(Object obj) {
 		if(obj instanceof Account) {
@@ -145,6 +182,11 @@ public class Account implements Serializable, Comparable<Account> {
 		return super.equals(obj);
 	}
 	
+	@Override
+	public int hashCode() {
+		return this.id.hashCode();
+	}
+	
 	@Override
 	public String toString() {
 		return "<"+this.id.toString()+">";
@@ -0,0 +1,272 @@
+package pki;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import demo.BootstrapMockSetup;
+import serialization.generated.MptSerialization;
+
+/**
+ * THREADSAFE
+ *
+ * A PKIDirectory stored in a single indexed file, for large
+ * numbers of accounts. The file is memory-mapped and accounts are
+ * only read (and their keys only decoded) when they are looked up,
+ * so opening the directory does not depend on the number of accounts.
+ * The most recently used accounts (and their decoded keys) are cached.
+ *
+ * The file is:
+ *
+ * 	[magic - 4 bytes][number of accounts - 4 bytes]
+ * 	[index entries, sorted by UUID]
+ * 	[accounts]
+ *
+ * where each index entry is the UUID (most significant long first)
+ * followed by the offset and length of the serialized account.
+ * Lookups are a binary search over the index.
+ */
+public class IndexedPKIDirectory implements PKIDirectory {
+	private static final Logger logger = Logger.getLogger(IndexedPKIDirectory.class.getName());
+
+	private static final int MAGIC = 0x504b4931;
+	private static final int HEADER_SIZE = 8;
+	// [msb - 8 bytes][lsb - 8 bytes][offset - 8 bytes][length - 4 bytes]
+	private static final int ENTRY_SIZE = 28;
+
+	private static final Comparator<UUID> ORDER = Comparator.comparingLong(UUID::getMostSignificantBits)
+			.thenComparingLong(UUID::getLeastSignificantBits);
+
+	private final MappedByteBuffer file;
+	private final int size;
+
+	// recently used accounts, access ordered
+	private final LinkedHashMap<UUID, Account> cache;
+
+	// metrics
+	private long hits;
+	private long misses;
+
+	/**
+	 * Open an index written by writeIndex
+	 * @param indexFile
+	 * @param maxCachedAccounts - the number of accounts to keep decoded
+	 */
+	public IndexedPKIDirectory(File indexFile, int maxCachedAccounts) {
+		try (RandomAccessFile raf = new RandomAccessFile(indexFile, "r")) {
+			// the mapping stays valid after the file is closed
+			this.file = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+		} catch (IOException e) {
+			e.printStackTrace();
+			throw new RuntimeException("cannot open pki index: "+indexFile);
+		}
+		if(this.file.capacity() < HEADER_SIZE || this.file.getInt(0) != MAGIC) {
+			throw new RuntimeException("not a pki index: "+indexFile);
+		}
+		this.size = this.file.getInt(4);
+		if(this.size < 0 || HEADER_SIZE + (long) this.size * ENTRY_SIZE > this.file.capacity()) {
+			throw new RuntimeException("corrupted pki index: "+indexFile);
+		}
+		this.cache = new LinkedHashMap<UUID, Account>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<UUID, Account> eldest) {
+				return this.size() > maxCachedAccounts;
+			}
+		};
+		logger.log(Level.INFO, "...pki index has "+this.size+" accounts");
+	}
+
+	/**
+	 * Open the index of a directory of account files
+	 * (see FilePKIDirectory), writing it first if it does not exist
+	 * or accounts have been added to or removed from the directory
+	 * since it was written.
+	 * @param dir - the directory of account files
+	 * @param indexFile
+	 * @param maxCachedAccounts - the number of accounts to keep decoded
+	 * @return
+	 */
+	public static IndexedPKIDirectory fromDirectory(String dir, String indexFile, int maxCachedAccounts) {
+		File index = new File(indexFile);
+		if(!index.exists() || index.lastModified() < new File(dir).lastModified()) {
+			logger.log(Level.INFO, "...writing pki index: "+indexFile);
+			IndexedPKIDirectory.writeIndex(dir, index);
+		}
+		return new IndexedPKIDirectory(index, maxCachedAccounts);
+	}
+
+	/**
+	 * Write an index of a directory of account files. The
+	 * accounts are read one at a time and their keys are not decoded.
+	 * @param dir - the directory of account files
+	 * @param indexFile
+	 */
+	public static void writeIndex(String dir, File indexFile) {
+		// [id, file, length] - the accounts are read
+		// again when they are written to the index
+		List<Object[]> accounts = new ArrayList<>();
+		for(File f : new File(dir).listFiles()) {
+			if(!f.isFile()) {
+				continue;
+			}
+			byte[] account = BootstrapMockSetup.readBytesFromFile(f);
+			try {
+				UUID id = UUID.fromString(MptSerialization.Account.parseFrom(account).getUuid());
+				accounts.add(new Object[] {id, f, account.length});
+			} catch (InvalidProtocolBufferException | IllegalArgumentException e) {
+				logger.log(Level.WARNING, "...skipping invalid account file: "+f);
+			}
+		}
+		accounts.sort((x, y) -> ORDER.compare((UUID) x[0], (UUID) y[0]));
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(indexFile)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(accounts.size());
+			long offset = HEADER_SIZE + (long) accounts.size() * ENTRY_SIZE;
+			for(Object[] account : accounts) {
+				UUID id = (UUID) account[0];
+				int length = (int) account[2];
+				out.writeLong(id.getMostSignificantBits());
+				out.writeLong(id.getLeastSignificantBits());
+				out.writeLong(offset);
+				out.writeInt(length);
+				offset += length;
+			}
+			for(Object[] account : accounts) {
+				byte[] bytes = BootstrapMockSetup.readBytesFromFile((File) account[1]);
+				if(bytes.length != (int) account[2]) {
+					throw new IOException("account file changed: "+account[1]);
+				}
+				out.write(bytes);
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+			indexFile.delete();
+			throw new RuntimeException("cannot write pki index: "+indexFile);
+		}
+	}
+
+	@Override
+	public Account getAccount(UUID id) {
+		return this.getAccount(id.getMostSignificantBits(), id.getLeastSignificantBits());
+	}
+
+	@Override
+	public Account getAccount(byte[] uuid) {
+		if(uuid.length != 16) {
+			throw new IllegalArgumentException("a UUID is 16 bytes, not "+uuid.length);
+		}
+		ByteBuffer bytes = ByteBuffer.wrap(uuid);
+		return this.getAccount(bytes.getLong(), bytes.getLong());
+	}
+
+	private Account getAccount(long msb, long lsb) {
+		UUID id = new UUID(msb, lsb);
+		synchronized(this.cache) {
+			Account account = this.cache.get(id);
+			if(account != null) {
+				this.hits++;
+				return account;
+			}
+			this.misses++;
+		}
+		int i = this.find(msb, lsb);
+		if(i < 0) {
+			return null;
+		}
+		Account account = this.read(i);
+		synchronized(this.cache) {
+			Account cached = this.cache.putIfAbsent(id, account);
+			return cached != null ? cached : account;
+		}
+	}
+
+	/**
+	 * @return the position of the account in the index, or -1
+	 */
+	private int find(long msb, long lsb) {
+		int lo = 0;
+		int hi = this.size - 1;
+		while(lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			int entry = HEADER_SIZE + mid * ENTRY_SIZE;
+			int c = Long.compare(this.file.getLong(entry), msb);
+			if(c == 0) {
+				c = Long.compare(this.file.getLong(entry + 8), lsb);
+			}
+			if(c == 0) {
+				return mid;
+			}
+			if(c < 0) {
+				lo = mid + 1;
+			}else {
+				hi = mid - 1;
+			}
+		}
+		return -1;
+	}
+
+	private Account read(int i) {
+		int entry = HEADER_SIZE + i * ENTRY_SIZE;
+		int offset = (int) this.file.getLong(entry + 16);
+		int length = this.file.getInt(entry + 24);
+		byte[] record = new byte[length];
+		ByteBuffer buffer = this.file.asReadOnlyBuffer();
+		buffer.position(offset);
+		buffer.get(record);
+		try {
+			return Account.fromSerialization(MptSerialization.Account.parseFrom(record));
+		} catch (InvalidProtocolBufferException e) {
+			e.printStackTrace();
+			throw new RuntimeException("corrupted pki index entry: "+i);
+		}
+	}
+
+	/**
+	 * Reads every account (without caching them)
+	 */
+	@Override
+	public Set<Account> getAllAccounts() {
+		Set<Account> accounts = new HashSet<>();
+		for(int i = 0; i < this.size; i++) {
+			accounts.add(this.read(i));
+		}
+		return accounts;
+	}
+
+	/**
+	 * @return the number of accounts
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public String toString() {
+		synchronized(this.cache) {
+			return "<IndexedPKIDirectory accounts: "+this.size+" cached: "+this.cache.size()+
+					" hits: "+this.hits+" misses: "+this.misses+">";
+		}
+	}
+
+}
@@ -2,26 +2,44 @@ package server;
 
 import java.io.File;
 import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.google.protobuf.ByteString;
+
 import crpyto.CryptographicUtils;
+import crpyto.Digest256;
 import demo.BootstrapMockSetup;
+import history.HistoryTree;
 import mpt.core.InvalidSerializationException;
-import mpt.core.Utils;
+import mpt.dictionary.MPTDictionaryCompactCodec;
+import mpt.dictionary.MPTDictionaryDelta;
 import mpt.dictionary.MPTDictionaryFull;
 import mpt.dictionary.MPTDictionaryPartial;
+import mpt.dictionary.MPTDictionaryProofWriter;
 import mpt.set.AuthenticatedSetServer;
 import mpt.set.MPTSetFull;
+import mpt.set.Prefix;
+import mpt.set.SubtreeSummary;
 import pki.Account;
 import pki.PKIDirectory;
+import io.grpc.bverify.HistoryProof;
+import io.grpc.bverify.ProofEncoding;
+import io.grpc.bverify.ProofRangeResponse;
+import io.grpc.bverify.ProofStep;
 import io.grpc.bverify.Receipt;
 import serialization.generated.MptSerialization.MerklePrefixTrie;
 
@@ -34,7 +52,37 @@ import serialization.generated.MptSerialization.MerklePrefixTrie;
 public class ADSManager {
 	private static final Logger logger = Logger.getLogger(ADSManager.class.getName());
 
+	// number of the most recent versions of the server 
+	// authentication information kept in memory. 
+	// Older versions are spilled to disk and 
+	// are only loaded (lazily) to answer proof requests
+	private static final int VERSIONS_IN_MEMORY = 16;
+	public static final String AUTH_VERSIONS_DIR = "auth-versions/";
+	public static final String COMMITMENT_LOG_FILE = "commitments.log";
+	// the hashes of the history tree over the commitments
+	public static final String HISTORY_LOG_FILE = "history.log";
+	// the logs are kept with this suffix when they are replaced
+	private static final String DISCARDED_SUFFIX = ".old";
+	
+	// number of the most recent commitments for which the 
+	// changes to the authentication information are kept, 
+	// so clients can update their proofs incrementally 
+	private static final int DELTAS_IN_MEMORY = 256;
+	
+	// number of the most recent commitments for which the 
+	// receipts added and removed are kept, so the receipts 
+	// at (and the diffs between) these commitments are available 
+	private static final int RECEIPT_HISTORY_COMMITMENTS = 4096;
+	
+	// maximum total size of the cached (encoded) proofs 
+	private static final long PROOF_CACHE_BYTES = 64 * 1024 * 1024;
+	
+	// maximum number of receipts in the ADSes kept in memory, 
+	// other ADSes are written to disk until they are used
+	private static final long ADS_STORE_RECEIPTS = 1 << 20;
+
 	private final String adsDir;
+	private final String authVersionsDir;
 
 	// we store a mapping from adsKeys
 	// to sets of clients who control the ADS.
@@ -42,11 +90,14 @@ public class ADSManager {
 	// clients must all sign updates to the ADS.
 	// Java NOTE: cannot use byte[] as a key since
 	// implements referential equality so
-	// instead we wrap it with a string
-	private final Map<String, AuthenticatedSetServer> adsKeyToADS;
-	private final Map<String, Set<Receipt>> adsKeyToADSData;
-	private final Map<String, Set<Account>> adsKeyToADSOwners;
-	private final Map<String, byte[]> adsKeyStringToBytes;
+	// instead we wrap it in a Digest256
+	// (the ADSes and their receipts are kept in the store)
+	private final ADSStore adsStore;
+	private final Map<Digest256, Set<Account>> adsKeyToADSOwners;
+	// the committed versions of the ADSes that have been 
+	// updated since the last commitment (the store only 
+	// has the latest versions)
+	private final Map<Digest256, ADSStore.Entry> committedEntries;
 
 	// current server authentication
 	// information.
@@ -54,75 +105,221 @@ public class ADSManager {
 	// (also referred to as ads id) to the
 	// root value of that ADS.
 	// also save old authentication data 
-	// to generate proofs
+	// to generate proofs - only the most recent 
+	// versions are kept in memory (commitment number -> version)
 	private MPTDictionaryFull serverAuthADS;
-	private List<MPTDictionaryFull> serverAuthADSVersions;
-	// also (although not strictly required)
-	// store the old ads data
-	private List<Map<String, Set<Receipt>>> oldADSData;
+	private final LinkedHashMap<Integer, MPTDictionaryFull> serverAuthADSVersions;
+	// the changes made by each commitment 
+	// (commitment number -> changes since the previous commitment)
+	private final LinkedHashMap<Integer, MPTDictionaryDelta> serverAuthADSDeltas;
+	// the receipts added and removed by each commitment, 
+	// used to reconstruct the receipts at old commitments
+	private final ReceiptHistory receiptHistory;
 
 	// witness information
 	// this should be witnessed using Bitcoin
-	private final List<byte[]> commitments;
+	// (the commitments are kept in a log on disk, 
+	// so they survive restarts - the ADSes are restored 
+	// from the snapshots written when the server stops)
+	private final CommitmentLog commitments;
+	// the receipts are only known for the commitments 
+	// made since the server started
+	private final int firstCommitmentNumber;
+	// a Merkle log over the commitments, so clients can 
+	// check that no commitment was rewritten without 
+	// fetching them all (its hashes are kept in a log on 
+	// disk too, so it is not held in memory or rebuilt)
+	private final HistoryTree commitmentHistory;
+	private final CommitmentLog historyLog;
+	
+	// proofs for old commitments never change 
+	// so we cache the encoded proofs
+	private final ProofCache proofCache;
+	// proofs are written directly to the wire format
+	// (only used while holding the lock)
+	private final MPTDictionaryProofWriter proofWriter;
+	
+	// optionally, after each commit, the proofs for every
+	// ADS are generated in the background so that 
+	// proof requests for the latest commitment are lookups
+	private volatile boolean eagerProofs;
+	private final ExecutorService proofMaterializer;
+	private volatile MaterializedProofs materializedProofs;
+	
+	// listeners are notified of new commitments 
+	// from a separate thread, in order
+	private final List<CommitmentListener> commitmentListeners;
+	private final ExecutorService commitmentNotifier;
 
 	public ADSManager(String adsDir, PKIDirectory pki) {
 		this.adsDir = adsDir;
-		this.serverAuthADSVersions = new ArrayList<>();
-		this.oldADSData = new ArrayList<>();
-		this.commitments = new ArrayList<>();
+		this.authVersionsDir = adsDir + AUTH_VERSIONS_DIR;
+		new File(this.authVersionsDir).mkdirs();
+		this.serverAuthADSVersions = new LinkedHashMap<>();
+		this.serverAuthADSDeltas = new LinkedHashMap<>();
+		this.receiptHistory = new ReceiptHistory(RECEIPT_HISTORY_COMMITMENTS);
+		this.proofCache = new ProofCache(PROOF_CACHE_BYTES);
+		this.proofWriter = new MPTDictionaryProofWriter();
+		this.commitmentListeners = new CopyOnWriteArrayList<>();
+		this.commitmentNotifier = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, "commitment-notifier");
+			t.setDaemon(true);
+			return t;
+		});
+		this.eagerProofs = false;
+		this.proofMaterializer = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, "proof-materializer");
+			t.setDaemon(true);
+			return t;
+		});
 
 		// First all the ADS Keys and
 		// determine which clients care about
 		// each ADS
 		this.adsKeyToADSOwners = new HashMap<>();
-		this.adsKeyStringToBytes = new HashMap<>();
+		this.committedEntries = new HashMap<>();
 		Set<Account> accounts = pki.getAllAccounts();
 		for (Account a : accounts) {
-			logger.log(Level.INFO, "...loading account: " + a.getFirstName());
+			logger.log(Level.FINE, "...loading account: " + a.getFirstName());
 			Set<byte[]> adsKeys = a.getADSKeys();
-			for (byte[] adsKey : adsKeys) {
-				String adsKeyString = Utils.byteArrayAsHexString(adsKey);
-				logger.log(Level.INFO, "...has key: " + adsKeyString);
-				this.adsKeyStringToBytes.put(adsKeyString, adsKey);
-				Set<Account> accs = this.adsKeyToADSOwners.get(adsKeyString);
+			for (byte[] adsKeyBytes : adsKeys) {
+				Digest256 adsKey = Digest256.fromBytes(adsKeyBytes);
+				logger.log(Level.FINE, "...has key: " + adsKey);
+				Set<Account> accs = this.adsKeyToADSOwners.get(adsKey);
 				if (accs == null) {
 					accs = new HashSet<>();
 				}
 				accs.add(a);
-				this.adsKeyToADSOwners.put(adsKeyString, accs);
+				this.adsKeyToADSOwners.put(adsKey, accs);
 			}
 		}
 
-		// next load the actual receipt data
-		// and generate the ADSes
-		this.adsKeyToADSData = new HashMap<>();
-		this.adsKeyToADS = new HashMap<>();
-		this.serverAuthADS = new MPTDictionaryFull();
-		for (String adsKeyString : this.adsKeyStringToBytes.keySet()) {
-			Set<Receipt> receipts = BootstrapMockSetup.loadReceipts(adsDir, adsKeyString);
+		// next restore the ADSes from the snapshots written 
+		// when the server was stopped, which only works if they 
+		// are the ADSes in the last commitment
+		this.adsStore = new ADSStore(adsDir, ADS_STORE_RECEIPTS);
+		CommitmentLog commitments = new CommitmentLog(new File(adsDir + COMMITMENT_LOG_FILE));
+		CommitmentLog historyLog = new CommitmentLog(new File(adsDir + HISTORY_LOG_FILE));
+		MPTDictionaryFull serverAuthADS = this.restoreADSes(commitments, historyLog);
+		if(serverAuthADS == null) {
+			// otherwise load the actual receipt data and generate 
+			// the ADSes. The next commitment would not extend the 
+			// old commitments, so a new log and history are started
+			if(commitments.size() > 0 || historyLog.size() > 0) {
+				logger.log(Level.WARNING, "...cannot restore the ADSes of the last commitment, "
+						+ "starting a new commitment log");
+				commitments.close();
+				historyLog.close();
+				this.discardCommitments();
+				commitments = new CommitmentLog(new File(adsDir + COMMITMENT_LOG_FILE));
+				historyLog = new CommitmentLog(new File(adsDir + HISTORY_LOG_FILE));
+			}
+			serverAuthADS = this.loadADSes();
+		}
+		this.serverAuthADS = serverAuthADS;
+		this.commitments = commitments;
+		this.historyLog = historyLog;
+		this.firstCommitmentNumber = this.commitments.size();
+		// the history is added after the commitment, so it can 
+		// only be missing the last commitment
+		this.commitmentHistory = new HistoryTree(this.historyLog);
+		for(int i = this.commitmentHistory.size(); i < this.commitments.size(); i++) {
+			this.commitmentHistory.append(this.commitments.get(i));
+		}
+
+		// finally add the ADS as the first version
+		logger.log(Level.INFO, "...ADSManager Loaded!");
+	}
+	
+	/**
+	 * Restore the ADSes from their snapshots and rebuild the 
+	 * authentication information from their roots
+	 * @return the authentication information or null if the 
+	 * ADSes cannot be restored or are not the ADSes in the 
+	 * last commitment
+	 */
+	private MPTDictionaryFull restoreADSes(CommitmentLog commitments, CommitmentLog historyLog) {
+		if(commitments.size() == 0) {
+			return null;
+		}
+		MPTDictionaryFull serverAuthADS = new MPTDictionaryFull();
+		try {
+			if(new HistoryTree(historyLog).size() > commitments.size()) {
+				logger.log(Level.WARNING, "...commitment history is ahead of the commitment log");
+				return null;
+			}
+			for (Digest256 adsKey : this.adsKeyToADSOwners.keySet()) {
+				ADSStore.Entry entry = this.adsStore.restore(adsKey);
+				if(entry == null) {
+					logger.log(Level.WARNING, "...no snapshot of ads: " + adsKey);
+					return null;
+				}
+				serverAuthADS.insert(adsKey.toBytes(), entry.getADS().commitment());
+			}
+		} catch (RuntimeException e) {
+			logger.log(Level.WARNING, "...cannot restore the ADSes: " + e);
+			return null;
+		}
+		if(!Arrays.equals(serverAuthADS.commitment(), commitments.get(commitments.size() - 1))) {
+			logger.log(Level.WARNING, "...restored ADSes do not match the last commitment");
+			return null;
+		}
+		// nothing has changed since the last commitment
+		serverAuthADS.reset();
+		logger.log(Level.INFO, "...restored " + this.adsKeyToADSOwners.size() + 
+				" ADSes at commitment #" + (commitments.size() - 1));
+		return serverAuthADS;
+	}
+	
+	/**
+	 * Generate the ADSes from the receipt data
+	 * @return the authentication information
+	 */
+	private MPTDictionaryFull loadADSes() {
+		MPTDictionaryFull serverAuthADS = new MPTDictionaryFull();
+		for (Digest256 adsKey : this.adsKeyToADSOwners.keySet()) {
+			Set<Receipt> receipts = BootstrapMockSetup.loadReceipts(this.adsDir, adsKey.toString());
 			MPTSetFull ads = new MPTSetFull();
 			for (Receipt r : receipts) {
 				byte[] witness = CryptographicUtils.witnessReceipt(r);
 				ads.insert(witness);
 			}
-			logger.log(Level.INFO, "... ads: " + adsKeyString + " - has " + receipts.size() + " receipts");
-			this.adsKeyToADSData.put(adsKeyString, receipts);
-			this.adsKeyToADS.put(adsKeyString, ads);
-			this.serverAuthADS.insert(this.adsKeyStringToBytes.get(adsKeyString), ads.commitment());
+			logger.log(Level.INFO, "... ads: " + adsKey + " - has " + receipts.size() + " receipts");
+			this.adsStore.put(adsKey, ads, receipts);
+			serverAuthADS.insert(adsKey.toBytes(), ads.commitment());
+		}
+		return serverAuthADS;
+	}
+	
+	/**
+	 * Move the commitment log and history aside and delete 
+	 * the versions of the authentication information for them
+	 */
+	private void discardCommitments() {
+		for(String name : new String[] {COMMITMENT_LOG_FILE, HISTORY_LOG_FILE}) {
+			File log = new File(this.adsDir + name);
+			File discarded = new File(this.adsDir + name + DISCARDED_SUFFIX);
+			discarded.delete();
+			if(log.exists() && !log.renameTo(discarded)) {
+				throw new RuntimeException("cannot discard "+log);
+			}
+		}
+		File[] versions = new File(this.authVersionsDir).listFiles();
+		if(versions != null) {
+			for(File version : versions) {
+				version.delete();
+			}
 		}
-
-		// finally add the ADS as the first version
-		logger.log(Level.INFO, "...ADSManager Loaded!");
 	}
 
-	public synchronized AuthenticatedSetServer getADS(byte[] adsId) {
-		// serializes to bytes and deserializes
+	public synchronized AuthenticatedSetServer getADS(Digest256 adsKey) {
+		// writes and reads a snapshot
 		// to get a deep copy with no references
-		String adsKey = Utils.byteArrayAsHexString(adsId);
-		if (this.adsKeyToADS.containsKey(adsKey)) {
-			byte[] toBytes = this.adsKeyToADS.get(adsKey).serialize().toByteArray();
+		ADSStore.Entry entry = this.adsStore.get(adsKey);
+		if (entry != null) {
+			MPTSetFull ads = entry.getADS();
 			try {
-				MPTSetFull copy = MPTSetFull.deserialize(toBytes);
+				MPTSetFull copy = MPTSetFull.fromSnapshot(ads.snapshot(true));
 				return copy;
 			} catch (Exception e) {
 				throw new RuntimeException(e.getMessage());
@@ -131,53 +328,164 @@ public class ADSManager {
 		return null;
 	}
 
-	public synchronized Set<Receipt> getADSData(byte[] adsId, int commitmentNumber) {
-		if (commitmentNumber < 0 || commitmentNumber >= this.commitments.size()) {
+	/**
+	 * @param adsKey
+	 * @return the commitment of the latest version of the ADS
+	 * (including updates that have not been committed yet) or null
+	 * if there is no such ADS
+	 */
+	public synchronized Digest256 getADSCommitment(Digest256 adsKey) {
+		ADSStore.Entry entry = this.adsStore.get(adsKey);
+		if (entry == null) {
+			return null;
+		}
+		return entry.getADS().commitmentDigest();
+	}
+
+	public synchronized Set<Receipt> getADSData(Digest256 adsKey, int commitmentNumber) {
+		if (commitmentNumber < this.getOldestReceiptsCommitmentNumber() || 
+				commitmentNumber >= this.commitments.size()) {
+			return null;
+		}
+		ADSStore.Entry entry = this.getCommittedEntry(adsKey);
+		if(entry == null) {
 			return null;
 		}
-		String adsKey = Utils.byteArrayAsHexString(adsId);
-		Set<Receipt> receipts;
+		Set<Receipt> receipts = entry.getReceipts();
 		// if current commitment 
 		if(commitmentNumber == this.commitments.size() - 1) {
-			receipts = this.adsKeyToADSData.get(adsKey);
+			return new HashSet<Receipt>(receipts);
 		}
-		// if older commitment
-		else {
-			receipts = this.oldADSData.get(commitmentNumber).get(adsKey);
+		// if older commitment, undo the later changes
+		return this.receiptHistory.receiptsAt(adsKey, receipts, commitmentNumber);
+	}
+	
+	/**
+	 * Get the receipts added to and removed from an ADS between 
+	 * two commitments
+	 * @param adsKey
+	 * @param fromCommitmentNumber
+	 * @param toCommitmentNumber
+	 * @return the changes or null if there is no such ADS or 
+	 * the commitments are not valid
+	 */
+	public synchronized ReceiptHistory.Diff getReceiptDiff(Digest256 adsKey, int fromCommitmentNumber,
+			int toCommitmentNumber) {
+		if(fromCommitmentNumber < this.getOldestReceiptsCommitmentNumber() || 
+				fromCommitmentNumber > toCommitmentNumber ||
+				toCommitmentNumber >= this.commitments.size()) {
+			return null;
 		}
-		return new HashSet<Receipt>(receipts);
+		if(!this.adsStore.contains(adsKey)) {
+			return null;
+		}
+		return this.receiptHistory.diff(adsKey, fromCommitmentNumber, toCommitmentNumber);
 	}
 	
-	public synchronized Set<Receipt> getADSData(byte[] adsId) {
-		String adsKey = Utils.byteArrayAsHexString(adsId);
-		Set<Receipt> receipts = this.adsKeyToADSData.get(adsKey);
-		return new HashSet<Receipt>(receipts);
+	/**
+	 * @return the oldest commitment the receipts are known for
+	 */
+	private int getOldestReceiptsCommitmentNumber() {
+		return Math.max(this.firstCommitmentNumber, this.receiptHistory.getOldestCommitmentNumber());
+	}
+	
+	/**
+	 * @param adsKey
+	 * @return the version of the ADS in the current 
+	 * commitment or null if there is no such ADS
+	 */
+	private ADSStore.Entry getCommittedEntry(Digest256 adsKey) {
+		ADSStore.Entry entry = this.committedEntries.get(adsKey);
+		if(entry != null) {
+			return entry;
+		}
+		return this.adsStore.get(adsKey);
+	}
+	
+	public synchronized Set<Receipt> getADSData(Digest256 adsKey) {
+		return new HashSet<Receipt>(this.adsStore.get(adsKey).getReceipts());
+	}
+
+	/**
+	 * Get the receipts in an ADS ordered by witness. 
+	 * The stored receipt sets are never modified (updates 
+	 * replace them) so the index for the latest version is 
+	 * built once, without holding the lock, and reused.
+	 * @param adsKey
+	 * @param commitmentNumber
+	 * @return the index or null if there is no such ADS or commitment
+	 */
+	public ReceiptIndex getReceiptIndex(Digest256 adsKey, int commitmentNumber) {
+		ADSStore.Entry entry;
+		synchronized(this) {
+			if (commitmentNumber < 0 || commitmentNumber >= this.commitments.size()) {
+				return null;
+			}
+			if(commitmentNumber != this.commitments.size() - 1) {
+				Set<Receipt> oldReceipts = this.getADSData(adsKey, commitmentNumber);
+				return oldReceipts == null ? null : new ReceiptIndex(oldReceipts);
+			}
+			entry = this.getCommittedEntry(adsKey);
+			if(entry == null) {
+				return null;
+			}
+			if(entry.getIndex() != null) {
+				return entry.getIndex();
+			}
+		}
+		// the index is kept with this version of the ADS, 
+		// so it is dropped when the ADS is updated or evicted
+		ReceiptIndex index = new ReceiptIndex(entry.getReceipts());
+		synchronized(this) {
+			entry.setIndex(index);
+		}
+		return index;
 	}
 
-	public synchronized void updateADS(byte[] adsKey, Set<Receipt> adsData, AuthenticatedSetServer ads) {
-		String adsKeyString = Utils.byteArrayAsHexString(adsKey);
-		this.adsKeyToADS.put(adsKeyString, ads);
-		this.adsKeyToADSData.put(adsKeyString, adsData);
-		this.serverAuthADS.insert(adsKey, ads.commitment());
+	/**
+	 * Summarize the subtrees of the committed version of an ADS 
+	 * at the given prefixes, so that a client can reconcile 
+	 * its copy of the ADS with the server's. Updates that have 
+	 * not been committed yet are not included, since the client 
+	 * checks the result against the root in the commitment.
+	 * @param adsKey
+	 * @param prefixes
+	 * @return the summaries or null if there is no such ADS
+	 */
+	public synchronized List<SubtreeSummary> summarizeADS(Digest256 adsKey, List<Prefix> prefixes) {
+		ADSStore.Entry entry = this.getCommittedEntry(adsKey);
+		if(entry == null) {
+			return null;
+		}
+		MPTSetFull ads = entry.getADS();
+		List<SubtreeSummary> summaries = new ArrayList<>(prefixes.size());
+		for(Prefix prefix : prefixes) {
+			summaries.add(ads.summarize(prefix));
+		}
+		return summaries;
+	}
+
+	public synchronized void updateADS(Digest256 adsKey, Set<Receipt> adsData, AuthenticatedSetServer ads) {
+		ADSStore.Entry old = this.adsStore.get(adsKey);
+		this.adsStore.put(adsKey, (MPTSetFull) ads, adsData);
+		// the update is part of the next commitment
+		if(old != null) {
+			this.committedEntries.putIfAbsent(adsKey, old);
+			this.receiptHistory.record(adsKey, old.getReceipts(), adsData, this.commitments.size());
+		}
+		this.serverAuthADS.insert(adsKey.toBytes(), ads.commitment());
 	}
 
 	public synchronized byte[] commit() {
-		// copy the auth ADS
-		MerklePrefixTrie asBytes = this.serverAuthADS.serialize();
+		// copy the auth ADS (the hashes are copied too, 
+		// so they are not recalculated for the version)
 		MPTDictionaryFull copy;
 		try {
-			copy = MPTDictionaryFull.deserialize(asBytes);
+			copy = MPTDictionaryFull.fromSnapshot(this.serverAuthADS.snapshot(true));
 			
 			// save the old auth version
-			this.serverAuthADSVersions.add(copy);
-			
-			// also store the old ads data
-			Map<String, Set<Receipt>> adsDataCopy = new HashMap<>();
-			for(Entry<String, Set<Receipt>> kv : this.adsKeyToADSData.entrySet()) {
-				Set<Receipt> setCopy = new HashSet<>(kv.getValue());
-				adsDataCopy.put(kv.getKey(), setCopy);
-			}
-			
+			this.serverAuthADSVersions.put(this.commitments.size(), copy);
+			this.spillVersions(VERSIONS_IN_MEMORY);
 		} catch (InvalidSerializationException e) {
 			e.printStackTrace();
 			throw new RuntimeException("internal error");
@@ -185,30 +493,393 @@ public class ADSManager {
 		// add the commitment
 		byte[] commitment = this.serverAuthADS.commitment();
 		this.commitments.add(commitment);
+		this.commitmentHistory.append(commitment);
+		final int commitmentNumber = this.commitments.size() - 1;
 
-		// clear any changes
+		// save the changes and then clear them
+		this.serverAuthADSDeltas.put(commitmentNumber, new MPTDictionaryDelta(this.serverAuthADS));
+		if(this.serverAuthADSDeltas.size() > DELTAS_IN_MEMORY) {
+			this.serverAuthADSDeltas.remove(this.serverAuthADSDeltas.keySet().iterator().next());
+		}
 		this.serverAuthADS.reset();
+		this.committedEntries.clear();
+		this.receiptHistory.prune(commitmentNumber);
+		
+		if(this.eagerProofs) {
+			// calculate all the hashes now, while holding the lock, 
+			// so that the background job only reads the version
+			copy.commitment();
+			final MPTDictionaryFull version = copy;
+			this.proofMaterializer.submit(() -> this.materializeProofs(commitmentNumber, version));
+		}
+		
+		final byte[] published = commitment.clone();
+		this.commitmentNotifier.submit(() -> {
+			for(CommitmentListener listener : this.commitmentListeners) {
+				try {
+					listener.onCommitment(commitmentNumber, published);
+				}catch(RuntimeException e) {
+					logger.log(Level.WARNING, "...commitment listener failed: "+e);
+				}
+			}
+		});
 		
 		return commitment;
 	}
+	
+	public void addCommitmentListener(CommitmentListener listener) {
+		this.commitmentListeners.add(listener);
+	}
+	
+	public void removeCommitmentListener(CommitmentListener listener) {
+		this.commitmentListeners.remove(listener);
+	}
+	
+	/**
+	 * Enables or disables generating the proofs for every ADS
+	 * in the background after each commit
+	 * @param eagerProofs
+	 */
+	public void setEagerProofs(boolean eagerProofs) {
+		this.eagerProofs = eagerProofs;
+	}
+	
+	private void materializeProofs(int commitmentNumber, MPTDictionaryFull version) {
+		// a newer commitment has already been made - skip
+		if(commitmentNumber != this.getCurrentCommitmentNumber()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		Map<Digest256, ByteString> proofs = new HashMap<>();
+		for(Map.Entry<byte[], MerklePrefixTrie> kv : MPTDictionaryPartial.serializeAllSingleKeyProofs(version)) {
+			proofs.put(Digest256.fromBytes(kv.getKey()), kv.getValue().toByteString());
+		}
+		this.materializedProofs = new MaterializedProofs(commitmentNumber, proofs);
+		logger.log(Level.INFO, "...materialized "+proofs.size()+" proofs for commitment #"+commitmentNumber+
+				" in "+(System.currentTimeMillis() - start)+" ms");
+	}
+	
+	/**
+	 * The single ADS proofs for all ADSes at a commitment
+	 */
+	private static class MaterializedProofs {
+		private final int commitmentNumber;
+		private final Map<Digest256, ByteString> proofs;
+		
+		private MaterializedProofs(int commitmentNumber, Map<Digest256, ByteString> proofs) {
+			this.commitmentNumber = commitmentNumber;
+			this.proofs = proofs;
+		}
+	}
+
+	/**
+	 * Writes the versions of the authentication information 
+	 * that no longer fit in memory to disk, oldest first. 
+	 */
+	private void spillVersions(int versionsInMemory) {
+		Iterator<Map.Entry<Integer, MPTDictionaryFull>> versions = 
+				this.serverAuthADSVersions.entrySet().iterator();
+		while(this.serverAuthADSVersions.size() > versionsInMemory) {
+			Map.Entry<Integer, MPTDictionaryFull> oldest = versions.next();
+			File f = this.getVersionFile(oldest.getKey());
+			BootstrapMockSetup.writeBytesToFile(f, oldest.getValue().snapshot(true).array());
+			versions.remove();
+			logger.log(Level.FINE, "...spilled auth version #"+oldest.getKey()+" to disk");
+		}
+	}
+	
+	/**
+	 * Returns the version of the authentication information 
+	 * for the commitment, loading it from disk 
+	 * if it is no longer held in memory. Versions loaded from disk
+	 * are not retained, so memory use does not grow with 
+	 * the number of commitments.
+	 */
+	private MPTDictionaryFull getVersion(int commitmentNumber) {
+		MPTDictionaryFull version = this.serverAuthADSVersions.get(commitmentNumber);
+		if(version != null) {
+			return version;
+		}
+		File f = this.getVersionFile(commitmentNumber);
+		if(!f.exists()) {
+			return null;
+		}
+		try {
+			return MPTDictionaryFull.fromSnapshot(ByteBuffer.wrap(BootstrapMockSetup.readBytesFromFile(f)));
+		} catch (InvalidSerializationException e) {
+			e.printStackTrace();
+			throw new RuntimeException("corrupted auth version #"+commitmentNumber);
+		}
+	}
+	
+	private File getVersionFile(int commitmentNumber) {
+		return new File(this.authVersionsDir + commitmentNumber);
+	}
 
 	public synchronized int getCurrentCommitmentNumber() {
 		assert this.commitments.size() > 0;
-		assert this.serverAuthADSVersions.size() == this.commitments.size();
+		assert this.serverAuthADSVersions.size() == 
+				Math.min(this.commitments.size() - this.firstCommitmentNumber, VERSIONS_IN_MEMORY);
 		return this.commitments.size() - 1;
 	}
 
-	public synchronized byte[] getCommitment(int commitmentNumber) {
+	public byte[] getCommitment(int commitmentNumber) {
 		return this.commitments.get(commitmentNumber);
 	}
 
-	public synchronized MerklePrefixTrie getProof(List<byte[]> keys, int commitmentNumber) {
+	/**
+	 * @param fromCommitmentNumber
+	 * @return the commitments starting at this number, read 
+	 * directly from the commitment log
+	 */
+	public List<ByteString> getCommitments(int fromCommitmentNumber) {
+		int size = this.commitments.size();
+		return this.commitments.read(Math.min(Math.max(fromCommitmentNumber, 0), size), size);
+	}
+
+	/**
+	 * Prove that a commitment is in the commitment history and 
+	 * that the history extends the version the client last checked
+	 * @param commitmentNumber - the commitment, or -1 for the latest
+	 * @param checkpointSize - the size of the history the client last 
+	 * checked or 0 if there is none
+	 * @param size - the size of the history to prove against, 
+	 * or -1 for the current history
+	 * @return the proofs or null if the arguments are not valid
+	 */
+	public synchronized HistoryProof getHistoryProof(int commitmentNumber, int checkpointSize, int size) {
+		if(size == -1) {
+			size = this.commitments.size();
+		}
+		if(commitmentNumber == -1) {
+			commitmentNumber = size - 1;
+		}
+		if(size < 1 || size > this.commitments.size() || commitmentNumber < 0 || 
+				commitmentNumber >= size || checkpointSize < 0 || checkpointSize > size) {
+			return null;
+		}
+		HistoryProof.Builder proof = HistoryProof.newBuilder()
+				.setCommitmentNumber(commitmentNumber)
+				.setCommitment(ByteString.copyFrom(this.commitments.get(commitmentNumber)))
+				.setSize(size)
+				.setRoot(ByteString.copyFrom(this.commitmentHistory.root(size)));
+		for(byte[] hash : this.commitmentHistory.inclusionProof(commitmentNumber, size)) {
+			proof.addInclusionProof(ByteString.copyFrom(hash));
+		}
+		if(checkpointSize > 0) {
+			for(byte[] hash : this.commitmentHistory.consistencyProof(checkpointSize, size)) {
+				proof.addConsistencyProof(ByteString.copyFrom(hash));
+			}
+		}
+		return proof.build();
+	}
+
+	/**
+	 * Returns an encoded proof (a serialized MerklePrefixTrie) 
+	 * for the keys in the authentication information
+	 * at the given commitment, or null if there is no 
+	 * such commitment. Proofs are cached, so repeated 
+	 * requests are served without rebuilding the proof, 
+	 * and if eager proofs are enabled single ADS proofs for 
+	 * the latest commitment are looked up directly.
+	 * @param keys - the ADS ids to include in the proof
+	 * @param commitmentNumber
+	 * @return
+	 */
+	public ByteString getProof(List<byte[]> keys, int commitmentNumber) {
+		return this.getProof(keys, commitmentNumber, ProofEncoding.PROTOBUF);
+	}
+	
+	/**
+	 * Returns the proof for the keys at the given commitment
+	 * in the requested encoding, or null if there is no 
+	 * such commitment.
+	 * @param keys - the ADS ids to include in the proof
+	 * @param commitmentNumber
+	 * @param encoding - PROTOBUF for a serialized MerklePrefixTrie, 
+	 * COMPACT for the compact encoding (see MPTDictionaryCompactCodec)
+	 * @return
+	 */
+	public ByteString getProof(List<byte[]> keys, int commitmentNumber, ProofEncoding encoding) {
+		ByteString proof = this.lookupProof(keys, commitmentNumber, encoding);
+		if (proof != null) {
+			return proof;
+		}
+		proof = this.generateProof(keys, commitmentNumber, encoding);
+		if (proof != null) {
+			this.proofCache.put(commitmentNumber, keys, encoding, proof);
+		}
+		return proof;
+	}
+	
+	/**
+	 * Returns the encoded proof for the keys at the given 
+	 * commitment if it has already been generated (it is 
+	 * cached or has been materialized) and null otherwise.
+	 * @param keys - the ADS ids to include in the proof
+	 * @param commitmentNumber
+	 * @param encoding
+	 * @return
+	 */
+	public ByteString lookupProof(List<byte[]> keys, int commitmentNumber, ProofEncoding encoding) {
+		MaterializedProofs materialized = this.materializedProofs;
+		if (encoding == ProofEncoding.PROTOBUF && keys.size() == 1 && materialized != null 
+				&& materialized.commitmentNumber == commitmentNumber) {
+			ByteString proof = materialized.proofs.get(Digest256.fromBytes(keys.get(0)));
+			if (proof != null) {
+				return proof;
+			}
+		}
+		return this.proofCache.get(commitmentNumber, keys, encoding);
+	}
+	
+	/**
+	 * Generates the encoded proofs for several groups of keys 
+	 * at the same commitment using a single traversal of the 
+	 * authentication information and caches them. Unlike 
+	 * getProof this does not check for already generated proofs.
+	 * @param keyGroups - the groups of ADS ids, one proof is generated 
+	 * for each group
+	 * @param commitmentNumber
+	 * @param encoding
+	 * @return the proofs in the same order as the groups or null
+	 * if there is no such commitment
+	 */
+	public List<ByteString> getProofs(List<List<byte[]>> keyGroups, int commitmentNumber, 
+			ProofEncoding encoding) {
+		List<ByteString> proofs = this.generateProofs(keyGroups, commitmentNumber, encoding);
+		if (proofs != null) {
+			for (int i = 0; i < proofs.size(); i++) {
+				this.proofCache.put(commitmentNumber, keyGroups.get(i), encoding, proofs.get(i));
+			}
+		}
+		return proofs;
+	}
+	
+	private synchronized ByteString generateProof(List<byte[]> keys, int commitmentNumber, 
+			ProofEncoding encoding) {
 		if (commitmentNumber < 0 || commitmentNumber >= this.commitments.size()) {
 			return null;
 		}
-		MPTDictionaryFull full = this.serverAuthADSVersions.get(commitmentNumber);
-		MPTDictionaryPartial partial = new MPTDictionaryPartial(full, keys);
-		return partial.serialize();
+		MPTDictionaryFull full = this.getVersion(commitmentNumber);
+		if (full == null) {
+			return null;
+		}
+		if (encoding == ProofEncoding.COMPACT) {
+			return ByteString.copyFrom(MPTDictionaryCompactCodec.encode(new MPTDictionaryPartial(full, keys)));
+		}
+		return this.proofWriter.writeProof(full, keys);
+	}
+	
+	private synchronized List<ByteString> generateProofs(List<List<byte[]>> keyGroups, int commitmentNumber, 
+			ProofEncoding encoding) {
+		if (commitmentNumber < 0 || commitmentNumber >= this.commitments.size()) {
+			return null;
+		}
+		MPTDictionaryFull full = this.getVersion(commitmentNumber);
+		if (full == null) {
+			return null;
+		}
+		List<ByteString> proofs = new ArrayList<>();
+		// a single group does not share any paths
+		if (encoding == ProofEncoding.COMPACT || keyGroups.size() == 1) {
+			for (List<byte[]> keys : keyGroups) {
+				proofs.add(this.generateProof(keys, commitmentNumber, encoding));
+			}
+			return proofs;
+		}
+		for (MerklePrefixTrie proof : MPTDictionaryPartial.serializeProofs(full, keyGroups)) {
+			proofs.add(proof.toByteString());
+		}
+		return proofs;
+	}
+	
+	/**
+	 * Returns the updates that take a proof for the keys at 
+	 * commitment fromCommitmentNumber to a proof for the 
+	 * keys at commitment toCommitmentNumber. The updates 
+	 * should be applied in order (see MPTDictionaryPartial.processUpdates) 
+	 * and only contain the parts of the proof that changed. 
+	 * @param keys - the ADS ids in the proof
+	 * @param fromCommitmentNumber
+	 * @param toCommitmentNumber
+	 * @return the updates, one per commitment, or null if the commitments 
+	 * do not exist or the changes are no longer stored (in which case 
+	 * the client should request a new proof)
+	 */
+	public synchronized List<MerklePrefixTrie> getUpdates(List<byte[]> keys, int fromCommitmentNumber, 
+			int toCommitmentNumber) {
+		if (fromCommitmentNumber < 0 || toCommitmentNumber < fromCommitmentNumber || 
+				toCommitmentNumber >= this.commitments.size()) {
+			return null;
+		}
+		List<MerklePrefixTrie> updates = new ArrayList<>();
+		for (int i = fromCommitmentNumber + 1; i <= toCommitmentNumber; i++) {
+			MPTDictionaryDelta delta = this.serverAuthADSDeltas.get(i);
+			if (delta == null) {
+				return null;
+			}
+			updates.add(delta.getUpdates(keys));
+		}
+		return updates;
+	}
+	
+	/**
+	 * Returns the proofs for the keys for a range of commitments: 
+	 * the proof for the first commitment and then for each later 
+	 * commitment the changes to the proof (which only include 
+	 * the nodes that changed, everything else is a stub), 
+	 * or the whole proof if the changes are no longer kept.
+	 * @param keys - the ADS ids to include in the proofs
+	 * @param fromCommitmentNumber
+	 * @param toCommitmentNumber
+	 * @return the proofs or null if the range is not valid 
+	 * or a proof in it cannot be generated
+	 */
+	public ProofRangeResponse getProofRange(List<byte[]> keys, int fromCommitmentNumber, 
+			int toCommitmentNumber) {
+		List<MerklePrefixTrie> updates = new ArrayList<>();
+		synchronized(this) {
+			if (fromCommitmentNumber < 0 || toCommitmentNumber < fromCommitmentNumber || 
+					toCommitmentNumber >= this.commitments.size()) {
+				return null;
+			}
+			for (int i = fromCommitmentNumber + 1; i <= toCommitmentNumber; i++) {
+				MPTDictionaryDelta delta = this.serverAuthADSDeltas.get(i);
+				updates.add(delta == null ? null : delta.getUpdates(keys));
+			}
+		}
+		// a proof can be missing if the version is no longer 
+		// available, in which case the range is not valid
+		ByteString base = this.getProof(keys, fromCommitmentNumber);
+		if (base == null) {
+			return null;
+		}
+		ProofRangeResponse.Builder response = ProofRangeResponse.newBuilder()
+				.setToCommitmentNumber(toCommitmentNumber)
+				.setEncodedBase(base);
+		for (int i = 0; i < updates.size(); i++) {
+			MerklePrefixTrie update = updates.get(i);
+			if (update != null) {
+				response.addSteps(ProofStep.newBuilder().setUpdate(update));
+			}else {
+				int commitmentNumber = fromCommitmentNumber + 1 + i;
+				ByteString proof = this.getProof(keys, commitmentNumber);
+				if (proof == null) {
+					return null;
+				}
+				response.addSteps(ProofStep.newBuilder().setEncodedPath(proof));
+			}
+		}
+		return response.build();
+	}
+	
+	public synchronized String getADSStoreMetrics() {
+		return this.adsStore.toString();
+	}
+
+	public ProofCache getProofCache() {
+		return this.proofCache;
 	}
 
 	public synchronized void save() {
@@ -224,4 +895,25 @@ public class ADSManager {
 		}
 	}
 
+	/**
+	 * Write the committed ADSes and the versions of the authentication 
+	 * information to disk and close the logs, so that the server 
+	 * continues from the last commitment when it is restarted.
+	 * Updates that have not been committed are dropped.
+	 */
+	public synchronized void close() {
+		for(Map.Entry<Digest256, ADSStore.Entry> committed : this.committedEntries.entrySet()) {
+			this.adsStore.put(committed.getKey(), committed.getValue().getADS(), 
+					committed.getValue().getReceipts());
+		}
+		this.committedEntries.clear();
+		this.spillVersions(0);
+		this.adsStore.flush();
+		this.commitmentNotifier.shutdown();
+		this.proofMaterializer.shutdown();
+		this.commitments.close();
+		this.historyLog.close();
+		logger.log(Level.INFO, "...ADSManager closed at commitment #"+(this.commitments.size() - 1));
+	}
+
 }
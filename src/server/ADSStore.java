@@ -0,0 +1,279 @@
+package server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import crpyto.Digest256;
+import demo.BootstrapMockSetup;
+import io.grpc.bverify.Receipt;
+import mpt.core.InvalidSerializationException;
+import mpt.set.MPTSetFull;
+
+/**
+ * NOT THREADSAFE (used by the ADSManager while holding its lock)
+ *
+ * Holds the ADSes (the MPT sets and the receipts in them). Most ADSes
+ * are idle most of the time, so only the recently used ADSes are kept
+ * in memory: the store is bounded by the total number of receipts held
+ * and the least recently used ADSes are evicted first. An evicted ADS
+ * is written to a snapshot file (if it changed since it was last
+ * written) and read back the next time it is used, so only its root
+ * needs to be kept in the authentication information.
+ *
+ * The ADSes and receipt sets returned are never modified by the store,
+ * updates replace them. When the store is flushed every ADS has a 
+ * snapshot, so the store can be restored from them after a restart.
+ */
+public class ADSStore {
+	private static final Logger logger = Logger.getLogger(ADSStore.class.getName());
+
+	public static final String SNAPSHOT_DIR = "ads-snapshots/";
+
+	/**
+	 * IMMUTABLE (except for the index, which is built on first use)
+	 *
+	 * A version of an ADS and its receipts
+	 */
+	public static class Entry {
+		private final MPTSetFull ads;
+		private final Set<Receipt> receipts;
+		// the receipts ordered by witness, for streaming
+		private ReceiptIndex index;
+		// true if the entry has not been written to disk
+		private boolean dirty;
+
+		private Entry(MPTSetFull ads, Set<Receipt> receipts, boolean dirty) {
+			this.ads = ads;
+			this.receipts = receipts;
+			this.dirty = dirty;
+		}
+
+		public MPTSetFull getADS() {
+			return this.ads;
+		}
+
+		public Set<Receipt> getReceipts() {
+			return this.receipts;
+		}
+
+		public ReceiptIndex getIndex() {
+			return this.index;
+		}
+
+		public void setIndex(ReceiptIndex index) {
+			this.index = index;
+		}
+
+		private long weight() {
+			return this.receipts.size() + 1;
+		}
+	}
+
+	private final String snapshotDir;
+	private final long maxReceipts;
+	private long currentReceipts;
+
+	// access ordered, so iteration starts at the
+	// least recently used ADS
+	private final LinkedHashMap<Digest256, Entry> resident;
+	// every ADS in the store, resident or not
+	private final Set<Digest256> adsKeys;
+
+	// metrics
+	private long hits;
+	private long loads;
+	private long evictions;
+	private long writes;
+
+	/**
+	 * @param adsDir - the snapshots are written to a subdirectory
+	 * @param maxReceipts - the number of receipts to keep in memory
+	 */
+	public ADSStore(String adsDir, long maxReceipts) {
+		this.snapshotDir = adsDir + SNAPSHOT_DIR;
+		new File(this.snapshotDir).mkdirs();
+		this.maxReceipts = maxReceipts;
+		this.currentReceipts = 0;
+		this.resident = new LinkedHashMap<>(16, 0.75f, true);
+		this.adsKeys = new HashSet<>();
+	}
+
+	public boolean contains(Digest256 adsKey) {
+		return this.adsKeys.contains(adsKey);
+	}
+
+	public Set<Digest256> getADSKeys() {
+		return Collections.unmodifiableSet(this.adsKeys);
+	}
+
+	/**
+	 * Get the latest version of an ADS, reading it
+	 * from disk if it is not in memory
+	 * @param adsKey
+	 * @return the ADS or null if there is no such ADS
+	 */
+	public Entry get(Digest256 adsKey) {
+		Entry entry = this.resident.get(adsKey);
+		if(entry != null) {
+			this.hits++;
+			return entry;
+		}
+		if(!this.adsKeys.contains(adsKey)) {
+			return null;
+		}
+		entry = this.load(adsKey);
+		this.loads++;
+		this.makeResident(adsKey, entry);
+		return entry;
+	}
+
+	/**
+	 * Replace the latest version of an ADS
+	 * @param adsKey
+	 * @param ads - must not be modified afterwards
+	 * @param receipts - must not be modified afterwards
+	 * @return the new version
+	 */
+	public Entry put(Digest256 adsKey, MPTSetFull ads, Set<Receipt> receipts) {
+		this.adsKeys.add(adsKey);
+		Entry entry = new Entry(ads, receipts, true);
+		Entry previous = this.resident.remove(adsKey);
+		if(previous != null) {
+			this.currentReceipts -= previous.weight();
+		}
+		this.makeResident(adsKey, entry);
+		return entry;
+	}
+
+	/**
+	 * Add an ADS from the snapshot written before the store 
+	 * was last closed
+	 * @param adsKey
+	 * @return the ADS or null if there is no snapshot of it
+	 */
+	public Entry restore(Digest256 adsKey) {
+		if(!this.getSnapshotFile(adsKey).exists()) {
+			return null;
+		}
+		this.adsKeys.add(adsKey);
+		return this.get(adsKey);
+	}
+
+	/**
+	 * Write every ADS that changed since it was last written, so
+	 * that the store can be restored from the snapshots
+	 */
+	public void flush() {
+		for(Map.Entry<Digest256, Entry> entry : this.resident.entrySet()) {
+			if(entry.getValue().dirty) {
+				this.write(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	private void makeResident(Digest256 adsKey, Entry entry) {
+		this.resident.put(adsKey, entry);
+		this.currentReceipts += entry.weight();
+		// the ADS just used is always kept, even if
+		// it is larger than the entire store
+		Iterator<Map.Entry<Digest256, Entry>> lru = this.resident.entrySet().iterator();
+		while(this.currentReceipts > this.maxReceipts && this.resident.size() > 1) {
+			Map.Entry<Digest256, Entry> evicted = lru.next();
+			if(evicted.getValue().dirty) {
+				this.write(evicted.getKey(), evicted.getValue());
+			}
+			this.currentReceipts -= evicted.getValue().weight();
+			lru.remove();
+			this.evictions++;
+			logger.log(Level.FINE, "...evicted ads: "+evicted.getKey());
+		}
+	}
+
+	/**
+	 * The snapshot of an ADS is the snapshot of the MPT set
+	 * (including the hashes, so they are not recalculated)
+	 * followed by the receipts
+	 */
+	private void write(Digest256 adsKey, Entry entry) {
+		try {
+			byte[] ads = entry.ads.snapshot(true).array();
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(ads.length +
+					64 * entry.receipts.size());
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(ads.length);
+			out.write(ads);
+			for(Receipt r : entry.receipts) {
+				r.writeDelimitedTo(out);
+			}
+			out.flush();
+			BootstrapMockSetup.writeBytesToFile(this.getSnapshotFile(adsKey), bytes.toByteArray());
+		} catch (IOException e) {
+			e.printStackTrace();
+			throw new RuntimeException("cannot write ads: "+adsKey);
+		}
+		entry.dirty = false;
+		this.writes++;
+	}
+
+	private Entry load(Digest256 adsKey) {
+		byte[] bytes = BootstrapMockSetup.readBytesFromFile(this.getSnapshotFile(adsKey));
+		try {
+			ByteBuffer snapshot = ByteBuffer.wrap(bytes);
+			int adsLength = snapshot.getInt();
+			snapshot.limit(snapshot.position() + adsLength);
+			MPTSetFull ads = MPTSetFull.fromSnapshot(snapshot.slice());
+			ByteArrayInputStream in = new ByteArrayInputStream(bytes, 4 + adsLength,
+					bytes.length - 4 - adsLength);
+			Set<Receipt> receipts = new HashSet<>();
+			Receipt r;
+			while((r = Receipt.parseDelimitedFrom(in)) != null) {
+				receipts.add(r);
+			}
+			logger.log(Level.FINE, "...loaded ads: "+adsKey+" - has "+receipts.size()+" receipts");
+			return new Entry(ads, receipts, false);
+		} catch (InvalidSerializationException | IOException | RuntimeException e) {
+			e.printStackTrace();
+			throw new RuntimeException("corrupted ads snapshot: "+adsKey);
+		}
+	}
+
+	private File getSnapshotFile(Digest256 adsKey) {
+		return new File(this.snapshotDir + adsKey);
+	}
+
+	public long getHits() {
+		return this.hits;
+	}
+
+	public long getLoads() {
+		return this.loads;
+	}
+
+	public long getEvictions() {
+		return this.evictions;
+	}
+
+	public int getResident() {
+		return this.resident.size();
+	}
+
+	@Override
+	public String toString() {
+		return "<ADSStore ads: "+this.resident.size()+"/"+this.adsKeys.size()+" receipts: "+
+				this.currentReceipts+"/"+this.maxReceipts+" hits: "+this.hits+" loads: "+this.loads+
+				" evictions: "+this.evictions+" writes: "+this.writes+">";
+	}
+
+}
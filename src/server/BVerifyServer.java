@@ -1,29 +1,34 @@
 package server;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
 
-import crpyto.CryptographicSignature;
-import crpyto.CryptographicUtils;
+import crpyto.Digest256;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
+import io.grpc.Status;
 import io.grpc.bverify.BVerifyServerAPIGrpc.BVerifyServerAPIImplBase;
 import io.grpc.bverify.CommitmentsResponse;
-import io.grpc.bverify.IssueReceiptRequest;
+import io.grpc.bverify.ProofEncoding;
 import io.grpc.bverify.Receipt;
-import io.grpc.bverify.TransferReceiptRequest;
-import mpt.core.Utils;
-import mpt.set.AuthenticatedSetServer;
-import pki.Account;
+import io.grpc.stub.ServerCallStreamObserver;
+import mpt.set.Prefix;
+import mpt.set.SubtreeSummary;
+import pki.IndexedPKIDirectory;
 import pki.PKIDirectory;
 import serialization.generated.MptSerialization.MerklePrefixTrie;
 
@@ -35,19 +40,72 @@ public class BVerifyServer {
 	 * but there are a variety of different possible ways to implement this.
 	 */
 	private final PKIDirectory pki;
+	// the accounts are read from an index of the pki directory
+	// and only the most recently used accounts are kept in memory
+	public static final String PKI_INDEX_FILE = "pki.index";
+	private static final int PKI_CACHED_ACCOUNTS = 1 << 16;
 	/*
 	 * ADS Manager used to update the authentication information stored on the
 	 * server.
 	 */
 	private final ADSManager adsManager;
 	
+	// if set to true the server generates the proofs
+	// for every ADS in the background after each commit
+	public static final String EAGER_PROOFS_PROPERTY = "bverify.eagerProofs";
+	
+	// periodically logs server metrics
+	private final ScheduledExecutorService metricsLogger;
+	private static final int METRICS_PERIOD_SECONDS = 60;
+	
+	// how long proof requests are collected before 
+	// being served together
+	private static final long PROOF_COALESCING_WINDOW_MILLIS = 2;
+	
+	// requests forwarded to clients are kept in a bounded
+	// mailbox per client until they are picked up
+	private final ForwardingMailboxes mailboxes;
+	private static final int MAILBOX_CAPACITY = 64;
+	// signatures that have been verified are remembered so
+	// requests that are submitted again are not verified again
+	private final SignatureCache signatureCache;
+	private static final int SIGNATURE_CACHE_SIZE = 1 << 16;
+	// submitted requests are processed in stages (see SubmitPipeline), 
+	// each with its own threads and a queue of at most SUBMIT_QUEUE_CAPACITY 
+	// requests. The Schnorr signatures of up to MAX_VERIFY_BATCH requests 
+	// are verified together. The updates are applied and committed on 
+	// one thread, with at most MAX_COMMIT_BATCH requests in a commitment
+	private final SubmitPipeline submitPipeline;
+	private static final int SUBMIT_DECODE_THREADS = 1;
+	private static final int SUBMIT_PREPARE_THREADS = Runtime.getRuntime().availableProcessors();
+	private static final int SUBMIT_VERIFY_THREADS = Runtime.getRuntime().availableProcessors();
+	private static final int SUBMIT_QUEUE_CAPACITY = 256;
+	private static final int MAX_VERIFY_BATCH = 64;
+	private static final int MAX_COMMIT_BATCH = 256;
+	private static final long FORWARDED_TTL_MILLIS = 10*60*1000;
+	// receipts are streamed in chunks of at most this 
+	// many receipts / (approximately) bytes
+	private static final int DATA_CHUNK_RECEIPTS = 1024;
+	private static final int DATA_CHUNK_BYTES = 1024*1024;
+	// the most commitments included in one proof range
+	private static final int MAX_PROOF_RANGE = 1024;
+	// the most subtrees that can be compared in one round
+	private static final int MAX_RECONCILE_PREFIXES = 1 << 16;
+	// the threads generating the updates (and proofs) 
+	// for the clients watching commitments
+	private static final int COMMITMENT_STREAM_THREADS = Runtime.getRuntime().availableProcessors();
+	// the longest a client can wait for a forwarded request
+	private static final int MAX_FORWARDED_WAIT_MILLIS = 60*1000;
 
 	private void start() throws IOException {
 		/* The port on which the server should run */
 		int port = 50051;
 		server = ServerBuilder.forPort(port).addService(
-				new BVerifyServerImpl(this.pki, this.adsManager)).build().start();
+				new BVerifyServerImpl(this.pki, this.adsManager, this.mailboxes, 
+						this.submitPipeline)).build().start();
 		logger.info("...server started, listening on " + port);
+		this.metricsLogger.scheduleAtFixedRate(this::logMetrics, METRICS_PERIOD_SECONDS, 
+				METRICS_PERIOD_SECONDS, TimeUnit.SECONDS);
 		Runtime.getRuntime().addShutdownHook(new Thread() {
 			@Override
 			public void run() {
@@ -64,6 +122,21 @@ public class BVerifyServer {
 		if (server != null) {
 			server.shutdown();
 		}
+		this.metricsLogger.shutdown();
+		this.mailboxes.shutdown();
+		// no more updates are applied once the pipeline 
+		// has stopped, so the ADSes can be saved
+		this.submitPipeline.shutdown();
+		this.adsManager.close();
+	}
+	
+	private void logMetrics() {
+		logger.log(Level.INFO, "...metrics: "+this.adsManager.getProofCache());
+		logger.log(Level.INFO, "...metrics: "+this.adsManager.getADSStoreMetrics());
+		logger.log(Level.INFO, "...metrics: "+this.mailboxes);
+		logger.log(Level.INFO, "...metrics: "+this.pki);
+		logger.log(Level.INFO, "...metrics: "+this.signatureCache);
+		logger.log(Level.INFO, "...metrics: "+this.submitPipeline);
 	}
 
 	/**
@@ -78,18 +151,25 @@ public class BVerifyServer {
 	
 
 	public BVerifyServer(String base) {
-		this.pki = new PKIDirectory(base + "pki/");
+		this.pki = IndexedPKIDirectory.fromDirectory(base + "pki/", base + PKI_INDEX_FILE, 
+				PKI_CACHED_ACCOUNTS);
 		logger.log(Level.INFO, "...pki loaded");
 
 		// setup the components
+		this.metricsLogger = Executors.newSingleThreadScheduledExecutor();
+		this.mailboxes = new ForwardingMailboxes(MAILBOX_CAPACITY, FORWARDED_TTL_MILLIS);
+		this.signatureCache = new SignatureCache(SIGNATURE_CACHE_SIZE);
 		this.adsManager = new ADSManager(base, this.pki);
+		this.adsManager.setEagerProofs(Boolean.getBoolean(EAGER_PROOFS_PROPERTY));
 		logger.log(Level.INFO, "...adses loaded");
 
 		// do an initial commitment
 		logger.log(Level.INFO, "...doing initial commit");
 		this.adsManager.commit();
 		
-
+		this.submitPipeline = new SubmitPipeline(this.pki, this.adsManager, this.signatureCache, 
+				SUBMIT_DECODE_THREADS, SUBMIT_PREPARE_THREADS, SUBMIT_VERIFY_THREADS, 
+				SUBMIT_QUEUE_CAPACITY, MAX_VERIFY_BATCH, MAX_COMMIT_BATCH);
 	}
 	
 	/**
@@ -106,15 +186,27 @@ public class BVerifyServer {
 	private static class BVerifyServerImpl extends BVerifyServerAPIImplBase {
 		private final PKIDirectory pki;
 		private final ADSManager adsManager;
+		private final ProofCoalescer proofCoalescer;
+		// generates the updates for clients watching commitments
+		private final ExecutorService commitmentStreams;
 		// keep track of requests to forward to clients
-		private final Map<String, io.grpc.bverify.GetForwardedResponse> approvalRequests;
+		private final ForwardingMailboxes mailboxes;
+		private final SubmitPipeline submitPipeline;
 		private static final Logger logger = Logger.getLogger(BVerifyServerImpl.class.getName());
 
 		
-		public BVerifyServerImpl(final PKIDirectory pki, final ADSManager ads) {
+		public BVerifyServerImpl(final PKIDirectory pki, final ADSManager ads, final ForwardingMailboxes mailboxes, 
+				final SubmitPipeline submitPipeline) {
 			this.pki = pki;
 			this.adsManager = ads;
-			this.approvalRequests = new HashMap<>();
+			this.proofCoalescer = new ProofCoalescer(ads, PROOF_COALESCING_WINDOW_MILLIS);
+			this.commitmentStreams = Executors.newFixedThreadPool(COMMITMENT_STREAM_THREADS, r -> {
+				Thread t = new Thread(r, "commitment-streams");
+				t.setDaemon(true);
+				return t;
+			});
+			this.mailboxes = mailboxes;
+			this.submitPipeline = submitPipeline;
 		}
 		
 		public void forward(io.grpc.bverify.ForwardRequest request,
@@ -134,11 +226,9 @@ public class BVerifyServer {
 				.build();
 			}
 			if(toForward != null) {
-				synchronized(this){
-					this.approvalRequests.put(request.getForwardToId(), toForward);
-				}
+				boolean added = this.mailboxes.offer(request.getForwardToId(), toForward);
 				responseObserver.onNext(io.grpc.bverify.ForwardResponse.newBuilder()
-					.setAdded(true)
+					.setAdded(added)
 					.build());
 			}else {
 				responseObserver.onNext(io.grpc.bverify.ForwardResponse.newBuilder()
@@ -153,165 +243,317 @@ public class BVerifyServer {
 		        io.grpc.stub.StreamObserver<io.grpc.bverify.GetForwardedResponse> responseObserver) {
 			String id = request.getId();
 			logger.log(Level.INFO, "GetForwardedRequests("+id+")");
-			// lookup requests to forward
-			io.grpc.bverify.GetForwardedResponse response = null;
-			synchronized(this) {
-				response = this.approvalRequests.get(id);
-				this.approvalRequests.remove(id);
+			// lookup requests to forward, waiting for one 
+			// to arrive if requested (without blocking this thread)
+			int waitMillis = Math.min(Math.max(request.getWaitMillis(), 0), MAX_FORWARDED_WAIT_MILLIS);
+			CompletableFuture<io.grpc.bverify.GetForwardedResponse> response = this.mailboxes.poll(id, waitMillis);
+			if(responseObserver instanceof ServerCallStreamObserver) {
+				// if the client gives up, the request is left for the next poll
+				((ServerCallStreamObserver<io.grpc.bverify.GetForwardedResponse>) responseObserver)
+					.setOnCancelHandler(() -> response.cancel(false));
 			}
-			if(response == null) {
-				response = io.grpc.bverify.GetForwardedResponse.newBuilder()
-						.build();
-			}
-			responseObserver.onNext(response);
-			responseObserver.onCompleted();
+			response.thenAccept(toForward -> {
+				responseObserver.onNext(toForward);
+				responseObserver.onCompleted();
+			});
+		}
+		
+		@Override
+		public void watchForwarded(io.grpc.bverify.GetForwardedRequest request,
+				io.grpc.stub.StreamObserver<io.grpc.bverify.GetForwardedResponse> responseObserver) {
+			String id = request.getId();
+			logger.log(Level.INFO, "WatchForwarded("+id+")");
+			this.mailboxes.watch(id, responseObserver);
 		}
 
 		@Override
 	    public void submit(io.grpc.bverify.SubmitRequest request,
 	            io.grpc.stub.StreamObserver<io.grpc.bverify.SubmitResponse> responseObserver) {
-			boolean accepted = false;
-			switch(request.getRequestCase()) {
-			case ISSUE_RECEIPT:
-				accepted = this.submitIssueRequest(request.getIssueReceipt());
-				break;
-			case TRANSFER_RECEIPT:
-				accepted = this.submitTransferRequest(request.getTransferReceipt());
+			// the request is processed in stages on other threads 
+			// and the response is sent once it is committed or rejected
+			this.submitPipeline.submit(request).whenComplete((accepted, error) -> {
+				if(error != null) {
+					Throwable cause = error instanceof CompletionException && error.getCause() != null ? 
+							error.getCause() : error;
+					if(cause instanceof IllegalArgumentException) {
+						// e.g. an unknown account
+						responseObserver.onError(Status.INVALID_ARGUMENT
+								.withDescription(cause.getMessage())
+								.asRuntimeException());
+						return;
+					}
+					responseObserver.onError(Status.INTERNAL.withCause(error).asRuntimeException());
+					return;
+				}
+				io.grpc.bverify.SubmitResponse response = io.grpc.bverify.SubmitResponse.newBuilder()
+						.setAccepted(accepted)
+						.build();
+				responseObserver.onNext(response);
+				responseObserver.onCompleted();
+			});
+		}
+
+		@Override
+		public void getDataRequest(io.grpc.bverify.DataRequest request,
+				io.grpc.stub.StreamObserver<io.grpc.bverify.DataResponse> responseObserver) {
+			if(!this.checkADSId(request.getAdsId(), responseObserver)) {
+				return;
 			}
-			io.grpc.bverify.SubmitResponse response = io.grpc.bverify.SubmitResponse.newBuilder()
-					.setAccepted(accepted)
+			logger.log(Level.INFO, "GetDataRequest("+Digest256.fromByteString(request.getAdsId())+
+					", "+request.getCommitmentNumber()+")");
+			Set<io.grpc.bverify.Receipt> adsData = this.adsManager.getADSData(Digest256.fromByteString(request.getAdsId()),
+					request.getCommitmentNumber());
+			if(adsData == null) {
+				responseObserver.onError(Status.NOT_FOUND
+						.withDescription("no such ADS or commitment")
+						.asRuntimeException());
+				return;
+			}
+			io.grpc.bverify.DataResponse response = io.grpc.bverify.DataResponse.newBuilder()
+					.addAllReceipts(adsData)
 					.build();
 			responseObserver.onNext(response);
 			responseObserver.onCompleted();
+
 		}
 		
-		private boolean submitTransferRequest(TransferReceiptRequest request) {
-			Receipt receipt = request.getReceipt();
-			Account warehouse = this.pki.getAccount(receipt.getWarehouseId());
-			Account currentOwner = this.pki.getAccount(request.getCurrentOwnerId());
-			Account newOwner = this.pki.getAccount(request.getNewOwnerId());
-			logger.log(Level.INFO, "TransferReceiptRequest("+receipt+" from "+currentOwner+" --> "+newOwner+")");
-			
-			List<Account> currentOwnerADSAccounts = Arrays.asList(warehouse, currentOwner);
-			byte[] currentOwnerADSId = CryptographicUtils.listOfAccountsToADSKey(currentOwnerADSAccounts);
-			AuthenticatedSetServer currentOwnerADS = this.adsManager.getADS(currentOwnerADSId);
-			Set<Receipt> currentOwnerData = this.adsManager.getADSData(currentOwnerADSId);
-			
-			List<Account> newOwnerADSAccounts = Arrays.asList(warehouse, newOwner);
-			byte[] newOwnerADSId = CryptographicUtils.listOfAccountsToADSKey(newOwnerADSAccounts);
-			AuthenticatedSetServer newOwnerADS = this.adsManager.getADS(newOwnerADSId);
-			Set<Receipt> newOwnerData = this.adsManager.getADSData(newOwnerADSId);
-			
-			byte[] receiptWitness = CryptographicUtils.witnessReceipt(receipt);
-
-			currentOwnerData.remove(receipt);
-			currentOwnerADS.delete(receiptWitness);
-			byte[] currentOwnerNewCmt = currentOwnerADS.commitment();
-			
-			boolean signedWarehouseCurrent = CryptographicSignature.verify(currentOwnerNewCmt, 
-					request.getSignatureWarehouseCurrent().toByteArray(),
-					warehouse.getPublicKey());
-			boolean signedCurrentOwner = CryptographicSignature.verify(currentOwnerNewCmt, 
-					request.getSignatureCurrentOwner().toByteArray(),
-					currentOwner.getPublicKey());
-	
-			newOwnerData.add(receipt);
-			newOwnerADS.insert(receiptWitness);
-			byte[] newOwnerCmt = newOwnerADS.commitment();
-			
-			boolean signedWarehouseNew = CryptographicSignature.verify(newOwnerCmt, 
-					request.getSignatureWarehouseNew().toByteArray(),
-					warehouse.getPublicKey());
-			boolean signedNewOwner = CryptographicSignature.verify(newOwnerCmt, 
-					request.getSignatureNewOwner().toByteArray(),
-					newOwner.getPublicKey());
-			
-			if(signedWarehouseCurrent && signedCurrentOwner && signedWarehouseNew && signedNewOwner) {
-				logger.log(Level.INFO, "Update Accepted! : "
-						+Utils.byteArrayAsHexString(currentOwnerADSId)+"->"+
-						Utils.byteArrayAsHexString(currentOwnerNewCmt) + "\n"+
-						Utils.byteArrayAsHexString(newOwnerADSId)+"->"+
-						Utils.byteArrayAsHexString(newOwnerCmt));
+		@Override
+		public void streamDataRequest(io.grpc.bverify.DataRequest request,
+				io.grpc.stub.StreamObserver<io.grpc.bverify.DataResponse> responseObserver) {
+			if(!this.checkADSId(request.getAdsId(), responseObserver)) {
+				return;
+			}
+			logger.log(Level.INFO, "StreamDataRequest("+Digest256.fromByteString(request.getAdsId())+
+					", "+request.getCommitmentNumber()+")");
+			ReceiptIndex index = this.adsManager.getReceiptIndex(Digest256.fromByteString(request.getAdsId()), 
+					request.getCommitmentNumber());
+			if(index == null) {
+				responseObserver.onError(Status.NOT_FOUND
+						.withDescription("no such ADS or commitment")
+						.asRuntimeException());
+				return;
+			}
+			new ReceiptStreamer(index, request.getContinuationToken().toByteArray(), 
+					DATA_CHUNK_RECEIPTS, DATA_CHUNK_BYTES, responseObserver).start();
+		}
+		
+		@Override
+		public io.grpc.stub.StreamObserver<io.grpc.bverify.ReconcileRequest> reconcileADS(
+				io.grpc.stub.StreamObserver<io.grpc.bverify.ReconcileResponse> responseObserver) {
+			// each request is one round and is answered 
+			// with the summaries of the requested subtrees
+			return new io.grpc.stub.StreamObserver<io.grpc.bverify.ReconcileRequest>() {
+				private boolean failed = false;
 				
-				this.adsManager.updateADS(currentOwnerADSId, currentOwnerData, currentOwnerADS);
-				this.adsManager.updateADS(newOwnerADSId, newOwnerData, newOwnerADS);
-				// committing!
-				byte[] newCommitment = this.adsManager.commit();
-				logger.log(Level.INFO, "NEW COMMITMENT: "+
-						Utils.byteArrayAsHexString(newCommitment));
-				return true;
+				@Override
+				public void onNext(io.grpc.bverify.ReconcileRequest request) {
+					if(this.failed) {
+						return;
+					}
+					try {
+						Digest256 adsId = Digest256.fromByteString(request.getAdsId());
+						logger.log(Level.FINE, "ReconcileADS("+adsId+
+								", "+request.getPrefixesCount()+" prefixes)");
+						if(request.getPrefixesCount() > MAX_RECONCILE_PREFIXES) {
+							throw new IllegalArgumentException("too many prefixes");
+						}
+						List<Prefix> prefixes = new ArrayList<>(request.getPrefixesCount());
+						for(io.grpc.bverify.SubtreePrefix prefix : request.getPrefixesList()) {
+							prefixes.add(new Prefix(prefix.getBits().toByteArray(), prefix.getLength()));
+						}
+						List<SubtreeSummary> summaries = BVerifyServerImpl.this.adsManager.summarizeADS(adsId, prefixes);
+						if(summaries == null) {
+							throw new IllegalArgumentException("no such ADS");
+						}
+						responseObserver.onNext(BVerifyServerImpl.this.toReconcileResponse(adsId, summaries));
+					}catch(IllegalArgumentException e) {
+						this.failed = true;
+						responseObserver.onError(Status.INVALID_ARGUMENT
+								.withDescription(e.getMessage())
+								.asRuntimeException());
+					}
+				}
+
+				@Override
+				public void onError(Throwable t) {
+					logger.log(Level.INFO, "...reconciliation cancelled: "+t);
+				}
+
+				@Override
+				public void onCompleted() {
+					if(!this.failed) {
+						responseObserver.onCompleted();
+					}
+				}
+			};
+		}
+		
+		private io.grpc.bverify.ReconcileResponse toReconcileResponse(Digest256 adsId, List<SubtreeSummary> summaries) {
+			io.grpc.bverify.ReconcileResponse.Builder response = io.grpc.bverify.ReconcileResponse.newBuilder();
+			ReceiptIndex receipts = null;
+			for(SubtreeSummary summary : summaries) {
+				Prefix prefix = summary.getPrefix();
+				io.grpc.bverify.SubtreeSummary.Builder subtree = io.grpc.bverify.SubtreeSummary.newBuilder()
+						.setPrefix(io.grpc.bverify.SubtreePrefix.newBuilder()
+								.setBits(ByteString.copyFrom(prefix.getBits()))
+								.setLength(prefix.getLength()));
+				if(summary.isInterior()) {
+					subtree.setHash(ByteString.copyFrom(summary.getHash()));
+				}else if(summary.isLeaf()) {
+					byte[] value = summary.getValue();
+					subtree.setValue(ByteString.copyFrom(value));
+					// include the receipt so the client 
+					// does not have to ask for it
+					if(receipts == null) {
+						receipts = this.adsManager.getReceiptIndex(adsId, 
+								this.adsManager.getCurrentCommitmentNumber());
+					}
+					Receipt receipt = receipts == null ? null : receipts.find(value);
+					if(receipt != null) {
+						subtree.setReceipt(receipt);
+					}
+				}
+				response.addSubtrees(subtree);
 			}
-			logger.log(Level.INFO, "Update rejected - signed current owner: "+
-					signedCurrentOwner+"|signed new owner: "+signedNewOwner+"|signed warehouse:"+
-					signedWarehouseCurrent+" "+signedWarehouseNew);
-			return false;
+			return response.build();
 		}
 		
-		private boolean submitIssueRequest(IssueReceiptRequest request) {
-			Receipt receipt = request.getReceipt();
-			logger.log(Level.INFO, "IssueReceiptRequest("+receipt+")");
-			Account warehouse = this.pki.getAccount(receipt.getWarehouseId());
-			Account depositor = this.pki.getAccount(receipt.getDepositorId());
-			List<Account> accounts = Arrays.asList(warehouse, depositor);
-			byte[] adsKey = CryptographicUtils.listOfAccountsToADSKey(accounts);
-			AuthenticatedSetServer ads = this.adsManager.getADS(adsKey);
-			Set<Receipt> adsData = this.adsManager.getADSData(adsKey);
-			
-			// insert the receipt into the ADS
-			byte[] receiptWitness = CryptographicUtils.witnessReceipt(receipt);
-			ads.insert(receiptWitness);
-			adsData.add(receipt);
-			byte[] newRoot = ads.commitment();			
-			boolean signedWarehouse = CryptographicSignature.verify(newRoot, 
-					request.getSignatureWarehouse().toByteArray(),
-					warehouse.getPublicKey());
-			boolean signedDepositor = CryptographicSignature.verify(newRoot, 
-					request.getSignatureDepositor().toByteArray(),
-					depositor.getPublicKey());
-			
-			// if both have signed, update the authentication
-			// and commit
-			if(signedDepositor && signedWarehouse) {
-				logger.log(Level.INFO, "Update Accepted! : "
-						+Utils.byteArrayAsHexString(adsKey)+"->"+
-						Utils.byteArrayAsHexString(newRoot));
-				this.adsManager.updateADS(adsKey, adsData, ads);
-				// committing!
-				byte[] newCommitment = this.adsManager.commit();
-				logger.log(Level.INFO, "NEW COMMITMENT: "+
-						Utils.byteArrayAsHexString(newCommitment));
+		/**
+		 * @return true if the ADS id is valid, otherwise 
+		 * the request fails with INVALID_ARGUMENT
+		 */
+		private boolean checkADSId(ByteString adsId, io.grpc.stub.StreamObserver<?> responseObserver) {
+			if(adsId.size() == Digest256.SIZE_BYTES) {
 				return true;
 			}
-			logger.log(Level.INFO, "Update rejected - signed depositor: "+
-						signedDepositor+"|signed warehouse: "+signedWarehouse);
+			responseObserver.onError(Status.INVALID_ARGUMENT
+					.withDescription("invalid ADS id")
+					.asRuntimeException());
 			return false;
 		}
-
+		
 		@Override
-		public void getDataRequest(io.grpc.bverify.DataRequest request,
-				io.grpc.stub.StreamObserver<io.grpc.bverify.DataResponse> responseObserver) {
-			logger.log(Level.INFO, "GetDataRequest("+Utils.byteArrayAsHexString(request.getAdsId().toByteArray())+
-					", "+request.getCommitmentNumber()+")");
-			Set<io.grpc.bverify.Receipt> adsData = this.adsManager.getADSData(request.getAdsId().toByteArray(),
-					request.getCommitmentNumber());
-			io.grpc.bverify.DataResponse response = io.grpc.bverify.DataResponse.newBuilder()
-					.addAllReceipts(adsData)
+		public void getReceiptDiff(io.grpc.bverify.ReceiptDiffRequest request,
+				io.grpc.stub.StreamObserver<io.grpc.bverify.ReceiptDiffResponse> responseObserver) {
+			if(!this.checkADSId(request.getAdsId(), responseObserver)) {
+				return;
+			}
+			logger.log(Level.INFO, "GetReceiptDiff("+Digest256.fromByteString(request.getAdsId())+
+					", "+request.getFromCommitmentNumber()+" -> "+request.getToCommitmentNumber()+")");
+			ReceiptHistory.Diff diff = this.adsManager.getReceiptDiff(Digest256.fromByteString(request.getAdsId()), 
+					request.getFromCommitmentNumber(), request.getToCommitmentNumber());
+			if(diff == null) {
+				responseObserver.onError(Status.OUT_OF_RANGE
+						.withDescription("no such ADS or commitments")
+						.asRuntimeException());
+				return;
+			}
+			io.grpc.bverify.ReceiptDiffResponse response = io.grpc.bverify.ReceiptDiffResponse.newBuilder()
+					.addAllAdded(diff.getAdded())
+					.addAllRemoved(diff.getRemoved())
 					.build();
 			responseObserver.onNext(response);
 			responseObserver.onCompleted();
-
 		}
 
 		@Override
 		public void getAuthPath(io.grpc.bverify.PathRequest request,
 				io.grpc.stub.StreamObserver<io.grpc.bverify.PathResponse> responseObserver) {
 			List<byte[]> keys = request.getAdsIdsList().stream().map(x -> x.toByteArray()).collect(Collectors.toList());
-			List<String> keyStrings  = keys.stream().map(x -> Utils.byteArrayAsHexString(x)).collect(Collectors.toList());
-			logger.log(Level.INFO, "GetAuthPath("+keyStrings+", "+request.getCommitmentNumber()+")");
-			MerklePrefixTrie proof = this.adsManager.getProof(keys, request.getCommitmentNumber());
-			io.grpc.bverify.PathResponse response = io.grpc.bverify.PathResponse.newBuilder()
-					.setPath(proof)
-					.build();
+			// unknown encodings get the default (protobuf) encoding. 
+			// ENCODED proofs are the same as PROTOBUF proofs, they 
+			// are only sent differently
+			ProofEncoding encoding = request.getEncoding() == ProofEncoding.COMPACT ? 
+					ProofEncoding.COMPACT : ProofEncoding.PROTOBUF;
+			boolean sendEncoded = request.getEncoding() == ProofEncoding.ENCODED;
+			logger.log(Level.INFO, "GetAuthPath("+keys.size()+" ads, "+request.getCommitmentNumber()+", "+encoding+")");
+			for(byte[] key : keys) {
+				if(key.length != Digest256.SIZE_BYTES) {
+					responseObserver.onError(Status.INVALID_ARGUMENT
+							.withDescription("invalid ADS id")
+							.asRuntimeException());
+					return;
+				}
+			}
+			// concurrent requests are served together
+			CompletableFuture<ByteString> result = this.proofCoalescer.getProof(keys, 
+					request.getCommitmentNumber(), encoding);
+			result.whenComplete((proof, error) -> {
+				if(error != null) {
+					responseObserver.onError(Status.INTERNAL.withCause(error).asRuntimeException());
+					return;
+				}
+				if(proof == null) {
+					responseObserver.onError(Status.OUT_OF_RANGE
+							.withDescription("no commitment #"+request.getCommitmentNumber())
+							.asRuntimeException());
+					return;
+				}
+				io.grpc.bverify.PathResponse.Builder response = io.grpc.bverify.PathResponse.newBuilder();
+				if(encoding == ProofEncoding.COMPACT) {
+					response.setCompactPath(proof);
+				}else if(sendEncoded) {
+					response.setEncodedPath(proof);
+				}else {
+					// clients that did not ask for an encoding 
+					// get the proof in path, as before
+					try {
+						response.setPath(MerklePrefixTrie.parseFrom(proof));
+					}catch(InvalidProtocolBufferException e) {
+						responseObserver.onError(Status.INTERNAL.withCause(e).asRuntimeException());
+						return;
+					}
+				}
+				responseObserver.onNext(response.build());
+				responseObserver.onCompleted();
+			});
+		}
+		
+		@Override
+		public void getUpdates(io.grpc.bverify.UpdatesRequest request,
+				io.grpc.stub.StreamObserver<io.grpc.bverify.UpdatesResponse> responseObserver) {
+			for(ByteString adsId : request.getAdsIdsList()) {
+				if(!this.checkADSId(adsId, responseObserver)) {
+					return;
+				}
+			}
+			List<byte[]> keys = request.getAdsIdsList().stream().map(x -> x.toByteArray()).collect(Collectors.toList());
+			logger.log(Level.INFO, "GetUpdates("+keys.size()+" ads, "+request.getFromCommitmentNumber()+" -> "+
+					request.getToCommitmentNumber()+")");
+			List<MerklePrefixTrie> updates = this.adsManager.getUpdates(keys, request.getFromCommitmentNumber(), 
+					request.getToCommitmentNumber());
+			io.grpc.bverify.UpdatesResponse.Builder response = io.grpc.bverify.UpdatesResponse.newBuilder();
+			if(updates == null) {
+				response.setUnavailable(true);
+			}else {
+				response.addAllUpdates(updates);
+			}
+			responseObserver.onNext(response.build());
+			responseObserver.onCompleted();
+		}
+		
+		@Override
+		public void getProofRange(io.grpc.bverify.ProofRangeRequest request,
+				io.grpc.stub.StreamObserver<io.grpc.bverify.ProofRangeResponse> responseObserver) {
+			for(ByteString adsId : request.getAdsIdsList()) {
+				if(!this.checkADSId(adsId, responseObserver)) {
+					return;
+				}
+			}
+			List<byte[]> keys = request.getAdsIdsList().stream().map(x -> x.toByteArray()).collect(Collectors.toList());
+			logger.log(Level.INFO, "GetProofRange("+keys.size()+" ads, "+request.getFromCommitmentNumber()+" -> "+
+					request.getToCommitmentNumber()+")");
+			// large ranges are returned in parts
+			int to = (int) Math.min(request.getToCommitmentNumber(), 
+					(long) request.getFromCommitmentNumber() + MAX_PROOF_RANGE - 1);
+			io.grpc.bverify.ProofRangeResponse response = this.adsManager.getProofRange(keys, 
+					request.getFromCommitmentNumber(), to);
+			if(response == null) {
+				responseObserver.onError(Status.OUT_OF_RANGE
+						.withDescription("invalid commitment range")
+						.asRuntimeException());
+				return;
+			}
 			responseObserver.onNext(response);
 			responseObserver.onCompleted();
 		}
@@ -319,14 +561,62 @@ public class BVerifyServer {
 		@Override
 		public void getCommitments(io.grpc.bverify.CommitmentsRequest request,
 		        io.grpc.stub.StreamObserver<io.grpc.bverify.CommitmentsResponse> responseObserver) {
-			logger.log(Level.INFO, "GetCommitments()");
-			CommitmentsResponse.Builder responseBuilder = CommitmentsResponse.newBuilder();
-			int numberOfCommitments = this.adsManager.getCurrentCommitmentNumber();
-			for(int i = 0; i <= numberOfCommitments; i++) {
-				byte[] commitment = this.adsManager.getCommitment(i);
-				responseBuilder.addCommitments(ByteString.copyFrom(commitment));
+			logger.log(Level.INFO, "GetCommitments("+request.getFromCommitmentNumber()+")");
+			CommitmentsResponse response = CommitmentsResponse.newBuilder()
+					.addAllCommitments(this.adsManager.getCommitments(request.getFromCommitmentNumber()))
+					.build();
+			responseObserver.onNext(response);
+			responseObserver.onCompleted();
+		}
+		
+		@Override
+		public void watchCommitments(io.grpc.bverify.WatchCommitmentsRequest request,
+				io.grpc.stub.StreamObserver<io.grpc.bverify.CommitmentUpdate> responseObserver) {
+			logger.log(Level.INFO, "WatchCommitments("+request.getFromCommitmentNumber()+", "+
+					request.getAdsIdsCount()+" ads)");
+			for(ByteString adsId : request.getAdsIdsList()) {
+				if(!this.checkADSId(adsId, responseObserver)) {
+					return;
+				}
+			}
+			List<byte[]> keys = request.getAdsIdsList().stream().map(x -> x.toByteArray()).collect(Collectors.toList());
+			ProofEncoding encoding = request.getEncoding() == ProofEncoding.COMPACT ? 
+					ProofEncoding.COMPACT : ProofEncoding.PROTOBUF;
+			new CommitmentSubscriber(this.adsManager, request.getFromCommitmentNumber(), keys, encoding, 
+					responseObserver, this.commitmentStreams).start();
+		}
+		
+		@Override
+		public void getLatestCommitment(io.grpc.bverify.LatestCommitmentRequest request,
+				io.grpc.stub.StreamObserver<io.grpc.bverify.HistoryProof> responseObserver) {
+			logger.log(Level.INFO, "GetLatestCommitment("+request.getCheckpointSize()+")");
+			this.sendHistoryProof(this.adsManager.getHistoryProof(-1, request.getCheckpointSize(), -1), 
+					responseObserver);
+		}
+		
+		@Override
+		public void getHistoryProof(io.grpc.bverify.HistoryProofRequest request,
+				io.grpc.stub.StreamObserver<io.grpc.bverify.HistoryProof> responseObserver) {
+			logger.log(Level.INFO, "GetHistoryProof("+request.getCommitmentNumber()+", "+
+					request.getCheckpointSize()+" -> "+request.getSize()+")");
+			// -1 has a special meaning for the ADSManager
+			if(request.getCommitmentNumber() < 0 || request.getSize() < 0) {
+				this.sendHistoryProof(null, responseObserver);
+				return;
+			}
+			this.sendHistoryProof(this.adsManager.getHistoryProof(request.getCommitmentNumber(), 
+					request.getCheckpointSize(), request.getSize()), responseObserver);
+		}
+		
+		private void sendHistoryProof(io.grpc.bverify.HistoryProof proof, 
+				io.grpc.stub.StreamObserver<io.grpc.bverify.HistoryProof> responseObserver) {
+			if(proof == null) {
+				responseObserver.onError(Status.OUT_OF_RANGE
+						.withDescription("invalid commitment or history size")
+						.asRuntimeException());
+				return;
 			}
-			responseObserver.onNext(responseBuilder.build());
+			responseObserver.onNext(proof);
 			responseObserver.onCompleted();
 		}
 		
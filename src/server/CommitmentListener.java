@@ -0,0 +1,18 @@
+package server;
+
+/**
+ * A listener that is notified of new commitments. 
+ * Listeners are notified in order of the commitments, 
+ * one at a time and never while the ADSManager is locked. 
+ *
+ */
+public interface CommitmentListener {
+	
+	/**
+	 * Called after a new commitment is made
+	 * @param commitmentNumber 
+	 * @param commitment
+	 */
+	public void onCommitment(int commitmentNumber, byte[] commitment);
+
+}
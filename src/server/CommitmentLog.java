@@ -0,0 +1,200 @@
+package server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+import crpyto.CryptographicDigest;
+import history.HashStore;
+
+/**
+ * THREADSAFE
+ *
+ * An append-only log of the commitments, stored in a memory-mapped file.
+ * Every commitment is a hash of the same size, so the file is a header
+ * followed by fixed size records and commitment i is at a fixed
+ * offset: lookups are O(1) and reads are served from the mapped
+ * file instead of the heap. Records are written through the file 
+ * channel, so flushing them only writes the pages that changed.
+ *
+ * The header holds the number of records and is updated (and flushed)
+ * only after the records are flushed, so a record that was partially
+ * written when the server stopped is ignored when the log is reopened.
+ *
+ * Records are only read once they are added and are never
+ * changed, so reads do not need to lock.
+ *
+ * Any fixed size hashes can be kept in the log: it is also
+ * the store for the hashes of the commitment history tree.
+ */
+public class CommitmentLog implements HashStore {
+	private static final Logger logger = Logger.getLogger(CommitmentLog.class.getName());
+
+	public static final int RECORD_SIZE = CryptographicDigest.getSizeBytes();
+	// the header is a whole record so the records stay aligned
+	private static final int HEADER_SIZE = RECORD_SIZE;
+	private static final int COUNT_OFFSET = 0;
+
+	// the file is mapped in segments since a single mapping
+	// is limited to 2GB (each segment is 32MB)
+	private static final int RECORDS_PER_SEGMENT = 1 << 20;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final MappedByteBuffer header;
+	private final List<MappedByteBuffer> segments;
+	private volatile int size;
+
+	/**
+	 * Open the log, creating it if it does not exist
+	 * @param f - the file the log is stored in
+	 */
+	public CommitmentLog(File f) {
+		try {
+			this.file = new RandomAccessFile(f, "rw");
+			this.channel = this.file.getChannel();
+			long length = this.channel.size();
+			this.header = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+			this.segments = new CopyOnWriteArrayList<>();
+			long count = length < HEADER_SIZE ? 0 : this.header.getLong(COUNT_OFFSET);
+			if(count < 0 || count > Integer.MAX_VALUE ||
+					HEADER_SIZE + count * RECORD_SIZE > Math.max(length, HEADER_SIZE)) {
+				throw new RuntimeException("corrupted commitment log: "+f);
+			}
+			this.size = (int) count;
+			for(int i = 0; i <= this.size / RECORDS_PER_SEGMENT; i++) {
+				this.mapSegment();
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+			throw new RuntimeException("cannot open commitment log: "+f);
+		}
+		logger.log(Level.INFO, "..."+f.getName()+" has "+this.size+" records");
+	}
+
+	private void mapSegment() throws IOException {
+		long offset = HEADER_SIZE + (long) this.segments.size() * RECORDS_PER_SEGMENT * RECORD_SIZE;
+		this.segments.add(this.channel.map(FileChannel.MapMode.READ_WRITE, offset,
+				(long) RECORDS_PER_SEGMENT * RECORD_SIZE));
+	}
+
+	/**
+	 * @return the number of commitments in the log
+	 */
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Add a commitment to the end of the log. Returns
+	 * once the commitment is written to disk.
+	 * @param commitment
+	 */
+	public void add(byte[] commitment) {
+		this.add(Collections.singletonList(commitment));
+	}
+
+	/**
+	 * Add records to the end of the log. The header is only 
+	 * updated once all of them are written, so either all or 
+	 * none of them are in the log when it is reopened. 
+	 * Returns once the records are written to disk.
+	 * @param records
+	 */
+	@Override
+	public synchronized void add(List<byte[]> records) {
+		for(byte[] record : records) {
+			if(record.length != RECORD_SIZE) {
+				throw new IllegalArgumentException("records must be "+RECORD_SIZE+" bytes");
+			}
+		}
+		int size = this.size;
+		ByteBuffer written = ByteBuffer.allocate(records.size() * RECORD_SIZE);
+		for(byte[] record : records) {
+			written.put(record);
+		}
+		written.flip();
+		try {
+			while((size + records.size() - 1) / RECORDS_PER_SEGMENT >= this.segments.size()) {
+				this.mapSegment();
+			}
+			// write through the channel, so that only the pages 
+			// written are flushed and not the whole segment
+			long offset = HEADER_SIZE + (long) size * RECORD_SIZE;
+			while(written.hasRemaining()) {
+				offset += this.channel.write(written, offset);
+			}
+			this.channel.force(false);
+		} catch (IOException e) {
+			e.printStackTrace();
+			throw new RuntimeException("cannot write to commitment log");
+		}
+		this.header.putLong(COUNT_OFFSET, size + records.size());
+		this.header.force();
+		this.size = size + records.size();
+	}
+
+	/**
+	 * @param index
+	 * @return a copy of the commitment
+	 */
+	@Override
+	public byte[] get(int index) {
+		byte[] commitment = new byte[RECORD_SIZE];
+		this.record(index).get(commitment);
+		return commitment;
+	}
+
+	/**
+	 * Read the commitments [from, to) without copying them
+	 * out of the mapped file
+	 * @param from
+	 * @param to
+	 * @return the commitments, as read-only views of the log
+	 */
+	public List<ByteString> read(int from, int to) {
+		if(from < 0 || from > to || to > this.size) {
+			throw new IndexOutOfBoundsException("invalid range: ["+from+", "+to+")");
+		}
+		List<ByteString> commitments = new ArrayList<>(to - from);
+		for(int i = from; i < to; i++) {
+			// records never change once added
+			commitments.add(UnsafeByteOperations.unsafeWrap(this.record(i)));
+		}
+		return commitments;
+	}
+
+	private ByteBuffer record(int index) {
+		if(index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("no commitment #"+index);
+		}
+		ByteBuffer record = this.segments.get(index / RECORDS_PER_SEGMENT).asReadOnlyBuffer();
+		int offset = (index % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+		record.position(offset);
+		record.limit(offset + RECORD_SIZE);
+		return record.slice();
+	}
+
+	public synchronized void close() {
+		try {
+			this.channel.close();
+			this.file.close();
+		} catch (IOException e) {
+			logger.log(Level.WARNING, "...failed to close commitment log: "+e);
+		}
+	}
+
+}
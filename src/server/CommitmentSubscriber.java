@@ -0,0 +1,184 @@
+package server;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.protobuf.ByteString;
+
+import io.grpc.Status;
+import io.grpc.bverify.CommitmentUpdate;
+import io.grpc.bverify.ProofEncoding;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * THREADSAFE
+ *
+ * Streams commitments to a client watching for them
+ * (WatchCommitments). Commitments that were made before the
+ * client subscribed are sent first and then each new commitment
+ * is sent as soon as it is published by the ADSManager,
+ * optionally with the client's proof attached.
+ * Every commitment is sent exactly once and in order.
+ *
+ * The updates (and proofs) are generated on a shared executor, not
+ * on the thread that notifies the listeners, and only while the
+ * client is ready to receive them, so a slow client neither delays
+ * the other subscribers nor causes updates to be buffered on the
+ * server. Since every update can be generated again later, a client
+ * that falls behind just catches up when it is ready. If the proof
+ * for a commitment is not available the stream ends with OUT_OF_RANGE.
+ */
+public class CommitmentSubscriber implements CommitmentListener {
+	private static final Logger logger = Logger.getLogger(CommitmentSubscriber.class.getName());
+
+	private final ADSManager adsManager;
+	private final List<byte[]> adsIds;
+	private final ProofEncoding encoding;
+	private final StreamObserver<CommitmentUpdate> observer;
+	private final Executor executor;
+
+	// the next commitment to send
+	private int nextCommitmentNumber;
+	// the latest commitment published
+	private int latestCommitmentNumber;
+	// true if a task sending the updates is scheduled or running
+	// (there is at most one, so the updates are sent in order)
+	private boolean sending;
+	private boolean closed;
+
+	public CommitmentSubscriber(ADSManager adsManager, int fromCommitmentNumber, List<byte[]> adsIds,
+			ProofEncoding encoding, StreamObserver<CommitmentUpdate> observer, Executor executor) {
+		this.adsManager = adsManager;
+		this.adsIds = adsIds;
+		this.encoding = encoding;
+		this.observer = observer;
+		this.executor = executor;
+		this.nextCommitmentNumber = Math.max(fromCommitmentNumber, 0);
+		this.latestCommitmentNumber = -1;
+		this.sending = false;
+		this.closed = false;
+	}
+
+	/**
+	 * Start streaming commitments. The subscriber is
+	 * removed when the client cancels the call.
+	 */
+	public void start() {
+		if(this.observer instanceof ServerCallStreamObserver) {
+			ServerCallStreamObserver<CommitmentUpdate> serverObserver =
+					(ServerCallStreamObserver<CommitmentUpdate>) this.observer;
+			serverObserver.setOnCancelHandler(this::close);
+			serverObserver.setOnReadyHandler(this::schedule);
+		}
+		// subscribe first and then send the existing
+		// commitments so that none are missed
+		this.adsManager.addCommitmentListener(this);
+		this.publish(this.adsManager.getCurrentCommitmentNumber());
+	}
+
+	@Override
+	public void onCommitment(int commitmentNumber, byte[] commitment) {
+		this.publish(commitmentNumber);
+	}
+
+	private synchronized void publish(int commitmentNumber) {
+		this.latestCommitmentNumber = Math.max(this.latestCommitmentNumber, commitmentNumber);
+		this.schedule();
+	}
+
+	private synchronized void schedule() {
+		if(!this.closed && !this.sending) {
+			this.sending = true;
+			this.executor.execute(this::send);
+		}
+	}
+
+	private void send() {
+		while(true) {
+			int n;
+			synchronized(this) {
+				if(this.closed || this.nextCommitmentNumber > this.latestCommitmentNumber || 
+						!this.isReady()) {
+					// resumed when the client is ready
+					// or the next commitment is made
+					this.sending = false;
+					return;
+				}
+				n = this.nextCommitmentNumber;
+			}
+			CommitmentUpdate update;
+			try {
+				update = this.getUpdate(n);
+			}catch(RuntimeException e) {
+				logger.log(Level.WARNING, "...failed to generate commitment update #"+n+": "+e);
+				this.fail(Status.INTERNAL.withCause(e));
+				return;
+			}
+			if(update == null) {
+				this.fail(Status.OUT_OF_RANGE.withDescription("no proof for commitment #"+n));
+				return;
+			}
+			try {
+				this.observer.onNext(update);
+			}catch(RuntimeException e) {
+				// the client has gone away
+				logger.log(Level.INFO, "...stopped streaming commitments: "+e);
+				this.close();
+				return;
+			}
+			synchronized(this) {
+				this.nextCommitmentNumber++;
+			}
+		}
+	}
+
+	/**
+	 * @param commitmentNumber
+	 * @return the update or null if the proof for the
+	 * commitment is not available
+	 */
+	private CommitmentUpdate getUpdate(int commitmentNumber) {
+		CommitmentUpdate.Builder update = CommitmentUpdate.newBuilder()
+				.setCommitmentNumber(commitmentNumber)
+				.setCommitment(ByteString.copyFrom(this.adsManager.getCommitment(commitmentNumber)));
+		if(this.adsIds.size() > 0) {
+			ByteString proof = this.adsManager.getProof(this.adsIds, commitmentNumber, this.encoding);
+			if(proof == null) {
+				return null;
+			}
+			if(this.encoding == ProofEncoding.COMPACT) {
+				update.setCompactPath(proof);
+			}else {
+				update.setEncodedPath(proof);
+			}
+		}
+		return update.build();
+	}
+
+	private boolean isReady() {
+		if(this.observer instanceof ServerCallStreamObserver) {
+			return ((ServerCallStreamObserver<CommitmentUpdate>) this.observer).isReady();
+		}
+		return true;
+	}
+
+	private void fail(Status status) {
+		this.close();
+		try {
+			this.observer.onError(status.asRuntimeException());
+		}catch(RuntimeException e) {
+			// the client has already gone away
+		}
+	}
+
+	private synchronized void close() {
+		if(!this.closed) {
+			this.closed = true;
+			this.adsManager.removeCommitmentListener(this);
+		}
+	}
+
+}
@@ -0,0 +1,413 @@
+package server;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.grpc.bverify.GetForwardedResponse;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * THREADSAFE
+ *
+ * Holds the requests forwarded to each client until the client
+ * picks them up. Every client has a bounded mailbox: requests
+ * are delivered in the order they were forwarded, each request
+ * is delivered exactly once and requests that are not picked up
+ * within the time to live are dropped. If a client's mailbox is full
+ * further requests are rejected rather than overwriting earlier ones.
+ *
+ * Requests can be picked up either by polling (optionally waiting
+ * for a request to arrive) or by watching the mailbox, in which
+ * case requests are pushed to the client as soon as they are forwarded.
+ * If a client has several watchers (e.g. several connections) each
+ * request is pushed to all of them. Waiting polls do not block a thread.
+ *
+ * Requests are handed to the clients after the lock is released, so a
+ * slow client does not hold up requests forwarded to other clients.
+ */
+public class ForwardingMailboxes {
+	private static final Logger logger = Logger.getLogger(ForwardingMailboxes.class.getName());
+
+	private static final GetForwardedResponse EMPTY = GetForwardedResponse.newBuilder().build();
+
+	private final int capacity;
+	private final long ttlMillis;
+	private final Map<String, Mailbox> mailboxes;
+	// times out waiting polls and expires old requests
+	private final ScheduledExecutorService timer;
+
+	// metrics
+	private int maxDepth;
+	private long forwarded;
+	private long delivered;
+	private long rejected;
+	private long expired;
+
+	private static class Pending {
+		private final GetForwardedResponse request;
+		private final long expiresAt;
+
+		private Pending(GetForwardedResponse request, long expiresAt) {
+			this.request = request;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	private static class Mailbox {
+		private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+		private final ArrayDeque<CompletableFuture<GetForwardedResponse>> waiting = new ArrayDeque<>();
+		private final List<Watcher> watchers = new ArrayList<>();
+
+		private boolean isUnused() {
+			return this.queue.isEmpty() && this.waiting.isEmpty() && this.watchers.isEmpty();
+		}
+	}
+
+	/**
+	 * THREADSAFE
+	 *
+	 * A stream to a client watching its mailbox. Requests are
+	 * added to the watcher's outbox while holding the lock of the
+	 * mailboxes and are sent after it is released, in order and
+	 * by one thread at a time.
+	 */
+	private class Watcher {
+		private final String id;
+		private final StreamObserver<GetForwardedResponse> observer;
+		private final ArrayDeque<GetForwardedResponse> outbox;
+		// true if a thread is sending the requests in the outbox
+		private boolean sending;
+
+		private Watcher(String id, StreamObserver<GetForwardedResponse> observer) {
+			this.id = id;
+			this.observer = observer;
+			this.outbox = new ArrayDeque<>();
+			this.sending = false;
+		}
+
+		private boolean isCancelled() {
+			return this.observer instanceof ServerCallStreamObserver && 
+					((ServerCallStreamObserver<GetForwardedResponse>) this.observer).isCancelled();
+		}
+
+		private synchronized void add(GetForwardedResponse request) {
+			this.outbox.add(request);
+		}
+
+		private void send() {
+			synchronized(this) {
+				if(this.sending) {
+					// the other thread sends the requests
+					return;
+				}
+				this.sending = true;
+			}
+			while(true) {
+				GetForwardedResponse request;
+				synchronized(this) {
+					request = this.outbox.poll();
+					if(request == null) {
+						this.sending = false;
+						return;
+					}
+				}
+				try {
+					this.observer.onNext(request);
+				}catch(RuntimeException e) {
+					// the client has gone away
+					logger.log(Level.INFO, "...removing watcher: "+e);
+					List<GetForwardedResponse> unsent = new ArrayList<>();
+					synchronized(this) {
+						unsent.add(request);
+						unsent.addAll(this.outbox);
+						this.outbox.clear();
+						this.sending = false;
+					}
+					ForwardingMailboxes.this.removeWatcher(this, unsent);
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param capacity - the maximum number of requests
+	 * waiting in a single client's mailbox
+	 * @param ttlMillis - how long a request is kept if it
+	 * is not picked up
+	 */
+	public ForwardingMailboxes(int capacity, long ttlMillis) {
+		this.capacity = capacity;
+		this.ttlMillis = ttlMillis;
+		this.mailboxes = new HashMap<>();
+		this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "forwarding-mailboxes");
+			t.setDaemon(true);
+			return t;
+		});
+		this.timer.scheduleAtFixedRate(this::expire, ttlMillis, ttlMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Forward a request to a client. The request is handed
+	 * directly to the client if it is watching or waiting for one
+	 * and otherwise is added to the client's mailbox.
+	 * @param id - the id of the client
+	 * @param request - the request to forward
+	 * @return true if the request was delivered or added, false
+	 * if the client's mailbox is full
+	 */
+	public boolean offer(String id, GetForwardedResponse request) {
+		List<Runnable> deliveries = new ArrayList<>();
+		boolean added;
+		synchronized(this) {
+			added = this.add(id, request, deliveries);
+			if(added) {
+				this.forwarded++;
+			}
+		}
+		ForwardingMailboxes.run(deliveries);
+		return added;
+	}
+
+	private boolean add(String id, GetForwardedResponse request, List<Runnable> deliveries) {
+		Mailbox mailbox = this.mailboxes.computeIfAbsent(id, k -> new Mailbox());
+		this.expire(mailbox, System.currentTimeMillis());
+		if(mailbox.queue.isEmpty() && this.deliver(id, mailbox, request, deliveries)) {
+			return true;
+		}
+		if(mailbox.queue.size() >= this.capacity) {
+			this.rejected++;
+			logger.log(Level.WARNING, "...mailbox full, rejecting request for: "+id);
+			return false;
+		}
+		mailbox.queue.add(new Pending(request, System.currentTimeMillis() + this.ttlMillis));
+		this.maxDepth = Math.max(this.maxDepth, mailbox.queue.size());
+		return true;
+	}
+
+	/**
+	 * Pick up the next request forwarded to a client. If there
+	 * is no request waiting, the poll waits for up to waitMillis
+	 * for one to be forwarded.
+	 * @param id - the id of the client
+	 * @param waitMillis - how long to wait, 0 to return immediately
+	 * @return a future that completes with the next request or with
+	 * an empty response if no request was forwarded in time
+	 */
+	public synchronized CompletableFuture<GetForwardedResponse> poll(String id, long waitMillis) {
+		Mailbox mailbox = this.mailboxes.get(id);
+		if(mailbox != null) {
+			this.expire(mailbox, System.currentTimeMillis());
+			if(!mailbox.queue.isEmpty()) {
+				this.delivered++;
+				GetForwardedResponse request = mailbox.queue.poll().request;
+				this.removeIfUnused(id, mailbox);
+				return CompletableFuture.completedFuture(request);
+			}
+		}
+		if(waitMillis <= 0) {
+			return CompletableFuture.completedFuture(EMPTY);
+		}
+		if(mailbox == null) {
+			mailbox = new Mailbox();
+			this.mailboxes.put(id, mailbox);
+		}
+		CompletableFuture<GetForwardedResponse> result = new CompletableFuture<>();
+		mailbox.waiting.add(result);
+		this.timer.schedule(() -> this.timeout(id, result), waitMillis, TimeUnit.MILLISECONDS);
+		return result;
+	}
+
+	/**
+	 * Push every request forwarded to a client to the observer,
+	 * starting with any requests already in the mailbox.
+	 * The observer is removed when the call is cancelled.
+	 * @param id - the id of the client
+	 * @param observer - the stream to the client
+	 */
+	public void watch(String id, StreamObserver<GetForwardedResponse> observer) {
+		Watcher watcher = new Watcher(id, observer);
+		if(observer instanceof ServerCallStreamObserver) {
+			((ServerCallStreamObserver<GetForwardedResponse>) observer).setOnCancelHandler(
+					() -> this.removeWatcher(watcher, new ArrayList<>()));
+		}
+		List<Runnable> deliveries = new ArrayList<>();
+		synchronized(this) {
+			Mailbox mailbox = this.mailboxes.computeIfAbsent(id, k -> new Mailbox());
+			this.expire(mailbox, System.currentTimeMillis());
+			mailbox.watchers.add(watcher);
+			this.flush(id, mailbox, deliveries);
+			this.removeIfUnused(id, mailbox);
+		}
+		ForwardingMailboxes.run(deliveries);
+	}
+
+	/**
+	 * Remove a watcher. Requests it could not send are put back
+	 * in the mailbox if there are no other watchers to receive them
+	 */
+	private void removeWatcher(Watcher watcher, List<GetForwardedResponse> unsent) {
+		List<Runnable> deliveries = new ArrayList<>();
+		synchronized(this) {
+			Mailbox mailbox = this.mailboxes.get(watcher.id);
+			if(mailbox == null || !mailbox.watchers.remove(watcher)) {
+				return;
+			}
+			if(mailbox.watchers.isEmpty() && !unsent.isEmpty()) {
+				long expiresAt = System.currentTimeMillis() + this.ttlMillis;
+				for(int i = unsent.size() - 1; i >= 0; i--) {
+					mailbox.queue.addFirst(new Pending(unsent.get(i), expiresAt));
+				}
+				this.delivered -= unsent.size();
+				this.flush(watcher.id, mailbox, deliveries);
+			}
+			this.removeIfUnused(watcher.id, mailbox);
+		}
+		ForwardingMailboxes.run(deliveries);
+	}
+
+	private void timeout(String id, CompletableFuture<GetForwardedResponse> result) {
+		synchronized(this) {
+			Mailbox mailbox = this.mailboxes.get(id);
+			if(mailbox == null || !mailbox.waiting.remove(result)) {
+				return;
+			}
+			this.removeIfUnused(id, mailbox);
+		}
+		result.complete(EMPTY);
+	}
+
+	/**
+	 * Deliver the requests in the mailbox to the waiting polls or watchers
+	 */
+	private void flush(String id, Mailbox mailbox, List<Runnable> deliveries) {
+		while(!mailbox.queue.isEmpty()) {
+			if(!this.deliver(id, mailbox, mailbox.queue.peek().request, deliveries)) {
+				break;
+			}
+			mailbox.queue.poll();
+		}
+	}
+
+	/**
+	 * Hand the request to every watcher or else to a waiting poll. 
+	 * The request is only handed over once the lock is released, 
+	 * by running the deliveries.
+	 * @return true if the request was delivered
+	 */
+	private boolean deliver(String id, Mailbox mailbox, GetForwardedResponse request, 
+			List<Runnable> deliveries) {
+		boolean delivered = false;
+		Iterator<Watcher> watchers = mailbox.watchers.iterator();
+		while(watchers.hasNext()) {
+			Watcher watcher = watchers.next();
+			if(watcher.isCancelled()) {
+				watchers.remove();
+				continue;
+			}
+			watcher.add(request);
+			deliveries.add(watcher::send);
+			delivered = true;
+		}
+		if(!delivered) {
+			// polls that were cancelled by the client are skipped
+			CompletableFuture<GetForwardedResponse> waiting;
+			while((waiting = mailbox.waiting.poll()) != null) {
+				if(!waiting.isDone()) {
+					final CompletableFuture<GetForwardedResponse> poll = waiting;
+					deliveries.add(() -> {
+						// cancelled in the meantime
+						if(!poll.complete(request)) {
+							this.redeliver(id, request);
+						}
+					});
+					delivered = true;
+					break;
+				}
+			}
+		}
+		if(delivered) {
+			this.delivered++;
+		}
+		return delivered;
+	}
+
+	private void redeliver(String id, GetForwardedResponse request) {
+		List<Runnable> deliveries = new ArrayList<>();
+		synchronized(this) {
+			this.delivered--;
+			this.add(id, request, deliveries);
+		}
+		ForwardingMailboxes.run(deliveries);
+	}
+
+	private static void run(List<Runnable> deliveries) {
+		for(Runnable delivery : deliveries) {
+			delivery.run();
+		}
+	}
+
+	private void expire(Mailbox mailbox, long now) {
+		while(!mailbox.queue.isEmpty() && mailbox.queue.peek().expiresAt <= now) {
+			mailbox.queue.poll();
+			this.expired++;
+		}
+	}
+
+	private synchronized void expire() {
+		long now = System.currentTimeMillis();
+		Iterator<Mailbox> it = this.mailboxes.values().iterator();
+		while(it.hasNext()) {
+			Mailbox mailbox = it.next();
+			this.expire(mailbox, now);
+			if(mailbox.isUnused()) {
+				it.remove();
+			}
+		}
+	}
+
+	private void removeIfUnused(String id, Mailbox mailbox) {
+		if(mailbox.isUnused()) {
+			this.mailboxes.remove(id);
+		}
+	}
+
+	/**
+	 * @return the number of requests waiting to be picked up
+	 */
+	public synchronized int getDepth() {
+		int depth = 0;
+		for(Mailbox mailbox : this.mailboxes.values()) {
+			depth += mailbox.queue.size();
+		}
+		return depth;
+	}
+
+	public void shutdown() {
+		this.timer.shutdown();
+	}
+
+	@Override
+	public synchronized String toString() {
+		int watchers = 0;
+		for(Mailbox mailbox : this.mailboxes.values()) {
+			watchers += mailbox.watchers.size();
+		}
+		return "<ForwardingMailboxes mailboxes: "+this.mailboxes.size()+" depth: "+this.getDepth()+
+				" max depth: "+this.maxDepth+" watchers: "+watchers+" forwarded: "+this.forwarded+
+				" delivered: "+this.delivered+" rejected: "+this.rejected+" expired: "+this.expired+">";
+	}
+
+}
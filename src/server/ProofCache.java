@@ -0,0 +1,167 @@
+package server;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.protobuf.ByteString;
+
+import crpyto.Digest256;
+import io.grpc.bverify.ProofEncoding;
+
+/**
+ * THREADSAFE
+ *
+ * A bounded cache of encoded proofs (serialized MerklePrefixTries)
+ * keyed by (commitment number, sorted ADS ids, encoding). Since the
+ * authentication information for a commitment never changes
+ * once the commitment is made, cached proofs never have to
+ * be invalidated.
+ *
+ * The cache is bounded by the total size of the cached proofs
+ * and evicts the least recently used proofs first.
+ */
+public class ProofCache {
+
+	private final long maxBytes;
+	private long currentBytes;
+
+	// access ordered, so iteration starts at the
+	// least recently used proof
+	private final LinkedHashMap<Key, ByteString> proofs;
+
+	// metrics
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	public ProofCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+		this.currentBytes = 0;
+		this.proofs = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Returns the cached proof for the keys at the commitment
+	 * or null if the proof is not cached
+	 * @param commitmentNumber
+	 * @param keys - the ADS ids (in any order)
+	 * @param encoding - the encoding of the proof
+	 * @return
+	 */
+	public synchronized ByteString get(int commitmentNumber, List<byte[]> keys, ProofEncoding encoding) {
+		ByteString proof = this.proofs.get(new Key(commitmentNumber, keys, encoding));
+		if(proof == null) {
+			this.misses++;
+		}else {
+			this.hits++;
+		}
+		return proof;
+	}
+
+	/**
+	 * Add a proof to the cache, evicting the least recently
+	 * used proofs if the cache is full. Proofs larger
+	 * than the entire cache are not cached.
+	 * @param commitmentNumber
+	 * @param keys - the ADS ids (in any order)
+	 * @param encoding - the encoding of the proof
+	 * @param proof - the encoded proof
+	 */
+	public synchronized void put(int commitmentNumber, List<byte[]> keys, ProofEncoding encoding, ByteString proof) {
+		Key key = new Key(commitmentNumber, keys, encoding);
+		long size = ProofCache.weight(key, proof);
+		if(size > this.maxBytes) {
+			return;
+		}
+		ByteString previous = this.proofs.put(key, proof);
+		if(previous != null) {
+			this.currentBytes -= ProofCache.weight(key, previous);
+		}
+		this.currentBytes += size;
+		Iterator<Map.Entry<Key, ByteString>> lru = this.proofs.entrySet().iterator();
+		while(this.currentBytes > this.maxBytes) {
+			Map.Entry<Key, ByteString> evicted = lru.next();
+			this.currentBytes -= ProofCache.weight(evicted.getKey(), evicted.getValue());
+			lru.remove();
+			this.evictions++;
+		}
+	}
+
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	public synchronized double getHitRatio() {
+		long total = this.hits + this.misses;
+		if(total == 0) {
+			return 0;
+		}
+		return (double) this.hits / total;
+	}
+
+	public synchronized long getEvictions() {
+		return this.evictions;
+	}
+
+	public synchronized long getSizeBytes() {
+		return this.currentBytes;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "<ProofCache proofs: "+this.proofs.size()+" bytes: "+this.currentBytes+"/"+this.maxBytes+
+				" hits: "+this.hits+" misses: "+this.misses+" evictions: "+this.evictions+">";
+	}
+
+	/**
+	 * IMMUTABLE
+	 *
+	 * A proof request: (commitment number, sorted ADS ids, encoding)
+	 */
+	static final class Key {
+		private final int commitmentNumber;
+		private final ProofEncoding encoding;
+		private final Digest256[] adsKeys;
+		private final int hashCode;
+
+		Key(int commitmentNumber, List<byte[]> keys, ProofEncoding encoding) {
+			this.commitmentNumber = commitmentNumber;
+			this.encoding = encoding;
+			this.adsKeys = new Digest256[keys.size()];
+			for(int i = 0; i < this.adsKeys.length; i++) {
+				this.adsKeys[i] = Digest256.fromBytes(keys.get(i));
+			}
+			Arrays.sort(this.adsKeys);
+			this.hashCode = 31 * (31 * commitmentNumber + encoding.getNumber()) + Arrays.hashCode(this.adsKeys);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.hashCode == other.hashCode && this.commitmentNumber == other.commitmentNumber && 
+					this.encoding == other.encoding && Arrays.equals(this.adsKeys, other.adsKeys);
+		}
+	}
+
+	private static long weight(Key key, ByteString proof) {
+		// approximate
+		long size = 32 + (long) key.adsKeys.length * (32 + Digest256.SIZE_BYTES);
+		return proof.size() + size;
+	}
+
+}
@@ -0,0 +1,145 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.protobuf.ByteString;
+
+import io.grpc.bverify.ProofEncoding;
+
+/**
+ * THREADSAFE
+ *
+ * Coalesces concurrent proof requests. Requests for proofs
+ * that have not already been generated are collected
+ * for a short window and then all requests for the same
+ * commitment are served with a single traversal of the
+ * authentication information, so the parts of the
+ * paths shared between requests are only walked once.
+ */
+public class ProofCoalescer {
+	private static final Logger logger = Logger.getLogger(ProofCoalescer.class.getName());
+
+	private final ADSManager adsManager;
+	private final long windowMillis;
+	private final ScheduledExecutorService scheduler;
+
+	// pending requests, grouped by commitment number
+	private Map<Integer, List<PendingProof>> pending;
+	private boolean flushScheduled;
+
+	public ProofCoalescer(ADSManager adsManager, long windowMillis) {
+		this.adsManager = adsManager;
+		this.windowMillis = windowMillis;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "proof-coalescer");
+			t.setDaemon(true);
+			return t;
+		});
+		this.pending = new HashMap<>();
+		this.flushScheduled = false;
+	}
+
+	/**
+	 * Request the encoded proof for the keys at the given commitment.
+	 * The future completes with null if there is no such commitment.
+	 * @param keys - the ADS ids to include in the proof
+	 * @param commitmentNumber
+	 * @param encoding - the encoding of the proof
+	 * @return
+	 */
+	public CompletableFuture<ByteString> getProof(List<byte[]> keys, int commitmentNumber, 
+			ProofEncoding encoding) {
+		// proofs that already exist are returned immediately
+		ByteString proof = this.adsManager.lookupProof(keys, commitmentNumber, encoding);
+		if(proof != null) {
+			return CompletableFuture.completedFuture(proof);
+		}
+		CompletableFuture<ByteString> result = new CompletableFuture<>();
+		synchronized(this) {
+			List<PendingProof> requests = this.pending.get(commitmentNumber);
+			if(requests == null) {
+				requests = new ArrayList<>();
+				this.pending.put(commitmentNumber, requests);
+			}
+			requests.add(new PendingProof(keys, encoding, 
+					new ProofCache.Key(commitmentNumber, keys, encoding), result));
+			if(!this.flushScheduled) {
+				this.flushScheduled = true;
+				this.scheduler.schedule(this::flush, this.windowMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+		return result;
+	}
+
+	public void shutdown() {
+		this.scheduler.shutdown();
+	}
+
+	private void flush() {
+		Map<Integer, List<PendingProof>> batch;
+		synchronized(this) {
+			batch = this.pending;
+			this.pending = new HashMap<>();
+			this.flushScheduled = false;
+		}
+		for(Map.Entry<Integer, List<PendingProof>> kv : batch.entrySet()) {
+			int commitmentNumber = kv.getKey();
+			List<PendingProof> requests = kv.getValue();
+			// identical requests share a single proof
+			Map<ProofEncoding, Map<ProofCache.Key, List<byte[]>>> groups = new HashMap<>();
+			for(PendingProof request : requests) {
+				groups.computeIfAbsent(request.encoding, e -> new LinkedHashMap<>())
+					.putIfAbsent(request.cacheKey, request.keys);
+			}
+			try {
+				Map<ProofCache.Key, ByteString> proofsByGroup = new HashMap<>();
+				for(Map.Entry<ProofEncoding, Map<ProofCache.Key, List<byte[]>>> encodingGroups : groups.entrySet()) {
+					List<ProofCache.Key> groupKeys = new ArrayList<>(encodingGroups.getValue().keySet());
+					List<ByteString> proofs = this.adsManager.getProofs(
+							new ArrayList<>(encodingGroups.getValue().values()), commitmentNumber, 
+							encodingGroups.getKey());
+					if(proofs != null) {
+						for(int i = 0; i < proofs.size(); i++) {
+							proofsByGroup.put(groupKeys.get(i), proofs.get(i));
+						}
+					}
+				}
+				for(PendingProof request : requests) {
+					request.result.complete(proofsByGroup.get(request.cacheKey));
+				}
+				logger.log(Level.FINE, "...served "+requests.size()+" proof requests for commitment #"+
+						commitmentNumber+" with one traversal");
+			}catch(RuntimeException e) {
+				for(PendingProof request : requests) {
+					request.result.completeExceptionally(e);
+				}
+			}
+		}
+	}
+
+	private static class PendingProof {
+		private final List<byte[]> keys;
+		private final ProofEncoding encoding;
+		private final ProofCache.Key cacheKey;
+		private final CompletableFuture<ByteString> result;
+
+		private PendingProof(List<byte[]> keys, ProofEncoding encoding, ProofCache.Key cacheKey, 
+				CompletableFuture<ByteString> result) {
+			this.keys = keys;
+			this.encoding = encoding;
+			this.cacheKey = cacheKey;
+			this.result = result;
+		}
+	}
+
+}
@@ -0,0 +1,226 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import crpyto.Digest256;
+import io.grpc.bverify.Receipt;
+
+/**
+ * NOT THREADSAFE
+ *
+ * Records the receipts added to and removed from each ADS by
+ * each commitment. This is used to compute the changes to an
+ * ADS between two commitments and to reconstruct the
+ * receipts in an ADS at an earlier commitment from the latest
+ * receipts, so the old receipt sets do not need to be stored.
+ *
+ * Changes are recorded against the next commitment, so changes
+ * that have not been committed yet are included when diffing
+ * against the latest version.
+ *
+ * Only the changes made by the most recent commitments are kept,
+ * so the receipts can only be reconstructed (and diffed) as far
+ * back as getOldestCommitmentNumber().
+ */
+public class ReceiptHistory {
+
+	private static class Change {
+		private final int commitmentNumber;
+		private final Set<Receipt> added;
+		private final Set<Receipt> removed;
+
+		private Change(int commitmentNumber) {
+			this.commitmentNumber = commitmentNumber;
+			this.added = new HashSet<>();
+			this.removed = new HashSet<>();
+		}
+	}
+
+	/**
+	 * The net changes between two versions of an ADS
+	 */
+	public static class Diff {
+		private final Set<Receipt> added;
+		private final Set<Receipt> removed;
+
+		private Diff() {
+			this.added = new HashSet<>();
+			this.removed = new HashSet<>();
+		}
+
+		public Set<Receipt> getAdded() {
+			return this.added;
+		}
+
+		public Set<Receipt> getRemoved() {
+			return this.removed;
+		}
+	}
+
+	// ads key -> changes, in commitment order
+	private final Map<Digest256, List<Change>> changes;
+	// the number of commitments the changes are kept for
+	private final int maxCommitments;
+	// changes made by this commitment or earlier are dropped
+	private int oldestCommitmentNumber;
+	private int lastSweep;
+
+	/**
+	 * @param maxCommitments - the number of recent commitments
+	 * to keep the changes for
+	 */
+	public ReceiptHistory(int maxCommitments) {
+		this.changes = new HashMap<>();
+		this.maxCommitments = maxCommitments;
+		this.oldestCommitmentNumber = -1;
+		this.lastSweep = -1;
+	}
+
+	/**
+	 * @return the oldest commitment the receipts can be reconstructed for
+	 */
+	public int getOldestCommitmentNumber() {
+		return this.oldestCommitmentNumber;
+	}
+
+	/**
+	 * Drop the changes that are no longer needed after a commitment.
+	 * The changes to each ADS are dropped when it is next updated 
+	 * and all the ADSes are swept once every maxCommitments commitments, 
+	 * so this is cheap.
+	 * @param latestCommitmentNumber - the commitment just made
+	 */
+	public void prune(int latestCommitmentNumber) {
+		this.oldestCommitmentNumber = Math.max(this.oldestCommitmentNumber, 
+				latestCommitmentNumber - this.maxCommitments + 1);
+		if(latestCommitmentNumber - this.lastSweep < this.maxCommitments) {
+			return;
+		}
+		this.lastSweep = latestCommitmentNumber;
+		Iterator<List<Change>> it = this.changes.values().iterator();
+		while(it.hasNext()) {
+			List<Change> adsChanges = it.next();
+			this.prune(adsChanges);
+			if(adsChanges.isEmpty()) {
+				it.remove();
+			}
+		}
+	}
+
+	private void prune(List<Change> adsChanges) {
+		adsChanges.subList(0, this.firstAfter(adsChanges, this.oldestCommitmentNumber)).clear();
+	}
+
+	/**
+	 * Record an update to an ADS
+	 * @param adsKey
+	 * @param oldReceipts - the receipts before the update
+	 * @param newReceipts - the receipts after the update
+	 * @param commitmentNumber - the commitment the update will be part of
+	 */
+	public void record(Digest256 adsKey, Set<Receipt> oldReceipts, Set<Receipt> newReceipts,
+			int commitmentNumber) {
+		List<Change> adsChanges = this.changes.computeIfAbsent(adsKey, k -> new ArrayList<>());
+		this.prune(adsChanges);
+		Change change;
+		if(!adsChanges.isEmpty() && adsChanges.get(adsChanges.size() - 1).commitmentNumber == commitmentNumber) {
+			change = adsChanges.get(adsChanges.size() - 1);
+		}else {
+			change = new Change(commitmentNumber);
+			adsChanges.add(change);
+		}
+		for(Receipt r : newReceipts) {
+			if(!oldReceipts.contains(r) && !change.removed.remove(r)) {
+				change.added.add(r);
+			}
+		}
+		for(Receipt r : oldReceipts) {
+			if(!newReceipts.contains(r) && !change.added.remove(r)) {
+				change.removed.add(r);
+			}
+		}
+		if(change.added.isEmpty() && change.removed.isEmpty()) {
+			adsChanges.remove(adsChanges.size() - 1);
+		}
+	}
+
+	/**
+	 * Calculate the net changes to an ADS between two commitments
+	 * @param adsKey
+	 * @param fromCommitmentNumber
+	 * @param toCommitmentNumber - must be at least fromCommitmentNumber
+	 * @return the receipts added and removed
+	 */
+	public Diff diff(Digest256 adsKey, int fromCommitmentNumber, int toCommitmentNumber) {
+		Diff diff = new Diff();
+		List<Change> adsChanges = this.changes.get(adsKey);
+		if(adsChanges == null) {
+			return diff;
+		}
+		for(int i = this.firstAfter(adsChanges, fromCommitmentNumber); i < adsChanges.size(); i++) {
+			Change change = adsChanges.get(i);
+			if(change.commitmentNumber > toCommitmentNumber) {
+				break;
+			}
+			for(Receipt r : change.removed) {
+				if(!diff.added.remove(r)) {
+					diff.removed.add(r);
+				}
+			}
+			for(Receipt r : change.added) {
+				if(!diff.removed.remove(r)) {
+					diff.added.add(r);
+				}
+			}
+		}
+		return diff;
+	}
+
+	/**
+	 * Reconstruct the receipts in an ADS at an earlier commitment
+	 * by undoing the later changes
+	 * @param adsKey
+	 * @param latestReceipts - the latest receipts in the ADS (not modified)
+	 * @param commitmentNumber
+	 * @return the receipts at the commitment
+	 */
+	public Set<Receipt> receiptsAt(Digest256 adsKey, Set<Receipt> latestReceipts, int commitmentNumber) {
+		Set<Receipt> receipts = new HashSet<>(latestReceipts);
+		List<Change> adsChanges = this.changes.get(adsKey);
+		if(adsChanges == null) {
+			return receipts;
+		}
+		int first = this.firstAfter(adsChanges, commitmentNumber);
+		for(int i = adsChanges.size() - 1; i >= first; i--) {
+			Change change = adsChanges.get(i);
+			receipts.removeAll(change.added);
+			receipts.addAll(change.removed);
+		}
+		return receipts;
+	}
+
+	/**
+	 * @return the position of the first change made
+	 * after the given commitment
+	 */
+	private int firstAfter(List<Change> adsChanges, int commitmentNumber) {
+		int lo = 0;
+		int hi = adsChanges.size();
+		while(lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(adsChanges.get(mid).commitmentNumber <= commitmentNumber) {
+				lo = mid + 1;
+			}else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+}
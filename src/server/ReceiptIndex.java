@@ -0,0 +1,91 @@
+package server;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import crpyto.CryptographicUtils;
+import io.grpc.bverify.Receipt;
+
+/**
+ * IMMUTABLE
+ *
+ * The receipts in an ADS ordered by their witness. The order does
+ * not depend on how the receipts are stored, so a client can
+ * fetch the receipts in chunks and resume from the witness
+ * of the last receipt it received.
+ */
+public class ReceiptIndex {
+
+	private final byte[][] witnesses;
+	private final Receipt[] receipts;
+
+	public ReceiptIndex(Collection<Receipt> receipts) {
+		int n = receipts.size();
+		byte[][] witnesses = new byte[n][];
+		Receipt[] unsorted = new Receipt[n];
+		Integer[] order = new Integer[n];
+		int i = 0;
+		for(Receipt r : receipts) {
+			witnesses[i] = CryptographicUtils.witnessReceipt(r);
+			unsorted[i] = r;
+			order[i] = i;
+			i++;
+		}
+		Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(witnesses[a], witnesses[b]));
+		this.witnesses = new byte[n][];
+		this.receipts = new Receipt[n];
+		for(i = 0; i < n; i++) {
+			this.witnesses[i] = witnesses[order[i]];
+			this.receipts[i] = unsorted[order[i]];
+		}
+	}
+
+	public int size() {
+		return this.receipts.length;
+	}
+
+	public Receipt getReceipt(int i) {
+		return this.receipts[i];
+	}
+
+	public byte[] getWitness(int i) {
+		return this.witnesses[i].clone();
+	}
+
+	/**
+	 * @param witness
+	 * @return the receipt with the witness or null 
+	 * if there is no such receipt
+	 */
+	public Receipt find(byte[] witness) {
+		int i = this.after(witness) - 1;
+		if(i >= 0 && Arrays.equals(this.witnesses[i], witness)) {
+			return this.receipts[i];
+		}
+		return null;
+	}
+
+	/**
+	 * @param witness - the witness of the last receipt received,
+	 * or an empty array to start from the beginning
+	 * @return the position of the first receipt with a witness
+	 * greater than the given witness
+	 */
+	public int after(byte[] witness) {
+		if(witness.length == 0) {
+			return 0;
+		}
+		int lo = 0;
+		int hi = this.witnesses.length;
+		while(lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(Arrays.compareUnsigned(this.witnesses[mid], witness) <= 0) {
+				lo = mid + 1;
+			}else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+}
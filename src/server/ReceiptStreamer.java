@@ -0,0 +1,107 @@
+package server;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.protobuf.ByteString;
+
+import io.grpc.bverify.DataResponse;
+import io.grpc.bverify.Receipt;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * THREADSAFE
+ *
+ * Streams the receipts in an ADS to a client in chunks
+ * (StreamDataRequest), ordered by witness. Chunks are only
+ * sent while the client is ready to receive them, so a slow client
+ * does not cause the responses to be buffered on the server.
+ * Each chunk carries a continuation token (the witness of its last
+ * receipt) which the client can use to resume an interrupted stream.
+ */
+public class ReceiptStreamer {
+	private static final Logger logger = Logger.getLogger(ReceiptStreamer.class.getName());
+
+	private final ReceiptIndex index;
+	private final int maxChunkReceipts;
+	private final int maxChunkBytes;
+	private final StreamObserver<DataResponse> observer;
+
+	// the next receipt to send
+	private int position;
+	private boolean closed;
+
+	/**
+	 * @param index - the receipts to send
+	 * @param continuationToken - the witness of the last receipt the
+	 * client has received (empty to start from the beginning)
+	 * @param maxChunkReceipts - the maximum number of receipts in a chunk
+	 * @param maxChunkBytes - the maximum (approximate) size of a chunk
+	 * @param observer - the stream to the client
+	 */
+	public ReceiptStreamer(ReceiptIndex index, byte[] continuationToken, int maxChunkReceipts,
+			int maxChunkBytes, StreamObserver<DataResponse> observer) {
+		this.index = index;
+		this.maxChunkReceipts = maxChunkReceipts;
+		this.maxChunkBytes = maxChunkBytes;
+		this.observer = observer;
+		this.position = index.after(continuationToken);
+		this.closed = false;
+	}
+
+	/**
+	 * Start streaming. Chunks are sent whenever the client is ready
+	 * until all the receipts have been sent or the call is cancelled.
+	 */
+	public void start() {
+		if(this.observer instanceof ServerCallStreamObserver) {
+			ServerCallStreamObserver<DataResponse> serverObserver =
+					(ServerCallStreamObserver<DataResponse>) this.observer;
+			serverObserver.setOnCancelHandler(this::close);
+			serverObserver.setOnReadyHandler(this::send);
+		}
+		this.send();
+	}
+
+	private synchronized void send() {
+		try {
+			while(!this.closed && this.isReady()) {
+				if(this.position == this.index.size()) {
+					this.closed = true;
+					this.observer.onCompleted();
+					return;
+				}
+				DataResponse.Builder chunk = DataResponse.newBuilder();
+				int bytes = 0;
+				int end = this.position;
+				while(end < this.index.size() && end - this.position < this.maxChunkReceipts
+						&& bytes < this.maxChunkBytes) {
+					Receipt r = this.index.getReceipt(end);
+					chunk.addReceipts(r);
+					bytes += r.getSerializedSize();
+					end++;
+				}
+				chunk.setContinuationToken(ByteString.copyFrom(this.index.getWitness(end - 1)));
+				this.observer.onNext(chunk.build());
+				this.position = end;
+			}
+		}catch(RuntimeException e) {
+			// the client has gone away
+			logger.log(Level.INFO, "...stopped streaming receipts: "+e);
+			this.close();
+		}
+	}
+
+	private boolean isReady() {
+		if(this.observer instanceof ServerCallStreamObserver) {
+			return ((ServerCallStreamObserver<DataResponse>) this.observer).isReady();
+		}
+		return true;
+	}
+
+	private synchronized void close() {
+		this.closed = true;
+	}
+
+}
@@ -0,0 +1,123 @@
+package server;
+
+import java.nio.ByteBuffer;
+import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import crpyto.CryptographicDigest;
+import crpyto.Digest256;
+import io.grpc.bverify.SignatureScheme;
+
+/**
+ * THREADSAFE
+ *
+ * A bounded cache of the signatures that have already been verified,
+ * so that requests submitted again with the same signatures (e.g.
+ * clients retrying after a timeout) are not verified again.
+ *
+ * A signature is identified by the hash of (scheme, public key,
+ * message, signature). This is much cheaper than verifying the
+ * signature, and since the hash is collision resistant a signature
+ * that is in the cache is exactly a signature that was verified.
+ * Only valid signatures are added, so invalid signatures
+ * cannot push them out.
+ *
+ * The cache evicts the least recently used signatures first.
+ */
+public class SignatureCache {
+
+	private final int maxSignatures;
+
+	// access ordered, so the eldest entry is
+	// the least recently used signature
+	private final LinkedHashMap<Digest256, Boolean> verified;
+
+	// metrics
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	public SignatureCache(int maxSignatures) {
+		this.maxSignatures = maxSignatures;
+		this.verified = new LinkedHashMap<Digest256, Boolean>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Digest256, Boolean> eldest) {
+				if(this.size() > SignatureCache.this.maxSignatures) {
+					SignatureCache.this.evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * @param scheme
+	 * @param message
+	 * @param signature
+	 * @param pubKey
+	 * @return the key of the signature in the cache
+	 */
+	public static Digest256 key(SignatureScheme scheme, Digest256 message, byte[] signature,
+			PublicKey pubKey) {
+		byte[] encodedKey = pubKey.getEncoded();
+		// the key is length prefixed so the
+		// encoding is unambiguous
+		ByteBuffer tuple = ByteBuffer.allocate(8 + encodedKey.length + Digest256.SIZE_BYTES +
+				signature.length);
+		tuple.putInt(scheme.getNumber());
+		tuple.putInt(encodedKey.length);
+		tuple.put(encodedKey);
+		message.writeTo(tuple);
+		tuple.put(signature);
+		return Digest256.fromBytes(CryptographicDigest.hash(tuple.array()));
+	}
+
+	/**
+	 * @param key - see key()
+	 * @return true if the signature has been verified
+	 */
+	public synchronized boolean contains(Digest256 key) {
+		if(this.verified.get(key) != null) {
+			this.hits++;
+			return true;
+		}
+		this.misses++;
+		return false;
+	}
+
+	/**
+	 * Record a valid signature
+	 * @param key - see key()
+	 */
+	public synchronized void add(Digest256 key) {
+		this.verified.put(key, Boolean.TRUE);
+	}
+
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	public synchronized double getHitRatio() {
+		long total = this.hits + this.misses;
+		if(total == 0) {
+			return 0;
+		}
+		return (double) this.hits / total;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "<SignatureCache signatures: "+this.verified.size()+"/"+this.maxSignatures+
+				" hits: "+this.hits+" misses: "+this.misses+" hit ratio: "+
+				String.format("%.3f", this.getHitRatio())+" evictions: "+this.evictions+">";
+	}
+
+}
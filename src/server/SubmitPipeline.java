@@ -0,0 +1,626 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.protobuf.ByteString;
+
+import crpyto.CryptographicSignature;
+import crpyto.CryptographicUtils;
+import crpyto.Digest256;
+import crpyto.Schnorr;
+import io.grpc.bverify.IssueReceiptRequest;
+import io.grpc.bverify.Receipt;
+import io.grpc.bverify.SignatureScheme;
+import io.grpc.bverify.SubmitRequest;
+import io.grpc.bverify.TransferReceiptRequest;
+import mpt.core.Utils;
+import mpt.set.AuthenticatedSetServer;
+import pki.Account;
+import pki.PKIDirectory;
+
+/**
+ * THREADSAFE
+ *
+ * Processes submitted requests in stages, so that requests are
+ * processed concurrently and only the updates are serialized:
+ *
+ * 	decode  - look up the accounts and witness the receipt
+ * 	prepare - fork the ADSes and calculate their new roots
+ * 	verify  - verify the signatures on the new roots
+ * 	apply   - update the ADSes, one request at a time
+ * 	commit  - make one commitment for all the updates applied
+ *
+ * Decode, prepare and verify each have their own pool of threads and
+ * a bounded queue. If a queue is full the stage before it runs the
+ * task itself, which slows down the earlier stages (and eventually
+ * the clients). Requests with Schnorr signatures also wait in their
+ * own queue, and each verify thread that picks one up takes all the
+ * ones that are waiting (up to a limit) and verifies their signatures
+ * together in one batch. If the batch is invalid its requests are
+ * passed back to the verify pool to be verified one at a time, 
+ * and requests with other signatures are always verified one at 
+ * a time. Apply and commit run on a single thread, which takes
+ * all the verified requests that are waiting (up to a limit), applies
+ * them and then commits once. A request is only accepted after
+ * the commitment that includes it is made. Requests are applied in
+ * the order they were submitted, even if a later request gets 
+ * through the earlier stages first.
+ *
+ * Requests are prepared concurrently, so another request can update
+ * an ADS after it is forked and before the request is applied. Such
+ * requests are prepared and verified again when they are applied, so
+ * the result is the same as processing the requests one at a time.
+ */
+public class SubmitPipeline {
+	private static final Logger logger = Logger.getLogger(SubmitPipeline.class.getName());
+
+	private final PKIDirectory pki;
+	private final ADSManager adsManager;
+	private final SignatureCache signatureCache;
+
+	private final ThreadPoolExecutor decoder;
+	private final ThreadPoolExecutor preparer;
+	private final ThreadPoolExecutor verifier;
+	// prepared Schnorr requests waiting to be verified together
+	private final BlockingQueue<Pending> toBatch;
+	private final int maxVerifyBatch;
+	// verified requests waiting to be applied
+	private final BlockingQueue<Pending> toApply;
+	private final Thread applier;
+	private final int maxCommitBatch;
+	// requests are numbered in the order they are submitted
+	private final AtomicLong submitted;
+	// (only used by the applier) the requests that have been 
+	// verified but are waiting for an earlier request
+	private final Map<Long, Pending> waiting;
+	private long nextToApply;
+	// requests that could not be passed on to the next stage, 
+	// and an empty request that wakes up the applier to skip them 
+	// (if the queue is full the applier is not waiting anyway)
+	private final Set<Long> skipped;
+	private static final Pending SKIP = new Pending(-1);
+
+	// metrics
+	private final AtomicLong accepted;
+	private final AtomicLong rejected;
+	private final AtomicLong commits;
+	private final AtomicLong reprepared;
+	private final AtomicLong verifiedTogether;
+
+	/**
+	 * @param pki
+	 * @param adsManager
+	 * @param signatureCache
+	 * @param decodeThreads
+	 * @param prepareThreads
+	 * @param verifyThreads
+	 * @param queueCapacity - the capacity of the queue before each stage
+	 * @param maxVerifyBatch - the most requests verified together
+	 * @param maxCommitBatch - the most requests included in one commitment
+	 */
+	public SubmitPipeline(PKIDirectory pki, ADSManager adsManager, SignatureCache signatureCache,
+			int decodeThreads, int prepareThreads, int verifyThreads, int queueCapacity,
+			int maxVerifyBatch, int maxCommitBatch) {
+		this.pki = pki;
+		this.adsManager = adsManager;
+		this.signatureCache = signatureCache;
+		this.decoder = SubmitPipeline.newStage("submit-decode", decodeThreads, queueCapacity);
+		this.preparer = SubmitPipeline.newStage("submit-prepare", prepareThreads, queueCapacity);
+		this.verifier = SubmitPipeline.newStage("submit-verify", verifyThreads, queueCapacity);
+		this.toBatch = new ArrayBlockingQueue<>(queueCapacity);
+		this.maxVerifyBatch = maxVerifyBatch;
+		this.toApply = new ArrayBlockingQueue<>(queueCapacity);
+		this.maxCommitBatch = maxCommitBatch;
+		this.submitted = new AtomicLong();
+		this.waiting = new HashMap<>();
+		this.nextToApply = 0;
+		this.skipped = ConcurrentHashMap.newKeySet();
+		this.accepted = new AtomicLong();
+		this.rejected = new AtomicLong();
+		this.commits = new AtomicLong();
+		this.reprepared = new AtomicLong();
+		this.verifiedTogether = new AtomicLong();
+		this.applier = new Thread(this::applyAndCommit, "submit-apply");
+		this.applier.setDaemon(true);
+		this.applier.start();
+	}
+
+	private static ThreadPoolExecutor newStage(String name, int threads, int queueCapacity) {
+		return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), r -> {
+					Thread t = new Thread(r, name);
+					t.setDaemon(true);
+					return t;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * Submit a request
+	 * @param request
+	 * @return completes with true once the request is committed or
+	 * with false if it is rejected
+	 */
+	public CompletableFuture<Boolean> submit(SubmitRequest request) {
+		if(request.getRequestCase() == SubmitRequest.RequestCase.REQUEST_NOT_SET) {
+			return CompletableFuture.completedFuture(false);
+		}
+		Pending pending = new Pending(this.submitted.getAndIncrement());
+		CompletableFuture.supplyAsync(() -> this.decode(request, pending), this.decoder)
+			.thenApplyAsync(this::prepare, this.preparer)
+			.whenComplete((prepared, error) -> {
+				// requests that failed are passed on too, 
+				// so that later requests are not held up
+				pending.error = error;
+				if(error != null || pending.rejected) {
+					this.pass(this.toApply, pending);
+				}else if(pending.scheme == SignatureScheme.SCHNORR) {
+					this.pass(this.toBatch, pending);
+					this.verifier.execute(this::verifyWaiting);
+				}else {
+					this.verifier.execute(() -> this.verifyAndPass(pending));
+				}
+			});
+		return pending.result;
+	}
+
+	/**
+	 * Pass a request on to the next stage, waiting if its queue is full
+	 */
+	private void pass(BlockingQueue<Pending> queue, Pending pending) {
+		try {
+			queue.put(pending);
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			// the applier takes the requests in order, 
+			// so it must be told to skip this one
+			pending.result.completeExceptionally(e);
+			this.skipped.add(pending.sequence);
+			this.toApply.offer(SKIP);
+		}
+	}
+
+	/**
+	 * Stop processing requests. Returns once the 
+	 * applier has stopped, so no more updates are made.
+	 */
+	public void shutdown() {
+		this.decoder.shutdown();
+		this.preparer.shutdown();
+		this.verifier.shutdown();
+		this.applier.interrupt();
+		try {
+			this.applier.join();
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Pending decode(SubmitRequest request, Pending pending) {
+		if(request.getRequestCase() == SubmitRequest.RequestCase.ISSUE_RECEIPT) {
+			IssueReceiptRequest issue = request.getIssueReceipt();
+			Receipt receipt = issue.getReceipt();
+			logger.log(Level.INFO, "IssueReceiptRequest("+receipt+")");
+			Account warehouse = this.getAccount(receipt.getWarehouseId(), "warehouse");
+			Account depositor = this.getAccount(receipt.getDepositorId(), "depositor");
+			byte[] receiptWitness = CryptographicUtils.witnessReceipt(receipt);
+			// both sign the new root of the ADS
+			pending.scheme = issue.getScheme();
+			pending.changes.add(new Change(CryptographicUtils.getADSKey(warehouse, depositor),
+					receipt, receiptWitness, true));
+			pending.addSignature(0, issue.getSignatureWarehouse(), warehouse, "warehouse");
+			pending.addSignature(0, issue.getSignatureDepositor(), depositor, "depositor");
+			return pending;
+		}
+		TransferReceiptRequest transfer = request.getTransferReceipt();
+		Receipt receipt = transfer.getReceipt();
+		Account warehouse = this.getAccount(receipt.getWarehouseId(), "warehouse");
+		Account currentOwner = this.getAccount(transfer.getCurrentOwnerId(), "current owner");
+		Account newOwner = this.getAccount(transfer.getNewOwnerId(), "new owner");
+		logger.log(Level.INFO, "TransferReceiptRequest("+receipt+" from "+currentOwner+" --> "+newOwner+")");
+		byte[] receiptWitness = CryptographicUtils.witnessReceipt(receipt);
+		// the receipt is removed from the current owner's ADS
+		// and added to the new owner's ADS, the warehouse and
+		// each owner sign the new root of the owner's ADS
+		pending.scheme = transfer.getScheme();
+		pending.changes.add(new Change(CryptographicUtils.getADSKey(warehouse, currentOwner),
+				receipt, receiptWitness, false));
+		pending.changes.add(new Change(CryptographicUtils.getADSKey(warehouse, newOwner),
+				receipt, receiptWitness, true));
+		pending.addSignature(0, transfer.getSignatureWarehouseCurrent(), warehouse, "warehouse (current)");
+		pending.addSignature(0, transfer.getSignatureCurrentOwner(), currentOwner, "current owner");
+		pending.addSignature(1, transfer.getSignatureWarehouseNew(), warehouse, "warehouse (new)");
+		pending.addSignature(1, transfer.getSignatureNewOwner(), newOwner, "new owner");
+		return pending;
+	}
+
+	/**
+	 * @return the account
+	 * @throws IllegalArgumentException - if there is no such account 
+	 * (the request fails with INVALID_ARGUMENT)
+	 */
+	private Account getAccount(String id, String role) {
+		Account account = this.pki.getAccount(id);
+		if(account == null) {
+			throw new IllegalArgumentException("unknown "+role+": "+id);
+		}
+		return account;
+	}
+
+	private Pending prepare(Pending pending) {
+		pending.rejected = false;
+		pending.signed = null;
+		for(Change change : pending.changes) {
+			// the ADS and its receipts are read while holding the
+			// lock of the ADS manager, so they are the same version
+			synchronized(this.adsManager) {
+				change.ads = this.adsManager.getADS(change.adsKey);
+				if(change.ads == null) {
+					logger.log(Level.INFO, "Update rejected - no ADS "+change.adsKey);
+					pending.rejected = true;
+					return pending;
+				}
+				change.data = this.adsManager.getADSData(change.adsKey);
+			}
+			change.base = change.ads.commitmentDigest();
+			if(change.insert) {
+				change.data.add(change.receipt);
+				change.ads.insert(change.witness);
+			}else {
+				change.data.remove(change.receipt);
+				change.ads.delete(change.witness);
+			}
+			change.newRoot = change.ads.commitmentDigest();
+		}
+		return pending;
+	}
+
+	private Pending verify(Pending pending) {
+		if(pending.rejected) {
+			return pending;
+		}
+		int n = pending.signatures.size();
+		Digest256[] messages = new Digest256[n];
+		for(int i = 0; i < n; i++) {
+			messages[i] = pending.changes.get(pending.signedChanges.get(i)).newRoot;
+		}
+		pending.signed = this.verifySignatures(pending.scheme, messages,
+				pending.signatures.toArray(new ByteString[n]), pending.signers.toArray(new Account[n]));
+		for(boolean signed : pending.signed) {
+			if(!signed) {
+				pending.rejected = true;
+			}
+		}
+		return pending;
+	}
+
+	private void verifyAndPass(Pending pending) {
+		try {
+			this.verify(pending);
+		}catch(RuntimeException e) {
+			pending.error = e;
+		}
+		this.pass(this.toApply, pending);
+	}
+
+	/**
+	 * Verify the Schnorr requests that are waiting, if another 
+	 * verify thread has not already taken them
+	 */
+	private void verifyWaiting() {
+		List<Pending> batch = new ArrayList<>();
+		this.toBatch.drainTo(batch, this.maxVerifyBatch);
+		if(batch.size() == 1) {
+			this.verifyAndPass(batch.get(0));
+		}else if(batch.size() > 1) {
+			this.verifyBatch(batch);
+		}
+	}
+
+	/**
+	 * Verify the Schnorr signatures of the requests in a batch
+	 * together. If that fails each request is passed to the
+	 * verify pool, so that they are verified in parallel.
+	 * @param batch
+	 */
+	private void verifyBatch(List<Pending> batch) {
+		if(this.verifyTogether(batch)) {
+			this.verifiedTogether.addAndGet(batch.size());
+			for(Pending pending : batch) {
+				this.pass(this.toApply, pending);
+			}
+			return;
+		}
+		for(Pending pending : batch) {
+			this.verifier.execute(() -> this.verifyAndPass(pending));
+		}
+	}
+
+	/**
+	 * Verify the Schnorr signatures of several requests in one batch
+	 * @param requests
+	 * @return true if every signature is valid, otherwise 
+	 * the requests are not changed
+	 */
+	private boolean verifyTogether(List<Pending> requests) {
+		Schnorr.Batch batch = new Schnorr.Batch();
+		List<Digest256> keys = new ArrayList<>();
+		try {
+			for(Pending pending : requests) {
+				for(int i = 0; i < pending.signatures.size(); i++) {
+					Digest256 message = pending.changes.get(pending.signedChanges.get(i)).newRoot;
+					byte[] signature = pending.signatures.get(i).toByteArray();
+					Account signer = pending.signers.get(i);
+					Digest256 key = SignatureCache.key(SignatureScheme.SCHNORR, message, signature, 
+							signer.getPublicKey());
+					if(!this.signatureCache.contains(key)) {
+						batch.add(message.toBytes(), signature, signer.getPublicKey());
+						keys.add(key);
+					}
+				}
+			}
+			if(batch.size() > 0 && !batch.verify()) {
+				return false;
+			}
+		}catch(RuntimeException e) {
+			return false;
+		}
+		for(Digest256 key : keys) {
+			this.signatureCache.add(key);
+		}
+		for(Pending pending : requests) {
+			pending.signed = new boolean[pending.signatures.size()];
+			Arrays.fill(pending.signed, true);
+		}
+		return true;
+	}
+
+	/**
+	 * Verify the signatures on a request. Signatures that have
+	 * already been verified (see SignatureCache) are not verified
+	 * again. Schnorr signatures are verified together in one batch
+	 * and only checked one at a time (to find the invalid
+	 * signatures) if the batch is invalid.
+	 * @param scheme - the scheme of every signature
+	 * @param messages
+	 * @param signatures
+	 * @param signers
+	 * @return true for each valid signature
+	 */
+	private boolean[] verifySignatures(SignatureScheme scheme, Digest256[] messages,
+			ByteString[] signatures, Account[] signers) {
+		boolean[] valid = new boolean[messages.length];
+		Digest256[] keys = new Digest256[messages.length];
+		for(int i = 0; i < messages.length; i++) {
+			keys[i] = SignatureCache.key(scheme, messages[i], signatures[i].toByteArray(),
+					signers[i].getPublicKey());
+			valid[i] = this.signatureCache.contains(keys[i]);
+		}
+		if(scheme == SignatureScheme.SCHNORR) {
+			Schnorr.Batch batch = new Schnorr.Batch();
+			for(int i = 0; i < messages.length; i++) {
+				if(!valid[i]) {
+					batch.add(messages[i].toBytes(), signatures[i].toByteArray(), signers[i].getPublicKey());
+				}
+			}
+			if(batch.size() == 0) {
+				return valid;
+			}
+			if(batch.verify()) {
+				for(int i = 0; i < messages.length; i++) {
+					if(!valid[i]) {
+						valid[i] = true;
+						this.signatureCache.add(keys[i]);
+					}
+				}
+				return valid;
+			}
+		}
+		for(int i = 0; i < messages.length; i++) {
+			if(!valid[i]) {
+				valid[i] = CryptographicSignature.verify(messages[i], signatures[i].toByteArray(),
+						signers[i].getPublicKey(), scheme);
+				if(valid[i]) {
+					this.signatureCache.add(keys[i]);
+				}
+			}
+		}
+		return valid;
+	}
+
+	private void applyAndCommit() {
+		List<Pending> verified = new ArrayList<>();
+		List<Pending> applied = new ArrayList<>();
+		while(true) {
+			try {
+				// wait for the next request
+				while(!this.waiting.containsKey(this.nextToApply)) {
+					if(this.skipped.remove(this.nextToApply)) {
+						this.nextToApply++;
+						continue;
+					}
+					Pending pending = this.toApply.take();
+					if(pending != SKIP) {
+						this.waiting.put(pending.sequence, pending);
+					}
+				}
+			}catch(InterruptedException e) {
+				return;
+			}
+			this.toApply.drainTo(verified);
+			for(Pending pending : verified) {
+				if(pending != SKIP) {
+					this.waiting.put(pending.sequence, pending);
+				}
+			}
+			verified.clear();
+			int batchSize = 0;
+			Pending pending;
+			while(batchSize < this.maxCommitBatch && 
+					(pending = this.waiting.remove(this.nextToApply)) != null) {
+				this.nextToApply++;
+				batchSize++;
+				if(pending.error != null) {
+					pending.result.completeExceptionally(pending.error);
+					continue;
+				}
+				try {
+					if(this.apply(pending)) {
+						applied.add(pending);
+					}else {
+						this.rejected.incrementAndGet();
+						pending.result.complete(false);
+					}
+				}catch(RuntimeException e) {
+					pending.result.completeExceptionally(e);
+				}
+			}
+			if(!applied.isEmpty()) {
+				try {
+					// committing!
+					byte[] newCommitment = this.adsManager.commit();
+					this.commits.incrementAndGet();
+					this.accepted.addAndGet(applied.size());
+					logger.log(Level.INFO, "NEW COMMITMENT: "+
+							Utils.byteArrayAsHexString(newCommitment)+" ("+applied.size()+" updates)");
+					for(Pending applies : applied) {
+						applies.result.complete(true);
+					}
+				}catch(RuntimeException e) {
+					for(Pending applies : applied) {
+						applies.result.completeExceptionally(e);
+					}
+				}
+				applied.clear();
+			}
+		}
+	}
+
+	/**
+	 * Only called from the applier thread, so the ADSes
+	 * cannot change while a request is applied
+	 * @param pending
+	 * @return true if the request was applied
+	 */
+	private boolean apply(Pending pending) {
+		for(Change change : pending.changes) {
+			if(change.base != null && !change.base.equals(this.adsManager.getADSCommitment(change.adsKey))) {
+				// another request updated the ADS after it was forked
+				this.reprepared.incrementAndGet();
+				this.verify(this.prepare(pending));
+				break;
+			}
+		}
+		if(pending.rejected) {
+			if(pending.signed != null) {
+				StringBuilder sb = new StringBuilder("Update rejected");
+				for(int i = 0; i < pending.signed.length; i++) {
+					sb.append(i == 0 ? " - " : "|").append("signed ")
+						.append(pending.signerRoles.get(i)).append(": ").append(pending.signed[i]);
+				}
+				logger.log(Level.INFO, sb.toString());
+			}
+			return false;
+		}
+		StringBuilder sb = new StringBuilder("Update Accepted! : ");
+		for(Change change : pending.changes) {
+			sb.append("\n").append(change.adsKey).append("->").append(change.newRoot);
+		}
+		logger.log(Level.INFO, sb.toString());
+		for(Change change : pending.changes) {
+			this.adsManager.updateADS(change.adsKey, change.data, change.ads);
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "<SubmitPipeline queued - decode: "+this.decoder.getQueue().size()+
+				" prepare: "+this.preparer.getQueue().size()+
+				" verify: "+this.verifier.getQueue().size()+
+				" batch: "+this.toBatch.size()+
+				" apply: "+this.toApply.size()+
+				" accepted: "+this.accepted.get()+" rejected: "+this.rejected.get()+
+				" commits: "+this.commits.get()+" reprepared: "+this.reprepared.get()+
+				" verified together: "+this.verifiedTogether.get()+">";
+	}
+
+	/**
+	 * NOT THREADSAFE
+	 *
+	 * A request as it moves through the stages
+	 * (only one stage has it at a time)
+	 */
+	private static class Pending {
+		private final long sequence;
+		private final CompletableFuture<Boolean> result;
+		// set when the request is decoded
+		private SignatureScheme scheme;
+		private final List<Change> changes;
+		// signature i is on the new root of change signedChanges[i]
+		private final List<Integer> signedChanges;
+		private final List<ByteString> signatures;
+		private final List<Account> signers;
+		private final List<String> signerRoles;
+		private boolean[] signed;
+		private boolean rejected;
+		// set if an earlier stage failed
+		private Throwable error;
+
+		private Pending(long sequence) {
+			this.sequence = sequence;
+			this.result = new CompletableFuture<>();
+			this.changes = new ArrayList<>();
+			this.signedChanges = new ArrayList<>();
+			this.signatures = new ArrayList<>();
+			this.signers = new ArrayList<>();
+			this.signerRoles = new ArrayList<>();
+			this.rejected = false;
+		}
+
+		private void addSignature(int change, ByteString signature, Account signer, String role) {
+			this.signedChanges.add(change);
+			this.signatures.add(signature);
+			this.signers.add(signer);
+			this.signerRoles.add(role);
+		}
+	}
+
+	/**
+	 * NOT THREADSAFE
+	 *
+	 * A receipt added to or removed from an ADS
+	 */
+	private static class Change {
+		private final Digest256 adsKey;
+		private final Receipt receipt;
+		private final byte[] witness;
+		private final boolean insert;
+		// set when the request is prepared
+		private AuthenticatedSetServer ads;
+		private Set<Receipt> data;
+		private Digest256 base;
+		private Digest256 newRoot;
+
+		private Change(Digest256 adsKey, Receipt receipt, byte[] witness, boolean insert) {
+			this.adsKey = adsKey;
+			this.receipt = receipt;
+			this.witness = witness;
+			this.insert = insert;
+		}
+	}
+
+}